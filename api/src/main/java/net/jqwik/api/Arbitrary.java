@@ -42,6 +42,8 @@ public interface Arbitrary<@Nullable T> {
 
 		public abstract <T> Stream<T> sampleStream(Arbitrary<T> arbitrary);
 
+		public abstract <T> Stream<T> sampleStream(Arbitrary<T> arbitrary, String seed, long size);
+
 		public abstract <T> Arbitrary<T> injectNull(Arbitrary<T> self, double nullProbability);
 
 		public abstract <T> Arbitrary<T> filter(Arbitrary<T> self, Predicate<T> filterPredicate, int maxMisses);
@@ -390,6 +392,33 @@ public interface Arbitrary<@Nullable T> {
 		return ArbitraryFacade.implementation.sampleStream(this);
 	}
 
+	/**
+	 * Generate a stream of {@code size} sample values that only depends on {@code seed}.
+	 * This can be useful for generating large amounts of test data, e.g. for load tests.
+	 *
+	 * <p>
+	 * Each value is generated with its own source of randomness that is derived from
+	 * {@code seed} and the value's index. The stream can therefore be split and
+	 * processed {@linkplain Stream#parallel() in parallel}: It will always contain
+	 * the same values in the same order. A stream with a smaller size contains the first values
+	 * of a stream with a larger size and the same seed.
+	 * </p>
+	 *
+	 * <p>
+	 * The underlying generator is created with size 1000 and shared by all threads.
+	 * Arbitraries whose generators keep state between values,
+	 * e.g. to make values unique, should not be sampled in parallel.
+	 * </p>
+	 *
+	 * @param seed a random seed as used in {@linkplain Property#seed()}
+	 * @param size the number of values in the stream
+	 * @return a sized stream of newly generated values
+	 */
+	@API(status = EXPERIMENTAL, since = "1.8.0")
+	default Stream<T> sampleStream(String seed, long size) {
+		return ArbitraryFacade.implementation.sampleStream(this, seed, size);
+	}
+
 	/**
 	 * Generate a single sample value using this arbitrary.
 	 * This can be useful for
@@ -38,6 +38,8 @@ public @interface Property {
 	int MAX_DISCARD_RATIO_NOT_SET = 0;
 	String SEED_NOT_SET = "";
 	String STEREOTYPE_NOT_SET = "";
+	int PARALLELISM_NOT_SET = 0;
+	int SHRINKING_BOUND_NOT_SET = 0;
 
 	/**
 	 * Tries are the test runs with different parameters. By default it is 1000. You can override globally in the property file
@@ -92,4 +94,66 @@ public @interface Property {
 	 */
 	@API(status = MAINTAINED, since = "1.4.0")
 	FixedSeedMode whenFixedSeed() default FixedSeedMode.NOT_SET;
+
+	/**
+	 * The number of threads on which tries of this property are executed.
+	 * Parameters are still generated one after the other so that a given seed
+	 * will always lead to the same sequence of samples. Only the execution of tries is spread
+	 * across threads and the first falsified sample - in the order of tries - is the one
+	 * to be shrunk and reported.
+	 * <p>
+	 * Each try sees its own values of stores with lifespan {@linkplain net.jqwik.api.lifecycle.Lifespan#TRY TRY}.
+	 * A value larger than 1 requires the property method and all try-related lifecycle hooks
+	 * to be safe for concurrent execution.
+	 * <p>
+	 * Default value is the value from the global {@code jqwik.tries.parallelism}
+	 * configuration property, which is 1, i.e. sequential execution of tries.
+	 *
+	 * @return number of threads to execute tries
+	 */
+	@API(status = EXPERIMENTAL, since = "1.8.0")
+	int parallelism() default PARALLELISM_NOT_SET;
+
+	/**
+	 * The maximum number of falsifier invocations during {@linkplain ShrinkingMode#BOUNDED bounded} shrinking.
+	 * Candidates whose result is taken from the shrinking cache are not counted.
+	 * In contrast to the wall-clock bound this one does not depend on machine load,
+	 * so a given seed will always lead to the same shrunk sample.
+	 * <p>
+	 * Default value is the value from the global {@code jqwik.shrinking.bounded.falsifications}
+	 * configuration property, which is 0, i.e. no bound.
+	 *
+	 * @return maximum number of falsifications during shrinking
+	 */
+	@API(status = EXPERIMENTAL, since = "1.8.0")
+	int boundedShrinkingFalsifications() default SHRINKING_BOUND_NOT_SET;
+
+	/**
+	 * The maximum CPU time in seconds that falsifications may use up during {@linkplain ShrinkingMode#BOUNDED bounded} shrinking.
+	 * CPU time is summed up over all threads that falsify shrinking candidates.
+	 * <p>
+	 * Default value is the value from the global {@code jqwik.shrinking.bounded.cpuseconds}
+	 * configuration property, which is 0, i.e. no bound.
+	 *
+	 * @return maximum CPU seconds of falsifications during shrinking
+	 */
+	@API(status = EXPERIMENTAL, since = "1.8.0")
+	int boundedShrinkingCpuSeconds() default SHRINKING_BOUND_NOT_SET;
+
+	/**
+	 * The number of threads on which the next shrinking candidates are falsified speculatively.
+	 * Results are taken in the order of candidates, so shrinking still ends with the same sample
+	 * as sequential shrinking would.
+	 * <p>
+	 * Speculative falsification runs the property method and all try-related lifecycle hooks
+	 * concurrently, also for candidates whose results are eventually thrown away.
+	 * A value larger than 1 therefore declares that the property tolerates this.
+	 * Each falsification sees its own values of stores with lifespan {@linkplain net.jqwik.api.lifecycle.Lifespan#TRY TRY}.
+	 * <p>
+	 * Default value is 1, i.e. sequential falsification of shrinking candidates.
+	 *
+	 * @return number of threads to falsify shrinking candidates
+	 */
+	@API(status = EXPERIMENTAL, since = "1.8.0")
+	int shrinkingParallelism() default PARALLELISM_NOT_SET;
 }
@@ -39,6 +39,15 @@ public @interface PropertyDefaults {
 	@API(status = MAINTAINED, since = "1.6.2")
 	int maxDiscardRatio() default MAX_DISCARD_RATIO_NOT_SET;
 
+	@API(status = EXPERIMENTAL, since = "1.8.0")
+	int parallelism() default PARALLELISM_NOT_SET;
+
+	@API(status = EXPERIMENTAL, since = "1.8.0")
+	int boundedShrinkingFalsifications() default SHRINKING_BOUND_NOT_SET;
+
+	@API(status = EXPERIMENTAL, since = "1.8.0")
+	int boundedShrinkingCpuSeconds() default SHRINKING_BOUND_NOT_SET;
+
 	class PropertyDefaultsHook implements AroundPropertyHook {
 
 		@Override
@@ -87,6 +96,24 @@ public @interface PropertyDefaults {
 					attributes.setMaxDiscardRatio(ratio);
 				}
 			});
+			findParallelism(propertyDefaults).ifPresent(parallelism -> {
+				PropertyAttributes attributes = context.attributes();
+				if (!attributes.parallelism().isPresent()) {
+					attributes.setParallelism(parallelism);
+				}
+			});
+			findBoundedShrinkingFalsifications(propertyDefaults).ifPresent(falsifications -> {
+				PropertyAttributes attributes = context.attributes();
+				if (!attributes.boundedShrinkingFalsifications().isPresent()) {
+					attributes.setBoundedShrinkingFalsifications(falsifications);
+				}
+			});
+			findBoundedShrinkingCpuSeconds(propertyDefaults).ifPresent(cpuSeconds -> {
+				PropertyAttributes attributes = context.attributes();
+				if (!attributes.boundedShrinkingCpuSeconds().isPresent()) {
+					attributes.setBoundedShrinkingCpuSeconds(cpuSeconds);
+				}
+			});
 
 			return property.execute();
 		}
@@ -140,6 +167,27 @@ public @interface PropertyDefaults {
 								   .findFirst();
 		}
 
+		private Optional<Integer> findParallelism(List<PropertyDefaults> propertyDefaults) {
+			return propertyDefaults.stream()
+								   .map(PropertyDefaults::parallelism)
+								   .filter(parallelism -> parallelism != PARALLELISM_NOT_SET)
+								   .findFirst();
+		}
+
+		private Optional<Integer> findBoundedShrinkingFalsifications(List<PropertyDefaults> propertyDefaults) {
+			return propertyDefaults.stream()
+								   .map(PropertyDefaults::boundedShrinkingFalsifications)
+								   .filter(falsifications -> falsifications != SHRINKING_BOUND_NOT_SET)
+								   .findFirst();
+		}
+
+		private Optional<Integer> findBoundedShrinkingCpuSeconds(List<PropertyDefaults> propertyDefaults) {
+			return propertyDefaults.stream()
+								   .map(PropertyDefaults::boundedShrinkingCpuSeconds)
+								   .filter(cpuSeconds -> cpuSeconds != SHRINKING_BOUND_NOT_SET)
+								   .findFirst();
+		}
+
 		@Override
 		public int aroundPropertyProximity() {
 			// Somewhat more distant than standard hooks, so that those may change the attributes
@@ -107,6 +107,46 @@ public interface PropertyAttributes {
 	@API(status = MAINTAINED, since = "1.4.0")
 	Optional<FixedSeedMode> whenFixedSeed();
 
+	/**
+	 * The number of threads used to execute tries of the property at hand.
+	 * Only present when set explicitly through {@linkplain Property#parallelism()}
+	 * or {@linkplain #setParallelism(Integer)}.
+	 *
+	 * @return optional parallelism
+	 */
+	@API(status = EXPERIMENTAL, since = "1.8.0")
+	Optional<Integer> parallelism();
+
+	/**
+	 * The maximum number of falsifications during bounded shrinking of the property at hand.
+	 * Only present when set explicitly through {@linkplain Property#boundedShrinkingFalsifications()}
+	 * or {@linkplain #setBoundedShrinkingFalsifications(Integer)}.
+	 *
+	 * @return optional maximum number of falsifications
+	 */
+	@API(status = EXPERIMENTAL, since = "1.8.0")
+	Optional<Integer> boundedShrinkingFalsifications();
+
+	/**
+	 * The maximum CPU seconds of falsifications during bounded shrinking of the property at hand.
+	 * Only present when set explicitly through {@linkplain Property#boundedShrinkingCpuSeconds()}
+	 * or {@linkplain #setBoundedShrinkingCpuSeconds(Integer)}.
+	 *
+	 * @return optional maximum CPU seconds
+	 */
+	@API(status = EXPERIMENTAL, since = "1.8.0")
+	Optional<Integer> boundedShrinkingCpuSeconds();
+
+	/**
+	 * The number of threads used to falsify shrinking candidates of the property at hand speculatively.
+	 * Only present when set explicitly through {@linkplain Property#shrinkingParallelism()}
+	 * or {@linkplain #setShrinkingParallelism(Integer)}.
+	 *
+	 * @return optional shrinking parallelism
+	 */
+	@API(status = EXPERIMENTAL, since = "1.8.0")
+	Optional<Integer> shrinkingParallelism();
+
 	void setTries(Integer tries);
 
 	void setMaxDiscardRatio(Integer maxDiscardRatio);
@@ -125,4 +165,16 @@ public interface PropertyAttributes {
 
 	void setWhenFixedSeed(FixedSeedMode fixedSeedMode);
 
+	@API(status = EXPERIMENTAL, since = "1.8.0")
+	void setParallelism(Integer parallelism);
+
+	@API(status = EXPERIMENTAL, since = "1.8.0")
+	void setBoundedShrinkingFalsifications(Integer falsifications);
+
+	@API(status = EXPERIMENTAL, since = "1.8.0")
+	void setBoundedShrinkingCpuSeconds(Integer cpuSeconds);
+
+	@API(status = EXPERIMENTAL, since = "1.8.0")
+	void setShrinkingParallelism(Integer shrinkingParallelism);
+
 }
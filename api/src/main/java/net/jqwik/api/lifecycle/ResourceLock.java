@@ -0,0 +1,33 @@
+package net.jqwik.api.lifecycle;
+
+import java.lang.annotation.*;
+
+import org.apiguardian.api.*;
+
+import static org.apiguardian.api.API.Status.*;
+
+/**
+ * Use {@code @ResourceLock("resource name")} to declare that a test container or property
+ * needs exclusive access to a shared resource.
+ *
+ * <p>
+ * This is only relevant if containers are executed concurrently,
+ * i.e. if configuration parameter {@code jqwik.execution.parallelism} is larger than 1.
+ * Top level containers that use the same resource - in themselves or in any of their
+ * contained groups or properties - will never be executed at the same time.
+ * </p>
+ */
+@Target({ElementType.ANNOTATION_TYPE, ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@API(status = EXPERIMENTAL, since = "1.8.0")
+public @interface ResourceLock {
+
+	/**
+	 * The names of the resources that are used exclusively.
+	 *
+	 * @return names of resources
+	 */
+	String[] value();
+
+}
@@ -0,0 +1,41 @@
+package net.jqwik.benchmarks;
+
+import org.junit.platform.engine.*;
+import org.junit.platform.engine.support.descriptor.*;
+
+import net.jqwik.engine.execution.lifecycle.*;
+
+import static org.junit.platform.engine.TestDescriptor.Type.*;
+
+/**
+ * Benchmarks run outside of jqwik's engine.
+ * Arbitraries and shrinkables that use stores, however, need a current test descriptor.
+ *
+ * <p>
+ * Enter the context in the benchmark thread's setup and leave it in its tear down.
+ * </p>
+ */
+public class BenchmarkContext {
+
+	private static final TestDescriptor BENCHMARK_DESCRIPTOR = new AbstractTestDescriptor(
+		UniqueId.root("jqwik", "benchmarks"),
+		"Running jqwik benchmarks"
+	) {
+		@Override
+		public Type getType() {
+			return TEST;
+		}
+	};
+
+	private BenchmarkContext() {
+	}
+
+	public static void enter() {
+		CurrentTestDescriptor.push(BENCHMARK_DESCRIPTOR);
+	}
+
+	public static void leave() {
+		StoreRepository.getCurrent().finishProperty(BENCHMARK_DESCRIPTOR);
+		CurrentTestDescriptor.pop();
+	}
+}
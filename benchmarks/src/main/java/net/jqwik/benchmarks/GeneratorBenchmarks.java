@@ -0,0 +1,98 @@
+package net.jqwik.benchmarks;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.engine.properties.arbitraries.*;
+import net.jqwik.engine.properties.arbitraries.randomized.*;
+
+/**
+ * Cost of generating a single value - including creation of its shrinkable - in the hot paths of generation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class GeneratorBenchmarks {
+
+	private static final int GEN_SIZE = JqwikProperties.DEFAULT_TRIES;
+
+	private Random random;
+
+	private RandomGenerator<Integer> integers;
+	private RandomGenerator<List<Integer>> lists;
+	private RandomGenerator<List<Integer>> uniqueLists;
+	private RandomGenerator<String> strings;
+	private RandomGenerator<Integer> filtered;
+	private RandomGenerator<List<Integer>> flatMapped;
+
+	@Setup
+	public void setUp() {
+		BenchmarkContext.enter();
+		random = SourceOfRandomness.newRandom(42L);
+
+		integers = RandomGenerators.integers(-10000, 10000);
+
+		Arbitrary<Integer> elementArbitrary = Arbitraries.integers().between(-10000, 10000);
+		lists = RandomGenerators.list(
+			integers, 0, 50, 20001, GEN_SIZE, null,
+			Collections.emptySet(), elementArbitrary
+		);
+		uniqueLists = RandomGenerators.list(
+			integers, 0, 50, 20001, GEN_SIZE, null,
+			Collections.singleton(FeatureExtractor.identity()), elementArbitrary
+		);
+
+		strings = new DefaultStringArbitrary().ofMaxLength(50).generator(GEN_SIZE);
+
+		// Half of all values are rejected
+		filtered = new FilteredGenerator<>(integers, i -> i % 2 == 0, 10000);
+
+		flatMapped = new ArbitraryFlatMap<>(
+			Arbitraries.integers().between(0, 20),
+			size -> Arbitraries.integers().between(-10000, 10000).list().ofSize(size)
+		).generator(GEN_SIZE);
+	}
+
+	@TearDown
+	public void tearDown() {
+		BenchmarkContext.leave();
+	}
+
+	@Benchmark
+	public Integer integers() {
+		return integers.next(random).value();
+	}
+
+	@Benchmark
+	public List<Integer> lists() {
+		return lists.next(random).value();
+	}
+
+	@Benchmark
+	public List<Integer> uniqueLists() {
+		return uniqueLists.next(random).value();
+	}
+
+	@Benchmark
+	public String strings() {
+		return strings.next(random).value();
+	}
+
+	@Benchmark
+	public Integer filtered() {
+		return filtered.next(random).value();
+	}
+
+	@Benchmark
+	public List<Integer> flatMapped() {
+		return flatMapped.next(random).value();
+	}
+}
@@ -0,0 +1,208 @@
+package net.jqwik.benchmarks;
+
+import java.lang.annotation.*;
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+import org.openjdk.jmh.annotations.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.*;
+import net.jqwik.engine.descriptor.*;
+import net.jqwik.engine.discovery.*;
+import net.jqwik.engine.execution.*;
+import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.properties.*;
+
+/**
+ * Engine overhead per try of checking a property that is always satisfied.
+ * Generation of parameters is part of the measurement, the property itself does nothing.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class PropertyCheckBenchmarks {
+
+	private static final int TRIES = 1000;
+
+	private static final Reporter NO_REPORTING = new Reporter() {
+		@Override
+		public void publishValue(String key, String value) {
+		}
+
+		@Override
+		public void publishReport(String key, Object object) {
+		}
+
+		@Override
+		public void publishReports(String key, Map<String, Object> objects) {
+		}
+	};
+
+	private final TryLifecycleExecutor satisfiedProperty = (context, parameters) -> TryExecutionResult.satisfied();
+
+	private PropertyConfiguration configuration;
+	private List<Arbitrary<Object>> arbitraries;
+
+	@Setup
+	@SuppressWarnings("unchecked")
+	public void setUp() {
+		BenchmarkContext.enter();
+		PropertyAttributes attributes = new DefaultPropertyAttributes(
+			TRIES, null, null, GenerationMode.RANDOMIZED, null, EdgeCasesMode.NONE, null, "42", null, null, null, null, null
+		);
+		PropertyAttributesDefaults defaults = PropertyAttributesDefaults.with(
+			TRIES, 5, AfterFailureMode.PREVIOUS_SEED, GenerationMode.AUTO, EdgeCasesMode.MIXIN,
+			ShrinkingMode.BOUNDED, 10, 10000, FixedSeedMode.ALLOW, 1, 0, 0
+		);
+		configuration = PropertyConfiguration.from(attributes, defaults, GenerationInfo.NULL);
+		arbitraries = Arrays.asList(
+			(Arbitrary<Object>) (Arbitrary<?>) Arbitraries.integers(),
+			(Arbitrary<Object>) (Arbitrary<?>) Arbitraries.strings().ofMaxLength(20)
+		);
+	}
+
+	@TearDown
+	public void tearDown() {
+		BenchmarkContext.leave();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(TRIES)
+	public PropertyCheckResult check() {
+		GenericProperty property = new GenericProperty(
+			"satisfied property",
+			configuration,
+			new RandomParametersGenerator(arbitraries, SourceOfRandomness.newRandom(42L)),
+			satisfiedProperty,
+			BenchmarkTryLifecycleContext::new
+		);
+		return property.check(NO_REPORTING, new Reporting[0]);
+	}
+
+	private static class RandomParametersGenerator implements ParametersGenerator {
+
+		private final List<RandomGenerator<Object>> generators;
+		private final Random random;
+		private int index = 0;
+
+		private RandomParametersGenerator(List<Arbitrary<Object>> arbitraries, Random random) {
+			this.generators = arbitraries.stream()
+										 .map(arbitrary -> arbitrary.generator(TRIES))
+										 .collect(Collectors.toList());
+			this.random = random;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return true;
+		}
+
+		@Override
+		public List<Shrinkable<Object>> next(TryLifecycleContext context) {
+			index++;
+			return generators.stream()
+							 .map(generator -> generator.next(random))
+							 .collect(Collectors.toList());
+		}
+
+		@Override
+		public int edgeCasesTotal() {
+			return 0;
+		}
+
+		@Override
+		public int edgeCasesTried() {
+			return 0;
+		}
+
+		@Override
+		public GenerationInfo generationInfo(String randomSeed) {
+			return new GenerationInfo(randomSeed, index);
+		}
+
+		@Override
+		public void reset() {
+			index = 0;
+		}
+	}
+
+	private static class BenchmarkTryLifecycleContext implements TryLifecycleContext {
+
+		@Override
+		public Method targetMethod() {
+			return null;
+		}
+
+		@Override
+		public Class<?> containerClass() {
+			return null;
+		}
+
+		@Override
+		public Object testInstance() {
+			return null;
+		}
+
+		@Override
+		public List<Object> testInstances() {
+			return Collections.emptyList();
+		}
+
+		@Override
+		public String label() {
+			return "satisfied property";
+		}
+
+		@Override
+		public Optional<AnnotatedElement> optionalElement() {
+			return Optional.empty();
+		}
+
+		@Override
+		public Optional<Class<?>> optionalContainerClass() {
+			return Optional.empty();
+		}
+
+		@Override
+		public Reporter reporter() {
+			return NO_REPORTING;
+		}
+
+		@Override
+		public void wrapReporter(Function<Reporter, Reporter> wrapper) {
+		}
+
+		@Override
+		public <T extends Annotation> Optional<T> findAnnotation(Class<T> annotationClass) {
+			return Optional.empty();
+		}
+
+		@Override
+		public <T extends Annotation> List<T> findAnnotationsInContainer(Class<T> annotationClass) {
+			return Collections.emptyList();
+		}
+
+		@Override
+		public <T extends Annotation> List<T> findRepeatableAnnotations(Class<T> annotationClass) {
+			return Collections.emptyList();
+		}
+
+		@Override
+		public <T> T newInstance(Class<T> clazz) {
+			return null;
+		}
+
+		@Override
+		public Optional<ResolveParameterHook.ParameterSupplier> resolveParameter(Executable executable, int index) {
+			return Optional.empty();
+		}
+	}
+}
@@ -0,0 +1,112 @@
+package net.jqwik.benchmarks;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.*;
+
+import org.openjdk.jmh.annotations.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.engine.properties.shrinking.*;
+
+/**
+ * Cost of fully shrinking typical falsified samples.
+ * Samples are generated once so that every invocation shrinks the same sample.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ShrinkingBenchmarks {
+
+	private static final int GEN_SIZE = JqwikProperties.DEFAULT_TRIES;
+
+	private final Falsifier<List<Object>> integerIsSmall =
+		params -> check((int) params.get(0) < 1000);
+
+	private final Falsifier<List<Object>> sumIsSmall =
+		params -> check(sum(params.get(0)) < 1000);
+
+	private final Falsifier<List<Object>> stringIsShorterThanNumber =
+		params -> check(((String) params.get(0)).length() < (int) params.get(1));
+
+	private FalsifiedSample integerSample;
+	private FalsifiedSample listSample;
+	private FalsifiedSample twoParametersSample;
+
+	@Setup
+	public void setUp() {
+		BenchmarkContext.enter();
+		Random random = SourceOfRandomness.newRandom(42L);
+		integerSample = falsifiedSample(
+			random, integerIsSmall,
+			Arbitraries.integers().between(0, 1000000)
+		);
+		listSample = falsifiedSample(
+			random, sumIsSmall,
+			Arbitraries.integers().between(0, 1000).list().ofMaxSize(50)
+		);
+		twoParametersSample = falsifiedSample(
+			random, stringIsShorterThanNumber,
+			Arbitraries.strings().alpha().ofMaxLength(100),
+			Arbitraries.integers().between(0, 50)
+		);
+	}
+
+	@TearDown
+	public void tearDown() {
+		BenchmarkContext.leave();
+	}
+
+	@Benchmark
+	public FalsifiedSample integer() {
+		return shrink(integerSample, integerIsSmall);
+	}
+
+	@Benchmark
+	public FalsifiedSample list() {
+		return shrink(listSample, sumIsSmall);
+	}
+
+	@Benchmark
+	public FalsifiedSample twoParameters() {
+		return shrink(twoParametersSample, stringIsShorterThanNumber);
+	}
+
+	private FalsifiedSample shrink(FalsifiedSample sample, Falsifier<List<Object>> falsifier) {
+		PropertyShrinker shrinker = new PropertyShrinker(sample, ShrinkingMode.FULL, 0, ignore -> {}, null);
+		return shrinker.shrink(falsifier);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static FalsifiedSample falsifiedSample(Random random, Falsifier<List<Object>> falsifier, Arbitrary<?>... arbitraries) {
+		List<RandomGenerator<Object>> generators =
+			Arrays.stream(arbitraries)
+				  .map(arbitrary -> ((Arbitrary<Object>) arbitrary).generator(GEN_SIZE))
+				  .collect(Collectors.toList());
+		while (true) {
+			List<Shrinkable<Object>> shrinkables =
+				generators.stream()
+						  .map(generator -> generator.next(random))
+						  .collect(Collectors.toList());
+			List<Object> parameters = shrinkables.stream().map(Shrinkable::value).collect(Collectors.toList());
+			if (falsifier.execute(parameters).isFalsified()) {
+				return new FalsifiedSampleImpl(parameters, shrinkables, Optional.empty(), Collections.emptyList());
+			}
+		}
+	}
+
+	private static TryExecutionResult check(boolean condition) {
+		return condition ? TryExecutionResult.satisfied() : TryExecutionResult.falsified(null);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static int sum(Object list) {
+		return ((List<Integer>) list).stream().mapToInt(Integer::intValue).sum();
+	}
+}
@@ -34,7 +34,11 @@ public class DefaultJqwikConfiguration implements JqwikConfiguration {
 			properties.defaultEdgeCases(),
 			properties.defaultShrinking(),
 			properties.boundedShrinkingSeconds(),
-			properties.fixedSeedMode()
+			properties.shrinkingCacheSize(),
+			properties.fixedSeedMode(),
+			properties.triesParallelism(),
+			properties.boundedShrinkingFalsifications(),
+			properties.boundedShrinkingCpuSeconds()
 		);
 	}
 
@@ -56,6 +60,41 @@ public class DefaultJqwikConfiguration implements JqwikConfiguration {
 		return properties.reportOnlyFailures();
 	}
 
+	@Override
+	public int executionParallelism() {
+		return properties.executionParallelism();
+	}
+
+	@Override
+	public boolean legacyFrequencySampling() {
+		return properties.legacyFrequencySampling();
+	}
+
+	@Override
+	public double filterWarningThreshold() {
+		return properties.filterWarningThreshold();
+	}
+
+	@Override
+	public int resolutionCacheSize() {
+		return properties.resolutionCacheSize();
+	}
+
+	@Override
+	public boolean reportResolutionCacheStatistics() {
+		return properties.reportResolutionCacheStatistics();
+	}
+
+	@Override
+	public int generatorPoolSize() {
+		return properties.generatorPoolSize();
+	}
+
+	@Override
+	public boolean legacySeeds() {
+		return properties.legacySeeds();
+	}
+
 	private TestEngineConfiguration createTestEngineConfiguration() {
 		String databasePath = properties.databasePath();
 		if (databasePath == null || databasePath.trim().isEmpty()) {
@@ -73,7 +112,7 @@ public class DefaultJqwikConfiguration implements JqwikConfiguration {
 			}
 
 			@Override
-			public TestRunData previousRun() {
+			public TestRunLookup previousRun() {
 				return new TestRunData();
 			}
 
@@ -86,7 +125,7 @@ public class DefaultJqwikConfiguration implements JqwikConfiguration {
 
 	private TestEngineConfiguration testEngineConfigurationFromDatabase(String databasePath) {
 		TestRunDatabase database = new TestRunDatabase(Paths.get(databasePath));
-		TestRunData previousRun = database.previousRun();
+		TestRunLookup previousRun = database.previousRun();
 		return new TestEngineConfiguration() {
 			@Override
 			public TestRunRecorder recorder() {
@@ -94,7 +133,7 @@ public class DefaultJqwikConfiguration implements JqwikConfiguration {
 			}
 
 			@Override
-			public TestRunData previousRun() {
+			public TestRunLookup previousRun() {
 				return database.previousRun();
 			}
 
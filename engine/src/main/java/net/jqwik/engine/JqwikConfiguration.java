@@ -8,4 +8,18 @@ public interface JqwikConfiguration {
 	boolean useJunitPlatformReporter();
 
 	boolean reportOnlyFailures();
+
+	int executionParallelism();
+
+	boolean legacyFrequencySampling();
+
+	double filterWarningThreshold();
+
+	int resolutionCacheSize();
+
+	boolean reportResolutionCacheStatistics();
+
+	int generatorPoolSize();
+
+	boolean legacySeeds();
 }
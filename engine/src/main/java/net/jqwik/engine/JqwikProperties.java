@@ -27,6 +27,17 @@ public class JqwikProperties {
 	private static final EdgeCasesMode DEFAULT_EDGE_CASES = EdgeCasesMode.MIXIN;
 	private static final ShrinkingMode DEFAULT_SHRINKING = ShrinkingMode.BOUNDED;
 	private static final int DEFAULT_BOUNDED_SHRINKING_SECONDS = 10;
+	private static final int DEFAULT_BOUNDED_SHRINKING_FALSIFICATIONS = 0;
+	private static final int DEFAULT_BOUNDED_SHRINKING_CPU_SECONDS = 0;
+	private static final int DEFAULT_SHRINKING_CACHE_SIZE = 10000;
+	private static final int DEFAULT_TRIES_PARALLELISM = 1;
+	private static final int DEFAULT_EXECUTION_PARALLELISM = 1;
+	public static final boolean DEFAULT_LEGACY_FREQUENCY_SAMPLING = false;
+	public static final double DEFAULT_FILTER_WARNING_THRESHOLD = 0.01;
+	private static final int DEFAULT_RESOLUTION_CACHE_SIZE = 1000;
+	private static final boolean DEFAULT_RESOLUTION_CACHE_REPORT = false;
+	private static final int DEFAULT_GENERATOR_POOL_SIZE = 1000;
+	public static final boolean DEFAULT_LEGACY_SEEDS = false;
 
 	// TODO: Change default to true as soon as Gradle has support for platform reporter
 	// see https://github.com/gradle/gradle/issues/4605
@@ -43,7 +54,18 @@ public class JqwikProperties {
 	private final EdgeCasesMode defaultEdgeCases;
 	private final ShrinkingMode defaultShrinking;
 	private final int boundedShrinkingSeconds;
+	private final int boundedShrinkingFalsifications;
+	private final int boundedShrinkingCpuSeconds;
+	private final int shrinkingCacheSize;
 	private final FixedSeedMode fixedSeedMode;
+	private final int triesParallelism;
+	private final int executionParallelism;
+	private final boolean legacyFrequencySampling;
+	private final double filterWarningThreshold;
+	private final int resolutionCacheSize;
+	private final boolean reportResolutionCacheStatistics;
+	private final int generatorPoolSize;
+	private final boolean legacySeeds;
 
 	public String databasePath() {
 		return databasePath;
@@ -89,10 +111,54 @@ public class JqwikProperties {
 		return boundedShrinkingSeconds;
 	}
 
+	public int boundedShrinkingFalsifications() {
+		return boundedShrinkingFalsifications;
+	}
+
+	public int boundedShrinkingCpuSeconds() {
+		return boundedShrinkingCpuSeconds;
+	}
+
+	public int shrinkingCacheSize() {
+		return shrinkingCacheSize;
+	}
+
 	public FixedSeedMode fixedSeedMode() {
 		return fixedSeedMode;
 	}
 
+	public int triesParallelism() {
+		return triesParallelism;
+	}
+
+	public int executionParallelism() {
+		return executionParallelism;
+	}
+
+	public boolean legacyFrequencySampling() {
+		return legacyFrequencySampling;
+	}
+
+	public double filterWarningThreshold() {
+		return filterWarningThreshold;
+	}
+
+	public int resolutionCacheSize() {
+		return resolutionCacheSize;
+	}
+
+	public boolean reportResolutionCacheStatistics() {
+		return reportResolutionCacheStatistics;
+	}
+
+	public int generatorPoolSize() {
+		return generatorPoolSize;
+	}
+
+	public boolean legacySeeds() {
+		return legacySeeds;
+	}
+
 	JqwikProperties(ConfigurationParameters parameters) {
 		databasePath = parameters.get("database").orElse(DEFAULT_DATABASE_PATH);
 		runFailuresFirst = parameters.getBoolean("failures.runfirst").orElse(DEFAULT_RERUN_FAILURES_FIRST);
@@ -105,7 +171,18 @@ public class JqwikProperties {
 		defaultEdgeCases = parameters.get("edgecases.default", EdgeCasesMode::valueOf).orElse(DEFAULT_EDGE_CASES);
 		defaultShrinking = parameters.get("shrinking.default", ShrinkingMode::valueOf).orElse(DEFAULT_SHRINKING);
 		boundedShrinkingSeconds = parameters.get("shrinking.bounded.seconds", Integer::parseInt).orElse(DEFAULT_BOUNDED_SHRINKING_SECONDS);
+		boundedShrinkingFalsifications = parameters.get("shrinking.bounded.falsifications", Integer::parseInt).orElse(DEFAULT_BOUNDED_SHRINKING_FALSIFICATIONS);
+		boundedShrinkingCpuSeconds = parameters.get("shrinking.bounded.cpuseconds", Integer::parseInt).orElse(DEFAULT_BOUNDED_SHRINKING_CPU_SECONDS);
+		shrinkingCacheSize = parameters.get("shrinking.cache.size", Integer::parseInt).orElse(DEFAULT_SHRINKING_CACHE_SIZE);
 		fixedSeedMode = parameters.get("seeds.whenfixed", FixedSeedMode::valueOf).orElse(FixedSeedMode.ALLOW);
+		triesParallelism = parameters.get("tries.parallelism", Integer::parseInt).orElse(DEFAULT_TRIES_PARALLELISM);
+		executionParallelism = parameters.get("execution.parallelism", Integer::parseInt).orElse(DEFAULT_EXECUTION_PARALLELISM);
+		legacyFrequencySampling = parameters.getBoolean("generation.frequency.legacy").orElse(DEFAULT_LEGACY_FREQUENCY_SAMPLING);
+		filterWarningThreshold = parameters.get("generation.filter.warnbelow", Double::parseDouble).orElse(DEFAULT_FILTER_WARNING_THRESHOLD);
+		resolutionCacheSize = parameters.get("resolution.cache.size", Integer::parseInt).orElse(DEFAULT_RESOLUTION_CACHE_SIZE);
+		reportResolutionCacheStatistics = parameters.getBoolean("resolution.cache.report").orElse(DEFAULT_RESOLUTION_CACHE_REPORT);
+		generatorPoolSize = parameters.get("generation.pool.size", Integer::parseInt).orElse(DEFAULT_GENERATOR_POOL_SIZE);
+		legacySeeds = parameters.getBoolean("seeds.legacy").orElse(DEFAULT_LEGACY_SEEDS);
 	}
 
 	static JqwikProperties load(ConfigurationParameters fromJunit) {
@@ -9,6 +9,8 @@ import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.discovery.*;
 import net.jqwik.engine.execution.*;
 import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.facades.*;
+import net.jqwik.engine.properties.*;
 import net.jqwik.engine.recording.*;
 import net.jqwik.engine.support.*;
 
@@ -60,14 +62,22 @@ public class JqwikTestEngine implements TestEngine {
 
 	private void executeTests(JqwikEngineDescriptor root, EngineExecutionListener listener) {
 		JqwikConfiguration configuration = root.getConfiguration();
+		SourceOfRandomness.useLegacyDraws(configuration.legacySeeds());
+		ArbitraryResolutionCache resolutionCache = new ArbitraryResolutionCache(configuration.resolutionCacheSize());
+		GeneratorPool generatorPool = GeneratorPool.startRun(root, configuration.generatorPoolSize());
 		try (TestRunRecorder recorder = configuration.testEngineConfiguration().recorder()) {
 			new JqwikExecutor(
 				lifecycleRegistry,
 				recorder,
 				configuration.testEngineConfiguration().previousFailures(),
 				configuration.useJunitPlatformReporter(),
-				configuration.reportOnlyFailures()
+				configuration.reportOnlyFailures(),
+				configuration.executionParallelism(),
+				resolutionCache
 			).execute(root, listener);
+		} finally {
+			resolutionCache.reportStatistics(configuration.reportResolutionCacheStatistics());
+			generatorPool.reportStatistics();
 		}
 	}
 
@@ -16,9 +16,18 @@ public interface PropertyAttributesDefaults {
 	String stereotype();
 	FixedSeedMode whenFixedSeed();
 
+	int parallelism();
+
+	int boundedShrinkingFalsifications();
+
+	int boundedShrinkingCpuSeconds();
+
 	// This is currently a global parameter
 	int boundedShrinkingSeconds();
 
+	// This is currently a global parameter
+	int shrinkingCacheSize();
+
 	static PropertyAttributesDefaults with(
 		int tries,
 		int maxDiscardRatio,
@@ -27,7 +36,11 @@ public interface PropertyAttributesDefaults {
 		EdgeCasesMode edgeCasesMode,
 		ShrinkingMode shrinkingMode,
 		int boundedShrinkingSeconds,
-		FixedSeedMode fixedSeedMode
+		int shrinkingCacheSize,
+		FixedSeedMode fixedSeedMode,
+		int parallelism,
+		int boundedShrinkingFalsifications,
+		int boundedShrinkingCpuSeconds
 	) {
 		return new PropertyAttributesDefaults() {
 			@Override
@@ -70,10 +83,30 @@ public interface PropertyAttributesDefaults {
 				return boundedShrinkingSeconds;
 			}
 
+			@Override
+			public int shrinkingCacheSize() {
+				return shrinkingCacheSize;
+			}
+
 			@Override
 			public FixedSeedMode whenFixedSeed() {
 				return fixedSeedMode;
 			}
+
+			@Override
+			public int parallelism() {
+				return parallelism;
+			}
+
+			@Override
+			public int boundedShrinkingFalsifications() {
+				return boundedShrinkingFalsifications;
+			}
+
+			@Override
+			public int boundedShrinkingCpuSeconds() {
+				return boundedShrinkingCpuSeconds;
+			}
 		};
 	}
 }
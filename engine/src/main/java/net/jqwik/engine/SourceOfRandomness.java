@@ -13,17 +13,26 @@ public class SourceOfRandomness {
 
 	private static final Supplier<Random> RNG = ThreadLocalRandom::current;
 
+	// Increment of SplitMix64, see https://doi.org/10.1145/2714064.2660195
+	private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
 	private static final ThreadLocal<Random> current = ThreadLocal.withInitial(SourceOfRandomness::newRandom);
 
+	private static volatile boolean legacyDraws = false;
+
 	public static String createRandomSeed() {
 		return Long.toString(RNG.get().nextLong());
 	}
 
 	public static Random create(String seed) {
+		Random random = newRandom(parseSeed(seed));
+		current.set(random);
+		return random;
+	}
+
+	public static long parseSeed(String seed) {
 		try {
-			Random random = newRandom(Long.parseLong(seed));
-			current.set(random);
-			return random;
+			return Long.parseLong(seed);
 		} catch (NumberFormatException nfe) {
 			throw new JqwikException(String.format("[%s] is not a valid random seed.", seed));
 		}
@@ -41,6 +50,63 @@ public class SourceOfRandomness {
 		return current.get();
 	}
 
+	/**
+	 * Switch bounded ints, doubles and bytes back to the draws of {@linkplain Random}
+	 * so that a seed produces the same values as in versions before the faster draws.
+	 * Applies to sources of randomness that are created afterwards.
+	 */
+	public static void useLegacyDraws(boolean legacy) {
+		legacyDraws = legacy;
+	}
+
+	/**
+	 * Create the source of randomness for stream number {@code index} of {@code seed}.
+	 * Streams are derived like the values of SplitMix64 so that any stream can be created
+	 * without creating the streams before it, e.g. to regenerate the sample of a single try.
+	 */
+	public static Random derive(long seed, long index) {
+		return newRandom(seed + (index + 1) * GOLDEN_GAMMA);
+	}
+
+	/**
+	 * Create a new source of randomness that is derived from - and thereby deterministic with - {@code random}.
+	 * Can be used to hand out independent streams of random values, e.g. one per thread or per try.
+	 */
+	public static Random split(Random random) {
+		if (random instanceof XORShiftRandom) {
+			return ((XORShiftRandom) random).split();
+		}
+		return newRandom(random.nextLong());
+	}
+
+	/**
+	 * Fill {@code values} with random ints between 0 (inclusive) and {@code bound} (exclusive).
+	 * Produces the same values as calling {@linkplain Random#nextInt(int)} for each element.
+	 */
+	public static void nextInts(Random random, int[] values, int bound) {
+		if (random instanceof XORShiftRandom) {
+			((XORShiftRandom) random).nextInts(values, bound);
+			return;
+		}
+		for (int i = 0; i < values.length; i++) {
+			values[i] = random.nextInt(bound);
+		}
+	}
+
+	/**
+	 * Fill {@code values} with random longs.
+	 * Produces the same values as calling {@linkplain Random#nextLong()} for each element.
+	 */
+	public static void nextLongs(Random random, long[] values) {
+		if (random instanceof XORShiftRandom) {
+			((XORShiftRandom) random).nextLongs(values);
+			return;
+		}
+		for (int i = 0; i < values.length; i++) {
+			values[i] = random.nextLong();
+		}
+	}
+
 	/**
 	 * A faster but not thread safe implementation of {@linkplain java.util.Random}.
 	 * It also has a period of 2^n - 1 and better statistical randomness.
@@ -48,13 +114,14 @@ public class SourceOfRandomness {
 	 * See for details: https://www.javamex.com/tutorials/random_numbers/xorshift.shtml
 	 *
 	 * <p>
-	 * For further performance improvements within jqwik, consider to override:
-	 * <ul>
-	 *     <li>nextDouble()</li>
-	 *     <li>nextBytes(int)</li>
-	 * </ul>
+	 * Bounded ints use Lemire's multiply-and-shift method, which usually needs neither a division nor a retry.
+	 * See <a href="https://arxiv.org/abs/1805.10941">Fast Random Integer Generation in an Interval</a>.
+	 * Doubles and bytes are taken from a single call to {@linkplain #nextLong()} where possible.
+	 * With {@linkplain #useLegacyDraws(boolean) legacy draws} all three are left to {@linkplain Random}.
+	 * </p>
 	 */
 	private static class XORShiftRandom extends Random {
+		private final boolean withLegacyDraws = legacyDraws;
 		private long seed;
 
 		private XORShiftRandom() {
@@ -97,5 +164,79 @@ public class SourceOfRandomness {
 			this.seed = x;
 			return x;
 		}
+
+		@Override
+		public int nextInt(int bound) {
+			if (withLegacyDraws) {
+				return super.nextInt(bound);
+			}
+			if (bound <= 0) {
+				throw new IllegalArgumentException("bound must be positive");
+			}
+			return boundedInt(bound);
+		}
+
+		@Override
+		public double nextDouble() {
+			if (withLegacyDraws) {
+				return super.nextDouble();
+			}
+			return (nextLong() >>> 11) * 0x1.0p-53;
+		}
+
+		@Override
+		public void nextBytes(byte[] bytes) {
+			if (withLegacyDraws) {
+				super.nextBytes(bytes);
+				return;
+			}
+			int i = 0;
+			while (i < bytes.length) {
+				long random = nextLong();
+				for (int n = Math.min(bytes.length - i, Long.BYTES); n-- > 0; random >>>= Byte.SIZE) {
+					bytes[i++] = (byte) random;
+				}
+			}
+		}
+
+		private void nextInts(int[] values, int bound) {
+			if (withLegacyDraws) {
+				for (int i = 0; i < values.length; i++) {
+					values[i] = super.nextInt(bound);
+				}
+				return;
+			}
+			if (bound <= 0) {
+				throw new IllegalArgumentException("bound must be positive");
+			}
+			for (int i = 0; i < values.length; i++) {
+				values[i] = boundedInt(bound);
+			}
+		}
+
+		private void nextLongs(long[] values) {
+			for (int i = 0; i < values.length; i++) {
+				values[i] = nextLong();
+			}
+		}
+
+		private XORShiftRandom split() {
+			return new XORShiftRandom(nextLong());
+		}
+
+		// The upper 32 bits of a 32 x 32 bit product are uniformly distributed in [0, bound)
+		// unless the lower 32 bits fall into the small biased region below (2^32 - bound) % bound.
+		private int boundedInt(int bound) {
+			long product = (nextLong() >>> 32) * bound;
+			long low = product & 0xffffffffL;
+			if (low < bound) {
+				long threshold = (0x100000000L - bound) % bound;
+				while (low < threshold) {
+					product = (nextLong() >>> 32) * bound;
+					low = product & 0xffffffffL;
+				}
+			}
+			return (int) (product >>> 32);
+		}
 	}
 }
@@ -9,7 +9,7 @@ import net.jqwik.engine.recording.*;
 public interface TestEngineConfiguration {
 	TestRunRecorder recorder();
 
-	TestRunData previousRun();
+	TestRunLookup previousRun();
 
 	Set<UniqueId> previousFailures();
 }
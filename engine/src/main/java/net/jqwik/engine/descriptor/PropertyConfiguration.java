@@ -1,5 +1,7 @@
 package net.jqwik.engine.descriptor;
 
+import java.util.function.*;
+
 import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.*;
@@ -11,11 +13,23 @@ public class PropertyConfiguration {
 		PropertyAttributes propertyAttributes,
 		PropertyAttributesDefaults propertyAttributesDefaults,
 		GenerationInfo generationInfo
+	) {
+		return from(propertyAttributes, propertyAttributesDefaults, () -> generationInfo);
+	}
+
+	/**
+	 * The previous failure generation is only evaluated - at most once - when it is first needed,
+	 * which usually is when the property is being executed.
+	 */
+	public static PropertyConfiguration from(
+		PropertyAttributes propertyAttributes,
+		PropertyAttributesDefaults propertyAttributesDefaults,
+		Supplier<GenerationInfo> generationInfoSupplier
 	) {
 		return new PropertyConfiguration(
 			propertyAttributes,
 			propertyAttributesDefaults,
-			generationInfo,
+			new PreviousFailureGeneration(generationInfoSupplier),
 			null,
 			null,
 			null
@@ -24,7 +38,7 @@ public class PropertyConfiguration {
 
 	private final PropertyAttributes propertyAttributes;
 	private final PropertyAttributesDefaults propertyAttributesDefaults;
-	private final GenerationInfo previousFailureGeneration;
+	private final PreviousFailureGeneration previousFailureGeneration;
 	private final String overriddenSeed;
 	private final Integer overriddenTries;
 	private final GenerationMode overriddenGenerationMode;
@@ -36,6 +50,24 @@ public class PropertyConfiguration {
 		String overriddenSeed,
 		Integer overriddenTries,
 		GenerationMode overriddenGenerationMode
+	) {
+		this(
+			propertyAttributes,
+			propertyAttributesDefaults,
+			new PreviousFailureGeneration(() -> previousFailureGeneration),
+			overriddenSeed,
+			overriddenTries,
+			overriddenGenerationMode
+		);
+	}
+
+	private PropertyConfiguration(
+		PropertyAttributes propertyAttributes,
+		PropertyAttributesDefaults propertyAttributesDefaults,
+		PreviousFailureGeneration previousFailureGeneration,
+		String overriddenSeed,
+		Integer overriddenTries,
+		GenerationMode overriddenGenerationMode
 	) {
 		this.propertyAttributes = propertyAttributes;
 		this.propertyAttributesDefaults = propertyAttributesDefaults;
@@ -104,7 +136,7 @@ public class PropertyConfiguration {
 	}
 
 	public GenerationInfo getPreviousFailureGeneration() {
-		return previousFailureGeneration;
+		return previousFailureGeneration.get();
 	}
 
 	public String getStereotype() {
@@ -131,10 +163,33 @@ public class PropertyConfiguration {
 	public int boundedShrinkingSeconds() {
 		return propertyAttributesDefaults.boundedShrinkingSeconds();
 	}
+
+	public int getBoundedShrinkingFalsifications() {
+		return propertyAttributes.boundedShrinkingFalsifications().orElse(propertyAttributesDefaults.boundedShrinkingFalsifications());
+	}
+
+	public int getBoundedShrinkingCpuSeconds() {
+		return propertyAttributes.boundedShrinkingCpuSeconds().orElse(propertyAttributesDefaults.boundedShrinkingCpuSeconds());
+	}
+
+	// This is currently a global value and not property specific
+	public int shrinkingCacheSize() {
+		return propertyAttributesDefaults.shrinkingCacheSize();
+	}
+
 	public FixedSeedMode getFixedSeedMode() {
 		return propertyAttributes.whenFixedSeed().orElse(propertyAttributesDefaults.whenFixedSeed());
 	}
 
+	public int getParallelism() {
+		return propertyAttributes.parallelism().orElse(propertyAttributesDefaults.parallelism());
+	}
+
+	// There is deliberately no default, since speculative shrinking must be declared by the property itself
+	public int getShrinkingParallelism() {
+		return propertyAttributes.shrinkingParallelism().orElse(1);
+	}
+
 	public boolean hasFixedSeed() {
 		return !getSeed().equals(Property.SEED_NOT_SET);
 	}
@@ -144,11 +199,11 @@ public class PropertyConfiguration {
 	}
 
 	private boolean previousRunFailed() {
-		return previousFailureGeneration.randomSeed().isPresent();
+		return getPreviousFailureGeneration().randomSeed().isPresent();
 	}
 
 	public PropertyConfiguration withPreviousGenerationSeed() {
-		return previousFailureGeneration.randomSeed().map(this::withSeed).orElse(this);
+		return getPreviousFailureGeneration().randomSeed().map(this::withSeed).orElse(this);
 	}
 
 	public PropertyConfiguration withFixedSeed() {
@@ -158,4 +213,29 @@ public class PropertyConfiguration {
 	public boolean seedHasNotChanged() {
 		return getSeed().equals(getPreviousFailureGeneration().randomSeed().orElse(null));
 	}
+
+	private static class PreviousFailureGeneration {
+		private Supplier<GenerationInfo> supplier;
+		private GenerationInfo generationInfo;
+
+		// A separate flag, since the supplier might deliver null
+		private volatile boolean resolved = false;
+
+		private PreviousFailureGeneration(Supplier<GenerationInfo> supplier) {
+			this.supplier = supplier;
+		}
+
+		private GenerationInfo get() {
+			if (!resolved) {
+				synchronized (this) {
+					if (!resolved) {
+						generationInfo = supplier.get();
+						supplier = null;
+						resolved = true;
+					}
+				}
+			}
+			return generationInfo;
+		}
+	}
 }
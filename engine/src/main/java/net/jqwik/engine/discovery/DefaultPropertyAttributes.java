@@ -43,6 +43,22 @@ public class DefaultPropertyAttributes implements PropertyAttributes {
 											  ? null
 											  : property.whenFixedSeed();
 
+		Integer parallelism = property.parallelism() == Property.PARALLELISM_NOT_SET
+								  ? null
+								  : property.parallelism();
+
+		Integer boundedShrinkingFalsifications = property.boundedShrinkingFalsifications() == Property.SHRINKING_BOUND_NOT_SET
+													 ? null
+													 : property.boundedShrinkingFalsifications();
+
+		Integer boundedShrinkingCpuSeconds = property.boundedShrinkingCpuSeconds() == Property.SHRINKING_BOUND_NOT_SET
+												 ? null
+												 : property.boundedShrinkingCpuSeconds();
+
+		Integer shrinkingParallelism = property.shrinkingParallelism() == Property.PARALLELISM_NOT_SET
+										   ? null
+										   : property.shrinkingParallelism();
+
 		return new DefaultPropertyAttributes(
 			tries,
 			maxDiscardRatio,
@@ -52,7 +68,11 @@ public class DefaultPropertyAttributes implements PropertyAttributes {
 			edgeCases,
 			stereotype,
 			seed,
-			whenFixedSeed
+			whenFixedSeed,
+			parallelism,
+			boundedShrinkingFalsifications,
+			boundedShrinkingCpuSeconds,
+			shrinkingParallelism
 		);
 	}
 
@@ -65,6 +85,10 @@ public class DefaultPropertyAttributes implements PropertyAttributes {
 	private String stereotype;
 	private String seed;
 	private FixedSeedMode whenFixedSeed;
+	private Integer parallelism;
+	private Integer boundedShrinkingFalsifications;
+	private Integer boundedShrinkingCpuSeconds;
+	private Integer shrinkingParallelism;
 
 	// Only public for testing purposes
 	public DefaultPropertyAttributes(
@@ -76,7 +100,11 @@ public class DefaultPropertyAttributes implements PropertyAttributes {
 			EdgeCasesMode edgeCasesMode,
 			String stereotype,
 			String seed,
-			FixedSeedMode whenFixedSeed
+			FixedSeedMode whenFixedSeed,
+			Integer parallelism,
+			Integer boundedShrinkingFalsifications,
+			Integer boundedShrinkingCpuSeconds,
+			Integer shrinkingParallelism
 	) {
 		this.tries = tries;
 		this.maxDiscardRatio = maxDiscardRatio;
@@ -87,6 +115,10 @@ public class DefaultPropertyAttributes implements PropertyAttributes {
 		this.stereotype = stereotype;
 		this.seed = seed;
 		this.whenFixedSeed = whenFixedSeed;
+		this.parallelism = parallelism;
+		this.boundedShrinkingFalsifications = boundedShrinkingFalsifications;
+		this.boundedShrinkingCpuSeconds = boundedShrinkingCpuSeconds;
+		this.shrinkingParallelism = shrinkingParallelism;
 	}
 
 	@Override
@@ -134,6 +166,26 @@ public class DefaultPropertyAttributes implements PropertyAttributes {
 		return Optional.ofNullable(whenFixedSeed);
 	}
 
+	@Override
+	public Optional<Integer> parallelism() {
+		return Optional.ofNullable(parallelism);
+	}
+
+	@Override
+	public Optional<Integer> boundedShrinkingFalsifications() {
+		return Optional.ofNullable(boundedShrinkingFalsifications);
+	}
+
+	@Override
+	public Optional<Integer> boundedShrinkingCpuSeconds() {
+		return Optional.ofNullable(boundedShrinkingCpuSeconds);
+	}
+
+	@Override
+	public Optional<Integer> shrinkingParallelism() {
+		return Optional.ofNullable(shrinkingParallelism);
+	}
+
 	@Override
 	public void setTries(Integer tries) {
 		this.tries = tries;
@@ -178,4 +230,24 @@ public class DefaultPropertyAttributes implements PropertyAttributes {
 	public void setWhenFixedSeed(FixedSeedMode fixedSeedMode) {
 		this.whenFixedSeed = fixedSeedMode;
 	}
+
+	@Override
+	public void setParallelism(Integer parallelism) {
+		this.parallelism = parallelism;
+	}
+
+	@Override
+	public void setBoundedShrinkingFalsifications(Integer falsifications) {
+		this.boundedShrinkingFalsifications = falsifications;
+	}
+
+	@Override
+	public void setBoundedShrinkingCpuSeconds(Integer cpuSeconds) {
+		this.boundedShrinkingCpuSeconds = cpuSeconds;
+	}
+
+	@Override
+	public void setShrinkingParallelism(Integer shrinkingParallelism) {
+		this.shrinkingParallelism = shrinkingParallelism;
+	}
 }
@@ -19,10 +19,10 @@ public class JqwikDiscoverer {
 
 	private static final IsScannableContainerClass isScannableTestClass = new IsScannableContainerClass();
 
-	private final TestRunData testRunData;
+	private final TestRunLookup testRunData;
 	private final PropertyAttributesDefaults propertyDefaultValues;
 
-	public JqwikDiscoverer(TestRunData testRunData, PropertyAttributesDefaults propertyDefaultValues) {
+	public JqwikDiscoverer(TestRunLookup testRunData, PropertyAttributesDefaults propertyDefaultValues) {
 		this.testRunData = testRunData;
 		this.propertyDefaultValues = propertyDefaultValues;
 	}
@@ -18,10 +18,10 @@ import net.jqwik.engine.recording.*;
 class PropertyMethodResolver implements ElementResolver {
 
 	private final PropertyDiscoverySpec methodSpec = new PropertyDiscoverySpec();
-	private final TestRunData testRunData;
+	private final TestRunLookup testRunData;
 	private final PropertyAttributesDefaults propertyDefaultValues;
 
-	PropertyMethodResolver(TestRunData testRunData, PropertyAttributesDefaults propertyDefaultValues) {
+	PropertyMethodResolver(TestRunLookup testRunData, PropertyAttributesDefaults propertyDefaultValues) {
 		this.testRunData = testRunData;
 		this.propertyDefaultValues = propertyDefaultValues;
 	}
@@ -85,12 +85,12 @@ class PropertyMethodResolver implements ElementResolver {
 			String message = String.format("Method [%s] is not annotated with @Property", method);
 			return new JqwikException(message);
 		});
-		GenerationInfo generationInfo = generationInfo(uniqueId);
 		PropertyAttributes attributes = DefaultPropertyAttributes.from(property);
+		// Previous runs are looked up only when the property is executed so that discovery stays cheap
 		PropertyConfiguration propertyConfig = PropertyConfiguration.from(
 			attributes,
 			propertyDefaultValues,
-			generationInfo
+			() -> generationInfo(uniqueId)
 		);
 		return new PropertyMethodDescriptor(uniqueId, method, testClass, propertyConfig);
 	}
@@ -5,6 +5,7 @@ import java.util.logging.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.properties.shrinking.*;
 
 public class AfterFailureParametersGenerator implements ParametersGenerator {
 
@@ -12,6 +13,7 @@ public class AfterFailureParametersGenerator implements ParametersGenerator {
 
 	private final GenerationInfo previousFailureGeneration;
 	private final ParametersGenerator parametersGenerator;
+	private final int shrinkingCacheSize;
 
 	private boolean continueWithSeed = false;
 	private boolean runWithPreviousSample = false;
@@ -21,11 +23,25 @@ public class AfterFailureParametersGenerator implements ParametersGenerator {
 		AfterFailureMode afterFailureMode,
 		GenerationInfo previousFailureGeneration,
 		ParametersGenerator parametersGenerator
+	) {
+		this(afterFailureMode, previousFailureGeneration, parametersGenerator, ShrunkSampleRecreator.DEFAULT_SHRINKING_CACHE_SIZE);
+	}
+
+	/**
+	 * @param shrinkingCacheSize must be the same as during shrinking the previous sample
+	 *                           otherwise recreation of the shrunk sample might fail
+	 */
+	public AfterFailureParametersGenerator(
+		AfterFailureMode afterFailureMode,
+		GenerationInfo previousFailureGeneration,
+		ParametersGenerator parametersGenerator,
+		int shrinkingCacheSize
 	) {
 		logAfterFailureHandling(afterFailureMode, previousFailureGeneration);
 		initializeRunningState(afterFailureMode, previousFailureGeneration);
 		this.previousFailureGeneration = previousFailureGeneration;
 		this.parametersGenerator = parametersGenerator;
+		this.shrinkingCacheSize = shrinkingCacheSize;
 	}
 
 	private void initializeRunningState(
@@ -96,7 +112,7 @@ public class AfterFailureParametersGenerator implements ParametersGenerator {
 	}
 
 	private Optional<List<Shrinkable<Object>>> generatePreviousSample(TryLifecycleContext context) {
-		return previousFailureGeneration.generateOn(parametersGenerator, context);
+		return previousFailureGeneration.generateOn(parametersGenerator, context, shrinkingCacheSize);
 	}
 
 	@Override
@@ -117,6 +133,11 @@ public class AfterFailureParametersGenerator implements ParametersGenerator {
 		return parametersGenerator.generationInfo(randomSeed);
 	}
 
+	@Override
+	public boolean skip(int count, TryLifecycleContext context) {
+		throw new UnsupportedOperationException("Should only be used on delegate generators");
+	}
+
 	@Override
 	public void reset() {
 		throw new UnsupportedOperationException("Should only be used on delegate generators");
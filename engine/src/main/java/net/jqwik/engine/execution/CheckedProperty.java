@@ -158,7 +158,8 @@ public class CheckedProperty {
 			parametersGenerator = new AfterFailureParametersGenerator(
 				configuration.getAfterFailureMode(),
 				configuration.getPreviousFailureGeneration(),
-				parametersGenerator
+				parametersGenerator,
+				configuration.shrinkingCacheSize()
 			);
 		}
 
@@ -13,6 +13,16 @@ import net.jqwik.engine.support.*;
 
 public class CheckedPropertyFactory {
 
+	private final ArbitraryResolutionCache resolutionCache;
+
+	public CheckedPropertyFactory() {
+		this(ArbitraryResolutionCache.uncached());
+	}
+
+	public CheckedPropertyFactory(ArbitraryResolutionCache resolutionCache) {
+		this.resolutionCache = resolutionCache;
+	}
+
 	public CheckedProperty fromDescriptor(
 		PropertyMethodDescriptor propertyMethodDescriptor,
 		PropertyLifecycleContext propertyLifecycleContext,
@@ -30,7 +40,8 @@ public class CheckedPropertyFactory {
 
 		PropertyMethodArbitraryResolver arbitraryResolver = new PropertyMethodArbitraryResolver(
 			propertyLifecycleContext.testInstance(),
-			CurrentDomainContext.get()
+			CurrentDomainContext.get(),
+			resolutionCache
 		);
 
 		Optional<Iterable<? extends Tuple>> optionalData =
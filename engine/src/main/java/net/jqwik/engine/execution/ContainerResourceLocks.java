@@ -0,0 +1,62 @@
+package net.jqwik.engine.execution;
+
+import java.util.*;
+
+import org.junit.platform.commons.support.*;
+import org.junit.platform.engine.*;
+
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.descriptor.*;
+import net.jqwik.engine.execution.pipeline.*;
+
+/**
+ * All tasks within a top level container share the same lock owner
+ * and thereby run one after the other.
+ * The owner's resources are collected from all {@linkplain ResourceLock} annotations in its subtree
+ * so that all of them can be claimed at once before the container starts.
+ */
+class ContainerResourceLocks {
+
+	private final Map<UniqueId, ResourceLocks> locksPerTopLevelContainer = new HashMap<>();
+
+	ResourceLocks forDescriptor(TestDescriptor descriptor) {
+		return topLevelContainer(descriptor)
+				   .map(container -> locksPerTopLevelContainer.computeIfAbsent(
+					   container.getUniqueId(),
+					   ignore -> createLocks(container)
+				   ))
+				   .orElse(ResourceLocks.NONE);
+	}
+
+	private Optional<TestDescriptor> topLevelContainer(TestDescriptor descriptor) {
+		TestDescriptor current = descriptor;
+		while (current.getParent().isPresent()) {
+			TestDescriptor parent = current.getParent().get();
+			if (!parent.getParent().isPresent()) {
+				return Optional.of(current);
+			}
+			current = parent;
+		}
+		// The engine descriptor itself
+		return Optional.empty();
+	}
+
+	private ResourceLocks createLocks(TestDescriptor container) {
+		Set<String> resources = new LinkedHashSet<>();
+		addResources(container, resources);
+		for (TestDescriptor descendant : container.getDescendants()) {
+			addResources(descendant, resources);
+		}
+		return new ResourceLocks(container.getUniqueId(), resources);
+	}
+
+	private void addResources(TestDescriptor descriptor, Set<String> resources) {
+		if (descriptor instanceof SkipExecutionDecorator) {
+			descriptor = ((SkipExecutionDecorator) descriptor).getWrapped();
+		}
+		if (descriptor instanceof JqwikDescriptor) {
+			AnnotationSupport.findAnnotation(((JqwikDescriptor) descriptor).getAnnotatedElement(), ResourceLock.class)
+							 .ifPresent(resourceLock -> resources.addAll(Arrays.asList(resourceLock.value())));
+		}
+	}
+}
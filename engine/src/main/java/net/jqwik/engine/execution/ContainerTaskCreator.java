@@ -16,12 +16,16 @@ import net.jqwik.engine.support.*;
 
 class ContainerTaskCreator {
 
+	// A container is only finished when the finish tasks of all its child containers have run
+	private final Map<ExecutionTask, ExecutionTask> finishTaskByPrepareTask = new IdentityHashMap<>();
+
 	ExecutionTask createTask(
 		TestDescriptor containerDescriptor,
 		ExecutionTaskCreator childTaskCreator,
 		Pipeline pipeline,
 		LifecycleHooksSupplier lifecycleSupplier,
-		PropertyExecutionListener propertyExecutionListener
+		PropertyExecutionListener propertyExecutionListener,
+		ResourceLocks resourceLocks
 	) {
 
 		Reporter reporter = new DefaultReporter(propertyExecutionListener::reportingEntryPublished, containerDescriptor);
@@ -40,7 +44,8 @@ class ContainerTaskCreator {
 					return TaskExecutionResult.success();
 				},
 				containerDescriptor,
-				"skip " + containerDescriptor.getDisplayName()
+				"skip " + containerDescriptor.getDisplayName(),
+				resourceLocks
 			);
 		}
 
@@ -57,7 +62,8 @@ class ContainerTaskCreator {
 				return TaskExecutionResult.success();
 			},
 			containerDescriptor,
-			"prepare " + containerDescriptor.getDisplayName()
+			"prepare " + containerDescriptor.getDisplayName(),
+			resourceLocks
 		);
 
 		ExecutionTask[] childrenTasks = createChildren(
@@ -92,17 +98,25 @@ class ContainerTaskCreator {
 				}
 			},
 			containerDescriptor,
-			"finish " + containerDescriptor.getDisplayName()
+			"finish " + containerDescriptor.getDisplayName(),
+			resourceLocks
 		);
 
 		if (childrenTasks.length == 0)
 			pipeline.submit(finishContainerTask, prepareContainerTask);
 		else
-			pipeline.submit(finishContainerTask, childrenTasks);
+			pipeline.submit(finishContainerTask, lastTasksOf(childrenTasks));
 
+		finishTaskByPrepareTask.put(prepareContainerTask, finishContainerTask);
 		return prepareContainerTask;
 	}
 
+	private ExecutionTask[] lastTasksOf(ExecutionTask[] childrenTasks) {
+		return Arrays.stream(childrenTasks)
+					 .map(childTask -> finishTaskByPrepareTask.getOrDefault(childTask, childTask))
+					 .toArray(ExecutionTask[]::new);
+	}
+
 	private ContainerLifecycleContext createLifecycleContext(
 		TestDescriptor containerDescriptor,
 		Reporter reporter,
@@ -50,44 +50,56 @@ public class GenerationInfo implements Serializable {
 		return Optional.ofNullable(randomSeed);
 	}
 
+	/**
+	 * @return the number of samples generated up to and including the sample of the failing try
+	 */
 	public int generationIndex() {
 		return generationIndex;
 	}
 
 	public Optional<List<Shrinkable<Object>>> generateOn(ParametersGenerator generator, TryLifecycleContext context) {
+		return generateOn(generator, context, ShrunkSampleRecreator.DEFAULT_SHRINKING_CACHE_SIZE);
+	}
+
+	public Optional<List<Shrinkable<Object>>> generateOn(
+		ParametersGenerator generator,
+		TryLifecycleContext context,
+		int shrinkingCacheSize
+	) {
 		List<Shrinkable<Object>> sample = useGenerationIndex(generator, context);
-		return useShrinkingSequences(sample);
+		return useShrinkingSequences(sample, shrinkingCacheSize);
 	}
 
-	private Optional<List<Shrinkable<Object>>> useShrinkingSequences(List<Shrinkable<Object>> sample) {
+	private Optional<List<Shrinkable<Object>>> useShrinkingSequences(List<Shrinkable<Object>> sample, int shrinkingCacheSize) {
 		Optional<List<Shrinkable<Object>>> shrunkSample = Optional.ofNullable(sample);
 		for (List<TryExecutionResult.Status> shrinkingSequence : shrinkingSequences()) {
 			if (!shrunkSample.isPresent()) {
 				break;
 			}
-			shrunkSample = shrink(shrunkSample.get(), shrinkingSequence);
+			shrunkSample = shrink(shrunkSample.get(), shrinkingSequence, shrinkingCacheSize);
 		}
 		return shrunkSample;
 	}
 
 	private Optional<List<Shrinkable<Object>>> shrink(
 		List<Shrinkable<Object>> sample,
-		List<TryExecutionResult.Status> shrinkingSequence
+		List<TryExecutionResult.Status> shrinkingSequence,
+		int shrinkingCacheSize
 	) {
-		ShrunkSampleRecreator recreator = new ShrunkSampleRecreator(sample);
+		ShrunkSampleRecreator recreator = new ShrunkSampleRecreator(sample, shrinkingCacheSize);
 		return recreator.recreateFrom(shrinkingSequence);
 	}
 
+	// Randomized generators derive each try's randomness from seed and try index,
+	// so that earlier samples can be skipped without being generated
 	private List<Shrinkable<Object>> useGenerationIndex(ParametersGenerator generator, TryLifecycleContext context) {
-		List<Shrinkable<Object>> sample = null;
-		for (int i = 0; i < generationIndex; i++) {
-			if (generator.hasNext()) {
-				sample = generator.next(context);
-			} else {
-				return null;
-			}
+		if (generationIndex <= 0) {
+			return null;
+		}
+		if (!generator.skip(generationIndex - 1, context) || !generator.hasNext()) {
+			return null;
 		}
-		return sample;
+		return generator.next(context);
 	}
 
 	public List<List<TryExecutionResult.Status>> shrinkingSequences() {
@@ -8,6 +8,7 @@ import org.junit.platform.engine.*;
 import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.execution.lifecycle.*;
 import net.jqwik.engine.execution.pipeline.*;
+import net.jqwik.engine.properties.*;
 import net.jqwik.engine.recording.*;
 
 public class JqwikExecutor {
@@ -17,7 +18,9 @@ public class JqwikExecutor {
 	private final Set<UniqueId> previousFailedTests;
 	private final boolean useJunitPlatformReporter;
 	private final boolean reportOnlyFailures;
-	private final PropertyTaskCreator propertyTaskCreator = new PropertyTaskCreator();
+	private final int parallelism;
+	private final ContainerResourceLocks resourceLocks = new ContainerResourceLocks();
+	private final PropertyTaskCreator propertyTaskCreator;
 	private final ContainerTaskCreator containerTaskCreator = new ContainerTaskCreator();
 	private final ExecutionTaskCreator childTaskCreator = this::createTask;
 
@@ -28,18 +31,44 @@ public class JqwikExecutor {
 		TestRunRecorder recorder,
 		Set<UniqueId> previousFailedTests,
 		boolean useJunitPlatformReporter,
-		boolean reportOnlyFailures
+		boolean reportOnlyFailures,
+		int parallelism
+	) {
+		this(
+			registry,
+			recorder,
+			previousFailedTests,
+			useJunitPlatformReporter,
+			reportOnlyFailures,
+			parallelism,
+			ArbitraryResolutionCache.uncached()
+		);
+	}
+
+	public JqwikExecutor(
+		LifecycleHooksRegistry registry,
+		TestRunRecorder recorder,
+		Set<UniqueId> previousFailedTests,
+		boolean useJunitPlatformReporter,
+		boolean reportOnlyFailures,
+		int parallelism,
+		ArbitraryResolutionCache resolutionCache
 	) {
 		this.registry = registry;
 		this.recorder = recorder;
 		this.previousFailedTests = previousFailedTests;
 		this.useJunitPlatformReporter = useJunitPlatformReporter;
 		this.reportOnlyFailures = reportOnlyFailures;
+		this.parallelism = parallelism;
+		this.propertyTaskCreator = new PropertyTaskCreator(resolutionCache);
 	}
 
 	public void execute(TestDescriptor descriptor, EngineExecutionListener engineExecutionListener) {
 		PropertyExecutionListener recordingListener = new RecordingExecutionListener(recorder, engineExecutionListener, useJunitPlatformReporter);
-		ExecutionPipeline pipeline = new ExecutionPipeline(recordingListener);
+		if (parallelism > 1) {
+			recordingListener = new SynchronizedExecutionListener(recordingListener);
+		}
+		ExecutionPipeline pipeline = new ExecutionPipeline(recordingListener, parallelism);
 		ExecutionTask mainTask = createTask(descriptor, pipeline, recordingListener);
 		pipeline.submit(mainTask);
 		letNonSuccessfulTestsExecuteFirst(pipeline);
@@ -73,7 +102,8 @@ public class JqwikExecutor {
 				return TaskExecutionResult.failure(null);
 			},
 			descriptor,
-			"log warning"
+			"log warning",
+			resourceLocks.forDescriptor(descriptor)
 		);
 	}
 
@@ -84,7 +114,8 @@ public class JqwikExecutor {
 				listener.executionSkipped(descriptor, descriptor.getSkippingReason());
 				return TaskExecutionResult.success();
 			},
-			descriptor, taskDescription
+			descriptor, taskDescription,
+			resourceLocks.forDescriptor(descriptor)
 		);
 	}
 
@@ -92,11 +123,23 @@ public class JqwikExecutor {
 		PropertyMethodDescriptor propertyMethodDescriptor,
 		Pipeline pipeline
 	) {
-		return propertyTaskCreator.createTask(propertyMethodDescriptor, registry, reportOnlyFailures);
+		return propertyTaskCreator.createTask(
+			propertyMethodDescriptor,
+			registry,
+			reportOnlyFailures,
+			resourceLocks.forDescriptor(propertyMethodDescriptor)
+		);
 	}
 
 	private ExecutionTask createContainerTask(TestDescriptor containerDescriptor, Pipeline pipeline, PropertyExecutionListener listener) {
-		return containerTaskCreator.createTask(containerDescriptor, childTaskCreator, pipeline, registry, listener);
+		return containerTaskCreator.createTask(
+			containerDescriptor,
+			childTaskCreator,
+			pipeline,
+			registry,
+			listener,
+			resourceLocks.forDescriptor(containerDescriptor)
+		);
 	}
 
 }
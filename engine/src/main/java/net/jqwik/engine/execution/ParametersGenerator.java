@@ -11,6 +11,21 @@ public interface ParametersGenerator {
 
 	List<Shrinkable<Object>> next(TryLifecycleContext context);
 
+	/**
+	 * Skip the next {@code count} samples, e.g. to regenerate a previously falsified sample.
+	 *
+	 * @return false if there are less than {@code count} samples left
+	 */
+	default boolean skip(int count, TryLifecycleContext context) {
+		for (int i = 0; i < count; i++) {
+			if (!hasNext()) {
+				return false;
+			}
+			next(context);
+		}
+		return true;
+	}
+
 	int edgeCasesTotal();
 
 	int edgeCasesTried();
@@ -24,16 +24,18 @@ public class PropertyMethodExecutor {
 	private final PropertyMethodDescriptor methodDescriptor;
 	private final PropertyLifecycleContext propertyLifecycleContext;
 	private final boolean reportOnlyFailures;
-	private final CheckedPropertyFactory checkedPropertyFactory = new CheckedPropertyFactory();
+	private final CheckedPropertyFactory checkedPropertyFactory;
 
 	public PropertyMethodExecutor(
 		PropertyMethodDescriptor methodDescriptor,
 		PropertyLifecycleContext propertyLifecycleContext,
-		boolean reportOnlyFailures
+		boolean reportOnlyFailures,
+		ArbitraryResolutionCache resolutionCache
 	) {
 		this.methodDescriptor = methodDescriptor;
 		this.propertyLifecycleContext = propertyLifecycleContext;
 		this.reportOnlyFailures = reportOnlyFailures;
+		this.checkedPropertyFactory = new CheckedPropertyFactory(resolutionCache);
 	}
 
 	public PropertyExecutionResult execute(LifecycleHooksSupplier lifecycleSupplier) {
@@ -10,14 +10,26 @@ import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.execution.lifecycle.*;
 import net.jqwik.engine.execution.pipeline.*;
 import net.jqwik.engine.execution.reporting.*;
+import net.jqwik.engine.properties.*;
 import net.jqwik.engine.support.*;
 
 class PropertyTaskCreator {
 
+	private final ArbitraryResolutionCache resolutionCache;
+
+	PropertyTaskCreator() {
+		this(ArbitraryResolutionCache.uncached());
+	}
+
+	PropertyTaskCreator(ArbitraryResolutionCache resolutionCache) {
+		this.resolutionCache = resolutionCache;
+	}
+
 	ExecutionTask createTask(
 		PropertyMethodDescriptor methodDescriptor,
 		LifecycleHooksSupplier lifecycleSupplier,
-		boolean reportOnlyFailures
+		boolean reportOnlyFailures,
+		ResourceLocks resourceLocks
 	) {
 		return ExecutionTask.from(
 			(listener, predecessorResult) -> {
@@ -66,7 +78,8 @@ class PropertyTaskCreator {
 				return TaskExecutionResult.success();
 			},
 			methodDescriptor,
-			"executing " + methodDescriptor.getDisplayName()
+			"executing " + methodDescriptor.getDisplayName(),
+			resourceLocks
 		);
 	}
 
@@ -162,7 +175,7 @@ class PropertyTaskCreator {
 		LifecycleHooksSupplier lifecycleSupplier,
 		boolean reportOnlyFailures
 	) {
-		PropertyMethodExecutor executor = new PropertyMethodExecutor(methodDescriptor, propertyLifecycleContext, reportOnlyFailures);
+		PropertyMethodExecutor executor = new PropertyMethodExecutor(methodDescriptor, propertyLifecycleContext, reportOnlyFailures, resolutionCache);
 		return executor.execute(lifecycleSupplier);
 	}
 
@@ -48,6 +48,15 @@ public class ResolvingParametersGenerator implements ParametersGenerator {
 		return next;
 	}
 
+	@Override
+	public boolean skip(int count, TryLifecycleContext context) {
+		if (!forAllParametersGenerator.skip(count)) {
+			return false;
+		}
+		currentGenerationIndex += count;
+		return true;
+	}
+
 	@Override
 	public int edgeCasesTotal() {
 		return forAllParametersGenerator.edgeCasesTotal();
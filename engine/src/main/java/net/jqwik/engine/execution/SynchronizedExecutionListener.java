@@ -0,0 +1,39 @@
+package net.jqwik.engine.execution;
+
+import org.junit.platform.engine.*;
+import org.junit.platform.engine.reporting.*;
+
+import net.jqwik.api.lifecycle.*;
+
+/**
+ * Serializes all events when properties are executed concurrently
+ * so that neither the platform's listener nor the test run recorder must be thread-safe.
+ */
+class SynchronizedExecutionListener implements PropertyExecutionListener {
+
+	private final PropertyExecutionListener listener;
+
+	SynchronizedExecutionListener(PropertyExecutionListener listener) {
+		this.listener = listener;
+	}
+
+	@Override
+	public synchronized void executionSkipped(TestDescriptor testDescriptor, String reason) {
+		listener.executionSkipped(testDescriptor, reason);
+	}
+
+	@Override
+	public synchronized void executionStarted(TestDescriptor testDescriptor) {
+		listener.executionStarted(testDescriptor);
+	}
+
+	@Override
+	public synchronized void executionFinished(TestDescriptor testDescriptor, PropertyExecutionResult executionResult) {
+		listener.executionFinished(testDescriptor, executionResult);
+	}
+
+	@Override
+	public synchronized void reportingEntryPublished(TestDescriptor testDescriptor, ReportEntry entry) {
+		listener.reportingEntryPublished(testDescriptor, entry);
+	}
+}
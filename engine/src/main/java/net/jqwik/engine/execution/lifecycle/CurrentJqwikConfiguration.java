@@ -0,0 +1,32 @@
+package net.jqwik.engine.execution.lifecycle;
+
+import java.util.*;
+
+import org.junit.platform.engine.*;
+
+import net.jqwik.engine.*;
+import net.jqwik.engine.descriptor.*;
+
+/**
+ * Gives access to the configuration of the engine run that the current test descriptor belongs to.
+ * Thereby several engines in the same JVM can run with different configurations.
+ */
+public class CurrentJqwikConfiguration {
+
+	/**
+	 * @return empty if the current thread does not work for a jqwik engine run, e.g. when sampling values in a main method
+	 */
+	public static Optional<JqwikConfiguration> get() {
+		if (CurrentTestDescriptor.isEmpty()) {
+			return Optional.empty();
+		}
+		TestDescriptor root = CurrentTestDescriptor.get();
+		while (root.getParent().isPresent()) {
+			root = root.getParent().get();
+		}
+		if (root instanceof JqwikEngineDescriptor) {
+			return Optional.of(((JqwikEngineDescriptor) root).getConfiguration());
+		}
+		return Optional.empty();
+	}
+}
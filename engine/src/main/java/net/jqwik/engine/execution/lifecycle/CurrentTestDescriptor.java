@@ -8,7 +8,8 @@ import org.junit.platform.engine.*;
 public class CurrentTestDescriptor {
 
 	// Current test descriptors are stored in a stack because one test might invoke others
-	// e.g. in JqwikIntegrationTests
+	// e.g. in JqwikIntegrationTests.
+	// Every thread has its own stack so that concurrently executed properties do not see each other's descriptors.
 	private static final ThreadLocal<List<TestDescriptor>> descriptors = ThreadLocal.withInitial(ArrayList::new);
 
 	public static <T> T runWithDescriptor(TestDescriptor currentDescriptor, Supplier<T> executable) {
@@ -16,8 +17,7 @@ public class CurrentTestDescriptor {
 		try {
 			return executable.get();
 		} finally {
-			TestDescriptor peek = descriptors.get().get(0);
-			if (peek == currentDescriptor) {
+			if (!isEmpty() && descriptors.get().get(0) == currentDescriptor) {
 				pop();
 			}
 		}
@@ -1,11 +1,13 @@
 package net.jqwik.engine.execution.lifecycle;
 
+import java.util.*;
 import java.util.function.*;
 import java.util.logging.*;
 
 import org.junit.platform.engine.*;
 
 import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.support.*;
 
 import static net.jqwik.engine.support.JqwikStringSupport.*;
@@ -22,6 +24,10 @@ public class ScopedStore<T> implements Store<T> {
 	private T value;
 	private boolean initialized = false;
 
+	// Stores with lifespan PROPERTY or TRY keep a value for each property that uses them,
+	// so that a finishing property does not reset the value of a property running concurrently
+	private final Map<TestDescriptor, T> valuesByProperty = new HashMap<>();
+
 	public ScopedStore(
 		Object identifier,
 		Lifespan lifespan,
@@ -35,7 +41,26 @@ public class ScopedStore<T> implements Store<T> {
 	}
 
 	@Override
-	public synchronized T get() {
+	public T get() {
+		Optional<TryScope> tryScope = tryScope();
+		if (tryScope.isPresent()) {
+			return tryScope.get().get(this, initialValueSupplier);
+		}
+		Optional<TestDescriptor> property = currentProperty();
+		if (property.isPresent()) {
+			return propertyValue(property.get());
+		}
+		return sharedValue();
+	}
+
+	private synchronized T propertyValue(TestDescriptor property) {
+		if (!valuesByProperty.containsKey(property)) {
+			valuesByProperty.put(property, initialValueSupplier.get());
+		}
+		return valuesByProperty.get(property);
+	}
+
+	private synchronized T sharedValue() {
 		if (!initialized) {
 			value = initialValueSupplier.get();
 			initialized = true;
@@ -49,12 +74,64 @@ public class ScopedStore<T> implements Store<T> {
 	}
 
 	@Override
-	public synchronized void update(Function<T, T> updater) {
-		value = updater.apply(get());
+	public void update(Function<T, T> updater) {
+		Optional<TryScope> tryScope = tryScope();
+		if (tryScope.isPresent()) {
+			tryScope.get().set(this, updater.apply(get()));
+			return;
+		}
+		Optional<TestDescriptor> property = currentProperty();
+		if (property.isPresent()) {
+			updatePropertyValue(property.get(), updater);
+			return;
+		}
+		updateSharedValue(updater);
+	}
+
+	private synchronized void updatePropertyValue(TestDescriptor property, Function<T, T> updater) {
+		valuesByProperty.put(property, updater.apply(propertyValue(property)));
+	}
+
+	private synchronized void updateSharedValue(Function<T, T> updater) {
+		value = updater.apply(sharedValue());
 	}
 
 	@Override
-	public synchronized void reset() {
+	public void reset() {
+		Optional<TryScope> tryScope = tryScope();
+		if (tryScope.isPresent()) {
+			tryScope.get().remove(this).ifPresent(this::closeOnReset);
+			return;
+		}
+		Optional<TestDescriptor> property = currentProperty();
+		if (property.isPresent()) {
+			resetPropertyValue(property.get());
+			return;
+		}
+		resetSharedValue();
+	}
+
+	/**
+	 * Reset the value of {@code property} only, when it finishes or one of its tries finishes.
+	 * Values used outside of any property are reset, too.
+	 */
+	void resetFor(TestDescriptor property) {
+		Optional<TryScope> tryScope = tryScope();
+		if (tryScope.isPresent()) {
+			tryScope.get().remove(this).ifPresent(this::closeOnReset);
+			return;
+		}
+		resetPropertyValue(property);
+		resetSharedValue();
+	}
+
+	private synchronized void resetPropertyValue(TestDescriptor property) {
+		if (valuesByProperty.containsKey(property)) {
+			closeOnReset(valuesByProperty.remove(property));
+		}
+	}
+
+	private synchronized void resetSharedValue() {
 		close();
 		initialized = false;
 
@@ -62,6 +139,31 @@ public class ScopedStore<T> implements Store<T> {
 		value = null;
 	}
 
+	private Optional<TryScope> tryScope() {
+		if (lifespan != Lifespan.TRY) {
+			return Optional.empty();
+		}
+		return TryScope.current();
+	}
+
+	private Optional<TestDescriptor> currentProperty() {
+		if (lifespan == Lifespan.RUN || CurrentTestDescriptor.isEmpty()) {
+			return Optional.empty();
+		}
+		TestDescriptor descriptor = CurrentTestDescriptor.get();
+		while (!(descriptor instanceof PropertyMethodDescriptor)) {
+			Optional<TestDescriptor> parent = descriptor.getParent();
+			if (!parent.isPresent()) {
+				return Optional.empty();
+			}
+			descriptor = parent.get();
+		}
+		if (!isInScope(descriptor)) {
+			return Optional.empty();
+		}
+		return Optional.of(descriptor);
+	}
+
 	public Object getIdentifier() {
 		return identifier;
 	}
@@ -93,13 +195,14 @@ public class ScopedStore<T> implements Store<T> {
 	}
 
 	public void close() {
+		new ArrayList<>(valuesByProperty.values()).forEach(this::closeOnReset);
 		if (!initialized) {
 			return;
 		}
-		closeOnReset();
+		closeOnReset(value);
 	}
 
-	private void closeOnReset() {
+	private void closeOnReset(Object value) {
 		if (value instanceof Store.CloseOnReset) {
 			try {
 				((Store.CloseOnReset) value).close();
@@ -10,7 +10,14 @@ import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
 
 /**
- * StoreRepository and ScopedStore CANNOT handle concurrent execution of properties!
+ * Access to StoreRepository and ScopedStore is synchronized so that tries and properties can run in parallel.
+ *
+ * <p>
+ * Stores with lifespan PROPERTY or TRY are reset whenever a property or try within their scope finishes.
+ * They hold a value for each property, so that only the value of the finishing property is reset
+ * even if other properties within their scope run concurrently.
+ * Tries of the same property that run concurrently each hold their try-scoped values in their own {@linkplain TryScope}.
+ * </p>
  */
 public class StoreRepository {
 
@@ -29,7 +36,7 @@ public class StoreRepository {
 
 	private final Map<Object, IdentifiedStores> storesByIdentifier = new LinkedHashMap<>();
 
-	public <T> ScopedStore<T> create(
+	public synchronized <T> ScopedStore<T> create(
 		TestDescriptor scope,
 		Object identifier,
 		Lifespan lifespan,
@@ -52,6 +59,31 @@ public class StoreRepository {
 		return store;
 	}
 
+	/**
+	 * Retrieving and creating is atomic so that concurrently running code cannot create the same store twice.
+	 */
+	public synchronized <T> ScopedStore<T> getOrCreate(
+		TestDescriptor scope,
+		Object identifier,
+		Lifespan lifespan,
+		Supplier<T> initialValueSupplier
+	) {
+		Optional<ScopedStore<T>> existingStore = get(scope, identifier);
+		if (existingStore.isPresent()) {
+			ScopedStore<T> store = existingStore.get();
+			if (!store.lifespan().equals(lifespan)) {
+				String message = String.format(
+					"Trying to recreate existing store [%s] with different lifespan [%s]",
+					store,
+					lifespan
+				);
+				throw new JqwikException(message);
+			}
+			return store;
+		}
+		return create(scope, identifier, lifespan, initialValueSupplier);
+	}
+
 	private <T> void addStore(Object identifier, ScopedStore<T> newStore) {
 		IdentifiedStores identifiedStores = storesByIdentifier.computeIfAbsent(newStore.getIdentifier(), ignore -> new IdentifiedStores());
 
@@ -80,7 +112,7 @@ public class StoreRepository {
 		return store.isVisibleFor(newStore.getScope()) || newStore.isVisibleFor(store.getScope());
 	}
 
-	public <T> Optional<ScopedStore<T>> get(TestDescriptor retriever, Object identifier) {
+	public synchronized <T> Optional<ScopedStore<T>> get(TestDescriptor retriever, Object identifier) {
 		if (identifier == null) {
 			throw new IllegalArgumentException("identifier must not be null");
 		}
@@ -102,7 +134,7 @@ public class StoreRepository {
 							   .findFirst();
 	}
 
-	public void finishScope(TestDescriptor scope) {
+	public synchronized void finishScope(TestDescriptor scope) {
 		List<ScopedStore<?>> storesToRemove =
 			streamAllStores()
 				.filter(store -> isStoreIn(store, scope))
@@ -143,20 +175,26 @@ public class StoreRepository {
 	}
 
 	public void finishProperty(TestDescriptor scope) {
-		streamAllStores()
-			.filter(store -> store.lifespan() == Lifespan.PROPERTY)
-			.filter(store -> store.isVisibleFor(scope))
-			.forEach(Store::reset);
+		resetVisibleStores(scope, Lifespan.PROPERTY);
 	}
 
 	public void finishTry(TestDescriptor scope) {
-		streamAllStores()
-			.filter(store -> store.lifespan() == Lifespan.TRY)
-			.filter(store -> store.isVisibleFor(scope))
-			.forEach(Store::reset);
+		resetVisibleStores(scope, Lifespan.TRY);
+	}
+
+	private void resetVisibleStores(TestDescriptor scope, Lifespan lifespan) {
+		// Resetting outside of the lock, since a store's value might itself access other stores
+		visibleStores(scope, lifespan).forEach(store -> store.resetFor(scope));
+	}
+
+	private synchronized List<ScopedStore<?>> visibleStores(TestDescriptor scope, Lifespan lifespan) {
+		return streamAllStores()
+				   .filter(store -> store.lifespan() == lifespan)
+				   .filter(store -> store.isVisibleFor(scope))
+				   .collect(Collectors.toList());
 	}
 
-	public int size() {
+	public synchronized int size() {
 		return storesByIdentifier.values().stream().mapToInt(HashMap::size).sum();
 	}
 }
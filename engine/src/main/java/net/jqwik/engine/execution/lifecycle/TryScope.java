@@ -0,0 +1,60 @@
+package net.jqwik.engine.execution.lifecycle;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * Holds the values of stores with lifespan {@linkplain net.jqwik.api.lifecycle.Lifespan#TRY TRY} for a single try.
+ *
+ * <p>
+ * Tries that are executed concurrently each run in their own scope, so that they do not see
+ * - or reset - each other's try-scoped values. Without a current scope try-scoped values
+ * are held by the store itself, which is what sequentially executed tries rely on.
+ * </p>
+ */
+public class TryScope {
+
+	private static final ThreadLocal<TryScope> current = new ThreadLocal<>();
+
+	static Optional<TryScope> current() {
+		return Optional.ofNullable(current.get());
+	}
+
+	private final Map<ScopedStore<?>, Object> values = new IdentityHashMap<>();
+
+	public <T> T runInScope(Supplier<T> executable) {
+		TryScope previous = current.get();
+		current.set(this);
+		try {
+			return executable.get();
+		} finally {
+			if (previous == null) {
+				current.remove();
+			} else {
+				current.set(previous);
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	synchronized <T> T get(ScopedStore<T> store, Supplier<T> initialValueSupplier) {
+		if (!values.containsKey(store)) {
+			values.put(store, initialValueSupplier.get());
+		}
+		return (T) values.get(store);
+	}
+
+	synchronized <T> void set(ScopedStore<T> store, T value) {
+		values.put(store, value);
+	}
+
+	/**
+	 * @return the removed value, if the store had been initialized in this scope
+	 */
+	synchronized Optional<Object> remove(ScopedStore<?> store) {
+		if (!values.containsKey(store)) {
+			return Optional.empty();
+		}
+		return Optional.ofNullable(values.remove(store));
+	}
+}
@@ -1,11 +1,14 @@
 package net.jqwik.engine.execution.pipeline;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.stream.*;
 
 import org.junit.platform.engine.*;
 
+import net.jqwik.api.*;
 import net.jqwik.engine.execution.*;
+import net.jqwik.engine.support.*;
 
 public class ExecutionPipeline implements Pipeline {
 
@@ -13,9 +16,23 @@ public class ExecutionPipeline implements Pipeline {
 	private final Map<ExecutionTask, Boolean> taskFinished = new IdentityHashMap<>();
 	private final Map<ExecutionTask, ExecutionTask[]> taskPredecessors = new IdentityHashMap<>();
 	private final PropertyExecutionListener executionListener;
+	private final int parallelism;
 
 	public ExecutionPipeline(PropertyExecutionListener executionListener) {
+		this(executionListener, 1);
+	}
+
+	/**
+	 * With a parallelism larger than 1 tasks are executed on a pool of worker threads.
+	 * Tasks still start in queue order as soon as all their predecessors have finished
+	 * and their {@linkplain ExecutionTask#resourceLocks() resource locks} can be claimed.
+	 */
+	public ExecutionPipeline(PropertyExecutionListener executionListener, int parallelism) {
+		if (parallelism < 1) {
+			throw new IllegalArgumentException("parallelism must be at least 1");
+		}
 		this.executionListener = executionListener;
+		this.parallelism = parallelism;
 	}
 
 	@Override
@@ -74,6 +91,10 @@ public class ExecutionPipeline implements Pipeline {
 	}
 
 	public void runToTermination() {
+		if (parallelism > 1) {
+			runConcurrentlyToTermination();
+			return;
+		}
 		TaskExecutionResult predecessorResult = TaskExecutionResult.success();
 		while (!tasks.isEmpty()) {
 			ExecutionTask head = tasks.get(0);
@@ -95,4 +116,172 @@ public class ExecutionPipeline implements Pipeline {
 		return !unfinishedPredecessors.isEmpty();
 	}
 
+	private void runConcurrentlyToTermination() {
+		tasks.forEach(task -> ensurePredecessorsSubmitted(task, taskPredecessors.get(task)));
+		ExecutorService workers = Executors.newFixedThreadPool(parallelism, new DaemonThreadFactory("jqwik-execution"));
+		try {
+			new ConcurrentRun(workers).runToTermination();
+		} finally {
+			workers.shutdown();
+		}
+	}
+
+	/**
+	 * All state is only accessed from the thread that runs the pipeline.
+	 * Workers hand back finished tasks through a queue.
+	 */
+	private class ConcurrentRun {
+		private final ExecutorService workers;
+		private final BlockingQueue<FinishedTask> finishedTasks = new LinkedBlockingQueue<>();
+		private final Map<ExecutionTask, TaskExecutionResult> taskResults = new IdentityHashMap<>();
+		private final Map<UniqueId, Integer> unfinishedTasksPerOwner = new HashMap<>();
+		private final Set<ExecutionTask> startedTasks = Collections.newSetFromMap(new IdentityHashMap<>());
+		private final Set<UniqueId> busyOwners = new HashSet<>();
+		private final Map<String, UniqueId> claimedResources = new HashMap<>();
+		private int runningTasks = 0;
+
+		private ConcurrentRun(ExecutorService workers) {
+			this.workers = workers;
+			for (ExecutionTask task : tasks) {
+				task.resourceLocks().owner().ifPresent(owner -> unfinishedTasksPerOwner.merge(owner, 1, Integer::sum));
+			}
+		}
+
+		private void runToTermination() {
+			while (!tasks.isEmpty() || runningTasks > 0) {
+				startExecutableTasks();
+				if (runningTasks == 0) {
+					String message = String.format("No task can be started although some are waiting: %s", tasks);
+					throw new JqwikException(message);
+				}
+				taskFinished(awaitNextFinishedTask());
+			}
+		}
+
+		private void startExecutableTasks() {
+			while (runningTasks < parallelism) {
+				Optional<ExecutionTask> executableTask = nextExecutableTask();
+				if (!executableTask.isPresent()) {
+					return;
+				}
+				tasks.remove(executableTask.get());
+				start(executableTask.get());
+			}
+		}
+
+		/**
+		 * Like in sequential execution unfinished predecessors of a task are preferred
+		 * over the tasks that come after it in the queue.
+		 */
+		private Optional<ExecutionTask> nextExecutableTask() {
+			Set<ExecutionTask> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+			for (ExecutionTask task : tasks) {
+				Optional<ExecutionTask> executableTask = executableTaskFor(task, visited);
+				if (executableTask.isPresent()) {
+					return executableTask;
+				}
+			}
+			return Optional.empty();
+		}
+
+		private Optional<ExecutionTask> executableTaskFor(ExecutionTask task, Set<ExecutionTask> visited) {
+			if (!visited.add(task) || taskFinished.get(task) || startedTasks.contains(task)) {
+				return Optional.empty();
+			}
+			boolean predecessorsFinished = true;
+			for (ExecutionTask predecessor : taskPredecessors.get(task)) {
+				if (!taskFinished.get(predecessor)) {
+					predecessorsFinished = false;
+					Optional<ExecutionTask> executablePredecessor = executableTaskFor(predecessor, visited);
+					if (executablePredecessor.isPresent()) {
+						return executablePredecessor;
+					}
+				}
+			}
+			if (predecessorsFinished && locksAvailable(task)) {
+				return Optional.of(task);
+			}
+			return Optional.empty();
+		}
+
+		private boolean locksAvailable(ExecutionTask task) {
+			ResourceLocks locks = task.resourceLocks();
+			if (!locks.owner().isPresent()) {
+				return true;
+			}
+			UniqueId owner = locks.owner().get();
+			if (busyOwners.contains(owner)) {
+				return false;
+			}
+			return locks.resources().stream().allMatch(resource -> {
+				UniqueId claimingOwner = claimedResources.get(resource);
+				return claimingOwner == null || claimingOwner.equals(owner);
+			});
+		}
+
+		private void start(ExecutionTask task) {
+			task.resourceLocks().owner().ifPresent(owner -> {
+				busyOwners.add(owner);
+				task.resourceLocks().resources().forEach(resource -> claimedResources.put(resource, owner));
+			});
+			TaskExecutionResult predecessorResult = combinedResult(taskPredecessors.get(task));
+			startedTasks.add(task);
+			runningTasks++;
+			workers.execute(() -> {
+				try {
+					TaskExecutionResult result = task.execute(executionListener, predecessorResult);
+					finishedTasks.add(new FinishedTask(task, result, null));
+				} catch (Throwable throwable) {
+					finishedTasks.add(new FinishedTask(task, null, throwable));
+				}
+			});
+		}
+
+		private TaskExecutionResult combinedResult(ExecutionTask[] predecessors) {
+			return Arrays.stream(predecessors)
+						 .map(taskResults::get)
+						 .filter(result -> !result.successful())
+						 .findFirst()
+						 .orElse(TaskExecutionResult.success());
+		}
+
+		private FinishedTask awaitNextFinishedTask() {
+			try {
+				return finishedTasks.take();
+			} catch (InterruptedException e) {
+				return JqwikExceptionSupport.throwAsUncheckedException(e);
+			}
+		}
+
+		private void taskFinished(FinishedTask finishedTask) {
+			if (finishedTask.throwable != null) {
+				// Only blacklisted throwables can escape a task
+				JqwikExceptionSupport.throwAsUncheckedException(finishedTask.throwable);
+			}
+			ExecutionTask task = finishedTask.task;
+			runningTasks--;
+			taskFinished.put(task, true);
+			taskResults.put(task, finishedTask.result);
+			task.resourceLocks().owner().ifPresent(owner -> {
+				busyOwners.remove(owner);
+				int unfinishedTasks = unfinishedTasksPerOwner.merge(owner, -1, Integer::sum);
+				if (unfinishedTasks == 0) {
+					claimedResources.values().removeIf(owner::equals);
+				}
+			});
+		}
+	}
+
+	private static class FinishedTask {
+		private final ExecutionTask task;
+		private final TaskExecutionResult result;
+		private final Throwable throwable;
+
+		private FinishedTask(ExecutionTask task, TaskExecutionResult result, Throwable throwable) {
+			this.task = task;
+			this.result = result;
+			this.throwable = throwable;
+		}
+	}
+
 }
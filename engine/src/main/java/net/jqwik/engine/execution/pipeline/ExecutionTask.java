@@ -14,10 +14,23 @@ public interface ExecutionTask {
 
 	TaskExecutionResult execute(PropertyExecutionListener listener, TaskExecutionResult predecessorResult);
 
+	default ResourceLocks resourceLocks() {
+		return ResourceLocks.NONE;
+	}
+
 	static ExecutionTask from(
 		BiFunction<PropertyExecutionListener, TaskExecutionResult, TaskExecutionResult> executor,
 		TestDescriptor owner,
 		String description
+	) {
+		return from(executor, owner, description, ResourceLocks.NONE);
+	}
+
+	static ExecutionTask from(
+		BiFunction<PropertyExecutionListener, TaskExecutionResult, TaskExecutionResult> executor,
+		TestDescriptor owner,
+		String description,
+		ResourceLocks resourceLocks
 	) {
 		return new ExecutionTask() {
 			@Override
@@ -25,6 +38,11 @@ public interface ExecutionTask {
 				return owner.getUniqueId();
 			}
 
+			@Override
+			public ResourceLocks resourceLocks() {
+				return resourceLocks;
+			}
+
 			@Override
 			public TaskExecutionResult execute(PropertyExecutionListener listener, TaskExecutionResult predecessorResult) {
 				try {
@@ -0,0 +1,41 @@
+package net.jqwik.engine.execution.pipeline;
+
+import java.util.*;
+
+import org.junit.platform.engine.*;
+
+/**
+ * Describes which tasks must not run at the same time when a pipeline is executed concurrently.
+ *
+ * <p>
+ * Tasks with the same owner are executed one after the other.
+ * An owner claims all its resources before its first task starts
+ * and releases them after its last task has finished.
+ * Tasks without an owner can run concurrently with any other task.
+ * </p>
+ */
+public class ResourceLocks {
+
+	public static final ResourceLocks NONE = new ResourceLocks(null, Collections.emptySet());
+
+	private final UniqueId owner;
+	private final Set<String> resources;
+
+	public ResourceLocks(UniqueId owner, Set<String> resources) {
+		this.owner = owner;
+		this.resources = resources;
+	}
+
+	public Optional<UniqueId> owner() {
+		return Optional.ofNullable(owner);
+	}
+
+	public Set<String> resources() {
+		return resources;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("ResourceLocks(%s, %s)", owner, resources);
+	}
+}
@@ -2,6 +2,7 @@ package net.jqwik.engine.execution.reporting;
 
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.stream.*;
 
 import org.opentest4j.*;
@@ -10,6 +11,7 @@ import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.properties.*;
 import net.jqwik.engine.support.*;
 
 public class ExecutionResultReport {
@@ -23,6 +25,9 @@ public class ExecutionResultReport {
 	private static final String AFTER_FAILURE_KEY = "after-failure";
 	private static final String FIXED_SEED_KEY = "when-fixed-seed";
 	private static final String SEED_KEY = "seed";
+	private static final String SHRINKING_CACHE_HITS_KEY = "shrinking#cache-hits";
+	private static final String SHRINKING_CACHE_MISSES_KEY = "shrinking#cache-misses";
+	private static final String SHRINKING_BOUND_REACHED_KEY = "shrinking#bound-reached";
 	private static final String SAMPLE_HEADLINE = "Sample";
 	private static final String SHRUNK_SAMPLE_HEADLINE = "Shrunk Sample";
 	private static final String ORIGINAL_SAMPLE_HEADLINE = "Original Sample";
@@ -186,12 +191,54 @@ public class ExecutionResultReport {
 																				 .tried(), "# of edge cases tried in current run");
 		}
 		appendProperty(propertiesLines, SEED_KEY, randomSeed, "random seed to reproduce generated values");
+		appendShrinkingCacheStatistics(propertiesLines, executionResult);
+		appendShrinkingBoundReached(propertiesLines, executionResult);
 
 		prependFixedSizedPropertiesHeader(reportBuilder, propertiesLines);
 		propertiesLines.forEach(reportBuilder::append);
 
 	}
 
+	private static void appendShrinkingCacheStatistics(List<String> propertiesLines, ExtendedPropertyExecutionResult executionResult) {
+		executionResult.shrunkSample()
+					   .filter(shrunkSample -> shrunkSample instanceof ShrunkFalsifiedSampleImpl)
+					   .map(shrunkSample -> (ShrunkFalsifiedSampleImpl) shrunkSample)
+					   .filter(shrunkSample -> shrunkSample.countCacheHits() + shrunkSample.countCacheMisses() > 0)
+					   .ifPresent(shrunkSample -> {
+						   appendProperty(
+							   propertiesLines,
+							   SHRINKING_CACHE_HITS_KEY,
+							   shrunkSample.countCacheHits(),
+							   "# of shrinking candidates with cached result"
+						   );
+						   appendProperty(
+							   propertiesLines,
+							   SHRINKING_CACHE_MISSES_KEY,
+							   shrunkSample.countCacheMisses(),
+							   "# of shrinking candidates that were executed"
+						   );
+					   });
+	}
+
+	private static void appendShrinkingBoundReached(List<String> propertiesLines, ExtendedPropertyExecutionResult executionResult) {
+		if (!(executionResult instanceof PropertyCheckResult)) {
+			return;
+		}
+		((PropertyCheckResult) executionResult)
+			.shrinkingConsumption()
+			.ifPresent(consumption -> consumption.reachedBound().ifPresent(bound -> appendProperty(
+				propertiesLines,
+				SHRINKING_BOUND_REACHED_KEY,
+				bound.name(),
+				String.format(
+					"of [%s] after %s falsifications and %s ms CPU time",
+					consumption.budget(),
+					consumption.falsifications(),
+					TimeUnit.NANOSECONDS.toMillis(consumption.cpuNanos())
+				)
+			)));
+	}
+
 	private static void prependFixedSizedPropertiesHeader(StringBuilder reportBuilder, List<String> propertiesLines) {
 		int halfBorderLength =
 			(propertiesLines.stream().mapToInt(String::length).max().orElse(50) - 37) / 2 + 1;
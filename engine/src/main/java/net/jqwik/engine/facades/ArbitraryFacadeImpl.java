@@ -64,6 +64,11 @@ public class ArbitraryFacadeImpl extends Arbitrary.ArbitraryFacade {
 		return new SampleStreamFacade().sampleStream(arbitrary);
 	}
 
+	@Override
+	public <T> Stream<T> sampleStream(Arbitrary<T> arbitrary, String seed, long size) {
+		return new SampleStreamFacade().sampleStream(arbitrary, seed, size);
+	}
+
 	@Override
 	public <T> Arbitrary<T> injectNull(Arbitrary<T> self, double nullProbability) {
 		int frequencyNull = (int) Math.round(nullProbability * 1000);
@@ -0,0 +1,297 @@
+package net.jqwik.engine.facades;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+import java.util.logging.*;
+
+import org.junit.platform.engine.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.domains.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.properties.arbitraries.*;
+
+/**
+ * Memoized generators that are reused across properties of an engine run.
+ * Generators are pooled per arbitrary, genSize, edge cases and domain context identity.
+ * Each engine run has its own pool, which lives in a store of the run's engine descriptor.
+ *
+ * <p>
+ * When the pool is full the generator with the lowest priority is evicted.
+ * A generator's priority is the time it took to build plus the priority of the last evicted generator
+ * when it was added or last used (GreedyDual).
+ * Thereby generators which are expensive to build stay longer than cheap ones,
+ * and generators that have not been used for some time are eventually evicted.
+ * </p>
+ *
+ * <p>
+ * Pooling is opt-in: Only generators of arbitraries that are known to have
+ * {@linkplain StatelessGeneration stateless generators} are pooled.
+ * All other generators are bound to the current property.
+ * Generators that use a {@linkplain net.jqwik.api.lifecycle.Store store} while being built
+ * are also bound to the current property, and so are generators that use another generator
+ * which is bound to the current property.
+ * Bindings are only tracked while a generator is being built for the pool.
+ * </p>
+ */
+public class GeneratorPool {
+
+	private static final Logger LOG = Logger.getLogger(GeneratorPool.class.getName());
+
+	// The innermost generator that is currently being built for the pool on this thread
+	private static final ThreadLocal<BuildFrame> currentBuild = new ThreadLocal<>();
+
+	/**
+	 * Start with an empty pool so that generators are not shared between engine runs.
+	 * The pool is removed together with the engine descriptor's stores at the end of the run.
+	 *
+	 * @param maxSize maximum number of pooled generators; 0 switches pooling off
+	 */
+	public static GeneratorPool startRun(TestDescriptor engineDescriptor, int maxSize) {
+		GeneratorPool pool = new GeneratorPool(maxSize);
+		StoreRepository.getCurrent().create(engineDescriptor, GeneratorPool.class, Lifespan.RUN, () -> pool);
+		return pool;
+	}
+
+	/**
+	 * @return empty if the current thread does not work for an engine run, e.g. when sampling values in a main method
+	 */
+	static Optional<GeneratorPool> ofCurrentRun() {
+		if (CurrentTestDescriptor.isEmpty()) {
+			return Optional.empty();
+		}
+		Optional<ScopedStore<GeneratorPool>> poolStore = StoreRepository.getCurrent().get(CurrentTestDescriptor.get(), GeneratorPool.class);
+		return poolStore.map(ScopedStore::get);
+	}
+
+	static void noteBindingToProperty() {
+		BuildFrame build = currentBuild.get();
+		if (build != null) {
+			build.isPropertyBound = true;
+		}
+	}
+
+	private final int maxSize;
+	private final Map<Key, Entry> entries = new HashMap<>();
+	private final TreeSet<Entry> evictionOrder = new TreeSet<>(
+		Comparator.comparingLong((Entry entry) -> entry.priority).thenComparingLong(entry -> entry.sequence)
+	);
+
+	private long inflation = 0;
+	private long sequence = 0;
+
+	private final AtomicLong hits = new AtomicLong(0);
+	private final AtomicLong misses = new AtomicLong(0);
+	private final AtomicLong propertyBound = new AtomicLong(0);
+	private final AtomicLong evictions = new AtomicLong(0);
+
+	public GeneratorPool(int maxSize) {
+		this.maxSize = maxSize;
+	}
+
+	MemoizedGenerator generator(
+		Arbitrary<?> arbitrary,
+		int genSize,
+		boolean withEdgeCases,
+		DomainContext domainContext,
+		Supplier<? extends RandomGenerator<?>> generatorSupplier
+	) {
+		if (maxSize <= 0) {
+			return new MemoizedGenerator(generatorSupplier.get(), false);
+		}
+		if (!StatelessGeneration.hasStatelessGenerator(arbitrary)) {
+			propertyBound.incrementAndGet();
+			return new MemoizedGenerator(generatorSupplier.get(), true);
+		}
+		Key key = new Key(arbitrary, genSize, withEdgeCases, domainContext);
+		RandomGenerator<?> pooled = lookUp(key);
+		if (pooled != null) {
+			hits.incrementAndGet();
+			return new MemoizedGenerator(pooled, false);
+		}
+		misses.incrementAndGet();
+
+		// The generator is built outside of synchronization since it usually builds generators of other arbitraries
+		BuildFrame build = new BuildFrame(currentBuild.get());
+		currentBuild.set(build);
+		long before = System.nanoTime();
+		RandomGenerator<?> generator;
+		try {
+			generator = generatorSupplier.get();
+		} finally {
+			build.finish();
+		}
+		long cost = System.nanoTime() - before;
+		if (build.isPropertyBound) {
+			propertyBound.incrementAndGet();
+			return new MemoizedGenerator(generator, true);
+		}
+		return new MemoizedGenerator(add(key, generator, cost), false);
+	}
+
+	private synchronized RandomGenerator<?> lookUp(Key key) {
+		Entry entry = entries.get(key);
+		if (entry == null) {
+			return null;
+		}
+		evictionOrder.remove(entry);
+		prioritize(entry);
+		evictionOrder.add(entry);
+		return entry.generator;
+	}
+
+	private synchronized RandomGenerator<?> add(Key key, RandomGenerator<?> generator, long cost) {
+		Entry existing = entries.get(key);
+		if (existing != null) {
+			return existing.generator;
+		}
+		if (entries.size() >= maxSize) {
+			evict();
+		}
+		Entry entry = new Entry(key, generator, cost);
+		prioritize(entry);
+		entries.put(key, entry);
+		evictionOrder.add(entry);
+		return generator;
+	}
+
+	private void prioritize(Entry entry) {
+		entry.priority = inflation + entry.cost;
+		entry.sequence = sequence++;
+	}
+
+	private void evict() {
+		Entry evicted = evictionOrder.pollFirst();
+		if (evicted != null) {
+			entries.remove(evicted.key);
+			inflation = evicted.priority;
+			evictions.incrementAndGet();
+		}
+	}
+
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	public long hits() {
+		return hits.get();
+	}
+
+	public long misses() {
+		return misses.get();
+	}
+
+	/**
+	 * Number of built generators that could not be pooled because they are bound to a property.
+	 */
+	public long propertyBound() {
+		return propertyBound.get();
+	}
+
+	public long evictions() {
+		return evictions.get();
+	}
+
+	public double hitRate() {
+		long lookups = hits() + misses();
+		return lookups == 0 ? 0.0 : (double) hits() / lookups;
+	}
+
+	public void reportStatistics() {
+		LOG.fine(this::toString);
+	}
+
+	@Override
+	public String toString() {
+		return String.format(
+			"GeneratorPool{size=%s, hits=%s, misses=%s, propertyBound=%s, evictions=%s, hitRate=%.2f}",
+			size(), hits(), misses(), propertyBound(), evictions(), hitRate()
+		);
+	}
+
+	static class MemoizedGenerator {
+		private final RandomGenerator<?> generator;
+		private final boolean isPropertyBound;
+
+		MemoizedGenerator(RandomGenerator<?> generator, boolean isPropertyBound) {
+			this.generator = generator;
+			this.isPropertyBound = isPropertyBound;
+		}
+
+		RandomGenerator<?> generator() {
+			return generator;
+		}
+
+		boolean isPropertyBound() {
+			return isPropertyBound;
+		}
+	}
+
+	private static class BuildFrame {
+		private final BuildFrame enclosing;
+		private boolean isPropertyBound = false;
+
+		private BuildFrame(BuildFrame enclosing) {
+			this.enclosing = enclosing;
+		}
+
+		private void finish() {
+			if (enclosing == null) {
+				currentBuild.remove();
+				return;
+			}
+			currentBuild.set(enclosing);
+			// A generator that uses a property bound generator is itself bound to the property
+			if (isPropertyBound) {
+				enclosing.isPropertyBound = true;
+			}
+		}
+	}
+
+	private static class Entry {
+		private final Key key;
+		private final RandomGenerator<?> generator;
+		private final long cost;
+
+		private long priority;
+		private long sequence;
+
+		private Entry(Key key, RandomGenerator<?> generator, long cost) {
+			this.key = key;
+			this.generator = generator;
+			this.cost = cost;
+		}
+	}
+
+	private static class Key {
+		private final Arbitrary<?> arbitrary;
+		private final int genSize;
+		private final boolean withEdgeCases;
+		private final DomainContext domainContext;
+
+		private Key(Arbitrary<?> arbitrary, int genSize, boolean withEdgeCases, DomainContext domainContext) {
+			this.arbitrary = arbitrary;
+			this.genSize = genSize;
+			this.withEdgeCases = withEdgeCases;
+			this.domainContext = domainContext;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			if (o == null || getClass() != o.getClass()) return false;
+			Key key = (Key) o;
+			return genSize == key.genSize
+					   && withEdgeCases == key.withEdgeCases
+					   && domainContext == key.domainContext
+					   && arbitrary.equals(key.arbitrary);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(arbitrary, genSize, withEdgeCases) * 31 + System.identityHashCode(domainContext);
+		}
+	}
+}
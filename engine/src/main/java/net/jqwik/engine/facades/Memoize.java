@@ -6,12 +6,20 @@ import java.util.function.*;
 import net.jqwik.api.*;
 import net.jqwik.api.Tuple.*;
 import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.facades.GeneratorPool.*;
 import net.jqwik.engine.support.*;
 
 public class Memoize {
 
-	private static Store<Map<Tuple3<Arbitrary<?>, Integer, Boolean>, RandomGenerator<?>>> generatorStore() {
-		return Store.getOrCreate(Memoize.class, Lifespan.PROPERTY, () -> new LruCache<>(500));
+	// Synchronized because samples can be generated in parallel outside of properties.
+	// Not retrieved through Store.getOrCreate(), which would bind generators being built to the current property.
+	private static Store<Map<Tuple3<Arbitrary<?>, Integer, Boolean>, MemoizedGenerator>> generatorStore() {
+		return StoreFacadeImpl.getOrCreateWithoutBinding(
+			Memoize.class,
+			Lifespan.PROPERTY,
+			() -> Collections.synchronizedMap(new LruCache<>(500))
+		);
 	}
 
 	@SuppressWarnings("unchecked")
@@ -26,12 +34,28 @@ public class Memoize {
 		}
 
 		Tuple3<Arbitrary<?>, Integer, Boolean> key = Tuple.of(arbitrary, genSize, withEdgeCases);
-		RandomGenerator<?> generator = computeIfAbsent(
+		MemoizedGenerator generator = computeIfAbsent(
 				generatorStore().get(),
 				key,
-				ignore -> generatorSupplier.get()
+				ignore -> pooledGenerator(arbitrary, genSize, withEdgeCases, generatorSupplier)
 		);
-		return (RandomGenerator<U>) generator;
+		if (generator.isPropertyBound()) {
+			GeneratorPool.noteBindingToProperty();
+		}
+		return (RandomGenerator<U>) generator.generator();
+	}
+
+	private static MemoizedGenerator pooledGenerator(
+			Arbitrary<?> arbitrary,
+			int genSize,
+			boolean withEdgeCases,
+			Supplier<? extends RandomGenerator<?>> generatorSupplier
+	) {
+		Optional<GeneratorPool> pool = GeneratorPool.ofCurrentRun();
+		if (!pool.isPresent()) {
+			return new MemoizedGenerator(generatorSupplier.get(), false);
+		}
+		return pool.get().generator(arbitrary, genSize, withEdgeCases, CurrentDomainContext.get(), generatorSupplier);
 	}
 
 	// Had to roll my on computeIfAbsent because HashMap.computeIfAbsent()
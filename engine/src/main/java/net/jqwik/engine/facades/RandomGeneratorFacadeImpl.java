@@ -4,6 +4,8 @@ import java.util.*;
 import java.util.function.*;
 
 import net.jqwik.api.*;
+import net.jqwik.engine.*;
+import net.jqwik.engine.execution.lifecycle.*;
 import net.jqwik.engine.properties.arbitraries.randomized.*;
 import net.jqwik.engine.properties.shrinking.*;
 
@@ -29,7 +31,12 @@ public class RandomGeneratorFacadeImpl extends RandomGenerator.RandomGeneratorFa
 
 	@Override
 	public <T> RandomGenerator<T> filter(RandomGenerator<T> self, Predicate<T> filterPredicate, int maxMisses) {
-		return new FilteredGenerator<>(self, filterPredicate, maxMisses);
+		// Acceptance counts must cover a single property run, so filtered generators are never shared across properties
+		GeneratorPool.noteBindingToProperty();
+		double warnBelow = CurrentJqwikConfiguration.get()
+											 .map(JqwikConfiguration::filterWarningThreshold)
+											 .orElse(JqwikProperties.DEFAULT_FILTER_WARNING_THRESHOLD);
+		return new FilteredGenerator<>(self, filterPredicate, maxMisses, warnBelow);
 	}
 
 	@Override
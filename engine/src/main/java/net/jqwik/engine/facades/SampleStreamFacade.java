@@ -8,6 +8,7 @@ import org.junit.platform.engine.*;
 import org.junit.platform.engine.support.descriptor.*;
 
 import net.jqwik.api.*;
+import net.jqwik.api.domains.*;
 import net.jqwik.engine.*;
 import net.jqwik.engine.execution.lifecycle.*;
 import net.jqwik.engine.support.*;
@@ -26,7 +27,8 @@ class SampleStreamFacade {
 		}
 	};
 
-	private static final Map<Arbitrary<Object>, RandomGenerator<Object>> generators = new LruCache<>(500);
+	// Synchronized because sample streams can be consumed on several threads
+	private static final Map<Arbitrary<Object>, RandomGenerator<Object>> generators = Collections.synchronizedMap(new LruCache<>(500));
 
 	@SuppressWarnings("unchecked")
 	private static <T> RandomGenerator<T> getGeneratorForSampling(Arbitrary<T> arbitrary) {
@@ -68,4 +70,108 @@ class SampleStreamFacade {
 		return Stream.generate(wrapInDescriptor(() -> generator.next(SourceOfRandomness.current())))
 					 .map(shrinkable -> runInDescriptor(shrinkable::value));
 	}
+
+	<T> Stream<T> sampleStream(Arbitrary<T> arbitrary, String seed, long size) {
+		if (size < 0) {
+			throw new IllegalArgumentException(String.format("Size of sample stream must not be negative but was %s", size));
+		}
+		long parsedSeed = SourceOfRandomness.parseSeed(seed);
+		RandomGenerator<T> generator = getGeneratorForSampling(arbitrary);
+		TestDescriptor descriptor = CurrentTestDescriptor.isEmpty() ? SAMPLE_STREAM_DESCRIPTOR : CurrentTestDescriptor.get();
+		DomainContext domainContext = CurrentDomainContext.get();
+		return StreamSupport.stream(new SampleSpliterator<>(generator, parsedSeed, 0, size, descriptor, domainContext), false);
+	}
+
+	/**
+	 * Generates the value at each index from a source of randomness derived from seed and index.
+	 * Splitting the index range therefore does not change the values.
+	 *
+	 * <p>
+	 * Streams may be consumed on threads that are not jqwik's, e.g. those of the common fork join pool.
+	 * That's why descriptor and domain context of the thread that created the stream are used.
+	 * They are set up once per call of {@linkplain #forEachRemaining(Consumer)},
+	 * which is how parallel streams consume each split.
+	 * </p>
+	 */
+	private static class SampleSpliterator<T> implements Spliterator<T> {
+
+		private final RandomGenerator<T> generator;
+		private final long seed;
+		private final TestDescriptor descriptor;
+		private final DomainContext domainContext;
+
+		private long index;
+		private final long fence;
+
+		private SampleSpliterator(
+			RandomGenerator<T> generator,
+			long seed,
+			long index,
+			long fence,
+			TestDescriptor descriptor,
+			DomainContext domainContext
+		) {
+			this.generator = generator;
+			this.seed = seed;
+			this.index = index;
+			this.fence = fence;
+			this.descriptor = descriptor;
+			this.domainContext = domainContext;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super T> action) {
+			if (index >= fence) {
+				return false;
+			}
+			T value = runInContext(() -> nextValue(index));
+			index++;
+			action.accept(value);
+			return true;
+		}
+
+		@Override
+		public void forEachRemaining(Consumer<? super T> action) {
+			runInContext(() -> {
+				while (index < fence) {
+					T value = nextValue(index);
+					index++;
+					action.accept(value);
+				}
+				return null;
+			});
+		}
+
+		private T nextValue(long index) {
+			return generator.next(SourceOfRandomness.derive(seed, index)).value();
+		}
+
+		private <R> R runInContext(Supplier<R> code) {
+			return CurrentDomainContext.runWithContext(
+				domainContext,
+				() -> CurrentTestDescriptor.runWithDescriptor(descriptor, code)
+			);
+		}
+
+		@Override
+		public Spliterator<T> trySplit() {
+			long middle = (index + fence) >>> 1;
+			if (middle <= index) {
+				return null;
+			}
+			SampleSpliterator<T> prefix = new SampleSpliterator<>(generator, seed, index, middle, descriptor, domainContext);
+			index = middle;
+			return prefix;
+		}
+
+		@Override
+		public long estimateSize() {
+			return fence - index;
+		}
+
+		@Override
+		public int characteristics() {
+			return ORDERED | SIZED | SUBSIZED | IMMUTABLE;
+		}
+	}
 }
@@ -15,17 +15,31 @@ public class StoreFacadeImpl extends Store.StoreFacade {
 
 	@Override
 	public <T> Store<T> create(Object identifier, Lifespan lifespan, Supplier<T> initialValueSupplier) {
+		GeneratorPool.noteBindingToProperty();
 		TestDescriptor scope = CurrentTestDescriptor.get();
 		return StoreRepository.getCurrent().create(scope, identifier, lifespan, initialValueSupplier);
 	}
 
 	@Override
 	public <T> Store<T> get(Object identifier) {
+		GeneratorPool.noteBindingToProperty();
 		TestDescriptor retriever = CurrentTestDescriptor.get();
 		Optional<? extends Store<T>> store = StoreRepository.getCurrent().get(retriever, identifier);
 		return store.orElseThrow(() -> new CannotFindStoreException(identifier, retriever.getUniqueId().toString()));
 	}
 
+	@Override
+	public <T> Store<T> getOrCreate(Object identifier, Lifespan lifespan, Supplier<T> initialValueSupplier) {
+		GeneratorPool.noteBindingToProperty();
+		return getOrCreateWithoutBinding(identifier, lifespan, initialValueSupplier);
+	}
+
+	// Generators that use a store must not be reused in other properties, see GeneratorPool
+	static <T> Store<T> getOrCreateWithoutBinding(Object identifier, Lifespan lifespan, Supplier<T> initialValueSupplier) {
+		TestDescriptor scope = CurrentTestDescriptor.get();
+		return StoreRepository.getCurrent().getOrCreate(scope, identifier, lifespan, initialValueSupplier);
+	}
+
 	@Override
 	public <T> Store<T> free(Supplier<T> initialValueSupplier) {
 		return new Store<T>() {
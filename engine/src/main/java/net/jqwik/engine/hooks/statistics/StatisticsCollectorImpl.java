@@ -12,6 +12,9 @@ import net.jqwik.api.statistics.*;
 import net.jqwik.api.statistics.StatisticsCoverage.*;
 import net.jqwik.engine.facades.*;
 
+/**
+ * Collecting and evaluating is synchronized so that tries which run in parallel can collect into the same collector.
+ */
 public class StatisticsCollectorImpl implements StatisticsCollector {
 	public static final Object COLLECTORS_ID = Tuple.of(StatisticsCollectorImpl.class, "collectors");
 
@@ -26,7 +29,7 @@ public class StatisticsCollectorImpl implements StatisticsCollector {
 	}
 
 	@Override
-	public StatisticsCollector collect(Object... values) {
+	public synchronized StatisticsCollector collect(Object... values) {
 		ensureAtLeastOneParameter(values);
 		List<Object> key = keyFrom(values);
 		ensureSameNumberOfValues(key);
@@ -67,7 +70,7 @@ public class StatisticsCollectorImpl implements StatisticsCollector {
 	}
 
 	// Currently only used for testing
-	public double percentage(Object... values) {
+	public synchronized double percentage(Object... values) {
 		return statisticsEntry(values).percentage();
 	}
 
@@ -114,35 +117,35 @@ public class StatisticsCollectorImpl implements StatisticsCollector {
 				   );
 	}
 
-	public int countAllCollects() {
+	public synchronized int countAllCollects() {
 		return counts.values().stream().mapToInt(aCount -> aCount).sum();
 	}
 
 	// Currently only used for testing
-	public int count(Object... values) {
+	public synchronized int count(Object... values) {
 		return statisticsEntry(values).count();
 	}
 
 	@Override
-	public void coverage(Consumer<StatisticsCoverage> checker) {
+	public synchronized void coverage(Consumer<StatisticsCoverage> checker) {
 		// The same checker shall only be used once
 		if (!coverageCheckers.contains(checker)) {
 			coverageCheckers.add(checker);
 		}
 	}
 
-	public void checkCoverage() {
+	public synchronized void checkCoverage() {
 		for (Consumer<StatisticsCoverage> checker : coverageCheckers) {
 			StatisticsCoverage coverage = new StatisticsCoverageImpl();
 			checker.accept(coverage);
 		}
 	}
 
-	public Map<List<Object>, Integer> getCounts() {
+	public synchronized Map<List<Object>, Integer> getCounts() {
 		return counts;
 	}
 
-	public List<StatisticsEntryImpl> statisticsEntries() {
+	public synchronized List<StatisticsEntryImpl> statisticsEntries() {
 		if (statisticsEntries != null) {
 			return statisticsEntries;
 		}
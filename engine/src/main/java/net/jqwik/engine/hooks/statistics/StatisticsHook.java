@@ -17,10 +17,11 @@ public class StatisticsHook implements AroundPropertyHook {
 
 	private static final Logger LOG = Logger.getLogger(StatisticsHook.class.getName());
 
+	// Collectors are looked up concurrently when tries of a property run in parallel
 	private static final Supplier<Map<String, StatisticsCollectorImpl>> STATISTICS_MAP_SUPPLIER =
 		() -> new LinkedHashMap<String, StatisticsCollectorImpl>() {
 			@Override
-			public StatisticsCollectorImpl get(Object key) {
+			public synchronized StatisticsCollectorImpl get(Object key) {
 				return this.computeIfAbsent((String) key, StatisticsCollectorImpl::new);
 			}
 		};
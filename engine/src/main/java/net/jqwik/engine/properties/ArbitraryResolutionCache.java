@@ -0,0 +1,161 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+import java.util.logging.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.domains.*;
+import net.jqwik.api.providers.*;
+import net.jqwik.engine.support.*;
+import net.jqwik.engine.support.types.*;
+
+/**
+ * Resolved arbitraries of parameter types, shared by all properties of an engine run that use the same domain context.
+ * The engine creates one cache per run and hands it down to the properties' arbitrary resolvers.
+ * Thereby provider lookup and configuration are not repeated in every property
+ * that has a parameter like {@code @ForAll @StringLength(max = 50) String}.
+ *
+ * <p>
+ * Only types are cached whose arbitraries depend on nothing but the type and the domain context:
+ * Types that refer to provider methods or arbitrary suppliers - also in their type arguments -
+ * and types with meta info from type usage enhancers are resolved anew each time.
+ * Types are also compared by their reflected type, since type usage equality ignores
+ * the bounds of type variables that are nested in arrays or type arguments.
+ * Domain contexts are compared by identity.
+ * </p>
+ */
+public class ArbitraryResolutionCache {
+
+	private static final Logger LOG = Logger.getLogger(ArbitraryResolutionCache.class.getName());
+
+	private final int maxSize;
+	private final Map<Key, Set<Arbitrary<?>>> cache;
+
+	private final AtomicLong hits = new AtomicLong(0);
+	private final AtomicLong misses = new AtomicLong(0);
+	private final AtomicLong uncacheable = new AtomicLong(0);
+
+	/**
+	 * A cache that does not cache anything, e.g. for resolving arbitraries outside of an engine run.
+	 */
+	public static ArbitraryResolutionCache uncached() {
+		return new ArbitraryResolutionCache(0);
+	}
+
+	/**
+	 * @param maxSize maximum number of cached types; 0 switches caching off
+	 */
+	public ArbitraryResolutionCache(int maxSize) {
+		this.maxSize = maxSize;
+		this.cache = Collections.synchronizedMap(new LruCache<>(Math.max(maxSize, 1)));
+	}
+
+	public Set<Arbitrary<?>> resolve(TypeUsage targetType, DomainContext domainContext, Supplier<Set<Arbitrary<?>>> resolver) {
+		if (maxSize <= 0) {
+			return resolver.get();
+		}
+		if (!isCacheable(targetType, Collections.newSetFromMap(new IdentityHashMap<>()))) {
+			uncacheable.incrementAndGet();
+			return resolver.get();
+		}
+		Key key = new Key(targetType, domainContext);
+		Set<Arbitrary<?>> cached = cache.get(key);
+		if (cached != null) {
+			hits.incrementAndGet();
+			return cached;
+		}
+		misses.incrementAndGet();
+		// cache.computeIfAbsent() cannot be used because resolving a type also resolves its type arguments
+		Set<Arbitrary<?>> resolved = Collections.unmodifiableSet(resolver.get());
+		cache.put(key, resolved);
+		return resolved;
+	}
+
+	private static boolean isCacheable(TypeUsage typeUsage, Set<TypeUsage> visited) {
+		if (!visited.add(typeUsage)) {
+			return true;
+		}
+		if (!(typeUsage instanceof TypeUsageImpl) || ((TypeUsageImpl) typeUsage).hasMetaInfo()) {
+			return false;
+		}
+		if (refersToProviderOrSupplier(typeUsage)) {
+			return false;
+		}
+		List<TypeUsage> nestedTypes = new ArrayList<>(typeUsage.getTypeArguments());
+		nestedTypes.addAll(typeUsage.getUpperBounds());
+		nestedTypes.addAll(typeUsage.getLowerBounds());
+		return nestedTypes.stream().allMatch(nestedType -> isCacheable(nestedType, visited));
+	}
+
+	private static boolean refersToProviderOrSupplier(TypeUsage typeUsage) {
+		if (typeUsage.findAnnotation(From.class).isPresent()) {
+			return true;
+		}
+		return typeUsage.findAnnotation(ForAll.class)
+						.map(forAll -> !forAll.value().equals(ForAll.NO_VALUE)
+										   || !forAll.supplier().equals(ArbitrarySupplier.NONE.class))
+						.orElse(false);
+	}
+
+	public long hits() {
+		return hits.get();
+	}
+
+	public long misses() {
+		return misses.get();
+	}
+
+	/**
+	 * Number of resolutions of types that could not be cached.
+	 */
+	public long uncacheable() {
+		return uncacheable.get();
+	}
+
+	public double hitRate() {
+		long lookups = hits() + misses();
+		return lookups == 0 ? 0.0 : (double) hits() / lookups;
+	}
+
+	/**
+	 * Log the statistics at level INFO if {@code report} is true, otherwise at level FINE.
+	 */
+	public void reportStatistics(boolean report) {
+		LOG.log(report ? Level.INFO : Level.FINE, this::toString);
+	}
+
+	@Override
+	public String toString() {
+		return String.format(
+			"ArbitraryResolutionCache{size=%s, hits=%s, misses=%s, uncacheable=%s, hitRate=%.2f}",
+			cache.size(), hits(), misses(), uncacheable(), hitRate()
+		);
+	}
+
+	private static class Key {
+		private final TypeUsage typeUsage;
+		private final DomainContext domainContext;
+
+		private Key(TypeUsage typeUsage, DomainContext domainContext) {
+			this.typeUsage = typeUsage;
+			this.domainContext = domainContext;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			if (o == null || getClass() != o.getClass()) return false;
+			Key key = (Key) o;
+			return domainContext == key.domainContext
+					   && typeUsage.equals(key.typeUsage)
+					   && Objects.equals(typeUsage.getType(), key.typeUsage.getType());
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * typeUsage.hashCode() + System.identityHashCode(domainContext);
+		}
+	}
+}
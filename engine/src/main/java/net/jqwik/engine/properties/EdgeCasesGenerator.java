@@ -1,9 +1,11 @@
 package net.jqwik.engine.properties;
 
 import java.util.*;
+import java.util.function.*;
 import java.util.stream.*;
 
 import net.jqwik.api.*;
+import net.jqwik.engine.*;
 import net.jqwik.engine.support.*;
 
 import static java.lang.Math.*;
@@ -20,14 +22,44 @@ public class EdgeCasesGenerator implements Iterator<List<Shrinkable<Object>>> {
 		);
 	}
 
+	/**
+	 * @return the number of all combinations or {@code Long.MAX_VALUE} if it cannot be represented as long
+	 */
+	static long countCombinations(List<EdgeCases<Object>> edgeCases) {
+		if (edgeCases.isEmpty()) {
+			return 0;
+		}
+		long count = 1;
+		for (EdgeCases<Object> edgeCase : edgeCases) {
+			try {
+				count = multiplyExact(count, edgeCase.size());
+			} catch (ArithmeticException overflow) {
+				return Long.MAX_VALUE;
+			}
+		}
+		return count;
+	}
+
 	private final List<EdgeCases<Object>> edgeCases;
 	private final Iterator<List<Shrinkable<Object>>> iterator;
 
+	/**
+	 * Generates all combinations of edge cases in lexicographic order.
+	 */
 	EdgeCasesGenerator(List<EdgeCases<Object>> edgeCases) {
 		this.edgeCases = edgeCases;
 		this.iterator = createIterator();
 	}
 
+	/**
+	 * Generates all combinations of edge cases in an order that is randomly permuted by {@code samplingSeed}.
+	 * Each combination is generated exactly once and only when it is requested.
+	 */
+	EdgeCasesGenerator(List<EdgeCases<Object>> edgeCases, long samplingSeed) {
+		this.edgeCases = edgeCases;
+		this.iterator = createSamplingIterator(samplingSeed);
+	}
+
 	private Iterator<List<Shrinkable<Object>>> createIterator() {
 		if (this.edgeCases.isEmpty()) {
 			return Collections.emptyIterator();
@@ -40,6 +72,18 @@ public class EdgeCasesGenerator implements Iterator<List<Shrinkable<Object>>> {
 		return Combinatorics.combine(iterables);
 	}
 
+	private Iterator<List<Shrinkable<Object>>> createSamplingIterator(long samplingSeed) {
+		long countCombinations = countCombinations(edgeCases);
+		// Index space cannot be represented; should never happen in practice
+		if (countCombinations == Long.MAX_VALUE) {
+			return createIterator();
+		}
+		if (countCombinations == 0) {
+			return Collections.emptyIterator();
+		}
+		return new SampledCombinationsIterator(edgeCases, countCombinations, samplingSeed);
+	}
+
 	@Override
 	public boolean hasNext() {
 		return iterator.hasNext();
@@ -49,4 +93,101 @@ public class EdgeCasesGenerator implements Iterator<List<Shrinkable<Object>>> {
 	public List<Shrinkable<Object>> next() {
 		return iterator.next();
 	}
+
+	/**
+	 * Walks through a pseudo-random permutation of all indices in the mixed-radix space
+	 * of edge case combinations. Each index is decoded into one edge case per parameter.
+	 */
+	private static class SampledCombinationsIterator implements Iterator<List<Shrinkable<Object>>> {
+
+		private final List<List<Supplier<Shrinkable<Object>>>> suppliers;
+		private final long countCombinations;
+		private final IndexPermutation permutation;
+		private long next = 0;
+
+		private SampledCombinationsIterator(List<EdgeCases<Object>> edgeCases, long countCombinations, long seed) {
+			this.suppliers = edgeCases.stream().map(EdgeCases::suppliers).collect(Collectors.toList());
+			this.countCombinations = countCombinations;
+			this.permutation = new IndexPermutation(countCombinations, seed);
+		}
+
+		@Override
+		public boolean hasNext() {
+			return next < countCombinations;
+		}
+
+		@Override
+		public List<Shrinkable<Object>> next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			long index = permutation.apply(next++);
+			List<Shrinkable<Object>> combination = new ArrayList<>(suppliers.size());
+			// Last parameter is the least significant digit like in lexicographic order
+			for (int i = suppliers.size() - 1; i >= 0; i--) {
+				List<Supplier<Shrinkable<Object>>> parameterSuppliers = suppliers.get(i);
+				int radix = parameterSuppliers.size();
+				combination.add(parameterSuppliers.get((int) (index % radix)).get());
+				index /= radix;
+			}
+			Collections.reverse(combination);
+			return combination;
+		}
+	}
+
+	/**
+	 * A seeded bijection on {@code [0, size)}.
+	 *
+	 * <p>
+	 * Indices are mixed by a few invertible rounds of odd multiplication, xor-shifting and addition
+	 * in the smallest power of two range containing {@code size}.
+	 * Results outside of {@code [0, size)} are mixed again until they fall into it ("cycle walking"),
+	 * which takes less than two rounds on average.
+	 * </p>
+	 */
+	static class IndexPermutation {
+
+		private static final int ROUNDS = 3;
+
+		private final long size;
+		private final long mask;
+		private final int shift;
+		private final long[] multipliers = new long[ROUNDS];
+		private final long[] summands = new long[ROUNDS];
+
+		IndexPermutation(long size, long seed) {
+			if (size <= 0) {
+				throw new IllegalArgumentException("size must be positive");
+			}
+			this.size = size;
+			int bits = 64 - Long.numberOfLeadingZeros(size - 1);
+			this.mask = bits == 0 ? 0 : -1L >>> (64 - bits);
+			this.shift = max(1, (bits + 1) / 2);
+			Random random = SourceOfRandomness.newRandom(seed);
+			for (int i = 0; i < ROUNDS; i++) {
+				multipliers[i] = random.nextLong() | 1L;
+				summands[i] = random.nextLong();
+			}
+		}
+
+		long apply(long index) {
+			if (index < 0 || index >= size) {
+				throw new IndexOutOfBoundsException(String.format("index %s not in [0, %s)", index, size));
+			}
+			long permuted = mix(index);
+			while (permuted >= size) {
+				permuted = mix(permuted);
+			}
+			return permuted;
+		}
+
+		private long mix(long value) {
+			for (int i = 0; i < ROUNDS; i++) {
+				value = (value * multipliers[i]) & mask;
+				value ^= value >>> shift;
+				value = (value + summands[i]) & mask;
+			}
+			return value;
+		}
+	}
 }
@@ -0,0 +1,65 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+
+/**
+ * Counts the features of added elements per uniqueness extractor in hash maps.
+ * Thereby uniqueness of another element can be checked in constant time
+ * instead of extracting the features of all elements again.
+ */
+public class FeatureCounts<T> {
+
+	private final List<FeatureExtractor<T>> extractors;
+	private final List<Map<Object, Integer>> counts;
+
+	public FeatureCounts(Collection<FeatureExtractor<T>> extractors) {
+		this.extractors = new ArrayList<>(extractors);
+		this.counts = new ArrayList<>(extractors.size());
+		for (int i = 0; i < extractors.size(); i++) {
+			counts.add(new HashMap<>());
+		}
+	}
+
+	public static <T> FeatureCounts<T> of(Collection<FeatureExtractor<T>> extractors, Collection<T> elements) {
+		FeatureCounts<T> featureCounts = new FeatureCounts<>(extractors);
+		for (T element : elements) {
+			featureCounts.add(element);
+		}
+		return featureCounts;
+	}
+
+	public void add(T element) {
+		for (int i = 0; i < extractors.size(); i++) {
+			Object feature = extractors.get(i).applySafe(element);
+			counts.get(i).merge(feature, 1, Integer::sum);
+		}
+	}
+
+	public boolean isUnique(T element) {
+		for (int i = 0; i < extractors.size(); i++) {
+			Object feature = extractors.get(i).applySafe(element);
+			if (counts.get(i).containsKey(feature)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Check if {@code element} would be unique after replacing {@code replaced}, which must have been added before.
+	 */
+	public boolean isUniqueReplacing(T element, T replaced) {
+		for (int i = 0; i < extractors.size(); i++) {
+			FeatureExtractor<T> extractor = extractors.get(i);
+			Object feature = extractor.applySafe(element);
+			int count = counts.get(i).getOrDefault(feature, 0);
+			if (Objects.equals(feature, extractor.applySafe(replaced))) {
+				count--;
+			}
+			if (count > 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -18,16 +18,6 @@ public interface FeatureExtractor<T> extends Function<T, Object> {
 		}
 	}
 
-	default boolean isUniqueIn(T value, Collection<T> elements) {
-		if (this == identity()) {
-			return !elements.contains(value);
-		}
-		Object feature = applySafe(value);
-		return elements.stream()
-					   .map(this::applySafe)
-					   .noneMatch(x -> Objects.equals(x, feature));
-	}
-
 	default boolean areUnique(Collection<T> elements) {
 		Set<Object> set = new HashSet<>();
 		for (T x : elements) {
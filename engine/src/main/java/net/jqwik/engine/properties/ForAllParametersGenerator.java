@@ -14,5 +14,20 @@ public interface ForAllParametersGenerator extends Iterator<List<Shrinkable<Obje
 		return 0;
 	}
 
+	/**
+	 * Skip the next {@code count} samples. Implementations can do that without generating the samples.
+	 *
+	 * @return false if there are less than {@code count} samples left
+	 */
+	default boolean skip(int count) {
+		for (int i = 0; i < count; i++) {
+			if (!hasNext()) {
+				return false;
+			}
+			next();
+		}
+		return true;
+	}
+
     void reset();
 }
@@ -38,92 +38,119 @@ public class GenericProperty {
 	}
 
 	public PropertyCheckResult check(Reporter reporter, Reporting[] reporting) {
+		try (TriesExecutor triesExecutor = createTriesExecutor()) {
+			return check(reporter, reporting, triesExecutor);
+		}
+	}
+
+	private TriesExecutor createTriesExecutor() {
+		// Examples have exactly one try
+		if (configuration.getParallelism() > 1 && configuration.getTries() > 1) {
+			return TriesExecutor.concurrent(configuration.getParallelism());
+		}
+		return TriesExecutor.sequential();
+	}
+
+	private PropertyCheckResult check(Reporter reporter, Reporting[] reporting, TriesExecutor triesExecutor) {
 		int maxTries = configuration.getTries();
 		int countChecks = 0;
 		int countTries = 0;
+		int edgeCasesTried = 0;
 		boolean finishEarly = false;
 		while (countTries < maxTries) {
 			if (finishEarly) {
 				break;
 			}
-			if (!parametersGenerator.hasNext()) {
+			List<GeneratedTry> generatedTries = generateTries(
+				Math.min(triesExecutor.batchSize(), maxTries - countTries),
+				triesExecutor,
+				reporter,
+				reporting
+			);
+			if (generatedTries.isEmpty()) {
 				break;
 			}
-			countTries++;
+			List<TriesExecutor.TryOutcome> outcomes = triesExecutor.execute(executableTries(generatedTries));
 
-			List<Shrinkable<Object>> shrinkableParams;
-			TryLifecycleContext tryLifecycleContext = tryLifecycleContextSupplier.get();
-			try {
-				shrinkableParams = parametersGenerator.next(tryLifecycleContext);
-			} catch (Throwable throwable) {
-				// Mostly TooManyFilterMissesException gets here
-				JqwikExceptionSupport.rethrowIfBlacklisted(throwable);
+			// Evaluate in the order of tries, so that results do not depend on how tries have been executed
+			for (int i = 0; i < generatedTries.size(); i++) {
+				GeneratedTry generatedTry = generatedTries.get(i);
+				countTries++;
+				edgeCasesTried = generatedTry.edgeCasesTried;
 
-				return exhaustedCheckResult(countTries, countChecks, throwable);
-			}
+				if (generatedTry.generationError != null) {
+					// Mostly TooManyFilterMissesException gets here
+					JqwikExceptionSupport.rethrowIfBlacklisted(generatedTry.generationError);
 
-			List<Object> sample = extractParams(shrinkableParams);
-			try {
-				countChecks++;
-				TryExecutionResult tryExecutionResult = testPredicate(tryLifecycleContext, sample, reporter, reporting);
-				switch (tryExecutionResult.status()) {
-					case SATISFIED:
-						finishEarly = tryExecutionResult.shouldPropertyFinishEarly();
-						continue;
-					case FALSIFIED:
-						FalsifiedSample falsifiedSample = new FalsifiedSampleImpl(
-							sample,
-							shrinkableParams,
-							tryExecutionResult.throwable(),
-							tryExecutionResult.footnotes()
-						);
-						return shrinkAndCreateCheckResult(
-							reporter,
-							reporting,
-							countChecks,
-							countTries,
-							falsifiedSample,
-							tryLifecycleContext.targetMethod()
-						);
-					case INVALID:
-						countChecks--;
-						if (maxTries == 1) { // Examples have exactly one try
-							return PropertyCheckResult.skipExample(
-								configuration.getStereotype(),
-								name,
-								configuration.getSeed(),
-								configuration.getGenerationMode(),
-								configuration.getEdgeCasesMode(),
-								parametersGenerator.edgeCasesTotal(),
-								parametersGenerator.edgeCasesTried(),
-								tryExecutionResult.throwable().orElse(null)
+					return exhaustedCheckResult(countTries, countChecks, edgeCasesTried, generatedTry.generationError);
+				}
+
+				List<Object> sample = generatedTry.sample;
+				List<Shrinkable<Object>> shrinkableParams = generatedTry.shrinkableParams;
+				try {
+					countChecks++;
+					TryExecutionResult tryExecutionResult = outcomes.get(i).result();
+					switch (tryExecutionResult.status()) {
+						case SATISFIED:
+							finishEarly = tryExecutionResult.shouldPropertyFinishEarly();
+							break;
+						case FALSIFIED:
+							FalsifiedSample falsifiedSample = new FalsifiedSampleImpl(
+								sample,
+								shrinkableParams,
+								tryExecutionResult.throwable(),
+								tryExecutionResult.footnotes()
+							);
+							return shrinkAndCreateCheckResult(
+								reporter,
+								reporting,
+								countChecks,
+								countTries,
+								generatedTry,
+								falsifiedSample
 							);
-						}
-						break;
-					default:
-						String message = String.format("Unknown TryExecutionResult.status [%s]", tryExecutionResult.status().name());
-						throw new RuntimeException(message);
+						case INVALID:
+							countChecks--;
+							if (maxTries == 1) { // Examples have exactly one try
+								return PropertyCheckResult.skipExample(
+									configuration.getStereotype(),
+									name,
+									configuration.getSeed(),
+									configuration.getGenerationMode(),
+									configuration.getEdgeCasesMode(),
+									parametersGenerator.edgeCasesTotal(),
+									edgeCasesTried,
+									tryExecutionResult.throwable().orElse(null)
+								);
+							}
+							break;
+						default:
+							String message = String.format("Unknown TryExecutionResult.status [%s]", tryExecutionResult.status().name());
+							throw new RuntimeException(message);
+					}
+				} catch (Throwable throwable) {
+					// Only not AssertionErrors and non Exceptions get here
+					JqwikExceptionSupport.rethrowIfBlacklisted(throwable);
+					FalsifiedSample falsifiedSample = new FalsifiedSampleImpl(
+						sample,
+						shrinkableParams,
+						Optional.of(throwable),
+						Collections.emptyList()
+					);
+					return PropertyCheckResult.failed(
+						configuration.getStereotype(), name, countTries, countChecks, generatedTry.generationInfo,
+						configuration.getGenerationMode(),
+						configuration.getEdgeCasesMode(), parametersGenerator.edgeCasesTotal(), edgeCasesTried,
+						falsifiedSample, null, throwable
+					);
+				}
+				if (finishEarly) {
+					break;
 				}
-			} catch (Throwable throwable) {
-				// Only not AssertionErrors and non Exceptions get here
-				JqwikExceptionSupport.rethrowIfBlacklisted(throwable);
-				FalsifiedSample falsifiedSample = new FalsifiedSampleImpl(
-					sample,
-					shrinkableParams,
-					Optional.of(throwable),
-					Collections.emptyList()
-				);
-				GenerationInfo generationInfo = parametersGenerator.generationInfo(configuration.getSeed());
-				return PropertyCheckResult.failed(
-					configuration.getStereotype(), name, countTries, countChecks, generationInfo,
-					configuration.getGenerationMode(),
-					configuration.getEdgeCasesMode(), parametersGenerator.edgeCasesTotal(), parametersGenerator.edgeCasesTried(),
-					falsifiedSample, null, throwable
-				);
 			}
 		}
 		if (countChecks == 0 || maxDiscardRatioExceeded(countChecks, countTries, configuration.getMaxDiscardRatio())) {
-			return exhaustedCheckResult(maxTries, countChecks, null);
+			return exhaustedCheckResult(maxTries, countChecks, edgeCasesTried, null);
 		}
 		return PropertyCheckResult.successful(
 			configuration.getStereotype(),
@@ -134,11 +161,51 @@ public class GenericProperty {
 			configuration.getGenerationMode(),
 			configuration.getEdgeCasesMode(),
 			parametersGenerator.edgeCasesTotal(),
-			parametersGenerator.edgeCasesTried()
+			edgeCasesTried
 		);
 	}
 
-	private PropertyCheckResult exhaustedCheckResult(int countTries, int countChecks, Throwable throwable) {
+	/**
+	 * Samples are always generated one after the other on the current thread
+	 * so that they only depend on the seed and not on the number of threads used for execution.
+	 * Each sample is generated in the try scope of the try that will execute it.
+	 */
+	private List<GeneratedTry> generateTries(int numberOfTries, TriesExecutor triesExecutor, Reporter reporter, Reporting[] reporting) {
+		List<GeneratedTry> generatedTries = new ArrayList<>(numberOfTries);
+		while (generatedTries.size() < numberOfTries) {
+			if (!parametersGenerator.hasNext()) {
+				break;
+			}
+			TryLifecycleContext tryLifecycleContext = tryLifecycleContextSupplier.get();
+			Optional<TryScope> tryScope = triesExecutor.newTryScope();
+			try {
+				List<Shrinkable<Object>> shrinkableParams = runInTryScope(tryScope, () -> parametersGenerator.next(tryLifecycleContext));
+				GeneratedTry generatedTry = new GeneratedTry(
+					tryLifecycleContext,
+					tryScope,
+					shrinkableParams,
+					extractParams(shrinkableParams),
+					parametersGenerator.generationInfo(configuration.getSeed()),
+					parametersGenerator.edgeCasesTried()
+				);
+				generatedTries.add(generatedTry);
+				reportGeneratedSample(generatedTry, reporter, reporting);
+			} catch (Throwable throwable) {
+				generatedTries.add(GeneratedTry.failed(throwable, parametersGenerator.edgeCasesTried()));
+				break;
+			}
+		}
+		return generatedTries;
+	}
+
+	private List<Supplier<TryExecutionResult>> executableTries(List<GeneratedTry> generatedTries) {
+		return generatedTries.stream()
+							 .filter(generatedTry -> generatedTry.generationError == null)
+							 .map(generatedTry -> (Supplier<TryExecutionResult>) () -> testPredicate(generatedTry))
+							 .collect(Collectors.toList());
+	}
+
+	private PropertyCheckResult exhaustedCheckResult(int countTries, int countChecks, int edgeCasesTried, Throwable throwable) {
 		return PropertyCheckResult.exhausted(
 			configuration.getStereotype(),
 			name,
@@ -148,22 +215,30 @@ public class GenericProperty {
 			configuration.getGenerationMode(),
 			configuration.getEdgeCasesMode(),
 			parametersGenerator.edgeCasesTotal(),
-			parametersGenerator.edgeCasesTried(),
+			edgeCasesTried,
 			throwable
 		);
 	}
 
-	private TryExecutionResult testPredicate(
-		TryLifecycleContext tryLifecycleContext,
-		List<Object> sample,
-		Reporter reporter,
-		Reporting[] reporting
-	) {
+	private void reportGeneratedSample(GeneratedTry generatedTry, Reporter reporter, Reporting[] reporting) {
 		if (Reporting.GENERATED.containedIn(reporting)) {
-			Map<String, Object> reports = SampleReporter.createSampleReports(tryLifecycleContext.targetMethod(), sample);
+			Map<String, Object> reports = SampleReporter.createSampleReports(generatedTry.tryLifecycleContext.targetMethod(), generatedTry.sample);
 			reporter.publishReports("generated", reports);
 		}
-		return tryLifecycleExecutor.execute(tryLifecycleContext, sample);
+	}
+
+	private TryExecutionResult testPredicate(GeneratedTry generatedTry) {
+		return runInTryScope(
+			generatedTry.tryScope,
+			() -> tryLifecycleExecutor.execute(generatedTry.tryLifecycleContext, generatedTry.sample)
+		);
+	}
+
+	private static <T> T runInTryScope(Optional<TryScope> tryScope, Supplier<T> executable) {
+		if (tryScope.isPresent()) {
+			return tryScope.get().runInScope(executable);
+		}
+		return executable.get();
 	}
 
 	private boolean maxDiscardRatioExceeded(int countChecks, int countTries, int maxDiscardRatio) {
@@ -177,16 +252,15 @@ public class GenericProperty {
 
 	private PropertyCheckResult shrinkAndCreateCheckResult(
 		Reporter reporter, Reporting[] reporting, int countChecks,
-		int countTries, FalsifiedSample originalSample,
-		Method targetMethod
+		int countTries, GeneratedTry falsifiedTry, FalsifiedSample originalSample
 	) {
+		Method targetMethod = falsifiedTry.tryLifecycleContext.targetMethod();
 		Tuple2<ShrunkFalsifiedSample, List<TryExecutionResult.Status>> tuple = shrink(reporter, reporting, originalSample, targetMethod);
 		ShrunkFalsifiedSample shrunkSample = tuple.get1();
-		GenerationInfo generationInfo = parametersGenerator.generationInfo(configuration.getSeed())
-														   .appendShrinkingSequence(tuple.get2());
+		GenerationInfo generationInfo = falsifiedTry.generationInfo.appendShrinkingSequence(tuple.get2());
 		return PropertyCheckResult.failed(
 			configuration.getStereotype(), name, countTries, countChecks, generationInfo, configuration.getGenerationMode(),
-			configuration.getEdgeCasesMode(), parametersGenerator.edgeCasesTotal(), parametersGenerator.edgeCasesTried(),
+			configuration.getEdgeCasesMode(), parametersGenerator.edgeCasesTotal(), falsifiedTry.edgeCasesTried,
 			originalSample, shrunkSample, shrunkSample.falsifyingError().orElse(null)
 		);
 	}
@@ -205,7 +279,13 @@ public class GenericProperty {
 		PropertyShrinker shrinker = new PropertyShrinker(
 			originalSample,
 			configuration.getShrinkingMode(),
-			configuration.boundedShrinkingSeconds(),
+			new ShrinkingBudget(
+				configuration.boundedShrinkingSeconds(),
+				configuration.getBoundedShrinkingFalsifications(),
+				configuration.getBoundedShrinkingCpuSeconds()
+			),
+			configuration.shrinkingCacheSize(),
+			configuration.getShrinkingParallelism(),
 			falsifiedSampleReporter,
 			targetMethod
 		);
@@ -229,4 +309,39 @@ public class GenericProperty {
 		return params -> tryExecutor.execute(tryLifecycleContext.get(), params);
 	}
 
+	private static class GeneratedTry {
+
+		private static GeneratedTry failed(Throwable generationError, int edgeCasesTried) {
+			GeneratedTry failedTry = new GeneratedTry(null, Optional.empty(), null, null, null, edgeCasesTried);
+			failedTry.generationError = generationError;
+			return failedTry;
+		}
+
+		private final TryLifecycleContext tryLifecycleContext;
+		private final Optional<TryScope> tryScope;
+		private final List<Shrinkable<Object>> shrinkableParams;
+		private final List<Object> sample;
+
+		// Snapshots taken right after generation so that results do not depend on how many samples were generated in advance
+		private final GenerationInfo generationInfo;
+		private final int edgeCasesTried;
+
+		private Throwable generationError = null;
+
+		private GeneratedTry(
+			TryLifecycleContext tryLifecycleContext,
+			Optional<TryScope> tryScope,
+			List<Shrinkable<Object>> shrinkableParams,
+			List<Object> sample,
+			GenerationInfo generationInfo,
+			int edgeCasesTried
+		) {
+			this.tryLifecycleContext = tryLifecycleContext;
+			this.tryScope = tryScope;
+			this.shrinkableParams = shrinkableParams;
+			this.sample = sample;
+			this.generationInfo = generationInfo;
+			this.edgeCasesTried = edgeCasesTried;
+		}
+	}
 }
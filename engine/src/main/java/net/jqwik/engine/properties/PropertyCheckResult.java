@@ -9,6 +9,7 @@ import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.execution.*;
 import net.jqwik.engine.execution.lifecycle.*;
 import net.jqwik.engine.execution.reporting.*;
+import net.jqwik.engine.properties.shrinking.*;
 
 public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 
@@ -42,6 +43,7 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 			edgeCasesTried,
 			null,
 			null,
+			null,
 			null
 		);
 	}
@@ -60,6 +62,8 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 		ShrunkFalsifiedSample shrunkSample,
 		Throwable throwable
 	) {
+		// Consumption is kept even if no shrinking was possible
+		ShrinkingConsumption shrinkingConsumption = shrinkingConsumptionOf(shrunkSample);
 		// If no shrinking was possible, report only original sample
 		if (shrunkSample != null && areEquivalent(originalSample, shrunkSample)) {
 			shrunkSample = null;
@@ -77,10 +81,18 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 			edgeCasesTried,
 			originalSample,
 			shrunkSample,
-			throwable
+			throwable,
+			shrinkingConsumption
 		);
 	}
 
+	private static ShrinkingConsumption shrinkingConsumptionOf(ShrunkFalsifiedSample shrunkSample) {
+		if (shrunkSample instanceof ShrunkFalsifiedSampleImpl) {
+			return ((ShrunkFalsifiedSampleImpl) shrunkSample).shrinkingConsumption().orElse(null);
+		}
+		return null;
+	}
+
 	private static boolean areEquivalent(FalsifiedSample originalSample, ShrunkFalsifiedSample shrunkSample) {
 		return originalSample.equals(shrunkSample) && shrunkSample.countShrinkingSteps() == 0;
 	}
@@ -108,7 +120,8 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 			edgeCasesTried,
 			null,
 			null,
-			throwable
+			throwable,
+			null
 		);
 	}
 
@@ -137,7 +150,8 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 			edgeCasesTried,
 			null,
 			null,
-			throwable
+			throwable,
+			null
 		);
 	}
 
@@ -154,6 +168,7 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 	private final FalsifiedSample originalSample;
 	private final ShrunkFalsifiedSample shrunkSample;
 	private final Throwable throwable;
+	private final ShrinkingConsumption shrinkingConsumption;
 
 	private PropertyCheckResult(
 		CheckStatus status, String stereotype,
@@ -167,7 +182,8 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 		int edgeCasesTried,
 		FalsifiedSample originalSample,
 		ShrunkFalsifiedSample shrunkSample,
-		Throwable throwable
+		Throwable throwable,
+		ShrinkingConsumption shrinkingConsumption
 	) {
 		this.stereotype = stereotype;
 		this.status = status;
@@ -182,6 +198,7 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 		this.shrunkSample = shrunkSample;
 		this.originalSample = originalSample;
 		this.throwable = determineThrowable(status, throwable);
+		this.shrinkingConsumption = shrinkingConsumption;
 	}
 
 	private Throwable determineThrowable(CheckStatus status, Throwable throwable) {
@@ -236,7 +253,8 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 					edgeCasesTried,
 					originalSample,
 					shrunkSample,
-					throwable
+					throwable,
+					shrinkingConsumption
 				);
 			case SUCCESSFUL:
 				return new PropertyCheckResult(
@@ -252,7 +270,8 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 					edgeCasesTried,
 					null,
 					null,
-					throwable
+					throwable,
+					null
 				);
 			default:
 				throw new IllegalStateException(String.format("Unknown state: %s", newStatus.name()));
@@ -292,6 +311,13 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 		return Optional.ofNullable(shrunkSample);
 	}
 
+	/**
+	 * The shrinking budget and how much of it has been used up, if shrinking took place.
+	 */
+	public Optional<ShrinkingConsumption> shrinkingConsumption() {
+		return Optional.ofNullable(shrinkingConsumption);
+	}
+
 	public GenerationMode generation() {
 		return generation;
 	}
@@ -12,12 +12,20 @@ public class PropertyMethodArbitraryResolver extends InstanceBasedSubtypeProvide
 
 	private final RegisteredArbitraryResolver registeredArbitraryResolver;
 	private final RegisteredArbitraryConfigurer registeredArbitraryConfigurer;
+	private final DomainContext domainContext;
+	private final ArbitraryResolutionCache resolutionCache;
 
 	public PropertyMethodArbitraryResolver(Object testInstance, DomainContext domainContext) {
+		this(testInstance, domainContext, ArbitraryResolutionCache.uncached());
+	}
+
+	public PropertyMethodArbitraryResolver(Object testInstance, DomainContext domainContext, ArbitraryResolutionCache resolutionCache) {
 		this(
 			testInstance,
 			new RegisteredArbitraryResolver(domainContext.getArbitraryProviders()),
-			new RegisteredArbitraryConfigurer(domainContext.getArbitraryConfigurators())
+			new RegisteredArbitraryConfigurer(domainContext.getArbitraryConfigurators()),
+			domainContext,
+			resolutionCache
 		);
 	}
 
@@ -25,10 +33,22 @@ public class PropertyMethodArbitraryResolver extends InstanceBasedSubtypeProvide
 		Object testInstance,
 		RegisteredArbitraryResolver registeredArbitraryResolver,
 		RegisteredArbitraryConfigurer registeredArbitraryConfigurer
+	) {
+		this(testInstance, registeredArbitraryResolver, registeredArbitraryConfigurer, null, ArbitraryResolutionCache.uncached());
+	}
+
+	PropertyMethodArbitraryResolver(
+		Object testInstance,
+		RegisteredArbitraryResolver registeredArbitraryResolver,
+		RegisteredArbitraryConfigurer registeredArbitraryConfigurer,
+		DomainContext domainContext,
+		ArbitraryResolutionCache resolutionCache
 	) {
 		super(testInstance);
 		this.registeredArbitraryResolver = registeredArbitraryResolver;
 		this.registeredArbitraryConfigurer = registeredArbitraryConfigurer;
+		this.domainContext = domainContext;
+		this.resolutionCache = resolutionCache;
 	}
 
 	@Override
@@ -37,6 +57,11 @@ public class PropertyMethodArbitraryResolver extends InstanceBasedSubtypeProvide
 		return apply(typeUsage);
 	}
 
+	@Override
+	public Set<Arbitrary<?>> apply(TypeUsage targetType) {
+		return resolutionCache.resolve(targetType, domainContext, () -> super.apply(targetType));
+	}
+
 	@Override
 	protected Set<Arbitrary<?>> resolve(TypeUsage targetType) {
 		return registeredArbitraryResolver.resolve(targetType, this);
@@ -7,12 +7,19 @@ import java.util.stream.*;
 import net.jqwik.api.*;
 import net.jqwik.api.support.*;
 import net.jqwik.engine.*;
+import net.jqwik.engine.execution.lifecycle.*;
 import net.jqwik.engine.properties.arbitraries.*;
 import net.jqwik.engine.support.*;
 import net.jqwik.engine.support.types.*;
 
 import static java.lang.Math.*;
 
+/**
+ * Each try gets its own source of randomness, which is derived from the base seed and the try's index.
+ * Thereby a try's sample does not depend on the samples generated before
+ * and can be regenerated without generating those.
+ * With legacy seeds all tries share one source of randomness as in versions before.
+ */
 public class RandomizedShrinkablesGenerator implements ForAllParametersGenerator {
 
 	private static final Logger LOG = Logger.getLogger(RandomizedShrinkablesGenerator.class.getName());
@@ -24,27 +31,61 @@ public class RandomizedShrinkablesGenerator implements ForAllParametersGenerator
 		int genSize,
 		EdgeCasesMode edgeCasesMode
 	) {
+		return forParameters(parameters, arbitraryResolver, random, genSize, edgeCasesMode, legacySeedsConfigured());
+	}
+
+	static RandomizedShrinkablesGenerator forParameters(
+		List<MethodParameter> parameters,
+		ArbitraryResolver arbitraryResolver,
+		Random random,
+		int genSize,
+		EdgeCasesMode edgeCasesMode,
+		boolean legacySeeds
+	) {
 
 		List<EdgeCases<Object>> listOfEdgeCases = listOfEdgeCases(parameters, arbitraryResolver, edgeCasesMode, genSize);
 		int edgeCasesTotal = calculateEdgeCasesTotal(listOfEdgeCases);
+		long baseRandomSeed = random.nextLong();
 
 		logEdgeCasesOutnumberTriesIfApplicable(genSize, edgeCasesTotal);
 
 		return new RandomizedShrinkablesGenerator(
 			randomShrinkablesGenerator(parameters, arbitraryResolver, genSize, edgeCasesMode.activated()),
-			new EdgeCasesGenerator(listOfEdgeCases),
+			edgeCasesGenerator(listOfEdgeCases, edgeCasesTotal, genSize, baseRandomSeed),
 			edgeCasesMode,
 			edgeCasesTotal,
 			calculateBaseToEdgeCaseRatio(listOfEdgeCases, genSize),
-			random.nextLong()
+			baseRandomSeed,
+			legacySeeds
 		);
 	}
 
+	private static boolean legacySeedsConfigured() {
+		return CurrentJqwikConfiguration.get()
+										.map(JqwikConfiguration::legacySeeds)
+										.orElse(JqwikProperties.DEFAULT_LEGACY_SEEDS);
+	}
+
+	// Combinations that outnumber tries are sampled so that the tried ones are spread over all parameters' edge cases
+	private static EdgeCasesGenerator edgeCasesGenerator(
+		List<EdgeCases<Object>> listOfEdgeCases,
+		int edgeCasesTotal,
+		int genSize,
+		long baseRandomSeed
+	) {
+		if (edgeCasesTotal > genSize) {
+			// Derived seed so that sampling does not change the sequence of randomly generated values
+			long samplingSeed = baseRandomSeed ^ 0x9E3779B97F4A7C15L;
+			return new EdgeCasesGenerator(listOfEdgeCases, samplingSeed);
+		}
+		return new EdgeCasesGenerator(listOfEdgeCases);
+	}
+
 	private static void logEdgeCasesOutnumberTriesIfApplicable(int genSize, int edgeCasesTotal) {
 		int logEdgeCasesExceedTriesLimit = max(genSize, 100);
 		if (edgeCasesTotal >= logEdgeCasesExceedTriesLimit && genSize > 1) {
 			String message = String.format(
-				"Edge case generation exceeds number of tries. Stopped after %s generated cases.",
+				"Edge case generation exceeds number of tries. Only some of %s combinations will be tried.",
 				edgeCasesTotal
 			);
 			LOG.log(Level.INFO, message);
@@ -52,10 +93,7 @@ public class RandomizedShrinkablesGenerator implements ForAllParametersGenerator
 	}
 
 	private static int calculateEdgeCasesTotal(final List<EdgeCases<Object>> listOfEdgeCases) {
-		if (listOfEdgeCases.isEmpty()) {
-			return 0;
-		}
-		return listOfEdgeCases.stream().mapToInt(EdgeCases::size).reduce(1, (a, b) -> a * b);
+		return (int) min(EdgeCasesGenerator.countCombinations(listOfEdgeCases), Integer.MAX_VALUE);
 	}
 
 	private static PurelyRandomShrinkablesGenerator randomShrinkablesGenerator(
@@ -160,7 +198,11 @@ public class RandomizedShrinkablesGenerator implements ForAllParametersGenerator
 	private final int edgeCasesTotal;
 	private final int baseToEdgeCaseRatio;
 	private final long baseRandomSeed;
-	private Random random;
+	private final boolean legacySeeds;
+	private int tryIndex = 0;
+
+	// Only used with legacy seeds, where all tries draw from the same source of randomness one after the other
+	private Random sequentialRandom;
 
 	private boolean allEdgeCasesGenerated = false;
 	private int edgeCasesTried = 0;
@@ -171,7 +213,8 @@ public class RandomizedShrinkablesGenerator implements ForAllParametersGenerator
 		EdgeCasesMode edgeCasesMode,
 		int edgeCasesTotal,
 		int baseToEdgeCaseRatio,
-		long baseRandomSeed
+		long baseRandomSeed,
+		boolean legacySeeds
 	) {
 		this.randomGenerator = randomGenerator;
 		this.edgeCasesGenerator = edgeCasesGenerator;
@@ -179,7 +222,8 @@ public class RandomizedShrinkablesGenerator implements ForAllParametersGenerator
 		this.edgeCasesTotal = edgeCasesTotal;
 		this.baseToEdgeCaseRatio = baseToEdgeCaseRatio;
 		this.baseRandomSeed = baseRandomSeed;
-		this.random = SourceOfRandomness.newRandom(baseRandomSeed);
+		this.legacySeeds = legacySeeds;
+		this.sequentialRandom = SourceOfRandomness.newRandom(baseRandomSeed);
 	}
 
 	@Override
@@ -190,27 +234,61 @@ public class RandomizedShrinkablesGenerator implements ForAllParametersGenerator
 
 	@Override
 	public List<Shrinkable<Object>> next() {
-		if (!allEdgeCasesGenerated) {
-			if (edgeCasesMode.generateFirst()) {
+		Random tryRandom = nextTryRandom();
+		if (nextIsEdgeCase(tryRandom)) {
+			edgeCasesTried++;
+			return edgeCasesGenerator.next();
+		}
+		return randomGenerator.generateNext(tryRandom);
+	}
+
+	/**
+	 * Randomly generated samples are skipped without generating them.
+	 * Skipped edge cases must still be taken from the edge cases generator to keep their order.
+	 */
+	@Override
+	public boolean skip(int count) {
+		if (legacySeeds) {
+			return ForAllParametersGenerator.super.skip(count);
+		}
+		for (int i = 0; i < count; i++) {
+			Random tryRandom = nextTryRandom();
+			if (nextIsEdgeCase(tryRandom)) {
+				edgeCasesTried++;
+				edgeCasesGenerator.next();
+			}
+		}
+		return true;
+	}
+
+	private Random nextTryRandom() {
+		if (legacySeeds) {
+			return sequentialRandom;
+		}
+		return SourceOfRandomness.derive(baseRandomSeed, tryIndex++);
+	}
+
+	private boolean nextIsEdgeCase(Random tryRandom) {
+		if (allEdgeCasesGenerated) {
+			return false;
+		}
+		if (edgeCasesMode.generateFirst()) {
+			if (edgeCasesGenerator.hasNext()) {
+				return true;
+			} else {
+				allEdgeCasesGenerated = true;
+			}
+		}
+		if (edgeCasesMode.mixIn()) {
+			if (shouldGenerateEdgeCase(tryRandom)) {
 				if (edgeCasesGenerator.hasNext()) {
-					edgeCasesTried++;
-					return edgeCasesGenerator.next();
+					return true;
 				} else {
 					allEdgeCasesGenerated = true;
 				}
 			}
-			if (edgeCasesMode.mixIn()) {
-				if (shouldGenerateEdgeCase(random)) {
-					if (edgeCasesGenerator.hasNext()) {
-						edgeCasesTried++;
-						return edgeCasesGenerator.next();
-					} else {
-						allEdgeCasesGenerated = true;
-					}
-				}
-			}
 		}
-		return randomGenerator.generateNext(random);
+		return false;
 	}
 
 	@Override
@@ -225,7 +303,8 @@ public class RandomizedShrinkablesGenerator implements ForAllParametersGenerator
 
 	@Override
 	public void reset() {
-		random = SourceOfRandomness.newRandom(baseRandomSeed);
+		tryIndex = 0;
+		sequentialRandom = SourceOfRandomness.newRandom(baseRandomSeed);
 	}
 
 	private boolean shouldGenerateEdgeCase(Random localRandom) {
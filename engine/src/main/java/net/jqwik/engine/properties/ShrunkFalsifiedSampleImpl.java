@@ -5,10 +5,14 @@ import java.util.*;
 import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
 import net.jqwik.api.support.*;
+import net.jqwik.engine.properties.shrinking.*;
 
 public class ShrunkFalsifiedSampleImpl extends FalsifiedSampleImpl implements ShrunkFalsifiedSample {
 
 	private final int shrinkingSteps;
+	private final int cacheHits;
+	private final int cacheMisses;
+	private final ShrinkingConsumption consumption;
 
 	public ShrunkFalsifiedSampleImpl(
 		FalsifiedSample falsifiedSample,
@@ -17,15 +21,50 @@ public class ShrunkFalsifiedSampleImpl extends FalsifiedSampleImpl implements Sh
 		this(falsifiedSample.parameters(), falsifiedSample.shrinkables(), falsifiedSample.falsifyingError(), shrinkingSteps, falsifiedSample.footnotes());
 	}
 
+	public ShrunkFalsifiedSampleImpl(
+		FalsifiedSample falsifiedSample,
+		int shrinkingSteps,
+		int cacheHits,
+		int cacheMisses,
+		ShrinkingConsumption consumption
+	) {
+		this(
+			falsifiedSample.parameters(),
+			falsifiedSample.shrinkables(),
+			falsifiedSample.falsifyingError(),
+			shrinkingSteps,
+			falsifiedSample.footnotes(),
+			cacheHits,
+			cacheMisses,
+			consumption
+		);
+	}
+
 	public ShrunkFalsifiedSampleImpl(
 		List<Object> parameters,
 		List<Shrinkable<Object>> shrinkables,
 		Optional<Throwable> falsifyingError,
 		int shrinkingSteps,
 		List<String> footnotes
+	) {
+		this(parameters, shrinkables, falsifyingError, shrinkingSteps, footnotes, 0, 0, null);
+	}
+
+	private ShrunkFalsifiedSampleImpl(
+		List<Object> parameters,
+		List<Shrinkable<Object>> shrinkables,
+		Optional<Throwable> falsifyingError,
+		int shrinkingSteps,
+		List<String> footnotes,
+		int cacheHits,
+		int cacheMisses,
+		ShrinkingConsumption consumption
 	) {
 		super(parameters, shrinkables, falsifyingError, footnotes);
 		this.shrinkingSteps = shrinkingSteps;
+		this.cacheHits = cacheHits;
+		this.cacheMisses = cacheMisses;
+		this.consumption = consumption;
 	}
 
 	@Override
@@ -33,6 +72,25 @@ public class ShrunkFalsifiedSampleImpl extends FalsifiedSampleImpl implements Sh
 		return shrinkingSteps;
 	}
 
+	/**
+	 * Number of shrinking candidates whose falsification result was taken from the cache.
+	 * Not part of equality since it does not describe the sample itself.
+	 */
+	public int countCacheHits() {
+		return cacheHits;
+	}
+
+	public int countCacheMisses() {
+		return cacheMisses;
+	}
+
+	/**
+	 * Budget and consumption of the shrinking run. Not part of equality either.
+	 */
+	public Optional<ShrinkingConsumption> shrinkingConsumption() {
+		return Optional.ofNullable(consumption);
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) return true;
@@ -0,0 +1,232 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+import org.junit.platform.engine.*;
+
+import net.jqwik.api.domains.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.descriptor.*;
+import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * Executes tries either one after the other on the calling thread
+ * or in batches on worker threads, of which a property uses at most its parallelism.
+ * In both cases outcomes are handed back in the order in which the tries were given.
+ *
+ * <p>
+ * Worker threads are shared by all properties of an engine run
+ * and shut down together with the engine descriptor's stores at the end of the run.
+ * </p>
+ */
+class TriesExecutor implements AutoCloseable {
+
+	// Several tries per worker in a batch so that a single slow try does not idle the whole pool
+	private static final int TRIES_PER_WORKER_IN_BATCH = 4;
+
+	static TriesExecutor sequential() {
+		return new TriesExecutor(1, null, false, null, null);
+	}
+
+	static TriesExecutor concurrent(int parallelism) {
+		DomainContext currentContext = CurrentDomainContext.get();
+		if (CurrentTestDescriptor.isEmpty()) {
+			return new TriesExecutor(parallelism, new Workers(), true, null, currentContext);
+		}
+		TestDescriptor currentDescriptor = CurrentTestDescriptor.get();
+		Optional<Workers> workersOfRun = workersOfRun(currentDescriptor);
+		return workersOfRun
+				   .map(workers -> new TriesExecutor(parallelism, workers, false, currentDescriptor, currentContext))
+				   .orElseGet(() -> new TriesExecutor(parallelism, new Workers(), true, currentDescriptor, currentContext));
+	}
+
+	private static Optional<Workers> workersOfRun(TestDescriptor descriptor) {
+		TestDescriptor root = descriptor;
+		while (root.getParent().isPresent()) {
+			root = root.getParent().get();
+		}
+		if (!(root instanceof JqwikEngineDescriptor)) {
+			return Optional.empty();
+		}
+		return Optional.of(StoreRepository.getCurrent().getOrCreate(root, Workers.class, Lifespan.RUN, Workers::new).get());
+	}
+
+	private final int parallelism;
+	private final int batchSize;
+	private final Workers workers;
+	private final boolean ownsWorkers;
+	private final TestDescriptor currentDescriptor;
+	private final DomainContext currentContext;
+
+	private TriesExecutor(
+		int parallelism,
+		Workers workers,
+		boolean ownsWorkers,
+		TestDescriptor currentDescriptor,
+		DomainContext currentContext
+	) {
+		this.parallelism = parallelism;
+		this.batchSize = workers == null ? 1 : parallelism * TRIES_PER_WORKER_IN_BATCH;
+		this.workers = workers;
+		this.ownsWorkers = ownsWorkers;
+		this.currentDescriptor = currentDescriptor;
+		this.currentContext = currentContext;
+	}
+
+	int batchSize() {
+		return batchSize;
+	}
+
+	/**
+	 * Tries that are executed concurrently get their own scope for try-scoped stores.
+	 * A try's sample must be generated within the same scope in which the try is later executed.
+	 * Sequentially executed tries share the stores' values, which are reset after each try.
+	 */
+	Optional<TryScope> newTryScope() {
+		if (workers == null) {
+			return Optional.empty();
+		}
+		return Optional.of(new TryScope());
+	}
+
+	List<TryOutcome> execute(List<Supplier<TryExecutionResult>> tries) {
+		if (workers == null) {
+			List<TryOutcome> outcomes = new ArrayList<>(tries.size());
+			for (Supplier<TryExecutionResult> aTry : tries) {
+				TryOutcome outcome = run(aTry);
+				outcomes.add(outcome);
+				if (outcome.endsProperty()) {
+					break;
+				}
+			}
+			return outcomes;
+		}
+		return executeConcurrently(tries);
+	}
+
+	// Each worker takes the next try until all tries are taken or a try ends the property.
+	// Since tries are taken in order, all tries before the first one that ends the property have been run.
+	private List<TryOutcome> executeConcurrently(List<Supplier<TryExecutionResult>> tries) {
+		AtomicInteger nextTry = new AtomicInteger(0);
+		AtomicBoolean skipRemainingTries = new AtomicBoolean(false);
+		TryOutcome[] outcomesByTry = new TryOutcome[tries.size()];
+
+		List<Future<?>> futures = new ArrayList<>(parallelism);
+		for (int i = 0; i < Math.min(parallelism, tries.size()); i++) {
+			futures.add(workers.submit(() -> {
+				while (!skipRemainingTries.get()) {
+					int index = nextTry.getAndIncrement();
+					if (index >= tries.size()) {
+						return;
+					}
+					TryOutcome outcome = runOnWorker(tries.get(index));
+					outcomesByTry[index] = outcome;
+					if (outcome.endsProperty()) {
+						skipRemainingTries.set(true);
+					}
+				}
+			}));
+		}
+		// Tries that have already started must finish before the property can go on, e.g. with shrinking
+		awaitAll(futures);
+
+		List<TryOutcome> outcomes = new ArrayList<>(tries.size());
+		for (TryOutcome outcome : outcomesByTry) {
+			if (outcome == null) {
+				break;
+			}
+			outcomes.add(outcome);
+			if (outcome.endsProperty()) {
+				break;
+			}
+		}
+		return outcomes;
+	}
+
+	private TryOutcome runOnWorker(Supplier<TryExecutionResult> aTry) {
+		if (currentDescriptor == null) {
+			return CurrentDomainContext.runWithContext(currentContext, () -> run(aTry));
+		}
+		return CurrentDomainContext.runWithContext(
+			currentContext,
+			() -> CurrentTestDescriptor.runWithDescriptor(currentDescriptor, () -> run(aTry))
+		);
+	}
+
+	private TryOutcome run(Supplier<TryExecutionResult> aTry) {
+		try {
+			return new TryOutcome(aTry.get(), null);
+		} catch (Throwable throwable) {
+			return new TryOutcome(null, throwable);
+		}
+	}
+
+	private void awaitAll(List<Future<?>> futures) {
+		for (Future<?> future : futures) {
+			try {
+				future.get();
+			} catch (InterruptedException e) {
+				futures.forEach(f -> f.cancel(true));
+				Thread.currentThread().interrupt();
+				JqwikExceptionSupport.throwAsUncheckedException(e);
+			} catch (ExecutionException e) {
+				JqwikExceptionSupport.throwAsUncheckedException(e);
+			}
+		}
+	}
+
+	@Override
+	public void close() {
+		if (ownsWorkers) {
+			workers.close();
+		}
+	}
+
+	private static class Workers implements Store.CloseOnReset {
+
+		private final ExecutorService threads = Executors.newCachedThreadPool(new DaemonThreadFactory("jqwik-tries"));
+
+		private Future<?> submit(Runnable task) {
+			return threads.submit(task);
+		}
+
+		@Override
+		public void close() {
+			threads.shutdown();
+			try {
+				threads.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+			} catch (InterruptedException e) {
+				threads.shutdownNow();
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	static class TryOutcome {
+		private final TryExecutionResult result;
+		private final Throwable throwable;
+
+		private TryOutcome(TryExecutionResult result, Throwable throwable) {
+			this.result = result;
+			this.throwable = throwable;
+		}
+
+		/**
+		 * Rethrows any throwable that escaped the try so that it can be handled like in sequential execution.
+		 */
+		TryExecutionResult result() {
+			if (throwable != null) {
+				return JqwikExceptionSupport.throwAsUncheckedException(throwable);
+			}
+			return result;
+		}
+
+		private boolean endsProperty() {
+			return throwable != null || result.isFalsified() || result.shouldPropertyFinishEarly();
+		}
+	}
+}
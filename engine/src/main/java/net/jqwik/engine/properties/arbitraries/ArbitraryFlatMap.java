@@ -7,7 +7,7 @@ import net.jqwik.api.*;
 import net.jqwik.api.support.*;
 import net.jqwik.engine.properties.arbitraries.exhaustive.*;
 
-public class ArbitraryFlatMap<T, U> implements Arbitrary<U> {
+public class ArbitraryFlatMap<T, U> implements Arbitrary<U>, StatelessGeneration {
 	private final Arbitrary<T> self;
 	private final Function<T, Arbitrary<U>> mapper;
 
@@ -42,6 +42,11 @@ public class ArbitraryFlatMap<T, U> implements Arbitrary<U> {
 		return self.isGeneratorMemoizable();
 	}
 
+	@Override
+	public boolean hasStatelessGenerator() {
+		return StatelessGeneration.hasStatelessGenerator(self);
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) return true;
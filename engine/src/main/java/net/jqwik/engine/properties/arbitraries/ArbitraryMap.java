@@ -6,7 +6,7 @@ import java.util.function.*;
 import net.jqwik.api.*;
 import net.jqwik.api.support.*;
 
-public class ArbitraryMap<T, U> implements Arbitrary<U> {
+public class ArbitraryMap<T, U> implements Arbitrary<U>, StatelessGeneration {
 	private final Arbitrary<T> self;
 	private final Function<T, U> mapper;
 
@@ -41,6 +41,11 @@ public class ArbitraryMap<T, U> implements Arbitrary<U> {
 		return self.isGeneratorMemoizable();
 	}
 
+	@Override
+	public boolean hasStatelessGenerator() {
+		return StatelessGeneration.hasStatelessGenerator(self);
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) return true;
@@ -11,7 +11,7 @@ import net.jqwik.engine.properties.arbitraries.exhaustive.*;
 import net.jqwik.engine.properties.arbitraries.randomized.*;
 import net.jqwik.engine.properties.shrinking.*;
 
-public class CharacterRangeArbitrary implements Arbitrary<Character> {
+public class CharacterRangeArbitrary implements Arbitrary<Character>, StatelessGeneration {
 	private final char min;
 	private final char max;
 
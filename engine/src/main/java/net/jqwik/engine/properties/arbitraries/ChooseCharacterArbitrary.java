@@ -5,7 +5,7 @@ import java.util.*;
 import net.jqwik.engine.properties.arbitraries.exhaustive.*;
 import net.jqwik.engine.properties.arbitraries.randomized.*;
 
-public class ChooseCharacterArbitrary extends UseGeneratorsArbitrary<Character> {
+public class ChooseCharacterArbitrary extends UseGeneratorsArbitrary<Character> implements StatelessGeneration {
 
 	private final char[] chars;
 
@@ -14,7 +14,7 @@ import net.jqwik.engine.properties.shrinking.*;
 
 import static net.jqwik.engine.properties.arbitraries.randomized.RandomDecimalGenerators.*;
 
-class DecimalGeneratingArbitrary extends TypedCloneable implements Arbitrary<BigDecimal> {
+class DecimalGeneratingArbitrary extends TypedCloneable implements Arbitrary<BigDecimal>, StatelessGeneration {
 
 	private static final int DEFAULT_SCALE = 2;
 
@@ -6,6 +6,7 @@ import java.util.function.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
+import net.jqwik.api.support.*;
 import net.jqwik.engine.properties.*;
 import net.jqwik.engine.properties.arbitraries.exhaustive.*;
 import net.jqwik.engine.properties.shrinking.*;
@@ -99,4 +100,17 @@ public class DefaultArrayArbitrary<T, A> extends MultivalueArbitraryBase<T, A> i
 		FeatureExtractor<T> featureExtractor = by::apply;
 		return (ArrayArbitrary<T, A>) super.uniqueElements(featureExtractor);
 	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (!super.equals(o)) return false;
+
+		DefaultArrayArbitrary<?, ?> that = (DefaultArrayArbitrary<?, ?>) o;
+		return componentClass.equals(that.componentClass);
+	}
+
+	@Override
+	public int hashCode() {
+		return HashCodeSupport.hash(super.hashCode(), componentClass);
+	}
 }
@@ -8,7 +8,7 @@ import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
 import net.jqwik.engine.properties.*;
 
-public class DefaultBigDecimalArbitrary extends TypedCloneable implements BigDecimalArbitrary {
+public class DefaultBigDecimalArbitrary extends TypedCloneable implements BigDecimalArbitrary, StatelessGeneration {
 
 	public static final BigDecimal DEFAULT_MIN = BigDecimal.valueOf(-Double.MAX_VALUE);
 	public static final BigDecimal DEFAULT_MAX = BigDecimal.valueOf(Double.MAX_VALUE);
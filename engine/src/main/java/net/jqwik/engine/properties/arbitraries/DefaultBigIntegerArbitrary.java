@@ -7,7 +7,7 @@ import java.util.function.*;
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
 
-public class DefaultBigIntegerArbitrary extends TypedCloneable implements BigIntegerArbitrary {
+public class DefaultBigIntegerArbitrary extends TypedCloneable implements BigIntegerArbitrary, StatelessGeneration {
 
 	public static final BigInteger DEFAULT_MIN = BigInteger.valueOf(Long.MIN_VALUE);
 	public static final BigInteger DEFAULT_MAX = BigInteger.valueOf(Long.MAX_VALUE);
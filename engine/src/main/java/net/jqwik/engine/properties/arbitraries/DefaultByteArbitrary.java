@@ -7,7 +7,7 @@ import java.util.function.*;
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
 
-public class DefaultByteArbitrary extends TypedCloneable implements ByteArbitrary {
+public class DefaultByteArbitrary extends TypedCloneable implements ByteArbitrary, StatelessGeneration {
 
 	private static final byte DEFAULT_MIN = Byte.MIN_VALUE;
 	private static final byte DEFAULT_MAX = Byte.MAX_VALUE;
@@ -20,7 +20,7 @@ public class DefaultByteArbitrary extends TypedCloneable implements ByteArbitrar
 
 	@Override
 	public RandomGenerator<Byte> generator(int genSize) {
-		return generatingArbitrary.generator(genSize).map(BigInteger::byteValueExact);
+		return generatingArbitrary.generator(genSize, aLong -> (byte) aLong);
 	}
 
 	@Override
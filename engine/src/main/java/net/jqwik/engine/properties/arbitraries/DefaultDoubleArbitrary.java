@@ -9,7 +9,7 @@ import net.jqwik.api.arbitraries.*;
 import net.jqwik.api.support.*;
 import net.jqwik.engine.properties.*;
 
-public class DefaultDoubleArbitrary extends TypedCloneable implements DoubleArbitrary {
+public class DefaultDoubleArbitrary extends TypedCloneable implements DoubleArbitrary, StatelessGeneration {
 
 	private static final double DEFAULT_MIN = -Double.MAX_VALUE;
 	private static final double DEFAULT_MAX = Double.MAX_VALUE;
@@ -9,7 +9,7 @@ import net.jqwik.api.arbitraries.*;
 import net.jqwik.api.support.*;
 import net.jqwik.engine.properties.*;
 
-public class DefaultFloatArbitrary extends TypedCloneable implements FloatArbitrary {
+public class DefaultFloatArbitrary extends TypedCloneable implements FloatArbitrary, StatelessGeneration {
 
 	private static final float DEFAULT_MIN = -Float.MAX_VALUE;
 	private static final float DEFAULT_MAX = Float.MAX_VALUE;
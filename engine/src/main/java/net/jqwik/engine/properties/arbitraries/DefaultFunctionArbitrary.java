@@ -9,7 +9,7 @@ import net.jqwik.api.arbitraries.*;
 import net.jqwik.api.support.*;
 import net.jqwik.engine.properties.arbitraries.randomized.*;
 
-public class DefaultFunctionArbitrary<F, R> extends TypedCloneable implements FunctionArbitrary<F, R> {
+public class DefaultFunctionArbitrary<F, R> extends TypedCloneable implements FunctionArbitrary<F, R>, StatelessGeneration {
 
 	private final Class<F> functionalType;
 	private final Arbitrary<R> resultArbitrary;
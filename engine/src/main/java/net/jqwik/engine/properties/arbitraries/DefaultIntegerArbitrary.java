@@ -7,7 +7,7 @@ import java.util.function.*;
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
 
-public class DefaultIntegerArbitrary extends TypedCloneable implements IntegerArbitrary {
+public class DefaultIntegerArbitrary extends TypedCloneable implements IntegerArbitrary, StatelessGeneration {
 
 	private static final int DEFAULT_MIN = Integer.MIN_VALUE;
 	private static final int DEFAULT_MAX = Integer.MAX_VALUE;
@@ -20,7 +20,7 @@ public class DefaultIntegerArbitrary extends TypedCloneable implements IntegerAr
 
 	@Override
 	public RandomGenerator<Integer> generator(int genSize) {
-		return generatingArbitrary.generator(genSize).map(BigInteger::intValueExact);
+		return generatingArbitrary.generator(genSize, aLong -> (int) aLong);
 	}
 
 	@Override
@@ -7,7 +7,7 @@ import java.util.function.*;
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
 
-public class DefaultLongArbitrary extends TypedCloneable implements LongArbitrary {
+public class DefaultLongArbitrary extends TypedCloneable implements LongArbitrary, StatelessGeneration {
 
 	private static final long DEFAULT_MIN = Long.MIN_VALUE;
 	private static final long DEFAULT_MAX = Long.MAX_VALUE;
@@ -20,7 +20,7 @@ public class DefaultLongArbitrary extends TypedCloneable implements LongArbitrar
 
 	@Override
 	public RandomGenerator<Long> generator(int genSize) {
-		return generatingArbitrary.generator(genSize).map(BigInteger::longValueExact);
+		return generatingArbitrary.generator(genSize, Long::valueOf);
 	}
 
 	@Override
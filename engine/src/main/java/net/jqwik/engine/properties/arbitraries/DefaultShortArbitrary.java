@@ -7,7 +7,7 @@ import java.util.function.*;
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
 
-public class DefaultShortArbitrary extends TypedCloneable implements ShortArbitrary {
+public class DefaultShortArbitrary extends TypedCloneable implements ShortArbitrary, StatelessGeneration {
 
 	private static final short DEFAULT_MIN = Short.MIN_VALUE;
 	private static final short DEFAULT_MAX = Short.MAX_VALUE;
@@ -20,7 +20,7 @@ public class DefaultShortArbitrary extends TypedCloneable implements ShortArbitr
 
 	@Override
 	public RandomGenerator<Short> generator(int genSize) {
-		return generatingArbitrary.generator(genSize).map(BigInteger::shortValueExact);
+		return generatingArbitrary.generator(genSize, aLong -> (short) aLong);
 	}
 
 	@Override
@@ -11,7 +11,7 @@ import net.jqwik.engine.properties.shrinking.*;
 
 import static java.util.Arrays.*;
 
-public class DefaultStringArbitrary extends TypedCloneable implements StringArbitrary {
+public class DefaultStringArbitrary extends TypedCloneable implements StringArbitrary, StatelessGeneration {
 
 	private CharacterArbitrary characterArbitrary = new DefaultCharacterArbitrary();
 
@@ -225,6 +225,7 @@ public class DefaultStringArbitrary extends TypedCloneable implements StringArbi
 		if (minLength != that.minLength) return false;
 		if (!Objects.equals(maxLength, that.maxLength)) return false;
 		if (Double.compare(that.repeatChars, repeatChars) != 0) return false;
+		if (uniqueChars != that.uniqueChars) return false;
 		if (!characterArbitrary.equals(that.characterArbitrary)) return false;
 		if (!excludedChars.equals(that.excludedChars)) return false;
 		return Objects.equals(lengthDistribution, that.lengthDistribution);
@@ -232,7 +233,7 @@ public class DefaultStringArbitrary extends TypedCloneable implements StringArbi
 
 	@Override
 	public int hashCode() {
-		return HashCodeSupport.hash(characterArbitrary, minLength, maxLength, repeatChars, excludedChars, lengthDistribution);
+		return HashCodeSupport.hash(characterArbitrary, minLength, maxLength, repeatChars, uniqueChars, excludedChars, lengthDistribution);
 	}
 
 	private RandomGenerator<Character> randomCharacterGenerator() {
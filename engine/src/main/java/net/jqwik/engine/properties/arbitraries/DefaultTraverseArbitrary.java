@@ -1,7 +1,9 @@
 package net.jqwik.engine.properties.arbitraries;
 
+import java.lang.invoke.*;
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 import java.util.stream.*;
 
@@ -11,12 +13,9 @@ import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
 import net.jqwik.api.providers.*;
 import net.jqwik.api.support.*;
-import net.jqwik.engine.support.types.*;
 
 import static org.junit.platform.commons.support.ModifierSupport.*;
 
-import static net.jqwik.engine.support.JqwikReflectionSupport.*;
-
 public class DefaultTraverseArbitrary<T> extends ArbitraryDecorator<T> implements TraverseArbitrary<T> {
 
 	private final Class<T> targetType;
@@ -26,7 +25,7 @@ public class DefaultTraverseArbitrary<T> extends ArbitraryDecorator<T> implement
 	private boolean enableRecursion = false;
 
 	public DefaultTraverseArbitrary(Class<T> targetType, Traverser traverser) {
-		this(targetType, traverser, new LinkedHashMap<>());
+		this(targetType, traverser, new ConcurrentHashMap<>());
 	}
 
 	private DefaultTraverseArbitrary(Class<T> targetType, Traverser traverser, Map<TypeUsage, Arbitrary<Object>> arbitrariesCache) {
@@ -88,7 +87,7 @@ public class DefaultTraverseArbitrary<T> extends ArbitraryDecorator<T> implement
 	}
 
 	private Executable checkFittingReturnType(Executable creator) {
-		TypeUsage returnType = TypeUsage.forType(creator.getAnnotatedReturnType().getType());
+		TypeUsage returnType = creatorFor(creator).returnType();
 		if (!returnType.canBeAssignedTo(TypeUsage.of(targetType))) {
 			throw new JqwikException(String.format("%s should return type assignable to %s", creator, targetType));
 		}
@@ -121,16 +120,21 @@ public class DefaultTraverseArbitrary<T> extends ArbitraryDecorator<T> implement
 		return HashCodeSupport.hash(targetType, enableRecursion);
 	}
 
+	private TypeCreators.Creator creatorFor(Executable creator) {
+		return TypeCreators.of(targetType).creator(creator);
+	}
+
 	private Arbitrary<T> createArbitrary(
 		Executable creator
 	) {
+		TypeCreators.Creator typeCreator = creatorFor(creator);
 		List<Arbitrary<Object>> parameterArbitraries =
-			getMethodParameters(creator, targetType)
-				.stream()
-				.map(methodParameter -> arbitraryFor(TypeUsageImpl.forParameter(methodParameter)))
-				.collect(Collectors.toList());
+			typeCreator.parameterTypes()
+					   .stream()
+					   .map(this::arbitraryFor)
+					   .collect(Collectors.toList());
 
-		Function<List<Object>, T> combinator = paramList -> combinator(creator).apply(paramList.toArray());
+		Function<List<Object>, T> combinator = paramList -> combinator(typeCreator).apply(paramList.toArray());
 		Arbitrary<T> arbitrary = Combinators.combine(parameterArbitraries).as(combinator);
 		return arbitrary.ignoreException(GenerationError.class);
 	}
@@ -157,25 +161,9 @@ public class DefaultTraverseArbitrary<T> extends ArbitraryDecorator<T> implement
 		return traverseArbitrary.enableRecursion();
 	}
 
-	@SuppressWarnings("unchecked")
-	private Function<Object[], T> combinator(Executable creator) {
-		if (creator instanceof Method) {
-			return combinatorForMethod((Method) creator);
-		}
-		if (creator instanceof Constructor) {
-			return combinatorForConstructor((Constructor<T>) creator);
-		}
-		throw new JqwikException(String.format("Creator %s is not supported", creator));
-	}
-
-	private Function<Object[], T> combinatorForMethod(Method method) {
-		method.setAccessible(true);
-		return params -> generateNext(params, p -> method.invoke(null, p));
-	}
-
-	private Function<Object[], T> combinatorForConstructor(Constructor<T> constructor) {
-		constructor.setAccessible(true);
-		return params -> generateNext(params, constructor::newInstance);
+	private Function<Object[], T> combinator(TypeCreators.Creator creator) {
+		MethodHandle handle = creator.handle();
+		return params -> generateNext(params, p -> (Object) handle.invokeExact(p));
 	}
 
 	@SuppressWarnings("unchecked")
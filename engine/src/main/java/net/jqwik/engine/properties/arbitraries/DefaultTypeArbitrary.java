@@ -147,23 +147,25 @@ public class DefaultTypeArbitrary<T> extends ArbitraryDecorator<T> implements Ty
 			if (isAbstract(target.getRawType())) {
 				return;
 			}
-			Arrays.stream(target.getRawType().getDeclaredConstructors())
-				  .filter(filter)
-				  .forEach(creators::add);
+			TypeCreators.of(target.getRawType())
+						.declaredConstructors()
+						.stream()
+						.filter(filter)
+						.forEach(creators::add);
 
 		}
 
 		private void appendFactoryMethods(Set<Executable> creators, TypeUsage target, Predicate<Method> filter) {
-			Arrays.stream(target.getRawType().getDeclaredMethods())
-				  .filter(ModifierSupport::isStatic)
-				  .filter(creator -> hasFittingReturnType(creator, target))
-				  .filter(filter)
-				  .forEach(creators::add);
+			TypeCreators typeCreators = TypeCreators.of(target.getRawType());
+			typeCreators.staticMethods()
+						.stream()
+						.filter(creator -> hasFittingReturnType(typeCreators.creator(creator), target))
+						.filter(filter)
+						.forEach(creators::add);
 		}
 
-		private boolean hasFittingReturnType(Executable creator, TypeUsage target) {
-			TypeUsage returnType = TypeUsage.forType(creator.getAnnotatedReturnType().getType());
-			return returnType.canBeAssignedTo(target);
+		private boolean hasFittingReturnType(TypeCreators.Creator creator, TypeUsage target) {
+			return creator.returnType().canBeAssignedTo(target);
 		}
 
 	}
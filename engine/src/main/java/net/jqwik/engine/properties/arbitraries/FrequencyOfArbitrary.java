@@ -11,7 +11,7 @@ import net.jqwik.api.providers.*;
 import net.jqwik.engine.properties.arbitraries.exhaustive.*;
 import net.jqwik.engine.properties.arbitraries.randomized.*;
 
-public class FrequencyOfArbitrary<T> implements Arbitrary<T>, SelfConfiguringArbitrary<T> {
+public class FrequencyOfArbitrary<T> implements Arbitrary<T>, SelfConfiguringArbitrary<T>, StatelessGeneration {
 
 	private final List<Tuple2<Integer, Arbitrary<T>>> frequencies;
 	private final boolean isGeneratorMemoizable;
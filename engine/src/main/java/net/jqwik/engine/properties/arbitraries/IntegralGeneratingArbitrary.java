@@ -14,7 +14,7 @@ import net.jqwik.engine.properties.shrinking.*;
 
 import static java.math.BigInteger.*;
 
-class IntegralGeneratingArbitrary extends TypedCloneable implements Arbitrary<BigInteger> {
+class IntegralGeneratingArbitrary extends TypedCloneable implements Arbitrary<BigInteger>, StatelessGeneration {
 
 	BigInteger min;
 	BigInteger max;
@@ -34,6 +34,19 @@ class IntegralGeneratingArbitrary extends TypedCloneable implements Arbitrary<Bi
 		return RandomGenerators.bigIntegers(min, max, shrinkingTarget(), distribution);
 	}
 
+	/**
+	 * Generates values without BigInteger round-trips. Only usable if min and max are within long's range.
+	 */
+	<T> RandomGenerator<T> generator(int genSize, LongFunction<T> fromLong) {
+		return RandomGenerators.integrals(
+			min.longValueExact(),
+			max.longValueExact(),
+			shrinkingTarget().longValueExact(),
+			distribution,
+			fromLong
+		);
+	}
+
 	@Override
 	public Optional<ExhaustiveGenerator<BigInteger>> exhaustive(long maxNumberOfSamples) {
 		BigInteger maxCount = max.subtract(min).add(BigInteger.ONE);
@@ -6,7 +6,7 @@ import java.util.function.*;
 import net.jqwik.api.*;
 import net.jqwik.engine.properties.arbitraries.exhaustive.*;
 
-public class JustArbitrary<T> implements Arbitrary<T> {
+public class JustArbitrary<T> implements Arbitrary<T>, StatelessGeneration {
 
 	private final T value;
 
@@ -14,7 +14,7 @@ import static java.util.Arrays.*;
 
 import static net.jqwik.engine.properties.UniquenessChecker.*;
 
-abstract class MultivalueArbitraryBase<T, U> extends TypedCloneable implements StreamableArbitrary<T, U> {
+abstract class MultivalueArbitraryBase<T, U> extends TypedCloneable implements StreamableArbitrary<T, U>, StatelessGeneration {
 
 	protected Arbitrary<T> elementArbitrary;
 
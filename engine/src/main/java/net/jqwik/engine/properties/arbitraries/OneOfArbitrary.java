@@ -11,7 +11,7 @@ import net.jqwik.api.providers.*;
 import net.jqwik.engine.properties.arbitraries.exhaustive.*;
 import net.jqwik.engine.properties.arbitraries.randomized.*;
 
-public class OneOfArbitrary<T> implements Arbitrary<T>, SelfConfiguringArbitrary<T> {
+public class OneOfArbitrary<T> implements Arbitrary<T>, SelfConfiguringArbitrary<T>, StatelessGeneration {
 	private final List<Arbitrary<T>> all = new ArrayList<>();
 	private final boolean isGeneratorMemoizable;
 
@@ -0,0 +1,24 @@
+package net.jqwik.engine.properties.arbitraries;
+
+import net.jqwik.api.*;
+
+/**
+ * Marks arbitraries whose generators keep no mutable state of their own.
+ * Only generators of such arbitraries are shared across properties by the generator pool.
+ *
+ * <p>
+ * Generators that an arbitrary gets through {@linkplain Arbitrary#generator(int, boolean)} are pooled - or not -
+ * on their own account. Arbitraries that build generators of other arbitraries directly
+ * must override {@linkplain #hasStatelessGenerator()} to check those arbitraries as well.
+ * </p>
+ */
+public interface StatelessGeneration {
+
+	static boolean hasStatelessGenerator(Arbitrary<?> arbitrary) {
+		return arbitrary instanceof StatelessGeneration && ((StatelessGeneration) arbitrary).hasStatelessGenerator();
+	}
+
+	default boolean hasStatelessGenerator() {
+		return true;
+	}
+}
@@ -0,0 +1,133 @@
+package net.jqwik.engine.properties.arbitraries;
+
+import java.lang.invoke.*;
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.*;
+
+import org.junit.platform.commons.support.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.providers.*;
+import net.jqwik.engine.support.*;
+import net.jqwik.engine.support.types.*;
+
+/**
+ * Reflection metadata that type arbitraries need about the constructors and factory methods of a type:
+ * declared creators, their return and resolved parameter types and method handles to invoke them.
+ * It is computed once per type so that using the same type in many type arbitraries does not redo reflection.
+ */
+class TypeCreators {
+
+	private static final ClassValue<TypeCreators> TYPE_CREATORS = new ClassValue<TypeCreators>() {
+		@Override
+		protected TypeCreators computeValue(Class<?> type) {
+			return new TypeCreators(type);
+		}
+	};
+
+	static TypeCreators of(Class<?> type) {
+		return TYPE_CREATORS.get(type);
+	}
+
+	private final Class<?> type;
+	private final List<Constructor<?>> declaredConstructors;
+	private final List<Method> staticMethods;
+	private final Map<Executable, Creator> creators = new ConcurrentHashMap<>();
+
+	private TypeCreators(Class<?> type) {
+		this.type = type;
+		this.declaredConstructors = Collections.unmodifiableList(Arrays.asList(type.getDeclaredConstructors()));
+		this.staticMethods = Collections.unmodifiableList(
+			Arrays.stream(type.getDeclaredMethods())
+				  .filter(ModifierSupport::isStatic)
+				  .collect(Collectors.toList())
+		);
+	}
+
+	List<Constructor<?>> declaredConstructors() {
+		return declaredConstructors;
+	}
+
+	List<Method> staticMethods() {
+		return staticMethods;
+	}
+
+	/**
+	 * @param executable a constructor or method that creates instances of this type
+	 * @return metadata of {@code executable} with generic parameter types resolved in the context of this type
+	 */
+	Creator creator(Executable executable) {
+		return creators.computeIfAbsent(executable, e -> new Creator(e, type));
+	}
+
+	static class Creator {
+
+		private final Executable executable;
+		private final Class<?> containerClass;
+		private final TypeUsage returnType;
+
+		private volatile List<TypeUsage> parameterTypes;
+		private volatile MethodHandle handle;
+
+		private Creator(Executable executable, Class<?> containerClass) {
+			this.executable = executable;
+			this.containerClass = containerClass;
+			this.returnType = TypeUsage.forType(executable.getAnnotatedReturnType().getType());
+		}
+
+		Executable executable() {
+			return executable;
+		}
+
+		TypeUsage returnType() {
+			return returnType;
+		}
+
+		List<TypeUsage> parameterTypes() {
+			if (parameterTypes == null) {
+				parameterTypes = Collections.unmodifiableList(
+					JqwikReflectionSupport.getMethodParameters(executable, containerClass)
+										  .stream()
+										  .map(TypeUsageImpl::forParameter)
+										  .collect(Collectors.toList())
+				);
+			}
+			return parameterTypes;
+		}
+
+		/**
+		 * A handle that takes an array with one argument per parameter and returns the created instance.
+		 */
+		MethodHandle handle() {
+			if (handle == null) {
+				handle = spreadingHandle(executable);
+			}
+			return handle;
+		}
+
+		private static MethodHandle spreadingHandle(Executable executable) {
+			int parameterCount = executable.getParameterCount();
+			try {
+				return unreflect(executable)
+						   .asFixedArity()
+						   .asType(MethodType.genericMethodType(parameterCount))
+						   .asSpreader(Object[].class, parameterCount);
+			} catch (IllegalAccessException e) {
+				return JqwikExceptionSupport.throwAsUncheckedException(e);
+			}
+		}
+
+		private static MethodHandle unreflect(Executable executable) throws IllegalAccessException {
+			executable.setAccessible(true);
+			if (executable instanceof Method) {
+				return MethodHandles.lookup().unreflect((Method) executable);
+			}
+			if (executable instanceof Constructor) {
+				return MethodHandles.lookup().unreflectConstructor((Constructor<?>) executable);
+			}
+			throw new JqwikException(String.format("Creator %s is not supported", executable));
+		}
+	}
+}
@@ -10,7 +10,7 @@ import net.jqwik.engine.properties.arbitraries.*;
 import net.jqwik.engine.properties.arbitraries.exhaustive.*;
 import net.jqwik.engine.properties.shrinking.*;
 
-public class CombineArbitrary<R> implements Arbitrary<R> {
+public class CombineArbitrary<R> implements Arbitrary<R>, StatelessGeneration {
 
 	private final Function<List<Object>, R> combinator;
 	private final List<Arbitrary<Object>> arbitraries;
@@ -45,6 +45,11 @@ public class CombineArbitrary<R> implements Arbitrary<R> {
 		return isCombinedGeneratorMemoizable(arbitraries);
 	}
 
+	@Override
+	public boolean hasStatelessGenerator() {
+		return arbitraries.stream().allMatch(StatelessGeneration::hasStatelessGenerator);
+	}
+
 	@Override
 	public EdgeCases<R> edgeCases(int maxEdgeCases) {
 		return combineEdgeCases(
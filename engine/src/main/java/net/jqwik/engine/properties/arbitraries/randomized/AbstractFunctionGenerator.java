@@ -1,6 +1,5 @@
 package net.jqwik.engine.properties.arbitraries.randomized;
 
-import java.lang.invoke.*;
 import java.lang.reflect.*;
 import java.util.*;
 import java.util.function.*;
@@ -11,7 +10,12 @@ import net.jqwik.api.support.*;
 import net.jqwik.engine.support.*;
 
 abstract class AbstractFunctionGenerator<F, R> implements RandomGenerator<F> {
+
+	// Returned by conditionalResult() since null is a valid result
+	static final Object NO_CONDITION_APPLIES = new Object();
+
 	final Class<F> functionalType;
+	final FunctionProxyType proxyType;
 	final RandomGenerator<R> resultGenerator;
 	final List<Tuple2<Predicate<List<Object>>, Function<List<Object>, R>>> conditions;
 
@@ -21,36 +25,35 @@ abstract class AbstractFunctionGenerator<F, R> implements RandomGenerator<F> {
 		List<Tuple2<Predicate<List<Object>>, Function<List<Object>, R>>> conditions
 	) {
 		this.functionalType = functionalType;
+		this.proxyType = FunctionProxyType.of(functionalType);
 		this.resultGenerator = resultGenerator;
 		this.conditions = conditions;
 	}
 
 	@SuppressWarnings("unchecked")
 	F createFunctionProxy(InvocationHandler handler) {
-		return (F) Proxy.newProxyInstance(functionalType.getClassLoader(), new Class[]{functionalType}, handler);
+		return (F) proxyType.newInstance(handler);
 	}
 
-
 	public Shrinkable<F> createConstantFunction(Shrinkable<R> shrinkableConstant) {
 		return shrinkableConstant.map(this::constantFunction);
 	}
 
 	private F constantFunction(R constant) {
 		InvocationHandler handler = (proxy, method, args) -> {
-			if (JqwikReflectionSupport.isEqualsMethod(method)) {
-				return handleEqualsMethod(proxy, args);
-			}
-			if (JqwikReflectionSupport.isToStringMethod(method)) {
-				return handleToStringOfConstantMethod(constant);
-			}
-			if (JqwikReflectionSupport.isHashCodeMethod(method)) {
-				return HashCodeSupport.hash(constant);
-			}
-			if (method.isDefault()) {
-				return handleDefaultMethod(proxy, method, args);
+			switch (proxyType.kindOf(method)) {
+				case EQUALS:
+					return handleEqualsMethod(proxy, args);
+				case TO_STRING:
+					return handleToStringOfConstantMethod(constant);
+				case HASH_CODE:
+					return HashCodeSupport.hash(constant);
+				case DEFAULT:
+					return proxyType.invokeDefaultMethod(method, proxy, args);
+				default:
+					Object conditionalResult = conditionalResult(args);
+					return conditionalResult == NO_CONDITION_APPLIES ? constant : conditionalResult;
 			}
-
-			return conditionalResult(args).orElse(new Object[]{constant})[0];
 		};
 		return createFunctionProxy(handler);
 	}
@@ -67,27 +70,20 @@ abstract class AbstractFunctionGenerator<F, R> implements RandomGenerator<F> {
 		);
 	}
 
-	// Returns result wrapped in array to allow null as result
-	protected Optional<Object[]> conditionalResult(Object[] args) {
-		Optional<Object[]> conditionalResult = Optional.empty();
+	/**
+	 * @return the result of the first condition that applies to {@code args} or {@linkplain #NO_CONDITION_APPLIES}
+	 */
+	protected Object conditionalResult(Object[] args) {
+		if (conditions.isEmpty()) {
+			return NO_CONDITION_APPLIES;
+		}
+		List<Object> params = args == null ? Collections.emptyList() : Arrays.asList(args);
 		for (Tuple2<Predicate<List<Object>>, Function<List<Object>, R>> condition : conditions) {
-			List<Object> params = Arrays.asList(args);
 			if (condition.get1().test(params)) {
-				Object[] result = new Object[]{condition.get2().apply(params)};
-				conditionalResult = Optional.of(result);
-				break;
+				return condition.get2().apply(params);
 			}
 		}
-		return conditionalResult;
-	}
-
-	protected Object handleDefaultMethod(Object proxy, Method method, Object[] args) throws Throwable {
-		MethodHandle handle = handleForDefaultMethod(method);
-		return handle.bindTo(proxy).invokeWithArguments(args);
-	}
-
-	protected MethodHandle handleForDefaultMethod(Method method) throws Throwable {
-		return new DefaultMethodHandleFactory().create(method);
+		return NO_CONDITION_APPLIES;
 	}
 
 }
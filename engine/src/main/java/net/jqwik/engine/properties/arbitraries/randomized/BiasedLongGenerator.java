@@ -0,0 +1,54 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.math.*;
+import java.util.*;
+
+/**
+ * Primitive counterpart of {@linkplain BiasedNumericGenerator} which uses the same partitions.
+ */
+class BiasedLongGenerator implements LongNumericGenerator {
+
+	private final LongNumericGenerator partitionedGenerator;
+
+	BiasedLongGenerator(int genSize, long min, long max, long center) {
+		List<BigInteger> partitionPoints = BiasedPartitionPointsCalculator.calculatePartitionPoints(
+			genSize,
+			BigInteger.valueOf(min),
+			BigInteger.valueOf(max),
+			BigInteger.valueOf(center)
+		);
+		this.partitionedGenerator = partitionedGenerator(min, max, partitionPoints);
+	}
+
+	@Override
+	public long next(Random random) {
+		return partitionedGenerator.next(random);
+	}
+
+	private static LongNumericGenerator partitionedGenerator(long min, long max, List<BigInteger> partitionPoints) {
+		if (partitionPoints.isEmpty()) {
+			return new UniformLongGenerator(min, max);
+		}
+		// A partition is drawn even if there is only one so that randomness is consumed like in BiasedNumericGenerator
+		LongNumericGenerator[] partitions = createPartitions(min, max, partitionPoints);
+		return random -> partitions[random.nextInt(partitions.length)].next(random);
+	}
+
+	private static LongNumericGenerator[] createPartitions(long min, long max, List<BigInteger> partitionPoints) {
+		long[] sortedPoints = partitionPoints.stream().mapToLong(BigInteger::longValueExact).sorted().toArray();
+		List<LongNumericGenerator> partitions = new ArrayList<>();
+		long lower = min;
+		for (long upper : sortedPoints) {
+			if (upper <= lower) {
+				continue;
+			}
+			if (upper >= max) {
+				break;
+			}
+			partitions.add(new UniformLongGenerator(lower, upper - 1));
+			lower = upper;
+		}
+		partitions.add(new UniformLongGenerator(lower, max));
+		return partitions.toArray(new LongNumericGenerator[0]);
+	}
+}
@@ -0,0 +1,19 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+
+/**
+ * A generator that can generate many values in one go, which allows to draw
+ * the underlying random numbers in a tight loop.
+ */
+interface BulkRandomGenerator<T> extends RandomGenerator<T> {
+
+	/**
+	 * Must generate values like calling {@linkplain #next(Random)} {@code count} times would.
+	 * The underlying random numbers may be drawn in a different order, though.
+	 */
+	List<Shrinkable<T>> next(Random random, int count);
+
+}
@@ -6,8 +6,6 @@ import java.util.function.*;
 import net.jqwik.api.*;
 import net.jqwik.engine.properties.*;
 
-import static net.jqwik.engine.properties.UniquenessChecker.*;
-
 class ContainerGenerator<T, C> implements RandomGenerator<C> {
 	private final RandomGenerator<T> elementGenerator;
 	private final Function<List<Shrinkable<T>>, Shrinkable<C>> createShrinkable;
@@ -53,21 +51,27 @@ class ContainerGenerator<T, C> implements RandomGenerator<C> {
 	@Override
 	public Shrinkable<C> next(Random random) {
 		int listSize = sizeGenerator.apply(random);
-		List<Shrinkable<T>> listOfShrinkables = new ArrayList<>();
 
 		// Raise probability for no duplicates even in large containers to approx 2 percent
 		boolean noDuplicates = listSize >= 2
 								   && listSize <= maxUniqueElements
 								   && uniquenessExtractors.isEmpty()
 								   && random.nextInt(100) <= 2;
+
+		if (!noDuplicates && uniquenessExtractors.isEmpty() && elementGenerator instanceof BulkRandomGenerator) {
+			// Every element is accepted, so all of them can be generated in one go
+			return createShrinkable.apply(((BulkRandomGenerator<T>) elementGenerator).next(random, listSize));
+		}
+
+		List<Shrinkable<T>> listOfShrinkables = new ArrayList<>();
 		int sizeToShuffleIfExceeded = Integer.MAX_VALUE;
 
-		boolean canUseSetForValues = uniquenessExtractors.isEmpty() || uniquenessExtractors.contains(FeatureExtractor.identity());
-		Collection<T> existingValues = canUseSetForValues ? new HashSet<>() : new ArrayList<>();
+		Set<T> existingValues = new HashSet<>();
+		FeatureCounts<T> existingFeatures = new FeatureCounts<>(uniquenessExtractors);
 
 		while (listOfShrinkables.size() < listSize) {
 			try {
-				Shrinkable<T> next = nextUntilAccepted(random, existingValues, elementGenerator::next, noDuplicates);
+				Shrinkable<T> next = nextUntilAccepted(random, existingValues, existingFeatures, elementGenerator::next, noDuplicates);
 				listOfShrinkables.add(next);
 			} catch (TooManyFilterMissesException tooManyFailedGenerationAttempts) {
 				// Switch off noDuplicates to enable generation of elements to proceed
@@ -100,7 +104,8 @@ class ContainerGenerator<T, C> implements RandomGenerator<C> {
 
 	private Shrinkable<T> nextUntilAccepted(
 		Random random,
-		Collection<T> existingValues,
+		Set<T> existingValues,
+		FeatureCounts<T> existingFeatures,
 		Function<Random, Shrinkable<T>> fetchShrinkable,
 		boolean noDuplicates
 	) {
@@ -110,18 +115,15 @@ class ContainerGenerator<T, C> implements RandomGenerator<C> {
 			if (noDuplicates && existingValues.contains(value)) {
 				continue;
 			}
-			if (!checkSpecifiedUniqueness(existingValues, value)) {
+			if (!existingFeatures.isUnique(value)) {
 				continue;
 			}
 			existingValues.add(value);
+			existingFeatures.add(value);
 			return next;
 		}
 		String message = String.format("Trying to fulfill uniqueness constraint missed more than %s times.", maxAttempts);
 		throw new TooManyFilterMissesException(message);
 	}
 
-	private boolean checkSpecifiedUniqueness(Collection<T> elements, T value) {
-		return checkValueUniqueIn(uniquenessExtractors, value, elements);
-	}
-
 }
@@ -1,20 +1,56 @@
 package net.jqwik.engine.properties.arbitraries.randomized;
 
 import java.util.*;
+import java.util.concurrent.atomic.*;
 import java.util.function.*;
+import java.util.logging.*;
 
 import net.jqwik.api.*;
+import net.jqwik.engine.*;
 import net.jqwik.engine.properties.shrinking.*;
 
+/**
+ * Keeps track of how many generated values are accepted by the filter.
+ * Filtered generators are memoized per property and never pooled across properties,
+ * so the counts of a memoized generator cover a single property run.
+ * Counts are thread safe since a generator can be used concurrently, e.g. when sampling values in parallel.
+ *
+ * <p>
+ * Generation fails early once more than {@code maxMisses} attempts per accepted value
+ * have been needed on average, because then most further values would not be found within {@code maxMisses} attempts.
+ * A warning is logged once the acceptance rate falls below the configured warning threshold.
+ * </p>
+ */
 public class FilteredGenerator<T> implements RandomGenerator<T> {
+
+	private static final Logger LOG = Logger.getLogger(FilteredGenerator.class.getName());
+
+	// Acceptance rate is not checked for warnings before that many values have been generated
+	private static final int MIN_ATTEMPTS_BEFORE_WARNING = 1000;
+
+	private static final int MIN_ACCEPTED_BEFORE_FAILING_EARLY = 5;
+
 	private final RandomGenerator<T> toFilter;
 	private final Predicate<T> filterPredicate;
-	private int maxMisses;
+	private final int maxMisses;
+	private final double warnBelow;
+
+	private final AtomicLong attempts = new AtomicLong(0);
+	private final AtomicLong accepted = new AtomicLong(0);
+	private final AtomicBoolean warningLogged = new AtomicBoolean(false);
 
 	public FilteredGenerator(RandomGenerator<T> toFilter, Predicate<T> filterPredicate, int maxMisses) {
+		this(toFilter, filterPredicate, maxMisses, JqwikProperties.DEFAULT_FILTER_WARNING_THRESHOLD);
+	}
+
+	/**
+	 * @param warnBelow acceptance rate below which a warning is logged; 0 switches off warnings
+	 */
+	public FilteredGenerator(RandomGenerator<T> toFilter, Predicate<T> filterPredicate, int maxMisses, double warnBelow) {
 		this.toFilter = toFilter;
 		this.filterPredicate = filterPredicate;
 		this.maxMisses = maxMisses;
+		this.warnBelow = warnBelow;
 	}
 
 	@Override
@@ -22,6 +58,10 @@ public class FilteredGenerator<T> implements RandomGenerator<T> {
 		return nextUntilAccepted(random, toFilter::next);
 	}
 
+	private static double acceptanceRate(long accepted, long attempts) {
+		return attempts == 0 ? 1.0 : (double) accepted / attempts;
+	}
+
 	@Override
 	public String toString() {
 		return String.format("Filtering [%s]", toFilter);
@@ -30,12 +70,51 @@ public class FilteredGenerator<T> implements RandomGenerator<T> {
 	private Shrinkable<T> nextUntilAccepted(Random random, Function<Random, Shrinkable<T>> fetchShrinkable) {
 		for (int i = 0; i < maxMisses; i++) {
 			Shrinkable<T> value = fetchShrinkable.apply(random);
+			long currentAttempts = attempts.incrementAndGet();
 			if (filterPredicate.test(value.value())) {
+				long currentAccepted = accepted.incrementAndGet();
+				maybeWarnOnLowAcceptance(currentAccepted, currentAttempts);
 				return new FilteredShrinkable<>(value, filterPredicate);
 			}
+			long currentAccepted = accepted.get();
+			if (maxMissesUnreachable(currentAccepted, currentAttempts)) {
+				String message = String.format(
+					"%s accepted only %s of %s generated values (%s), which is less than one in %s attempts.",
+					toString(), currentAccepted, currentAttempts, formatRate(currentAccepted, currentAttempts), maxMisses
+				);
+				throw new TooManyFilterMissesException(message);
+			}
 		}
-		String message = String.format("%s missed more than %s times.", toString(), maxMisses);
+		long currentAccepted = accepted.get();
+		long currentAttempts = attempts.get();
+		String message = String.format(
+			"%s missed more than %s times. Acceptance rate: %s (%s of %s).",
+			toString(), maxMisses, formatRate(currentAccepted, currentAttempts), currentAccepted, currentAttempts
+		);
 		throw new TooManyFilterMissesException(message);
 	}
 
+	// On average more than maxMisses attempts have been needed per accepted value.
+	// Requiring a few accepted values before that keeps a single unlucky streak from failing early.
+	private boolean maxMissesUnreachable(long accepted, long attempts) {
+		return accepted >= MIN_ACCEPTED_BEFORE_FAILING_EARLY && attempts > accepted * maxMisses;
+	}
+
+	private void maybeWarnOnLowAcceptance(long accepted, long attempts) {
+		if (warningLogged.get() || attempts < MIN_ATTEMPTS_BEFORE_WARNING) {
+			return;
+		}
+		if (acceptanceRate(accepted, attempts) < warnBelow && warningLogged.compareAndSet(false, true)) {
+			String message = String.format(
+				"%s accepts only %s of generated values. Consider generating values in a way that requires less filtering.",
+				toString(), formatRate(accepted, attempts)
+			);
+			LOG.warning(message);
+		}
+	}
+
+	private static String formatRate(long accepted, long attempts) {
+		return String.format("%.4f%%", acceptanceRate(accepted, attempts) * 100);
+	}
+
 }
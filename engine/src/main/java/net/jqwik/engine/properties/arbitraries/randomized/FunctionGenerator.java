@@ -13,8 +13,6 @@ import net.jqwik.engine.support.*;
 
 public class FunctionGenerator<F, R> extends AbstractFunctionGenerator<F, R> {
 
-	private final AtomicReference<Shrinkable<R>> lastResult = new AtomicReference<>();
-
 	public FunctionGenerator(
 		Class<F> functionalType,
 		RandomGenerator<R> resultGenerator,
@@ -25,30 +23,33 @@ public class FunctionGenerator<F, R> extends AbstractFunctionGenerator<F, R> {
 
 	@Override
 	public Shrinkable<F> next(Random random) {
-		return new ShrinkableFunction(createFunction(random));
+		// Each function remembers its own last result so that shrinking does not depend on other functions
+		AtomicReference<Shrinkable<R>> lastResult = new AtomicReference<>();
+		return new ShrinkableFunction(createFunction(random, lastResult), lastResult);
 	}
 
-	private F createFunction(Random random) {
+	private F createFunction(Random random, AtomicReference<Shrinkable<R>> lastResult) {
 		long baseSeed = random.nextLong();
 		InvocationHandler handler = (proxy, method, args) -> {
-			if (JqwikReflectionSupport.isEqualsMethod(method)) {
-				return handleEqualsMethod(proxy, args);
-			}
-			if (JqwikReflectionSupport.isToStringMethod(method)) {
-				return handleToString(baseSeed);
-			}
-			if (JqwikReflectionSupport.isHashCodeMethod(method)) {
-				return handleHashCode((int) baseSeed);
+			switch (proxyType.kindOf(method)) {
+				case EQUALS:
+					return handleEqualsMethod(proxy, args);
+				case TO_STRING:
+					return handleToString(baseSeed);
+				case HASH_CODE:
+					return handleHashCode((int) baseSeed);
+				case DEFAULT:
+					return proxyType.invokeDefaultMethod(method, proxy, args);
+				default:
+					Object conditionalResult = conditionalResult(args);
+					if (conditionalResult != NO_CONDITION_APPLIES) {
+						return conditionalResult;
+					}
+					Random randomForArgs = SourceOfRandomness.newRandom(seedForArgs(baseSeed, args));
+					Shrinkable<R> shrinkableResult = resultGenerator.next(randomForArgs);
+					lastResult.set(shrinkableResult);
+					return shrinkableResult.value();
 			}
-			if (method.isDefault()) {
-				return handleDefaultMethod(proxy, method, args);
-			}
-			return conditionalResult(args).orElseGet(() -> {
-				Random randomForArgs = SourceOfRandomness.newRandom(seedForArgs(baseSeed, args));
-				Shrinkable<R> shrinkableResult = resultGenerator.next(randomForArgs);
-				storeLastResult(shrinkableResult);
-				return new Object[]{shrinkableResult.value()};
-			})[0];
 		};
 		return createFunctionProxy(handler);
 	}
@@ -65,10 +66,6 @@ public class FunctionGenerator<F, R> extends AbstractFunctionGenerator<F, R> {
 		);
 	}
 
-	private void storeLastResult(Shrinkable<R> result) {
-		lastResult.set(result);
-	}
-
 	private long seedForArgs(long baseSeed, Object[] args) {
 		long seed = baseSeed;
 		if (args != null) {
@@ -85,9 +82,11 @@ public class FunctionGenerator<F, R> extends AbstractFunctionGenerator<F, R> {
 	private class ShrinkableFunction implements Shrinkable<F> {
 
 		private final F value;
+		private final AtomicReference<Shrinkable<R>> lastResult;
 
-		private ShrinkableFunction(F function) {
+		private ShrinkableFunction(F function, AtomicReference<Shrinkable<R>> lastResult) {
 			value = function;
+			this.lastResult = lastResult;
 		}
 
 		@Override
@@ -97,10 +96,11 @@ public class FunctionGenerator<F, R> extends AbstractFunctionGenerator<F, R> {
 
 		@Override
 		public Stream<Shrinkable<F>> shrink() {
-			if (lastResult.get() == null) {
+			Shrinkable<R> result = lastResult.get();
+			if (result == null) {
 				return Stream.empty();
 			}
-			Shrinkable<F> constantFunction = createConstantFunction(lastResult.get());
+			Shrinkable<F> constantFunction = createConstantFunction(result);
 			return Stream.of(constantFunction);
 		}
 
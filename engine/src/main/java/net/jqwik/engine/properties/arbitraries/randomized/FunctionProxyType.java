@@ -0,0 +1,109 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.lang.invoke.*;
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import net.jqwik.engine.support.*;
+
+/**
+ * Everything about a functional type that generated functions need when they are created or invoked:
+ * the proxy class's constructor, how to dispatch a method and handles for default methods.
+ * It is computed once per functional type and kept in a {@linkplain ClassValue}
+ * so that invoking a generated function does not need reflective lookups.
+ */
+class FunctionProxyType {
+
+	enum MethodKind {
+		FUNCTION,
+		EQUALS,
+		HASH_CODE,
+		TO_STRING,
+		DEFAULT
+	}
+
+	private static final ClassValue<FunctionProxyType> PROXY_TYPES = new ClassValue<FunctionProxyType>() {
+		@Override
+		protected FunctionProxyType computeValue(Class<?> functionalType) {
+			return new FunctionProxyType(functionalType);
+		}
+	};
+
+	static FunctionProxyType of(Class<?> functionalType) {
+		return PROXY_TYPES.get(functionalType);
+	}
+
+	private final Class<?> functionalType;
+	private final Constructor<?> proxyConstructor;
+	private final Map<Method, MethodHandle> defaultMethodHandles = new ConcurrentHashMap<>();
+
+	private FunctionProxyType(Class<?> functionalType) {
+		this.functionalType = functionalType;
+		this.proxyConstructor = findProxyConstructor(functionalType);
+	}
+
+	// Proxy classes of non-public interfaces are not public, so their constructor may not be accessible.
+	// Proxy.newProxyInstance() is used in that case.
+	private static Constructor<?> findProxyConstructor(Class<?> functionalType) {
+		InvocationHandler unused = (proxy, method, args) -> null;
+		Class<?> proxyClass = Proxy.newProxyInstance(functionalType.getClassLoader(), new Class[]{functionalType}, unused).getClass();
+		try {
+			Constructor<?> constructor = proxyClass.getConstructor(InvocationHandler.class);
+			constructor.setAccessible(true);
+			return constructor;
+		} catch (NoSuchMethodException | RuntimeException cannotBeAccessed) {
+			return null;
+		}
+	}
+
+	Object newInstance(InvocationHandler handler) {
+		if (proxyConstructor == null) {
+			return Proxy.newProxyInstance(functionalType.getClassLoader(), new Class[]{functionalType}, handler);
+		}
+		try {
+			return proxyConstructor.newInstance(handler);
+		} catch (InvocationTargetException e) {
+			return JqwikExceptionSupport.throwAsUncheckedException(e.getCause());
+		} catch (ReflectiveOperationException e) {
+			return JqwikExceptionSupport.throwAsUncheckedException(e);
+		}
+	}
+
+	/**
+	 * Proxies hand over the methods of {@linkplain Object} for equals, hashCode and toString,
+	 * even if a functional type redeclares them.
+	 */
+	MethodKind kindOf(Method method) {
+		if (method.getDeclaringClass() == Object.class) {
+			switch (method.getName()) {
+				case "equals":
+					return MethodKind.EQUALS;
+				case "hashCode":
+					return MethodKind.HASH_CODE;
+				case "toString":
+					return MethodKind.TO_STRING;
+			}
+		}
+		if (method.isDefault()) {
+			return MethodKind.DEFAULT;
+		}
+		return MethodKind.FUNCTION;
+	}
+
+	Object invokeDefaultMethod(Method method, Object proxy, Object[] args) throws Throwable {
+		MethodHandle handle = defaultMethodHandles.computeIfAbsent(method, FunctionProxyType::spreadingHandle);
+		return (Object) handle.invokeExact(proxy, args);
+	}
+
+	// The handle takes the proxy and an array of arguments, which might be null for methods without parameters
+	private static MethodHandle spreadingHandle(Method method) {
+		try {
+			MethodHandle handle = new DefaultMethodHandleFactory().create(method);
+			return handle.asType(handle.type().generic())
+						 .asSpreader(Object[].class, method.getParameterCount());
+		} catch (Throwable throwable) {
+			return JqwikExceptionSupport.throwAsUncheckedException(throwable);
+		}
+	}
+}
@@ -0,0 +1,50 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.util.*;
+
+/**
+ * Primitive counterpart of {@linkplain GaussianNumericGenerator}.
+ * Only usable if {@code max - min} does not overflow.
+ *
+ * <p>
+ * Since offsets from center are calculated with double precision instead of BigDecimal,
+ * generated values can differ by one from those of {@linkplain GaussianNumericGenerator} in rare cases.
+ * </p>
+ */
+class GaussianLongGenerator implements LongNumericGenerator {
+
+	private final double borderSigma;
+	private final long center;
+	private final long leftRange;
+	private final long rightRange;
+
+	GaussianLongGenerator(double borderSigma, long min, long max, long center) {
+		this.borderSigma = borderSigma;
+		this.center = center;
+		this.leftRange = center - min;
+		this.rightRange = max - center;
+	}
+
+	@Override
+	public long next(Random random) {
+		while (true) {
+			double gaussianFactor = random.nextGaussian() / borderSigma;
+			long value = center;
+			if (gaussianFactor < 0.0 && leftRange > 0) {
+				long offset = (long) (leftRange * Math.abs(gaussianFactor));
+				if (offset > leftRange) {
+					continue;
+				}
+				value = center - offset;
+			}
+			if (gaussianFactor > 0.0 && rightRange > 0) {
+				long offset = (long) (rightRange * Math.abs(gaussianFactor));
+				if (offset > rightRange) {
+					continue;
+				}
+				value = center + offset;
+			}
+			return value;
+		}
+	}
+}
@@ -15,6 +15,10 @@ public class GaussianRandomDistribution implements RandomDistribution {
 		this.borderSigma = borderSigma;
 	}
 
+	double borderSigma() {
+		return borderSigma;
+	}
+
 	@Override
 	public RandomNumericGenerator createGenerator(int genSize, BigInteger min, BigInteger max, BigInteger center) {
 		return new GaussianNumericGenerator(borderSigma, min, max, center);
@@ -0,0 +1,22 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.util.*;
+
+/**
+ * Primitive counterpart of {@linkplain net.jqwik.api.RandomDistribution.RandomNumericGenerator}
+ * for integral values within the range of long.
+ */
+interface LongNumericGenerator {
+
+	long next(Random random);
+
+	/**
+	 * Fill {@code values} with the same values that repeated calls to {@linkplain #next(Random)} would generate.
+	 */
+	default void next(Random random, long[] values) {
+		for (int i = 0; i < values.length; i++) {
+			values[i] = next(random);
+		}
+	}
+
+}
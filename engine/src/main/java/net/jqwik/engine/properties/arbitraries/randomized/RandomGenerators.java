@@ -52,18 +52,25 @@ public class RandomGenerators {
 	}
 
 	public static RandomGenerator<Character> chars(char min, char max) {
-		return integers(min, max).map(anInt -> ((char) (int) anInt));
+		return integrals(min, max, defaultShrinkingTarget(min, max), RandomDistribution.uniform(), aLong -> (char) aLong);
 	}
 
 	public static RandomGenerator<Integer> integers(int min, int max) {
-		BigInteger minBig = BigInteger.valueOf(min);
-		BigInteger maxBig = BigInteger.valueOf(max);
-		return bigIntegers(
-				minBig,
-				maxBig,
-				RandomIntegralGenerators.defaultShrinkingTarget(Range.of(minBig, maxBig)),
-				RandomDistribution.uniform()
-		).map(BigInteger::intValueExact);
+		return integrals(min, max, defaultShrinkingTarget(min, max), RandomDistribution.uniform(), aLong -> (int) aLong);
+	}
+
+	private static long defaultShrinkingTarget(long min, long max) {
+		return RandomIntegralGenerators.defaultShrinkingTarget(Range.of(BigInteger.valueOf(min), BigInteger.valueOf(max))).longValueExact();
+	}
+
+	public static <T> RandomGenerator<T> integrals(
+			long min,
+			long max,
+			long shrinkingTarget,
+			RandomDistribution distribution,
+			LongFunction<T> fromLong
+	) {
+		return RandomIntegralGenerators.integrals(1000, min, max, shrinkingTarget, distribution, fromLong);
 	}
 
 	public static RandomGenerator<BigInteger> bigIntegers(
@@ -190,6 +197,9 @@ public class RandomGenerators {
 		if (edgeCases.isEmpty()) {
 			return self;
 		}
+		if (self instanceof BulkRandomGenerator) {
+			return new WithEdgeCasesGenerator.Bulk<>((BulkRandomGenerator<T>) self, edgeCases, genSize);
+		}
 		return new WithEdgeCasesGenerator<>(self, edgeCases, genSize);
 	}
 
@@ -1,6 +1,8 @@
 package net.jqwik.engine.properties.arbitraries.randomized;
 
 import java.math.*;
+import java.util.*;
+import java.util.function.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.RandomDistribution.*;
@@ -37,6 +39,85 @@ public class RandomIntegralGenerators {
 		};
 	}
 
+	/**
+	 * Generates integral values within long's range without creating BigIntegers.
+	 * For the distributions provided by jqwik the same values as with
+	 * {@linkplain #bigIntegers(int, BigInteger, BigInteger, BigInteger, RandomDistribution)} are generated.
+	 */
+	public static <T> RandomGenerator<T> integrals(
+		int genSize,
+		long min,
+		long max,
+		long shrinkingTarget,
+		RandomDistribution distribution,
+		LongFunction<T> fromLong
+	) {
+		if (shrinkingTarget < min || shrinkingTarget > max) {
+			String message = String.format("Shrinking target <%s> is outside allowed range %s", shrinkingTarget, Range.of(min, max));
+			throw new JqwikException(message);
+		}
+
+		if (min == max) {
+			T value = fromLong.apply(min);
+			return ignored -> Shrinkable.unshrinkable(value);
+		}
+
+		LongNumericGenerator numericGenerator = longGenerator(genSize, min, max, shrinkingTarget, distribution);
+		LongFunction<Shrinkable<T>> createShrinkable = ShrinkableIntegral.creator(min, max, shrinkingTarget, fromLong);
+
+		return new IntegralGenerator<>(numericGenerator, createShrinkable);
+	}
+
+	private static LongNumericGenerator longGenerator(
+		int genSize,
+		long min,
+		long max,
+		long center,
+		RandomDistribution distribution
+	) {
+		if (distribution instanceof UniformRandomDistribution) {
+			return new UniformLongGenerator(min, max);
+		}
+		if (distribution instanceof BiasedRandomDistribution) {
+			return new BiasedLongGenerator(genSize, min, max, center);
+		}
+		boolean rangeFitsInLong = max - min >= 0;
+		if (distribution instanceof GaussianRandomDistribution && rangeFitsInLong) {
+			double borderSigma = ((GaussianRandomDistribution) distribution).borderSigma();
+			return new GaussianLongGenerator(borderSigma, min, max, center);
+		}
+		RandomNumericGenerator bigIntegerGenerator =
+			distribution.createGenerator(genSize, BigInteger.valueOf(min), BigInteger.valueOf(max), BigInteger.valueOf(center));
+		return random -> bigIntegerGenerator.next(random).longValueExact();
+	}
+
+	private static class IntegralGenerator<T> implements BulkRandomGenerator<T> {
+
+		private final LongNumericGenerator numericGenerator;
+		private final LongFunction<Shrinkable<T>> createShrinkable;
+
+		private IntegralGenerator(LongNumericGenerator numericGenerator, LongFunction<Shrinkable<T>> createShrinkable) {
+			this.numericGenerator = numericGenerator;
+			this.createShrinkable = createShrinkable;
+		}
+
+		@Override
+		public Shrinkable<T> next(Random random) {
+			return createShrinkable.apply(numericGenerator.next(random));
+		}
+
+		@Override
+		public List<Shrinkable<T>> next(Random random, int count) {
+			long[] values = new long[count];
+			numericGenerator.next(random, values);
+			List<Shrinkable<T>> shrinkables = new ArrayList<>(count);
+			for (long value : values) {
+				shrinkables.add(createShrinkable.apply(value));
+			}
+			return shrinkables;
+		}
+	}
+
 	private static void checkTargetInRange(Range<BigInteger> range, BigInteger value) {
 		if (!range.includes(value)) {
 			String message = String.format("Shrinking target <%s> is outside allowed range %s", value, range);
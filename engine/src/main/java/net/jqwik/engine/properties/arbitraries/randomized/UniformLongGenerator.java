@@ -0,0 +1,73 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.util.*;
+
+import net.jqwik.engine.*;
+
+/**
+ * Generates the same values as {@linkplain SmallUniformNumericGenerator} and {@linkplain BigUniformNumericGenerator}
+ * for the same source of randomness but without creating BigIntegers.
+ *
+ * <p>
+ * Other than {@linkplain SmallUniformNumericGenerator} it can also generate values from int ranges
+ * that are larger than {@code Integer.MAX_VALUE}.
+ * </p>
+ */
+class UniformLongGenerator implements LongNumericGenerator {
+
+	private final long min;
+	private final long range;
+	private final int bits;
+	private final boolean isSmall;
+
+	UniformLongGenerator(long min, long max) {
+		this.min = min;
+		this.range = max - min; // interpreted as unsigned long
+		this.bits = 64 - Long.numberOfLeadingZeros(range);
+		this.isSmall = min >= Integer.MIN_VALUE && max <= Integer.MAX_VALUE
+						   && Long.compareUnsigned(range, Integer.MAX_VALUE) < 0;
+	}
+
+	@Override
+	public long next(Random random) {
+		if (isSmall) {
+			return random.nextInt((int) range + 1) + min;
+		}
+		while (true) {
+			long rawValue = randomBits(random);
+			if (Long.compareUnsigned(rawValue, range) <= 0) {
+				return min + rawValue;
+			}
+		}
+	}
+
+	@Override
+	public void next(Random random, long[] values) {
+		if (!isSmall) {
+			LongNumericGenerator.super.next(random, values);
+			return;
+		}
+		int[] rawValues = new int[values.length];
+		SourceOfRandomness.nextInts(random, rawValues, (int) range + 1);
+		for (int i = 0; i < values.length; i++) {
+			values[i] = rawValues[i] + min;
+		}
+	}
+
+	// Consumes randomness exactly like new BigInteger(bits, random)
+	private long randomBits(Random random) {
+		int numberOfBytes = (bits + 7) / 8;
+		if (numberOfBytes == 0) {
+			return 0L;
+		}
+		byte[] bytes = new byte[numberOfBytes];
+		random.nextBytes(bytes);
+		int excessBits = 8 * numberOfBytes - bits;
+		bytes[0] &= (byte) ((1 << (8 - excessBits)) - 1);
+		long value = 0L;
+		for (byte b : bytes) {
+			value = (value << 8) | (b & 0xff);
+		}
+		return value;
+	}
+}
@@ -20,13 +20,21 @@ class WithEdgeCasesGenerator<T> implements RandomGenerator<T> {
 
 	@Override
 	public Shrinkable<T> next(final Random random) {
-		if (random.nextInt(baseToEdgeCaseRatio) == 0) {
-			return edgeCasesGenerator.next(random);
+		if (isEdgeCase(random)) {
+			return nextEdgeCase(random);
 		} else {
 			return base.next(random);
 		}
 	}
 
+	boolean isEdgeCase(Random random) {
+		return random.nextInt(baseToEdgeCaseRatio) == 0;
+	}
+
+	Shrinkable<T> nextEdgeCase(Random random) {
+		return edgeCasesGenerator.next(random);
+	}
+
 	private static <T> RandomGenerator<T> chooseEdgeCase(EdgeCases<T> edgeCases) {
 		final List<Supplier<Shrinkable<T>>> suppliers = edgeCases.suppliers();
 		return random -> RandomGenerators.chooseValue(suppliers, random).get();
@@ -36,4 +44,36 @@ class WithEdgeCasesGenerator<T> implements RandomGenerator<T> {
 		return EdgeCasesGenerator.calculateBaseToEdgeCaseRatio(genSize, countEdgeCases);
 	}
 
+	/**
+	 * Keeps bulk generation of the base generator, e.g. for the elements of a container.
+	 * Which values are edge cases is decided first, then all other values are generated in one go.
+	 */
+	static class Bulk<T> extends WithEdgeCasesGenerator<T> implements BulkRandomGenerator<T> {
+
+		private final BulkRandomGenerator<T> bulkBase;
+
+		Bulk(BulkRandomGenerator<T> base, EdgeCases<T> edgeCases, int genSize) {
+			super(base, edgeCases, genSize);
+			this.bulkBase = base;
+		}
+
+		@Override
+		public List<Shrinkable<T>> next(Random random, int count) {
+			boolean[] edgeCaseAt = new boolean[count];
+			int countBaseValues = 0;
+			for (int i = 0; i < count; i++) {
+				edgeCaseAt[i] = isEdgeCase(random);
+				if (!edgeCaseAt[i]) {
+					countBaseValues++;
+				}
+			}
+			Iterator<Shrinkable<T>> baseValues = bulkBase.next(random, countBaseValues).iterator();
+			List<Shrinkable<T>> shrinkables = new ArrayList<>(count);
+			for (boolean isEdgeCase : edgeCaseAt) {
+				shrinkables.add(isEdgeCase ? nextEdgeCase(random) : baseValues.next());
+			}
+			return shrinkables;
+		}
+	}
+
 }
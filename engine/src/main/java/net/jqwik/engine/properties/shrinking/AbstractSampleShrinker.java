@@ -15,10 +15,12 @@ abstract class AbstractSampleShrinker {
 		return ShrinkingDistance.forCollection(shrinkables);
 	}
 
-	private final Map<List<Object>, TryExecutionResult> falsificationCache;
+	private final FalsificationCache falsificationCache;
+	private final FalsificationExecutor falsificationExecutor;
 
-	public AbstractSampleShrinker(Map<List<Object>, TryExecutionResult> falsificationCache) {
+	public AbstractSampleShrinker(FalsificationCache falsificationCache, FalsificationExecutor falsificationExecutor) {
 		this.falsificationCache = falsificationCache;
+		this.falsificationExecutor = falsificationExecutor;
 	}
 
 	public abstract FalsifiedSample shrink(
@@ -44,23 +46,19 @@ abstract class AbstractSampleShrinker {
 
 			FalsifiedSample currentBest = bestResult.orElse(null);
 
-			Optional<Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult>> newShrinkingResult =
+			Iterator<List<Shrinkable<Object>>> candidates =
 				supplyShrinkCandidates.apply(currentShrinkBase)
-								 .peek(ignore -> shrinkAttemptConsumer.accept(currentBest))
-								 .filter(shrinkables -> calculateDistance(shrinkables).compareTo(currentDistance) <= 0)
-								 .map(shrinkables -> {
-									 List<Object> params = createValues(shrinkables).collect(Collectors.toList());
-									 TryExecutionResult result = falsify(falsifier, params);
-									 return Tuple.of(params, shrinkables, result);
-								 })
-								 .peek(t -> {
-									 // Remember best 10 invalid results in case no  falsified shrink is found
-									 if (t.get3().isInvalid() && calculateDistance(t.get2()).compareTo(currentDistance) < 0) {
-										 filteredResults.push(t);
-									 }
-								 })
-								 .filter(t -> t.get3().isFalsified())
-								 .findAny();
+									  .peek(ignore -> shrinkAttemptConsumer.accept(currentBest))
+									  .filter(shrinkables -> calculateDistance(shrinkables).compareTo(currentDistance) <= 0)
+									  .iterator();
+
+			Optional<Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult>> newShrinkingResult =
+				falsificationExecutor.firstFalsified(candidates, falsifier, falsificationCache, t -> {
+					// Remember best 10 invalid results in case no  falsified shrink is found
+					if (t.get3().isInvalid() && calculateDistance(t.get2()).compareTo(currentDistance) < 0) {
+						filteredResults.push(t);
+					}
+				});
 
 			if (newShrinkingResult.isPresent()) {
 				Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult> falsifiedTry = newShrinkingResult.get();
@@ -86,15 +84,6 @@ abstract class AbstractSampleShrinker {
 		return bestResult.orElse(sample);
 	}
 
-	private TryExecutionResult falsify(Falsifier<List<Object>> falsifier, List<Object> params) {
-		// I wonder in which cases this is really an optimization
-		return falsificationCache.computeIfAbsent(params, p -> falsifier.execute(params));
-	}
-
-	private Stream<Object> createValues(List<Shrinkable<Object>> shrinkables) {
-		return shrinkables.stream().map(Shrinkable::value);
-	}
-
 	private static class FilteredResults {
 
 		public static final int MAX_SIZE = 100;
@@ -3,8 +3,12 @@ package net.jqwik.engine.properties.shrinking;
 import java.util.*;
 import java.util.stream.*;
 
-import net.jqwik.engine.support.*;
+import net.jqwik.api.*;
+import net.jqwik.api.Tuple.*;
 
+/**
+ * Candidates are created lazily and come in order of ascending size.
+ */
 public class AggressiveSizeOfListShrinker<T> {
 
 	private final int minSize;
@@ -17,50 +21,43 @@ public class AggressiveSizeOfListShrinker<T> {
 		if (toShrink.size() <= minSize) {
 			return Stream.empty();
 		}
-		return JqwikStreamSupport.concat(
-			cutsToMinsize(toShrink),
-			cutsToMinsizePlus1(toShrink),
-			cutInHalves(toShrink)
-		).filter(l -> l.size() >= minSize);
+		Set<Tuple2<Integer, Integer>> rangesToKeep = new LinkedHashSet<>();
+		addCutsToMinsize(toShrink, rangesToKeep);
+		addCutsToMinsizePlus1(toShrink, rangesToKeep);
+		addCutInHalves(toShrink, rangesToKeep);
+		return rangesToKeep.stream().map(range -> new ArrayList<>(toShrink.subList(range.get1(), range.get2())));
 	}
 
-	public Stream<List<T>> cutsToMinsize(List<T> toShrink) {
-		Set<List<T>> lists = new LinkedHashSet<>();
-		appendLeftCut(toShrink, lists, minSize);
-		appendRightCut(toShrink, lists, minSize);
-		return lists.stream();
+	private void addCutsToMinsize(List<T> toShrink, Set<Tuple2<Integer, Integer>> rangesToKeep) {
+		addLeftCut(rangesToKeep, minSize);
+		addRightCut(toShrink, rangesToKeep, minSize);
 	}
 
-	public Stream<List<T>> cutsToMinsizePlus1(List<T> toShrink) {
+	private void addCutsToMinsizePlus1(List<T> toShrink, Set<Tuple2<Integer, Integer>> rangesToKeep) {
 		if (toShrink.size() <= minSize + 1) {
-			return Stream.empty();
+			return;
 		}
-		Set<List<T>> lists = new LinkedHashSet<>();
-		appendLeftCut(toShrink, lists, minSize + 1);
-		appendRightCut(toShrink, lists, minSize + 1);
-		return lists.stream();
+		addLeftCut(rangesToKeep, minSize + 1);
+		addRightCut(toShrink, rangesToKeep, minSize + 1);
 	}
 
-	public Stream<List<T>> cutInHalves(List<T> toShrink) {
+	private void addCutInHalves(List<T> toShrink, Set<Tuple2<Integer, Integer>> rangesToKeep) {
 		int halfSize = toShrink.size() / 2;
 		if (halfSize < minSize) {
-			return Stream.empty();
+			return;
 		}
-		Set<List<T>> lists = new LinkedHashSet<>();
-		appendLeftCut(toShrink, lists, halfSize);
-		appendRightCut(toShrink, lists, toShrink.size() - halfSize);
-		return lists.stream();
+		addLeftCut(rangesToKeep, halfSize);
+		addRightCut(toShrink, rangesToKeep, toShrink.size() - halfSize);
 	}
 
-	private void appendLeftCut(List<T> toShrink, Set<List<T>> lists, int elementsToKeep) {
-		List<T> cut = new ArrayList<>(toShrink);
-		lists.add(cut.subList(0, elementsToKeep));
+	private void addLeftCut(Set<Tuple2<Integer, Integer>> rangesToKeep, int elementsToKeep) {
+		rangesToKeep.add(Tuple.of(0, elementsToKeep));
 	}
 
-	private void appendRightCut(List<T> toShrink, Set<List<T>> lists, int elementsToKeep) {
-		List<T> cut = new ArrayList<>(toShrink);
-		int elementsToCut = toShrink.size() - elementsToKeep;
-		lists.add(cut.subList(elementsToCut, toShrink.size()));
+	private void addRightCut(List<T> toShrink, Set<Tuple2<Integer, Integer>> rangesToKeep, int elementsToKeep) {
+		// All empty ranges are the same
+		int start = elementsToKeep == 0 ? 0 : toShrink.size() - elementsToKeep;
+		rangesToKeep.add(Tuple.of(start, start + elementsToKeep));
 	}
 
 }
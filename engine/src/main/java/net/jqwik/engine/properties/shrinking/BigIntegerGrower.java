@@ -62,6 +62,9 @@ class BigIntegerGrower {
 		if (value instanceof Byte) {
 			return ((Byte) value).longValue();
 		}
+		if (value instanceof Character) {
+			return (Character) value;
+		}
 		return 0L;
 	}
 
@@ -10,6 +10,7 @@ import net.jqwik.engine.support.*;
 public class CombinedShrinkable<T> implements Shrinkable<T> {
 	private final List<Shrinkable<Object>> parts;
 	private final Function<List<Object>, T> combinator;
+	private volatile int hash;
 
 	public CombinedShrinkable(List<Shrinkable<Object>> parts, Function<List<Object>, T> combinator) {
 		this.parts = parts;
@@ -59,4 +60,24 @@ public class CombinedShrinkable<T> implements Shrinkable<T> {
 		return ShrinkingDistance.combine(parts);
 	}
 
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		CombinedShrinkable<?> that = (CombinedShrinkable<?>) o;
+		if (combinator != that.combinator) return false;
+		if (hashCode() != that.hashCode()) return false;
+		return parts.equals(that.parts);
+	}
+
+	@Override
+	public int hashCode() {
+		int h = hash;
+		if (h == 0) {
+			h = parts.hashCode();
+			hash = h;
+		}
+		return h;
+	}
+
 }
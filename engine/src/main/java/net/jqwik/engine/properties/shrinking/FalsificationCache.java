@@ -0,0 +1,171 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.lifecycle.*;
+
+/**
+ * Remembers the results of falsifying parameter lists during shrinking.
+ *
+ * <p>
+ * Entries are looked up by a cheap structural fingerprint of the parameters
+ * which only looks at sizes and a few sampled elements of lists and strings.
+ * Full equality of parameters is only checked if fingerprints are equal.
+ * The least recently used entry is evicted as soon as {@code maxSize} is exceeded.
+ * </p>
+ *
+ * <p>
+ * Results of parameters that were not in the cache are handed to {@code executionRecorder}
+ * in the order in which they were added. Cached results are not recorded.
+ * </p>
+ */
+class FalsificationCache {
+
+	public static final int DEFAULT_MAX_SIZE = 10000;
+
+	private static final int SAMPLED_ELEMENTS = 8;
+	private static final int MAX_FINGERPRINT_DEPTH = 2;
+
+	private final Map<Key, TryExecutionResult> results;
+	private final Consumer<TryExecutionResult> executionRecorder;
+	private int hits = 0;
+	private int misses = 0;
+
+	FalsificationCache(int maxSize) {
+		this(maxSize, result -> {});
+	}
+
+	FalsificationCache(int maxSize, Consumer<TryExecutionResult> executionRecorder) {
+		this.executionRecorder = executionRecorder;
+		this.results = new LinkedHashMap<Key, TryExecutionResult>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, TryExecutionResult> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+
+	TryExecutionResult falsify(List<Object> parameters, Function<List<Object>, TryExecutionResult> falsifier) {
+		return falsify(new Key(parameters), falsifier);
+	}
+
+	TryExecutionResult falsify(Key key, Function<List<Object>, TryExecutionResult> falsifier) {
+		TryExecutionResult result = results.get(key);
+		if (result != null) {
+			hits++;
+			return result;
+		}
+		misses++;
+		result = falsifier.apply(key.parameters());
+		results.put(key, result);
+		executionRecorder.accept(result);
+		return result;
+	}
+
+	/**
+	 * Does neither count as hit nor change the order of eviction.
+	 */
+	boolean contains(Key key) {
+		return results.containsKey(key);
+	}
+
+	int hits() {
+		return hits;
+	}
+
+	int misses() {
+		return misses;
+	}
+
+	int size() {
+		return results.size();
+	}
+
+	static int fingerprint(List<Object> parameters) {
+		int fingerprint = 1;
+		for (Object parameter : parameters) {
+			fingerprint = 31 * fingerprint + fingerprint(parameter, MAX_FINGERPRINT_DEPTH);
+		}
+		return fingerprint;
+	}
+
+	private static int fingerprint(Object value, int depth) {
+		if (value == null) {
+			return 0;
+		}
+		if (value instanceof String) {
+			return stringFingerprint((String) value);
+		}
+		if (value instanceof List) {
+			return listFingerprint((List<?>) value, depth);
+		}
+		// Element order of equal sets and maps is not guaranteed to be the same
+		if (value instanceof Collection) {
+			return ((Collection<?>) value).size();
+		}
+		if (value instanceof Map) {
+			return ((Map<?, ?>) value).size();
+		}
+		return value.hashCode();
+	}
+
+	private static int stringFingerprint(String string) {
+		int length = string.length();
+		int fingerprint = length;
+		int step = Math.max(1, length / SAMPLED_ELEMENTS);
+		for (int i = 0; i < length; i += step) {
+			fingerprint = 31 * fingerprint + string.charAt(i);
+		}
+		return length == 0 ? fingerprint : 31 * fingerprint + string.charAt(length - 1);
+	}
+
+	private static int listFingerprint(List<?> list, int depth) {
+		int size = list.size();
+		int fingerprint = size;
+		if (depth == 0 || size == 0) {
+			return fingerprint;
+		}
+		int step = Math.max(1, size / SAMPLED_ELEMENTS);
+		if (list instanceof RandomAccess) {
+			for (int i = 0; i < size; i += step) {
+				fingerprint = 31 * fingerprint + fingerprint(list.get(i), depth - 1);
+			}
+		} else {
+			int index = 0;
+			for (Object element : list) {
+				if (index++ % step == 0) {
+					fingerprint = 31 * fingerprint + fingerprint(element, depth - 1);
+				}
+			}
+		}
+		return fingerprint;
+	}
+
+	static class Key {
+		private final List<Object> parameters;
+		private final int fingerprint;
+
+		Key(List<Object> parameters) {
+			this.parameters = parameters;
+			this.fingerprint = fingerprint(parameters);
+		}
+
+		List<Object> parameters() {
+			return parameters;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			if (o == null || getClass() != o.getClass()) return false;
+			Key other = (Key) o;
+			return fingerprint == other.fingerprint && parameters.equals(other.parameters);
+		}
+
+		@Override
+		public int hashCode() {
+			return fingerprint;
+		}
+	}
+}
@@ -0,0 +1,213 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+import org.junit.platform.engine.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.Tuple.*;
+import net.jqwik.api.domains.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * Falsifies shrinking candidates until the first falsified one is found.
+ *
+ * <p>
+ * With a parallelism larger than 1 the next candidates are falsified speculatively
+ * in batches on a fixed pool of worker threads. Each speculative falsification has its own try scope. Results are nevertheless taken
+ * - and put into the falsification cache - in the order of candidates up to the first
+ * falsified one. Results of candidates after that one are thrown away.
+ * Shrinking will therefore end with the same sample as with sequential falsification.
+ * </p>
+ *
+ * <p>
+ * If a shrinking budget is tracked it is checked before each candidate and before each batch of candidates.
+ * When a bound has been reached {@linkplain ShrinkingBudget.BoundReached} is thrown on the shrinking thread.
+ * Falsifications that have already started are not interrupted.
+ * Since falsifications are counted when their results are taken, a bound on the number of falsifications
+ * stops shrinking at the same candidate as with sequential falsification.
+ * </p>
+ */
+class FalsificationExecutor implements AutoCloseable {
+
+	static FalsificationExecutor sequential() {
+		return new FalsificationExecutor(null, null, null, 1, null);
+	}
+
+	static FalsificationExecutor concurrent(int parallelism) {
+		TestDescriptor currentDescriptor = CurrentTestDescriptor.isEmpty() ? null : CurrentTestDescriptor.get();
+		DomainContext currentContext = CurrentDomainContext.get();
+		ExecutorService workers = Executors.newFixedThreadPool(parallelism, new DaemonThreadFactory("jqwik-shrinking"));
+		return new FalsificationExecutor(workers, currentDescriptor, currentContext, parallelism, null);
+	}
+
+	private final ExecutorService workers;
+	private final TestDescriptor currentDescriptor;
+	private final DomainContext currentContext;
+	private final int batchSize;
+	private final ShrinkingBudget.Tracker budgetTracker;
+
+	private FalsificationExecutor(
+		ExecutorService workers,
+		TestDescriptor currentDescriptor,
+		DomainContext currentContext,
+		int batchSize,
+		ShrinkingBudget.Tracker budgetTracker
+	) {
+		this.workers = workers;
+		this.currentDescriptor = currentDescriptor;
+		this.currentContext = currentContext;
+		this.batchSize = batchSize;
+		this.budgetTracker = budgetTracker;
+	}
+
+	FalsificationExecutor withBudget(ShrinkingBudget.Tracker budgetTracker) {
+		return new FalsificationExecutor(workers, currentDescriptor, currentContext, batchSize, budgetTracker);
+	}
+
+	/**
+	 * @param evaluatedCandidateConsumer is called for every candidate up to the first falsified one
+	 */
+	Optional<Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult>> firstFalsified(
+		Iterator<List<Shrinkable<Object>>> candidates,
+		Falsifier<List<Object>> falsifier,
+		FalsificationCache falsificationCache,
+		Consumer<Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult>> evaluatedCandidateConsumer
+	) {
+		if (workers == null) {
+			while (candidates.hasNext()) {
+				checkBudget(falsificationCache);
+				List<Shrinkable<Object>> candidate = candidates.next();
+				List<Object> params = createValues(candidate);
+				TryExecutionResult result = falsificationCache.falsify(params, falsifier::execute);
+				Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult> evaluated = Tuple.of(params, candidate, result);
+				evaluatedCandidateConsumer.accept(evaluated);
+				if (result.isFalsified()) {
+					return Optional.of(evaluated);
+				}
+			}
+			return Optional.empty();
+		}
+		while (candidates.hasNext()) {
+			checkBudget(falsificationCache);
+			List<Tuple2<List<Shrinkable<Object>>, FalsificationCache.Key>> batch = nextBatch(candidates);
+			Optional<Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult>> falsified =
+				falsifyBatch(batch, falsifier, falsificationCache, evaluatedCandidateConsumer);
+			if (falsified.isPresent()) {
+				return falsified;
+			}
+		}
+		return Optional.empty();
+	}
+
+	private List<Tuple2<List<Shrinkable<Object>>, FalsificationCache.Key>> nextBatch(Iterator<List<Shrinkable<Object>>> candidates) {
+		List<Tuple2<List<Shrinkable<Object>>, FalsificationCache.Key>> batch = new ArrayList<>(batchSize);
+		while (batch.size() < batchSize && candidates.hasNext()) {
+			List<Shrinkable<Object>> candidate = candidates.next();
+			// Values are created on the shrinking thread because shrinkables need not be thread safe
+			batch.add(Tuple.of(candidate, new FalsificationCache.Key(createValues(candidate))));
+		}
+		return batch;
+	}
+
+	private Optional<Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult>> falsifyBatch(
+		List<Tuple2<List<Shrinkable<Object>>, FalsificationCache.Key>> batch,
+		Falsifier<List<Object>> falsifier,
+		FalsificationCache falsificationCache,
+		Consumer<Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult>> evaluatedCandidateConsumer
+	) {
+		AtomicBoolean skipRemainingCandidates = new AtomicBoolean(false);
+		Map<FalsificationCache.Key, Future<TryExecutionResult>> speculativeResults = new HashMap<>();
+		for (Tuple2<List<Shrinkable<Object>>, FalsificationCache.Key> candidate : batch) {
+			FalsificationCache.Key key = candidate.get2();
+			if (falsificationCache.contains(key) || speculativeResults.containsKey(key)) {
+				continue;
+			}
+			Future<TryExecutionResult> future = workers.submit(
+				() -> skipRemainingCandidates.get() ? null : runOnWorker(() -> falsifier.execute(key.parameters()))
+			);
+			speculativeResults.put(key, future);
+		}
+
+		try {
+			for (Tuple2<List<Shrinkable<Object>>, FalsificationCache.Key> candidate : batch) {
+				FalsificationCache.Key key = candidate.get2();
+				checkBudget(falsificationCache);
+				TryExecutionResult result = falsificationCache.falsify(key, params -> {
+					Future<TryExecutionResult> speculativeResult = speculativeResults.get(key);
+					// Happens if a cached result has been evicted in the meantime
+					if (speculativeResult == null) {
+						return falsifier.execute(params);
+					}
+					return await(speculativeResult);
+				});
+				Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult> evaluated = Tuple.of(key.parameters(), candidate.get1(), result);
+				evaluatedCandidateConsumer.accept(evaluated);
+				if (result.isFalsified()) {
+					return Optional.of(evaluated);
+				}
+			}
+			return Optional.empty();
+		} finally {
+			// Falsifications that have already started must finish before shrinking can go on
+			skipRemainingCandidates.set(true);
+			speculativeResults.values().forEach(this::awaitIgnoringErrors);
+		}
+	}
+
+	private void checkBudget(FalsificationCache falsificationCache) {
+		if (budgetTracker != null) {
+			budgetTracker.check(falsificationCache.misses());
+		}
+	}
+
+	/**
+	 * Every speculative falsification is a try of its own and therefore runs in its own try scope.
+	 */
+	private TryExecutionResult runOnWorker(Supplier<TryExecutionResult> falsification) {
+		Supplier<TryExecutionResult> falsificationInTryScope = () -> new TryScope().runInScope(falsification);
+		if (currentDescriptor == null) {
+			return CurrentDomainContext.runWithContext(currentContext, falsificationInTryScope);
+		}
+		return CurrentDomainContext.runWithContext(
+			currentContext,
+			() -> CurrentTestDescriptor.runWithDescriptor(currentDescriptor, falsificationInTryScope)
+		);
+	}
+
+	private TryExecutionResult await(Future<TryExecutionResult> future) {
+		try {
+			return future.get();
+		} catch (ExecutionException e) {
+			return JqwikExceptionSupport.throwAsUncheckedException(e.getCause());
+		} catch (InterruptedException e) {
+			return JqwikExceptionSupport.throwAsUncheckedException(e);
+		}
+	}
+
+	private void awaitIgnoringErrors(Future<TryExecutionResult> future) {
+		try {
+			future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException ignore) {
+		}
+	}
+
+	private static List<Object> createValues(List<Shrinkable<Object>> shrinkables) {
+		return shrinkables.stream().map(Shrinkable::value).collect(Collectors.toList());
+	}
+
+	@Override
+	public void close() {
+		if (workers != null) {
+			workers.shutdown();
+		}
+	}
+}
@@ -0,0 +1,96 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.math.*;
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+
+/**
+ * Grows like {@linkplain BigIntegerGrower} but calculates with primitive longs.
+ */
+class LongGrower {
+
+	OptionalLong grow(long value, long min, long max, long shrinkingTarget, Shrinkable<?> before, Shrinkable<?> after) {
+		try {
+			long diff = calculateDiff(before, after, value);
+			if (diff != 0) {
+				long grownValue = Math.addExact(value, diff);
+				if (sameSign(Long.compare(shrinkingTarget, value), Long.compare(shrinkingTarget, grownValue))
+						&& grownValue >= min && grownValue <= max) {
+					return OptionalLong.of(grownValue);
+				}
+			}
+		} catch (ArithmeticException overflow) {
+			// Values that cannot be represented as long cannot be grown to
+		}
+		return OptionalLong.empty();
+	}
+
+	private long calculateDiff(Shrinkable<?> before, Shrinkable<?> after, long current) {
+		long beforeValue = toLong(before);
+		long afterValue = toLong(after);
+		if (sameSign(Long.signum(beforeValue), Long.signum(current))) {
+			return Math.subtractExact(beforeValue, afterValue);
+		} else {
+			return Math.subtractExact(afterValue, beforeValue);
+		}
+	}
+
+	private boolean sameSign(int firstSignum, int secondSignum) {
+		return Math.abs(firstSignum - secondSignum) <= 1;
+	}
+
+	private long toLong(Shrinkable<?> shrinkable) {
+		if (shrinkable instanceof ShrinkableIntegral) {
+			return ((ShrinkableIntegral<?>) shrinkable).longValue();
+		}
+		Object value = shrinkable.value();
+		if (value instanceof BigInteger) {
+			return ((BigInteger) value).longValueExact();
+		}
+		if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+			return ((Number) value).longValue();
+		}
+		if (value instanceof Character) {
+			return (Character) value;
+		}
+		return 0L;
+	}
+
+	LongStream grow(long value, long min, long max, long shrinkingTarget) {
+		if (value < shrinkingTarget) {
+			return growLeft(value, min);
+		} else {
+			return growRight(value, max);
+		}
+	}
+
+	private LongStream growRight(long value, long max) {
+		return LongStream
+				   .of(
+					   max,
+					   value + ((max - value) >>> 1),
+					   value + 10,
+					   value + 1
+				   )
+				   // Overflowing values are smaller than value
+				   .filter(grownValue -> grownValue > value)
+				   .filter(grownValue -> grownValue <= max)
+				   .distinct();
+	}
+
+	private LongStream growLeft(long value, long min) {
+		return LongStream
+				   .of(
+					   min,
+					   value - ((value - min) >>> 1),
+					   value - 10,
+					   value - 1
+				   )
+				   // Underflowing values are larger than value
+				   .filter(grownValue -> grownValue < value)
+				   .filter(grownValue -> grownValue >= min)
+				   .distinct();
+	}
+}
@@ -0,0 +1,58 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.stream.*;
+
+/**
+ * Creates the same candidates in the same order as {@linkplain BigIntegerShrinker}.
+ */
+class LongShrinker {
+
+	private final long shrinkingTarget;
+
+	LongShrinker(long shrinkingTarget) {
+		this.shrinkingTarget = shrinkingTarget;
+	}
+
+	LongStream shrink(long value) {
+		Set<Long> candidates = new LinkedHashSet<>();
+		long lower = Math.min(shrinkingTarget, value);
+		long higher = Math.max(shrinkingTarget, value);
+		// All candidates are strictly between lower and higher so that only the steps can overflow
+		long distance = higher - lower; // interpreted as unsigned long
+		addFibonacci(candidates, lower, distance);
+		subFibonacci(candidates, higher, distance);
+		candidates.add(shrinkingTarget);
+		candidates.remove(value);
+		return candidates.stream().mapToLong(Long::longValue);
+	}
+
+	private void subFibonacci(Set<Long> candidates, long target, long distance) {
+		long butLast = 0;
+		long last = 1;
+		while (true) {
+			long step = butLast + last;
+			if (Long.compareUnsigned(step, last) < 0 || Long.compareUnsigned(step, distance) >= 0) {
+				break;
+			}
+			candidates.add(target - step);
+			butLast = last;
+			last = step;
+		}
+	}
+
+	private void addFibonacci(Set<Long> candidates, long target, long distance) {
+		long butLast = 0;
+		long last = 1;
+		while (true) {
+			long step = butLast + last;
+			if (Long.compareUnsigned(step, last) < 0 || Long.compareUnsigned(step, distance) >= 0) {
+				break;
+			}
+			candidates.add(target + step);
+			butLast = last;
+			last = step;
+		}
+	}
+
+}
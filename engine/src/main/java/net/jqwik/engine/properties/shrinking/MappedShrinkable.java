@@ -10,6 +10,7 @@ public class MappedShrinkable<T, U> implements Shrinkable<U> {
 
 	private final Shrinkable<T> toMap;
 	private final Function<T, U> mapper;
+	private volatile int hash;
 
 	public MappedShrinkable(Shrinkable<T> toMap, Function<T, U> mapper) {
 		this.toMap = toMap;
@@ -55,12 +56,18 @@ public class MappedShrinkable<T, U> implements Shrinkable<U> {
 		if (this == o) return true;
 		if (o == null || getClass() != o.getClass()) return false;
 		MappedShrinkable<?, ?> that = (MappedShrinkable<?, ?>) o;
+		if (hashCode() != that.hashCode()) return false;
 		return toMap.equals(that.toMap);
 	}
 
 	@Override
 	public int hashCode() {
-		return toMap.hashCode();
+		int h = hash;
+		if (h == 0) {
+			h = toMap.hashCode();
+			hash = h;
+		}
+		return h;
 	}
 
 	@Override
@@ -10,8 +10,8 @@ import net.jqwik.engine.support.*;
 
 class PairwiseParameterShrinker extends AbstractSampleShrinker {
 
-	public PairwiseParameterShrinker(Map<List<Object>, TryExecutionResult> falsificationCache) {
-		super(falsificationCache);
+	public PairwiseParameterShrinker(FalsificationCache falsificationCache, FalsificationExecutor falsificationExecutor) {
+		super(falsificationCache, falsificationExecutor);
 	}
 
 	@Override
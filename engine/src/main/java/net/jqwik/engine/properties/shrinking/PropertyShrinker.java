@@ -2,19 +2,13 @@ package net.jqwik.engine.properties.shrinking;
 
 import java.lang.reflect.*;
 import java.util.*;
-import java.util.concurrent.*;
 import java.util.concurrent.atomic.*;
 import java.util.function.*;
 import java.util.logging.*;
 
-import org.junit.platform.engine.*;
-
 import net.jqwik.api.*;
-import net.jqwik.api.domains.*;
 import net.jqwik.api.lifecycle.*;
-import net.jqwik.engine.execution.lifecycle.*;
 import net.jqwik.engine.properties.*;
-import net.jqwik.engine.support.*;
 
 public class PropertyShrinker {
 
@@ -22,15 +16,16 @@ public class PropertyShrinker {
 
 	private final FalsifiedSample originalSample;
 	private final ShrinkingMode shrinkingMode;
-	private final int boundedShrinkingSeconds;
+	private final ShrinkingBudget shrinkingBudget;
 	private final Consumer<FalsifiedSample> falsifiedSampleReporter;
 	private final Method targetMethod;
+	private final FalsificationCache falsificationCache;
+	private final int parallelism;
 
 	private final AtomicInteger shrinkingStepsCounter = new AtomicInteger(0);
 	private final List<TryExecutionResult.Status> shrinkingSequence = new LinkedList<>();
 
 	private Optional<FalsifiedSample> currentBest = Optional.empty();
-	private volatile boolean shrinkingInterrupted = false;
 
 	public PropertyShrinker(
 		FalsifiedSample originalSample,
@@ -38,12 +33,65 @@ public class PropertyShrinker {
 		int boundedShrinkingSeconds,
 		Consumer<FalsifiedSample> falsifiedSampleReporter,
 		Method targetMethod
+	) {
+		this(
+			originalSample,
+			shrinkingMode,
+			boundedShrinkingSeconds,
+			FalsificationCache.DEFAULT_MAX_SIZE,
+			1,
+			falsifiedSampleReporter,
+			targetMethod
+		);
+	}
+
+	/**
+	 * @param parallelism number of threads on which shrinking candidates are falsified speculatively
+	 */
+
+	public PropertyShrinker(
+		FalsifiedSample originalSample,
+		ShrinkingMode shrinkingMode,
+		int boundedShrinkingSeconds,
+		int shrinkingCacheSize,
+		int parallelism,
+		Consumer<FalsifiedSample> falsifiedSampleReporter,
+		Method targetMethod
+	) {
+		this(
+			originalSample,
+			shrinkingMode,
+			ShrinkingBudget.seconds(boundedShrinkingSeconds),
+			shrinkingCacheSize,
+			parallelism,
+			falsifiedSampleReporter,
+			targetMethod
+		);
+	}
+
+	/**
+	 * @param shrinkingBudget is only used with {@linkplain ShrinkingMode#BOUNDED}
+	 */
+	public PropertyShrinker(
+		FalsifiedSample originalSample,
+		ShrinkingMode shrinkingMode,
+		ShrinkingBudget shrinkingBudget,
+		int shrinkingCacheSize,
+		int parallelism,
+		Consumer<FalsifiedSample> falsifiedSampleReporter,
+		Method targetMethod
 	) {
 		this.originalSample = originalSample;
 		this.shrinkingMode = shrinkingMode;
-		this.boundedShrinkingSeconds = boundedShrinkingSeconds;
+		this.shrinkingBudget = shrinkingBudget;
 		this.falsifiedSampleReporter = falsifiedSampleReporter;
 		this.targetMethod = targetMethod;
+		this.parallelism = parallelism;
+		// Only record actually executed falsifications in the order in which they would have been executed sequentially
+		this.falsificationCache = new FalsificationCache(
+			shrinkingCacheSize,
+			executionResult -> shrinkingSequence.add(executionResult.status())
+		);
 	}
 
 	public ShrunkFalsifiedSample shrink(Falsifier<List<Object>> forAllFalsifier) {
@@ -60,17 +108,12 @@ public class PropertyShrinker {
 		};
 
 		Consumer<FalsifiedSample> sampleShrunkConsumer = sample -> {
+			currentBest = Optional.of(sample);
 			shrinkingStepsCounter.incrementAndGet();
 			falsifiedSampleReporter.accept(sample);
 		};
 
-		Consumer<FalsifiedSample> shrinkAttemptConsumer = currentBest -> {
-			if (currentBest != null) {
-				this.currentBest = Optional.of(currentBest);
-			}
-		};
-
-		return shrink(allowOnlyEquivalentErrorsFalsifier, sampleShrunkConsumer, shrinkAttemptConsumer);
+		return shrink(allowOnlyEquivalentErrorsFalsifier, sampleShrunkConsumer, ignore -> {});
 	}
 
 	public List<TryExecutionResult.Status> shrinkingSequence() {
@@ -83,56 +126,51 @@ public class PropertyShrinker {
 		Consumer<FalsifiedSample> sampleShrunkConsumer,
 		Consumer<FalsifiedSample> shrinkAttemptConsumer
 	) {
+		ShrinkingBudget budget = shrinkingMode == ShrinkingMode.BOUNDED ? shrinkingBudget : ShrinkingBudget.unbounded();
+		ShrinkingBudget.Tracker budgetTracker = budget.startTracking();
 		FalsifiedSample fullyShrunkSample;
-		Supplier<FalsifiedSample> shrinkUntilDone = () -> shrinkAsLongAsSampleImproves(falsifier, sampleShrunkConsumer, shrinkAttemptConsumer);
-		if (shrinkingMode == ShrinkingMode.FULL) {
-			fullyShrunkSample = shrinkUntilDone.get();
-		} else {
-			fullyShrunkSample = withTimeout(shrinkUntilDone);
+		try (FalsificationExecutor falsificationExecutor = createFalsificationExecutor(budgetTracker)) {
+			Falsifier<List<Object>> measuredFalsifier = budgetTracker.measuring(falsifier);
+			fullyShrunkSample = shrinkAsLongAsSampleImproves(measuredFalsifier, sampleShrunkConsumer, shrinkAttemptConsumer, falsificationExecutor);
+		} catch (ShrinkingBudget.BoundReached boundReached) {
+			logShrinkingBoundReached(boundReached.bound());
+			fullyShrunkSample = currentBest.orElse(originalSample);
 		}
-		return new ShrunkFalsifiedSampleImpl(fullyShrunkSample, shrinkingStepsCounter.get());
+		return new ShrunkFalsifiedSampleImpl(
+			fullyShrunkSample,
+			shrinkingStepsCounter.get(),
+			falsificationCache.hits(),
+			falsificationCache.misses(),
+			budgetTracker.consumption(falsificationCache.misses())
+		);
 	}
 
-	private FalsifiedSample withTimeout(Supplier<FalsifiedSample> shrinkUntilDone) {
-		try {
-			TestDescriptor currentDescriptor = CurrentTestDescriptor.get();
-			DomainContext currentContext = CurrentDomainContext.get();
-			Supplier<FalsifiedSample> shrinkWithTestDescriptor =
-				() -> CurrentDomainContext.runWithContext(
-					currentContext,
-					() -> CurrentTestDescriptor.runWithDescriptor(currentDescriptor, shrinkUntilDone)
-				);
-			CompletableFuture<FalsifiedSample> falsifiedSampleFuture = CompletableFuture.supplyAsync(shrinkWithTestDescriptor);
-			return falsifiedSampleFuture.get(boundedShrinkingSeconds, TimeUnit.SECONDS);
-		} catch (InterruptedException | ExecutionException e) {
-			return JqwikExceptionSupport.throwAsUncheckedException(e);
-		} catch (TimeoutException e) {
-			shrinkingInterrupted = true;
-			logShrinkingBoundReached();
-			return currentBest.orElse(originalSample);
-		}
+	/**
+	 * Bounded shrinking happens on the calling thread and stops
+	 * before the next shrinking candidate after a bound has been reached.
+	 */
+	private FalsificationExecutor createFalsificationExecutor(ShrinkingBudget.Tracker budgetTracker) {
+		FalsificationExecutor executor = parallelism > 1
+											 ? FalsificationExecutor.concurrent(parallelism)
+											 : FalsificationExecutor.sequential();
+		return executor.withBudget(budgetTracker);
 	}
 
 	private FalsifiedSample shrinkAsLongAsSampleImproves(
 		final Falsifier<List<Object>> falsifier,
 		final Consumer<FalsifiedSample> sampleShrunkConsumer,
-		final Consumer<FalsifiedSample> shrinkAttemptConsumer
+		final Consumer<FalsifiedSample> shrinkAttemptConsumer,
+		final FalsificationExecutor falsificationExecutor
 	) {
-		Falsifier<List<Object>> recordingFalsifier = params -> {
-			TryExecutionResult executionResult = falsifier.execute(params);
-			if (!shrinkingInterrupted) {
-				shrinkingSequence.add(executionResult.status());
-			}
-			return executionResult;
-		};
-
 		ShrinkingAlgorithm plainShrinker = new ShrinkingAlgorithm(
 			originalSample,
 			sampleShrunkConsumer,
-			shrinkAttemptConsumer
+			shrinkAttemptConsumer,
+			falsificationCache,
+			falsificationExecutor
 		);
 
-		return plainShrinker.shrink(recordingFalsifier);
+		return plainShrinker.shrink(falsifier);
 	}
 
 	private ShrunkFalsifiedSample unshrunkOriginalSample() {
@@ -144,11 +182,13 @@ public class PropertyShrinker {
 		return result.isFalsified() && !areEquivalent;
 	}
 
-	private void logShrinkingBoundReached() {
+	private void logShrinkingBoundReached(ShrinkingBudget.Bound bound) {
 		String value = String.format(
-			"Shrinking timeout reached after %s seconds." +
+			"Shrinking bound %s reached after %s shrinking steps with budget [%s]." +
 				"%n  You can switch on full shrinking with '@Property(shrinking = ShrinkingMode.FULL)'",
-			boundedShrinkingSeconds
+			bound,
+			shrinkingStepsCounter.get(),
+			shrinkingBudget
 		);
 		LOG.warning(value);
 	}
@@ -6,14 +6,13 @@ import java.util.stream.*;
 import org.jspecify.annotations.*;
 
 import net.jqwik.api.*;
-import net.jqwik.api.support.*;
 import net.jqwik.engine.properties.*;
 import net.jqwik.engine.support.*;
 
 import static net.jqwik.engine.properties.UniquenessChecker.*;
 
 abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
-	protected final List<Shrinkable<E>> elements;
+	protected final ShrinkableElements<E> elements;
 	protected final int minSize;
 	protected final int maxSize;
 	protected final Collection<FeatureExtractor<E>> uniquenessExtractors;
@@ -21,13 +20,23 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 	@Nullable
 	protected final Arbitrary<E> elementArbitrary;
 
+	// Only used for equality, hash code and string representation and never handed out,
+	// since values might be changed by the code under test
+	@Nullable
+	private volatile C comparisonValue;
+	private volatile int hash;
+
+	// Only created when shrunk elements must be checked for uniqueness
+	@Nullable
+	private volatile FeatureCounts<E> elementFeatures;
+
 	ShrinkableContainer(
 		List<Shrinkable<E>> elements,
 		int minSize, int maxSize,
 		Collection<FeatureExtractor<E>> uniquenessExtractors,
 		@Nullable Arbitrary<E> elementArbitrary
 	) {
-		this.elements = elements;
+		this.elements = ShrinkableElements.of(elements);
 		this.minSize = minSize;
 		this.maxSize = maxSize;
 		this.uniquenessExtractors = uniquenessExtractors;
@@ -76,11 +85,9 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 		for (int i = 0; i < elements.size(); i++) {
 			int index = i;
 			Shrinkable<E> element = elements.get(i);
-			Stream<Shrinkable<C>> shrinkElement = element.grow().flatMap(shrunkElement -> {
-				List<Shrinkable<E>> elementsCopy = new ArrayList<>(elements);
-				elementsCopy.set(index, shrunkElement);
-				return Stream.of(createShrinkable(elementsCopy));
-			});
+			Stream<Shrinkable<C>> shrinkElement = element.grow().map(
+				grownElement -> createShrinkable(elements.with(index, grownElement))
+			);
 			growPerElementStreams.add(shrinkElement);
 		}
 		return JqwikStreamSupport.concat(growPerElementStreams);
@@ -113,15 +120,13 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 	protected Stream<Shrinkable<C>> shrinkSizeAggressively() {
 		return new AggressiveSizeOfListShrinker<Shrinkable<E>>(minSize)
 				   .shrink(elements)
-				   .map(this::createShrinkable)
-				   .sorted(Comparator.comparing(Shrinkable::distance));
+				   .map(this::createShrinkable);
 	}
 
 	protected Stream<Shrinkable<C>> shrinkSizeOfList() {
 		return new SizeOfListShrinker<Shrinkable<E>>(minSize)
 				   .shrink(elements)
-				   .map(this::createShrinkable)
-				   .sorted(Comparator.comparing(Shrinkable::distance));
+				   .map(this::createShrinkable);
 	}
 
 	protected Stream<Shrinkable<C>> shrinkElementsOneAfterTheOther(int maxToShrink) {
@@ -133,19 +138,35 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 			int index = i;
 			Shrinkable<E> element = elements.get(i);
 			Stream<Shrinkable<C>> shrinkElement = element.shrink().flatMap(shrunkElement -> {
-				List<Shrinkable<E>> elementsCopy = new ArrayList<>(elements);
-				elementsCopy.remove(index);
-				if (!checkShrinkableUniqueIn(uniquenessExtractors, shrunkElement, elementsCopy)) {
+				if (!isUniqueReplacing(shrunkElement, element)) {
 					return Stream.empty();
 				}
-				elementsCopy.add(index, shrunkElement);
-				return Stream.of(createShrinkable(elementsCopy));
+				return Stream.of(createShrinkable(elements.with(index, shrunkElement)));
 			});
 			shrinkPerElementStreams.add(shrinkElement);
 		}
 		return JqwikStreamSupport.concat(shrinkPerElementStreams);
 	}
 
+	private boolean isUniqueReplacing(Shrinkable<E> shrunkElement, Shrinkable<E> element) {
+		if (uniquenessExtractors.isEmpty()) {
+			return true;
+		}
+		return elementFeatures().isUniqueReplacing(shrunkElement.value(), element.value());
+	}
+
+	private FeatureCounts<E> elementFeatures() {
+		FeatureCounts<E> features = elementFeatures;
+		if (features == null) {
+			features = new FeatureCounts<>(uniquenessExtractors);
+			for (Shrinkable<E> element : elements) {
+				features.add(element.value());
+			}
+			elementFeatures = features;
+		}
+		return features;
+	}
+
 	protected Stream<Shrinkable<C>> shrinkPairsOfElements() {
 		ShrinkingCommons.ContainerCreator<C, E> createContainer = newElements -> {
 			if (checkUniquenessOfShrinkables(uniquenessExtractors, newElements)) {
@@ -164,7 +185,16 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 
 	@Override
 	public ShrinkingDistance distance() {
-		return ShrinkingDistance.forCollection(elements);
+		return elements.distance();
+	}
+
+	private C comparisonValue() {
+		C value = comparisonValue;
+		if (value == null) {
+			value = createValue(elements);
+			comparisonValue = value;
+		}
+		return value;
 	}
 
 	@Override
@@ -172,21 +202,28 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 		if (this == o) return true;
 		if (o == null || getClass() != o.getClass()) return false;
 		ShrinkableContainer<?, ?> that = (ShrinkableContainer<?, ?>) o;
-		return value().equals(that.value());
+		if (hashCode() != that.hashCode()) return false;
+		return comparisonValue().equals(that.comparisonValue());
 	}
 
 	@Override
 	public int hashCode() {
-		return HashCodeSupport.hash(elements);
+		int h = hash;
+		if (h == 0) {
+			h = comparisonValue().hashCode();
+			hash = h;
+		}
+		return h;
 	}
 
 	@Override
 	public String toString() {
+		C value = comparisonValue();
 		return String.format(
 			"%s<%s>(%s:%s)",
 			getClass().getSimpleName(),
-			value().getClass().getSimpleName(),
-			value(), distance()
+			value.getClass().getSimpleName(),
+			value, distance()
 		);
 	}
 
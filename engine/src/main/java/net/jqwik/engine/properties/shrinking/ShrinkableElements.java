@@ -0,0 +1,146 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+
+/**
+ * An immutable list of shrinkable elements that shares structure with the lists derived from it.
+ *
+ * <p>
+ * Elements are stored in the leaves of a tree with up to 32 children per node.
+ * {@linkplain #with(int, Shrinkable)} only copies the nodes on the path to the replaced element,
+ * which makes creating a shrinking candidate with one or two replaced elements O(log n).
+ * The summed up shrinking distance is cached per node so that the distance of a candidate
+ * only needs to be recomputed for the copied nodes.
+ * </p>
+ */
+class ShrinkableElements<E> extends AbstractList<Shrinkable<E>> implements RandomAccess {
+
+	private static final int BITS = 5;
+	private static final int WIDTH = 1 << BITS;
+	private static final int MASK = WIDTH - 1;
+
+	private static final ShrinkableElements<?> EMPTY = new ShrinkableElements<>(0, 0, new Node(new Object[0]));
+
+	@SuppressWarnings("unchecked")
+	static <E> ShrinkableElements<E> of(List<Shrinkable<E>> elements) {
+		if (elements instanceof ShrinkableElements) {
+			return (ShrinkableElements<E>) elements;
+		}
+		if (elements.isEmpty()) {
+			return (ShrinkableElements<E>) EMPTY;
+		}
+		List<Node> level = new ArrayList<>((elements.size() + MASK) / WIDTH);
+		Object[] leaf = null;
+		int index = 0;
+		for (Shrinkable<E> element : elements) {
+			if (index % WIDTH == 0) {
+				leaf = new Object[Math.min(WIDTH, elements.size() - index)];
+				level.add(new Node(leaf));
+			}
+			leaf[index % WIDTH] = element;
+			index++;
+		}
+		int shift = 0;
+		while (level.size() > 1) {
+			List<Node> parents = new ArrayList<>((level.size() + MASK) / WIDTH);
+			for (int i = 0; i < level.size(); i += WIDTH) {
+				parents.add(new Node(level.subList(i, Math.min(i + WIDTH, level.size())).toArray()));
+			}
+			level = parents;
+			shift += BITS;
+		}
+		return new ShrinkableElements<>(elements.size(), shift, level.get(0));
+	}
+
+	private final int size;
+	private final int shift;
+	private final Node root;
+
+	private ShrinkableElements(int size, int shift, Node root) {
+		this.size = size;
+		this.shift = shift;
+		this.root = root;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Shrinkable<E> get(int index) {
+		checkIndex(index);
+		Node node = root;
+		for (int level = shift; level > 0; level -= BITS) {
+			node = (Node) node.children[(index >>> level) & MASK];
+		}
+		return (Shrinkable<E>) node.children[index & MASK];
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return a new list with the element at {@code index} replaced by {@code element}
+	 */
+	ShrinkableElements<E> with(int index, Shrinkable<E> element) {
+		checkIndex(index);
+		return new ShrinkableElements<>(size, shift, replace(root, shift, index, element));
+	}
+
+	/**
+	 * Equal to {@linkplain ShrinkingDistance#forCollection(Collection)} of this list.
+	 */
+	ShrinkingDistance distance() {
+		if (size == 0) {
+			return ShrinkingDistance.of(0);
+		}
+		return ShrinkingDistance.of(size).append(root.distanceSum(shift));
+	}
+
+	private static Node replace(Node node, int level, int index, Object element) {
+		Object[] children = node.children.clone();
+		int childIndex = (index >>> level) & MASK;
+		if (level == 0) {
+			children[childIndex] = element;
+		} else {
+			children[childIndex] = replace((Node) children[childIndex], level - BITS, index, element);
+		}
+		return new Node(children);
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException(String.format("Index: %s, Size: %s", index, size));
+		}
+	}
+
+	private static class Node {
+		private final Object[] children;
+
+		// Lazily computed; races only lead to computing the same value more than once
+		private ShrinkingDistance distanceSum;
+
+		private Node(Object[] children) {
+			this.children = children;
+		}
+
+		private ShrinkingDistance distanceSum(int level) {
+			if (distanceSum == null) {
+				ShrinkingDistance sum = childDistance(children[0], level);
+				for (int i = 1; i < children.length; i++) {
+					sum = sum.plus(childDistance(children[i], level));
+				}
+				distanceSum = sum;
+			}
+			return distanceSum;
+		}
+
+		private static ShrinkingDistance childDistance(Object child, int level) {
+			if (level == 0) {
+				return ((Shrinkable<?>) child).distance();
+			}
+			return ((Node) child).distanceSum(level - BITS);
+		}
+	}
+}
@@ -0,0 +1,111 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * Shrinks integral values within long's range - e.g. ints, shorts or chars - like {@linkplain ShrinkableBigInteger},
+ * but calculates with primitive longs.
+ *
+ * @param <T> the boxed value type, which is created from a long using {@code fromLong}
+ */
+public class ShrinkableIntegral<T> extends AbstractValueShrinkable<T> {
+
+	/**
+	 * Creates shrinkables that share their bounds, which keeps each shrinkable small.
+	 */
+	public static <T> LongFunction<Shrinkable<T>> creator(long min, long max, long shrinkingTarget, LongFunction<T> fromLong) {
+		Bounds<T> bounds = new Bounds<>(min, max, shrinkingTarget, fromLong);
+		return value -> new ShrinkableIntegral<>(value, bounds);
+	}
+
+	private final long value;
+	private final Bounds<T> bounds;
+
+	public ShrinkableIntegral(long value, long min, long max, long shrinkingTarget, LongFunction<T> fromLong) {
+		this(value, new Bounds<>(min, max, shrinkingTarget, fromLong));
+	}
+
+	private ShrinkableIntegral(long value, Bounds<T> bounds) {
+		super(bounds.fromLong.apply(value));
+		this.value = value;
+		this.bounds = bounds;
+		checkValueInRange(value);
+	}
+
+	long longValue() {
+		return value;
+	}
+
+	@Override
+	public Stream<Shrinkable<T>> shrink() {
+		return JqwikStreamSupport.concat(
+			shrinkTowardsTarget(),
+			shrinkNegativeToPositive()
+		);
+	}
+
+	@Override
+	public Optional<Shrinkable<T>> grow(Shrinkable<?> before, Shrinkable<?> after) {
+		OptionalLong grownValue = new LongGrower().grow(value, bounds.min, bounds.max, bounds.shrinkingTarget, before, after);
+		return grownValue.isPresent() ? Optional.of(createShrinkable(grownValue.getAsLong())) : Optional.empty();
+	}
+
+	@Override
+	public Stream<Shrinkable<T>> grow() {
+		return new LongGrower().grow(value, bounds.min, bounds.max, bounds.shrinkingTarget).mapToObj(this::createShrinkable);
+	}
+
+	private Stream<Shrinkable<T>> shrinkNegativeToPositive() {
+		// -Long.MIN_VALUE would overflow
+		if (value >= 0 || value == Long.MIN_VALUE || -value > bounds.max) {
+			return Stream.empty();
+		}
+		return Stream.of(createShrinkable(-value));
+	}
+
+	private Stream<Shrinkable<T>> shrinkTowardsTarget() {
+		return new LongShrinker(bounds.shrinkingTarget)
+				   .shrink(value)
+				   .mapToObj(this::createShrinkable)
+				   .sorted(Comparator.comparing(Shrinkable::distance));
+	}
+
+	private Shrinkable<T> createShrinkable(long aLong) {
+		return new ShrinkableIntegral<>(aLong, bounds);
+	}
+
+	@Override
+	public ShrinkingDistance distance() {
+		long target = bounds.shrinkingTarget;
+		long distance = value >= target ? value - target : target - value;
+		// Distances beyond Long.MAX_VALUE overflow
+		return ShrinkingDistance.of(distance < 0 ? Long.MAX_VALUE : distance);
+	}
+
+	private void checkValueInRange(long value) {
+		if (value < bounds.min || value > bounds.max) {
+			String message = String.format("Value <%s> is outside allowed range %s", value, Range.of(bounds.min, bounds.max));
+			throw new JqwikException(message);
+		}
+	}
+
+	private static class Bounds<T> {
+		private final long min;
+		private final long max;
+		private final long shrinkingTarget;
+		private final LongFunction<T> fromLong;
+
+		private Bounds(long min, long max, long shrinkingTarget, LongFunction<T> fromLong) {
+			this.min = min;
+			this.max = max;
+			this.shrinkingTarget = shrinkingTarget;
+			this.fromLong = fromLong;
+		}
+	}
+}
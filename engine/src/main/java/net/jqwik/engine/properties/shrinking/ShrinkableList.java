@@ -73,12 +73,8 @@ public class ShrinkableList<E> extends ShrinkableContainer<List<E>, E> {
 										   return Tuple.of(after, grow);
 									   })
 									   .filter(tuple -> tuple.get2().isPresent())
-									   .map(tuple -> {
-										   List<Shrinkable<E>> pairMove = new ArrayList<>(elements);
-										   pairMove.set(firstIndex, tuple.get1());
-										   pairMove.set(secondIndex, tuple.get2().get());
-										   return pairMove;
-									   })
+									   .map(tuple -> elements.with(firstIndex, tuple.get1())
+															 .with(secondIndex, tuple.get2().get()))
 									   .filter(shrinkables -> checkUniquenessOfShrinkables(uniquenessExtractors, shrinkables))
 									   .map(this::createShrinkable);
 
@@ -8,7 +8,8 @@ import net.jqwik.api.lifecycle.*;
 
 class ShrinkingAlgorithm {
 
-	private final Map<List<Object>, TryExecutionResult> falsificationCache = new LinkedHashMap<>();
+	private final FalsificationCache falsificationCache;
+	private final FalsificationExecutor falsificationExecutor;
 	private final FalsifiedSample originalSample;
 	private final Consumer<FalsifiedSample> sampleShrunkConsumer;
 	private final Consumer<FalsifiedSample> shrinkAttemptConsumer;
@@ -16,9 +17,12 @@ class ShrinkingAlgorithm {
 	ShrinkingAlgorithm(
 		FalsifiedSample originalSample,
 		Consumer<FalsifiedSample> sampleShrunkConsumer,
-		Consumer<FalsifiedSample> shrinkAttemptConsumer
+		Consumer<FalsifiedSample> shrinkAttemptConsumer,
+		FalsificationCache falsificationCache,
+		FalsificationExecutor falsificationExecutor
 	) {
-
+		this.falsificationCache = falsificationCache;
+		this.falsificationExecutor = falsificationExecutor;
 		this.originalSample = originalSample;
 		this.sampleShrunkConsumer = sampleShrunkConsumer;
 		this.shrinkAttemptConsumer = shrinkAttemptConsumer;
@@ -48,7 +52,7 @@ class ShrinkingAlgorithm {
 		Consumer<FalsifiedSample> sampleShrunkConsumer,
 		Consumer<FalsifiedSample> shrinkAttemptConsumer
 	) {
-		return new OneAfterTheOtherParameterShrinker(falsificationCache)
+		return new OneAfterTheOtherParameterShrinker(falsificationCache, falsificationExecutor)
 				   .shrink(falsifier, sample, sampleShrunkConsumer, shrinkAttemptConsumer);
 	}
 
@@ -58,7 +62,7 @@ class ShrinkingAlgorithm {
 		Consumer<FalsifiedSample> sampleShrunkConsumer,
 		Consumer<FalsifiedSample> shrinkAttemptConsumer
 	) {
-		return new PairwiseParameterShrinker(falsificationCache).shrink(falsifier, sample, sampleShrunkConsumer, shrinkAttemptConsumer);
+		return new PairwiseParameterShrinker(falsificationCache, falsificationExecutor).shrink(falsifier, sample, sampleShrunkConsumer, shrinkAttemptConsumer);
 	}
 
 	private FalsifiedSample shrinkAndGrow(
@@ -67,7 +71,7 @@ class ShrinkingAlgorithm {
 		Consumer<FalsifiedSample> sampleShrunkConsumer,
 		Consumer<FalsifiedSample> shrinkAttemptConsumer
 	) {
-		return new ShrinkAndGrowShrinker(falsificationCache).shrink(falsifier, sample, sampleShrunkConsumer, shrinkAttemptConsumer);
+		return new ShrinkAndGrowShrinker(falsificationCache, falsificationExecutor).shrink(falsifier, sample, sampleShrunkConsumer, shrinkAttemptConsumer);
 	}
 
 }
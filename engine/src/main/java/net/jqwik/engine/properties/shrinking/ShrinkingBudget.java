@@ -0,0 +1,160 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.lang.management.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import net.jqwik.api.*;
+
+/**
+ * The bounds of {@linkplain ShrinkingMode#BOUNDED bounded shrinking}.
+ * A negative number of seconds and 0 falsifications or CPU seconds mean that shrinking is not bounded in that respect.
+ * Whereas 0 seconds stop shrinking before the first candidate.
+ *
+ * <p>
+ * Wall-clock seconds depend on machine load. The number of falsifications does not,
+ * and falsifier CPU time depends on it much less.
+ * Falsifications are counted in the order in which candidates would have been falsified sequentially,
+ * so that speculative falsification on several threads does not change the shrunk sample.
+ * </p>
+ */
+public class ShrinkingBudget {
+
+	public enum Bound {
+		SECONDS,
+		FALSIFICATIONS,
+		CPU_SECONDS
+	}
+
+	private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+	public static ShrinkingBudget unbounded() {
+		return new ShrinkingBudget(-1, 0, 0);
+	}
+
+	public static ShrinkingBudget seconds(int seconds) {
+		return new ShrinkingBudget(seconds, 0, 0);
+	}
+
+	private final int maxSeconds;
+	private final int maxFalsifications;
+	private final int maxCpuSeconds;
+
+	public ShrinkingBudget(int maxSeconds, int maxFalsifications, int maxCpuSeconds) {
+		this.maxSeconds = maxSeconds;
+		this.maxFalsifications = maxFalsifications;
+		this.maxCpuSeconds = maxCpuSeconds;
+	}
+
+	public int maxSeconds() {
+		return maxSeconds;
+	}
+
+	public int maxFalsifications() {
+		return maxFalsifications;
+	}
+
+	public int maxCpuSeconds() {
+		return maxCpuSeconds;
+	}
+
+	Tracker startTracking() {
+		return new Tracker();
+	}
+
+	@Override
+	public String toString() {
+		List<String> bounds = new ArrayList<>();
+		if (maxSeconds >= 0) {
+			bounds.add(String.format("%s seconds", maxSeconds));
+		}
+		if (maxFalsifications > 0) {
+			bounds.add(String.format("%s falsifications", maxFalsifications));
+		}
+		if (maxCpuSeconds > 0) {
+			bounds.add(String.format("%s CPU seconds", maxCpuSeconds));
+		}
+		return bounds.isEmpty() ? "unbounded" : String.join(", ", bounds);
+	}
+
+	// CPU time is not available on all JVMs, in which case the elapsed time of falsifications is used
+	private static boolean cpuTimeAvailable() {
+		return THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported() && THREAD_MX_BEAN.isThreadCpuTimeEnabled();
+	}
+
+	private static long currentThreadCpuNanos() {
+		return cpuTimeAvailable() ? THREAD_MX_BEAN.getCurrentThreadCpuTime() : System.nanoTime();
+	}
+
+	/**
+	 * Keeps track of consumption during a single shrinking run.
+	 * CPU time can be added from any thread that falsifies candidates.
+	 */
+	class Tracker {
+
+		private final long startNanos = System.nanoTime();
+		private final AtomicLong cpuNanos = new AtomicLong(0);
+
+		private volatile Bound reachedBound = null;
+
+		<T> Falsifier<T> measuring(Falsifier<T> falsifier) {
+			return params -> {
+				long before = currentThreadCpuNanos();
+				try {
+					return falsifier.execute(params);
+				} finally {
+					cpuNanos.addAndGet(currentThreadCpuNanos() - before);
+				}
+			};
+		}
+
+		/**
+		 * @param falsifications number of falsifications that have been taken into account so far
+		 */
+		void check(int falsifications) {
+			Bound bound = exceededBound(falsifications);
+			if (bound != null) {
+				reachedBound = bound;
+				throw new BoundReached(bound);
+			}
+		}
+
+		private Bound exceededBound(int falsifications) {
+			if (maxFalsifications > 0 && falsifications >= maxFalsifications) {
+				return Bound.FALSIFICATIONS;
+			}
+			if (maxCpuSeconds > 0 && cpuNanos.get() >= TimeUnit.SECONDS.toNanos(maxCpuSeconds)) {
+				return Bound.CPU_SECONDS;
+			}
+			if (maxSeconds >= 0 && System.nanoTime() - startNanos >= TimeUnit.SECONDS.toNanos(maxSeconds)) {
+				return Bound.SECONDS;
+			}
+			return null;
+		}
+
+		ShrinkingConsumption consumption(int falsifications) {
+			return new ShrinkingConsumption(
+				ShrinkingBudget.this,
+				reachedBound,
+				falsifications,
+				cpuNanos.get(),
+				System.nanoTime() - startNanos
+			);
+		}
+	}
+
+	static class BoundReached extends RuntimeException {
+
+		private final Bound bound;
+
+		private BoundReached(Bound bound) {
+			super("Shrinking bound reached: " + bound, null, false, false);
+			this.bound = bound;
+		}
+
+		Bound bound() {
+			return bound;
+		}
+	}
+}
@@ -30,9 +30,7 @@ class ShrinkingCommons {
 				elements.get(pair.get1()).shrink(),
 				elements.get(pair.get2()).shrink(),
 				(Shrinkable<E> s1, Shrinkable<E> s2) -> {
-					List<Shrinkable<E>> newElements = new ArrayList<>(elements);
-					newElements.set(pair.get1(), s1);
-					newElements.set(pair.get2(), s2);
+					List<Shrinkable<E>> newElements = replace(elements, pair.get1(), s1, pair.get2(), s2);
 					return createContainer.apply(newElements);
 				}
 			));
@@ -74,10 +72,26 @@ class ShrinkingCommons {
 							})
 							.filter(quadruple -> quadruple.get2().compareTo(quadruple.get4()) > 0)
 							.map(quadruple -> {
-								List<Shrinkable<E>> pairSwap = new ArrayList<>(elements);
-								pairSwap.set(quadruple.get1(), quadruple.get4());
-								pairSwap.set(quadruple.get3(), quadruple.get2());
+								List<Shrinkable<E>> pairSwap = replace(
+									elements,
+									quadruple.get1(), quadruple.get4(),
+									quadruple.get3(), quadruple.get2()
+								);
 								return createContainer.apply(pairSwap);
 							});
 	}
+
+	private static <E> List<Shrinkable<E>> replace(
+		List<Shrinkable<E>> elements,
+		int index1, Shrinkable<E> element1,
+		int index2, Shrinkable<E> element2
+	) {
+		if (elements instanceof ShrinkableElements) {
+			return ((ShrinkableElements<E>) elements).with(index1, element1).with(index2, element2);
+		}
+		List<Shrinkable<E>> newElements = new ArrayList<>(elements);
+		newElements.set(index1, element1);
+		newElements.set(index2, element2);
+		return newElements;
+	}
 }
@@ -0,0 +1,67 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * How much of a {@linkplain ShrinkingBudget} a shrinking run has used up
+ * and which bound - if any - has ended it.
+ */
+public class ShrinkingConsumption {
+
+	private final ShrinkingBudget budget;
+	private final ShrinkingBudget.Bound reachedBound;
+	private final int falsifications;
+	private final long cpuNanos;
+	private final long elapsedNanos;
+
+	ShrinkingConsumption(
+		ShrinkingBudget budget,
+		ShrinkingBudget.Bound reachedBound,
+		int falsifications,
+		long cpuNanos,
+		long elapsedNanos
+	) {
+		this.budget = budget;
+		this.reachedBound = reachedBound;
+		this.falsifications = falsifications;
+		this.cpuNanos = cpuNanos;
+		this.elapsedNanos = elapsedNanos;
+	}
+
+	public ShrinkingBudget budget() {
+		return budget;
+	}
+
+	public Optional<ShrinkingBudget.Bound> reachedBound() {
+		return Optional.ofNullable(reachedBound);
+	}
+
+	/**
+	 * Number of executed falsifications, i.e. candidates whose result was not taken from the cache.
+	 */
+	public int falsifications() {
+		return falsifications;
+	}
+
+	/**
+	 * CPU time of all falsifications, including speculative ones whose results were not needed.
+	 */
+	public long cpuNanos() {
+		return cpuNanos;
+	}
+
+	public long elapsedNanos() {
+		return elapsedNanos;
+	}
+
+	@Override
+	public String toString() {
+		return String.format(
+			"ShrinkingConsumption{budget=[%s], reached=%s, falsifications=%s, cpu=%sms, elapsed=%sms}",
+			budget, reachedBound, falsifications,
+			TimeUnit.NANOSECONDS.toMillis(cpuNanos),
+			TimeUnit.NANOSECONDS.toMillis(elapsedNanos)
+		);
+	}
+}
@@ -11,10 +11,22 @@ import net.jqwik.engine.properties.*;
 
 public class ShrunkSampleRecreator {
 
+	public static final int DEFAULT_SHRINKING_CACHE_SIZE = FalsificationCache.DEFAULT_MAX_SIZE;
+
 	private final List<Shrinkable<Object>> shrinkables;
+	private final int shrinkingCacheSize;
 
 	public ShrunkSampleRecreator(List<Shrinkable<Object>> shrinkables) {
+		this(shrinkables, DEFAULT_SHRINKING_CACHE_SIZE);
+	}
+
+	/**
+	 * Cached falsification results are not part of a shrinking sequence.
+	 * Therefore the cache must have the same size as during original shrinking.
+	 */
+	public ShrunkSampleRecreator(List<Shrinkable<Object>> shrinkables, int shrinkingCacheSize) {
 		this.shrinkables = shrinkables;
+		this.shrinkingCacheSize = shrinkingCacheSize;
 	}
 
 	public Optional<List<Shrinkable<Object>>> recreateFrom(List<TryExecutionResult.Status> shrinkingSequence) {
@@ -33,7 +45,9 @@ public class ShrunkSampleRecreator {
 		ShrinkingAlgorithm plainShrinker = new ShrinkingAlgorithm(
 			originalSample,
 			sampleShrunkConsumer,
-			ignore -> {}
+			ignore -> {},
+			new FalsificationCache(shrinkingCacheSize),
+			FalsificationExecutor.sequential()
 		);
 
 		try {
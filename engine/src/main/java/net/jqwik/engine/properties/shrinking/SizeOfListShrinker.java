@@ -3,10 +3,24 @@ package net.jqwik.engine.properties.shrinking;
 import java.util.*;
 import java.util.stream.*;
 
-import net.jqwik.engine.support.*;
-
+/**
+ * Shrinks the size of a list by removing chunks of elements in the style of delta debugging.
+ *
+ * <p>
+ * The first chunk to remove is everything above {@code minSize}, then chunks are halved until a single element
+ * is removed. As long as there are only a few chunks of a size all of them are removed one after the other,
+ * otherwise only the last and the first one.
+ * </p>
+ *
+ * <p>
+ * Candidates are created lazily and come in order of ascending size. Since size is the most significant part
+ * of a container's shrinking distance there is no need to sort candidates by distance.
+ * </p>
+ */
 public class SizeOfListShrinker<T> {
 
+	private static final int MAX_CHUNKS_TO_REMOVE_ONE_BY_ONE = 16;
+
 	private final int minSize;
 
 	public SizeOfListShrinker(int minSize) {
@@ -16,71 +30,69 @@ public class SizeOfListShrinker<T> {
 	public Stream<List<T>> shrink(List<T> toShrink) {
 		if (toShrink.size() <= minSize)
 			return Stream.empty();
-		return JqwikStreamSupport.concat(
-			emptyList(),
-			cuts(toShrink)
-		).filter(l -> l.size() >= minSize);
+		Iterator<List<T>> candidates = new ChunkRemovals<>(toShrink, minSize);
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(candidates, Spliterator.ORDERED), false);
 	}
 
-	private Stream<List<T>> emptyList() {
-		if (minSize == 0) {
-			return Stream.of(new ArrayList<>());
-		} else {
-			return Stream.empty();
-		}
-	}
+	private static class ChunkRemovals<T> implements Iterator<List<T>> {
 
-	public Stream<List<T>> cuts(List<T> toShrink) {
-		Set<List<T>> lists = new LinkedHashSet<>();
-		appendRightCuts(toShrink, lists);
-		appendLeftCuts(toShrink, lists);
-		return lists.stream();
-	}
+		private final List<T> toShrink;
+		private int chunkSize;
+		private int[] chunkStarts;
+		private int nextChunk = 0;
 
-	private void appendLeftCuts(List<T> toShrink, Set<List<T>> lists) {
-		int elementsToCut = calculateElementsToCut(toShrink.size());
-		appendLeftCut(toShrink, lists, elementsToCut);
-		if (elementsToCut != 1) {
-			appendLeftCut(toShrink, lists, 1);
+		private ChunkRemovals(List<T> toShrink, int minSize) {
+			this.toShrink = toShrink;
+			this.chunkSize = toShrink.size() - minSize;
+			this.chunkStarts = chunkStarts(toShrink.size(), chunkSize);
 		}
-	}
 
-	private void appendLeftCut(List<T> toShrink, Set<List<T>> lists, int elementsToCut) {
-		lists.add(new ArrayList<>(cutFromLeft(toShrink, elementsToCut)));
-	}
-
-	private List<T> cutFromLeft(List<T> toShrink, int elementsToCut) {
-		return toShrink.subList(elementsToCut, toShrink.size());
-	}
-
-	private int calculateElementsToCut(int listSize) {
-		int toCut = rawElementsToCut(listSize);
-		return Math.min(toCut, listSize - minSize);
-	}
-
-	private int rawElementsToCut(int listSize) {
-		// TODO: Improve cut size. Those values are purely guesses.
-		// Maybe use integer shrinking to determine target size.
-		if (listSize <= 10)
-			return 1;
-		if (listSize < 20)
-			return listSize - 9;
-		return listSize / 2;
-	}
-
-	private void appendRightCuts(List<T> toShrink, Set<List<T>> lists) {
-		int elementsToCut = calculateElementsToCut(toShrink.size());
-		appendRightCut(toShrink, lists, elementsToCut);
-		if (elementsToCut != 1) {
-			appendRightCut(toShrink, lists, 1);
+		@Override
+		public boolean hasNext() {
+			if (nextChunk < chunkStarts.length) {
+				return true;
+			}
+			if (chunkSize <= 1) {
+				return false;
+			}
+			chunkSize /= 2;
+			chunkStarts = chunkStarts(toShrink.size(), chunkSize);
+			nextChunk = 0;
+			return true;
 		}
-	}
 
-	private void appendRightCut(List<T> toShrink, Set<List<T>> lists, int elementsToCut) {
-		lists.add(new ArrayList<>(cutFromRight(toShrink, elementsToCut)));
-	}
+		@Override
+		public List<T> next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			int start = chunkStarts[nextChunk++];
+			List<T> candidate = new ArrayList<>(toShrink.size() - chunkSize);
+			candidate.addAll(toShrink.subList(0, start));
+			candidate.addAll(toShrink.subList(start + chunkSize, toShrink.size()));
+			return candidate;
+		}
 
-	private List<T> cutFromRight(List<T> toShrink, int elementsToCut) {
-		return toShrink.subList(0, toShrink.size() - elementsToCut);
+		// Starts of chunks from last to first
+		private static int[] chunkStarts(int listSize, int chunkSize) {
+			int lastStart = listSize - chunkSize;
+			if (lastStart == 0) {
+				return new int[]{0};
+			}
+			int alignedChunks = listSize / chunkSize;
+			if (alignedChunks > MAX_CHUNKS_TO_REMOVE_ONE_BY_ONE) {
+				return new int[]{lastStart, 0};
+			}
+			boolean lastChunkIsAligned = lastStart % chunkSize == 0;
+			int[] starts = new int[lastChunkIsAligned ? alignedChunks : alignedChunks + 1];
+			int index = 0;
+			if (!lastChunkIsAligned) {
+				starts[index++] = lastStart;
+			}
+			for (int chunk = alignedChunks - 1; chunk >= 0; chunk--) {
+				starts[index++] = chunk * chunkSize;
+			}
+			return starts;
+		}
 	}
 }
@@ -0,0 +1,131 @@
+package net.jqwik.engine.recording;
+
+import java.nio.*;
+import java.util.*;
+import java.util.logging.*;
+import java.util.stream.*;
+
+import org.junit.platform.engine.*;
+
+/**
+ * Test run data that is backed by the raw - usually memory mapped - content of a test run database.
+ * Records are found by binary search through index entries sorted by unique id hash.
+ * Only the records that are actually asked for are decoded.
+ *
+ * <p>
+ * All reads use absolute positions so that lookups can happen concurrently.
+ * </p>
+ */
+class IndexedTestRunData implements TestRunLookup {
+
+	private static final Logger LOG = Logger.getLogger(IndexedTestRunData.class.getName());
+
+	private final ByteBuffer content;
+	private final int recordsEnd;
+	private final ByteBuffer index;
+	private final int indexEntryCount;
+
+	/**
+	 * @param content    the whole database content including file header
+	 * @param recordsEnd the offset after the last record that can be read
+	 * @param index      index entries as described in {@linkplain TestRunFormat}
+	 */
+	IndexedTestRunData(ByteBuffer content, int recordsEnd, ByteBuffer index) {
+		this.content = content;
+		this.recordsEnd = recordsEnd;
+		this.index = index;
+		this.indexEntryCount = index.remaining() / TestRunFormat.INDEX_ENTRY_SIZE;
+	}
+
+	@Override
+	public Optional<TestRun> byUniqueId(UniqueId uniqueId) {
+		String uniqueIdString = uniqueId.toString();
+		long hash = TestRunFormat.hash(uniqueIdString);
+		for (int entry = firstEntryWithHash(hash); entry < indexEntryCount && entryHash(entry) == hash; entry++) {
+			Optional<ByteBuffer> payload = validPayload(entryOffset(entry));
+			if (payload.isPresent() && TestRunFormat.uniqueIdString(payload.get()).equals(uniqueIdString)) {
+				return decode(payload.get());
+			}
+		}
+		return Optional.empty();
+	}
+
+	@Override
+	public Stream<TestRun> allNonSuccessfulTests() {
+		List<Integer> recordOffsets = new ArrayList<>();
+		int offset = TestRunFormat.FILE_HEADER_SIZE;
+		while (offset <= recordsEnd - TestRunFormat.RECORD_HEADER_SIZE) {
+			int payloadLength = content.getInt(offset);
+			if (payloadLength < 0 || payloadLength > recordsEnd - offset - TestRunFormat.RECORD_HEADER_SIZE) {
+				break;
+			}
+			recordOffsets.add(offset);
+			offset += TestRunFormat.RECORD_HEADER_SIZE + payloadLength;
+		}
+		return recordOffsets.stream()
+							.map(this::validPayload)
+							.filter(Optional::isPresent)
+							.map(payload -> decode(payload.get()))
+							.filter(Optional::isPresent)
+							.map(Optional::get)
+							.filter(TestRun::isNotSuccessful);
+	}
+
+	private int firstEntryWithHash(long hash) {
+		int low = 0;
+		int high = indexEntryCount;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (entryHash(middle) < hash) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	private long entryHash(int entry) {
+		return index.getLong(index.position() + entry * TestRunFormat.INDEX_ENTRY_SIZE);
+	}
+
+	private int entryOffset(int entry) {
+		return index.getInt(index.position() + entry * TestRunFormat.INDEX_ENTRY_SIZE + 8);
+	}
+
+	private Optional<ByteBuffer> validPayload(int offset) {
+		if (offset < TestRunFormat.FILE_HEADER_SIZE || offset > recordsEnd - TestRunFormat.RECORD_HEADER_SIZE) {
+			LOG.warning(() -> String.format("Skipping index entry with invalid offset %s of test run database", offset));
+			return Optional.empty();
+		}
+		int payloadLength = content.getInt(offset);
+		int checksum = content.getInt(offset + 4);
+		long uniqueIdHash = content.getLong(offset + 8);
+		if (payloadLength < 0 || payloadLength > recordsEnd - offset - TestRunFormat.RECORD_HEADER_SIZE) {
+			LOG.warning(() -> String.format("Skipping record with invalid length at offset %s of test run database", offset));
+			return Optional.empty();
+		}
+		ByteBuffer payload = slice(offset + TestRunFormat.RECORD_HEADER_SIZE, payloadLength);
+		if (TestRunFormat.checksum(uniqueIdHash, payload.duplicate()) != checksum) {
+			LOG.warning(() -> String.format("Skipping corrupt record at offset %s of test run database", offset));
+			return Optional.empty();
+		}
+		return Optional.of(payload);
+	}
+
+	private ByteBuffer slice(int offset, int length) {
+		ByteBuffer duplicate = content.duplicate();
+		duplicate.position(offset);
+		duplicate.limit(offset + length);
+		return duplicate.slice();
+	}
+
+	private Optional<TestRun> decode(ByteBuffer payload) {
+		try {
+			return Optional.of(TestRunFormat.decode(payload));
+		} catch (RuntimeException cannotDecode) {
+			LOG.log(Level.WARNING, "Skipping undecodable record of test run database", cannotDecode);
+			return Optional.empty();
+		}
+	}
+}
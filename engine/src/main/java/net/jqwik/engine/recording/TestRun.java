@@ -1,13 +1,11 @@
 package net.jqwik.engine.recording;
 
-import java.io.*;
-
 import org.junit.platform.engine.*;
 
 import net.jqwik.api.lifecycle.PropertyExecutionResult.*;
 import net.jqwik.engine.execution.*;
 
-public class TestRun implements Serializable {
+public class TestRun {
 	private final String uniqueIdString;
 	private final int statusOrdinal;
 	private final GenerationInfo generationInfo;
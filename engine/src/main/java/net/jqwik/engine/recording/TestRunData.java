@@ -7,7 +7,7 @@ import org.junit.platform.engine.*;
 
 import net.jqwik.engine.support.*;
 
-public class TestRunData {
+public class TestRunData implements TestRunLookup {
 
 	private final Collection<TestRun> data;
 
@@ -23,6 +23,7 @@ public class TestRunData {
 		data.add(testRun);
 	}
 
+	@Override
 	public Optional<TestRun> byUniqueId(UniqueId uniqueId) {
 		try {
 			return data.stream()
@@ -37,6 +38,7 @@ public class TestRunData {
 		}
 	}
 
+	@Override
 	public Stream<TestRun> allNonSuccessfulTests() {
 		return data.stream().filter(TestRun::isNotSuccessful);
 	}
@@ -1,10 +1,29 @@
 package net.jqwik.engine.recording;
 
 import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
 import java.nio.file.*;
 import java.util.*;
 import java.util.logging.*;
 
+/**
+ * The database is written in {@linkplain TestRunFormat jqwik's own binary format}.
+ *
+ * <p>
+ * Records are written to a temporary file next to the database and flushed one by one
+ * so that an aborted run leaves at most one incomplete record at the end,
+ * which is ignored when the database is read again.
+ * When recording has finished a sorted index is appended and the temporary file
+ * replaces the database. A temporary file left behind by an aborted run
+ * replaces the database at the start of the next run.
+ * </p>
+ *
+ * <p>
+ * The previous run's database is memory mapped and looked up through its index.
+ * No record is decoded before its property is about to be executed.
+ * </p>
+ */
 public class TestRunDatabase {
 
 	// Only record failing test runs, the others are currently not needed anywhere
@@ -13,51 +32,86 @@ public class TestRunDatabase {
 	private static final Logger LOG = Logger.getLogger(TestRunDatabase.class.getName());
 
 	private final Path databasePath;
-	private final TestRunData previousRunData;
+	private final Path recordingPath;
+	private final TestRunLookup previousRunData;
 	private boolean stopRecording = false;
 
 	public TestRunDatabase(Path databasePath) {
 		this.databasePath = databasePath;
+		this.recordingPath = databasePath.resolveSibling(databasePath.getFileName() + ".tmp");
+		recoverAbortedRecording();
 		this.previousRunData = loadExistingRunData();
 	}
 
-	private TestRunData loadExistingRunData() {
+	private void recoverAbortedRecording() {
+		if (!Files.exists(recordingPath)) {
+			return;
+		}
+		try {
+			Files.move(recordingPath, databasePath, StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException e) {
+			logReadException(e);
+		}
+	}
+
+	private TestRunLookup loadExistingRunData() {
 		if (!Files.exists(databasePath)) {
 			return new TestRunData();
 		}
 
-		try (ObjectInputStream ois = createObjectInputStream()) {
-			List<TestRun> data = readAllTestRuns(ois);
-			return new TestRunData(data);
+		try {
+			ByteBuffer content = map(databasePath);
+			if (!TestRunFormat.hasValidFileHeader(content)) {
+				LOG.log(Level.INFO, () -> String.format("Ignoring database [%s] in unknown format", databasePath.toAbsolutePath()));
+				return new TestRunData();
+			}
+			int indexEntryCount = TestRunFormat.indexEntryCount(content);
+			if (indexEntryCount < 0) {
+				return scanRecords(content);
+			}
+			int indexOffset = TestRunFormat.indexOffset(content);
+			ByteBuffer index = content.duplicate();
+			index.position(indexOffset);
+			index.limit(indexOffset + indexEntryCount * TestRunFormat.INDEX_ENTRY_SIZE);
+			return new IndexedTestRunData(content, indexOffset, index.slice());
 		} catch (Exception e) {
 			logReadException(e);
-			deleteDatabase();
 			return new TestRunData();
 		}
 	}
 
-	private void deleteDatabase() {
-		try {
-			Files.delete(databasePath);
-		} catch (IOException ignore) {
+	private static ByteBuffer map(Path path) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			// The mapping stays valid after the channel has been closed
+			return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
 		}
 	}
 
-	private List<TestRun> readAllTestRuns(ObjectInputStream ois) throws ClassNotFoundException {
-		List<TestRun> testRuns = new ArrayList<>();
-		while (true) {
-			try {
-				TestRun testRun = (TestRun) ois.readObject();
-				testRuns.add(testRun);
-			} catch (EOFException eof) {
-				break;
-			} catch (IOException eof) {
-				logReadException(eof);
-				deleteDatabase();
+	/**
+	 * Databases without index - e.g. from an aborted run - are indexed in memory.
+	 */
+	private TestRunLookup scanRecords(ByteBuffer content) {
+		RecordOffsets recordOffsets = new RecordOffsets();
+		int offset = TestRunFormat.FILE_HEADER_SIZE;
+		while (offset < content.limit()) {
+			int remaining = content.limit() - offset;
+			if (remaining < TestRunFormat.RECORD_HEADER_SIZE || !fitsIn(content.getInt(offset), remaining)) {
+				int incompleteRecordOffset = offset;
+				LOG.log(Level.WARNING, () -> String.format(
+					"Ignoring incomplete record at offset %s of database [%s]",
+					incompleteRecordOffset,
+					databasePath.toAbsolutePath()
+				));
 				break;
 			}
+			recordOffsets.add(content.getLong(offset + 8), offset);
+			offset += TestRunFormat.RECORD_HEADER_SIZE + content.getInt(offset);
 		}
-		return testRuns;
+		return new IndexedTestRunData(content, offset, recordOffsets.sortedIndexEntries());
+	}
+
+	private boolean fitsIn(int payloadLength, int remaining) {
+		return payloadLength >= 0 && payloadLength <= remaining - TestRunFormat.RECORD_HEADER_SIZE;
 	}
 
 	private void logReadException(Exception eof) {
@@ -68,9 +122,14 @@ public class TestRunDatabase {
 		LOG.log(Level.WARNING, e, () -> String.format("Cannot write database [%s]", databasePath.toAbsolutePath()));
 	}
 
-	private ObjectOutputStream createObjectOutputStream() {
+	private OutputStream createOutputStream() {
 		try {
-			return new ObjectOutputStream(Files.newOutputStream(databasePath, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING));
+			OutputStream outputStream = new BufferedOutputStream(
+				Files.newOutputStream(recordingPath, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)
+			);
+			outputStream.write(TestRunFormat.fileHeader());
+			outputStream.flush();
+			return outputStream;
 		} catch (IOException e) {
 			stopRecording = true;
 			logWriteException(e);
@@ -78,16 +137,54 @@ public class TestRunDatabase {
 		}
 	}
 
-	private ObjectInputStream createObjectInputStream() throws IOException {
-		return new ObjectInputStream(Files.newInputStream(databasePath, StandardOpenOption.CREATE));
+	private void replaceDatabaseWithRecording() {
+		try {
+			try {
+				Files.move(recordingPath, databasePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(recordingPath, databasePath, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} catch (IOException e) {
+			// E.g. on Windows a file cannot be replaced while it is still mapped
+			LOG.log(Level.INFO, () -> String.format(
+				"Cannot replace database [%s] yet. It will be replaced when the next run starts.",
+				databasePath.toAbsolutePath()
+			));
+		}
+	}
+
+	private static class RecordOffsets {
+		private long[] hashes = new long[16];
+		private int[] offsets = new int[16];
+		private int count = 0;
+
+		private void add(long hash, int offset) {
+			if (count == hashes.length) {
+				hashes = Arrays.copyOf(hashes, count * 2);
+				offsets = Arrays.copyOf(offsets, count * 2);
+			}
+			hashes[count] = hash;
+			offsets[count] = offset;
+			count++;
+		}
+
+		private ByteBuffer sortedIndexEntries() {
+			return TestRunFormat.sortedIndexEntries(hashes, offsets, count);
+		}
+
+		private byte[] index(int indexOffset) {
+			return TestRunFormat.index(hashes, offsets, count, indexOffset);
+		}
 	}
 
 	private class Recorder implements TestRunRecorder {
 
-		private final ObjectOutputStream objectOutputStream;
+		private final OutputStream outputStream;
+		private final RecordOffsets recordOffsets = new RecordOffsets();
+		private int nextOffset = TestRunFormat.FILE_HEADER_SIZE;
 
-		private Recorder(ObjectOutputStream objectOutputStream) {
-			this.objectOutputStream = objectOutputStream;
+		private Recorder(OutputStream outputStream) {
+			this.outputStream = outputStream;
 		}
 
 		@Override
@@ -97,7 +194,11 @@ public class TestRunDatabase {
 			}
 			try {
 				if (testRun.isNotSuccessful() || RECORD_SUCCESSFUL_RUNS) {
-					objectOutputStream.writeObject(testRun);
+					byte[] record = TestRunFormat.record(testRun);
+					outputStream.write(record);
+					outputStream.flush();
+					recordOffsets.add(TestRunFormat.hash(testRun.getUniqueId().toString()), nextOffset);
+					nextOffset += record.length;
 				}
 			} catch (IOException e) {
 				stopRecording = true;
@@ -107,20 +208,28 @@ public class TestRunDatabase {
 
 		@Override
 		public void close() {
+			if (outputStream == null) {
+				return;
+			}
 			try {
-				objectOutputStream.close();
+				if (!stopRecording) {
+					outputStream.write(recordOffsets.index(nextOffset));
+				}
+				outputStream.close();
 			} catch (IOException e) {
 				logWriteException(e);
+				return;
 			}
+			replaceDatabaseWithRecording();
 		}
 
 	}
 
-	public TestRunData previousRun() {
+	public TestRunLookup previousRun() {
 		return previousRunData;
 	}
 
 	public TestRunRecorder recorder() {
-		return new Recorder(createObjectOutputStream());
+		return new Recorder(createOutputStream());
 	}
 }
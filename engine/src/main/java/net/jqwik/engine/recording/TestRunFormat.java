@@ -0,0 +1,198 @@
+package net.jqwik.engine.recording;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.charset.*;
+import java.util.*;
+import java.util.zip.*;
+
+import org.junit.platform.engine.*;
+
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.api.lifecycle.PropertyExecutionResult.*;
+import net.jqwik.engine.execution.*;
+
+/**
+ * Binary format of jqwik's test run database:
+ *
+ * <pre>
+ * file    := magic:int version:int record* [index]
+ * record  := payloadLength:int checksum:int uniqueIdHash:long payload
+ * payload := uniqueId:string status:byte hasSeed:byte [seed:string] generationIndex:int
+ *            sequenceCount:int (sequenceLength:int statusOrdinal:byte*)*
+ * string  := length:int utf8:byte*
+ * index   := (uniqueIdHash:long recordOffset:int)* indexOffset:int entryCount:int indexMagic:int
+ * </pre>
+ *
+ * The checksum is a CRC32 over uniqueIdHash and payload.
+ * Index entries are sorted by hash so that a record can be found by binary search.
+ * The index is only written when a recording has been finished;
+ * without it records can still be found by scanning all record headers.
+ */
+class TestRunFormat {
+
+	static final int MAGIC = 0x4a514442; // "JQDB"
+	static final int VERSION = 1;
+	static final int FILE_HEADER_SIZE = 8;
+	static final int RECORD_HEADER_SIZE = 16;
+	static final int INDEX_MAGIC = 0x4a515849; // "JQXI"
+	static final int INDEX_ENTRY_SIZE = 12;
+	static final int INDEX_TRAILER_SIZE = 12;
+
+	private TestRunFormat() {
+	}
+
+	static byte[] fileHeader() {
+		return ByteBuffer.allocate(FILE_HEADER_SIZE).putInt(MAGIC).putInt(VERSION).array();
+	}
+
+	static boolean hasValidFileHeader(ByteBuffer buffer) {
+		if (buffer.limit() < FILE_HEADER_SIZE) {
+			return false;
+		}
+		return buffer.getInt(0) == MAGIC && buffer.getInt(4) == VERSION;
+	}
+
+	/**
+	 * @return the number of index entries or -1 if the content does not end with a valid index
+	 */
+	static int indexEntryCount(ByteBuffer content) {
+		int trailerOffset = content.limit() - INDEX_TRAILER_SIZE;
+		if (trailerOffset < FILE_HEADER_SIZE || content.getInt(trailerOffset + 8) != INDEX_MAGIC) {
+			return -1;
+		}
+		int indexOffset = content.getInt(trailerOffset);
+		int entryCount = content.getInt(trailerOffset + 4);
+		if (indexOffset < FILE_HEADER_SIZE || entryCount < 0 || indexOffset + (long) entryCount * INDEX_ENTRY_SIZE != trailerOffset) {
+			return -1;
+		}
+		return entryCount;
+	}
+
+	static int indexOffset(ByteBuffer content) {
+		return content.getInt(content.limit() - INDEX_TRAILER_SIZE);
+	}
+
+	/**
+	 * Creates index entries sorted by hash without the trailer.
+	 */
+	static ByteBuffer sortedIndexEntries(long[] hashes, int[] recordOffsets, int entryCount) {
+		Integer[] order = new Integer[entryCount];
+		for (int i = 0; i < entryCount; i++) {
+			order[i] = i;
+		}
+		// Stable sort keeps records with the same hash in the order of recording
+		Arrays.sort(order, Comparator.comparingLong(i -> hashes[i]));
+		ByteBuffer entries = ByteBuffer.allocate(entryCount * INDEX_ENTRY_SIZE);
+		for (int i : order) {
+			entries.putLong(hashes[i]).putInt(recordOffsets[i]);
+		}
+		entries.flip();
+		return entries;
+	}
+
+	static byte[] index(long[] hashes, int[] recordOffsets, int entryCount, int indexOffset) {
+		ByteBuffer index = ByteBuffer.allocate(entryCount * INDEX_ENTRY_SIZE + INDEX_TRAILER_SIZE);
+		index.put(sortedIndexEntries(hashes, recordOffsets, entryCount));
+		index.putInt(indexOffset).putInt(entryCount).putInt(INDEX_MAGIC);
+		return index.array();
+	}
+
+	/**
+	 * FNV-1a over the UTF-8 bytes of the unique id's string representation,
+	 * which - unlike {@linkplain Object#hashCode()} of a UniqueId - is stable between JVMs.
+	 */
+	static long hash(String uniqueIdString) {
+		long hash = 0xcbf29ce484222325L;
+		for (byte b : uniqueIdString.getBytes(StandardCharsets.UTF_8)) {
+			hash ^= (b & 0xff);
+			hash *= 0x100000001b3L;
+		}
+		return hash;
+	}
+
+	static byte[] record(TestRun testRun) {
+		String uniqueIdString = testRun.getUniqueId().toString();
+		byte[] payload = payload(uniqueIdString, testRun);
+		long uniqueIdHash = hash(uniqueIdString);
+		ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_SIZE + payload.length);
+		record.putInt(payload.length);
+		record.putInt(checksum(uniqueIdHash, ByteBuffer.wrap(payload)));
+		record.putLong(uniqueIdHash);
+		record.put(payload);
+		return record.array();
+	}
+
+	private static byte[] payload(String uniqueIdString, TestRun testRun) {
+		try {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			DataOutputStream out = new DataOutputStream(bytes);
+			writeString(out, uniqueIdString);
+			out.writeByte(testRun.getStatus().ordinal());
+			GenerationInfo generationInfo = testRun.generationInfo();
+			Optional<String> randomSeed = generationInfo.randomSeed();
+			out.writeBoolean(randomSeed.isPresent());
+			if (randomSeed.isPresent()) {
+				writeString(out, randomSeed.get());
+			}
+			out.writeInt(generationInfo.generationIndex());
+			List<List<TryExecutionResult.Status>> shrinkingSequences = generationInfo.shrinkingSequences();
+			out.writeInt(shrinkingSequences.size());
+			for (List<TryExecutionResult.Status> sequence : shrinkingSequences) {
+				out.writeInt(sequence.size());
+				for (TryExecutionResult.Status status : sequence) {
+					out.writeByte(status.ordinal());
+				}
+			}
+			out.flush();
+			return bytes.toByteArray();
+		} catch (IOException cannotHappenWithByteArray) {
+			throw new UncheckedIOException(cannotHappenWithByteArray);
+		}
+	}
+
+	private static void writeString(DataOutputStream out, String string) throws IOException {
+		byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	static int checksum(long uniqueIdHash, ByteBuffer payload) {
+		CRC32 crc = new CRC32();
+		crc.update(ByteBuffer.allocate(8).putLong(0, uniqueIdHash));
+		crc.update(payload);
+		return (int) crc.getValue();
+	}
+
+	/**
+	 * Returns the record's unique id without decoding the rest of its payload.
+	 */
+	static String uniqueIdString(ByteBuffer payload) {
+		return readString(payload.duplicate());
+	}
+
+	static TestRun decode(ByteBuffer payload) {
+		ByteBuffer in = payload.duplicate();
+		String uniqueIdString = readString(in);
+		Status status = Status.values()[in.get()];
+		String seed = in.get() != 0 ? readString(in) : null;
+		int generationIndex = in.getInt();
+		GenerationInfo generationInfo = new GenerationInfo(seed, generationIndex);
+		int sequenceCount = in.getInt();
+		for (int i = 0; i < sequenceCount; i++) {
+			int sequenceLength = in.getInt();
+			List<TryExecutionResult.Status> sequence = new ArrayList<>(sequenceLength);
+			for (int j = 0; j < sequenceLength; j++) {
+				sequence.add(TryExecutionResult.Status.values()[in.get()]);
+			}
+			generationInfo = generationInfo.appendShrinkingSequence(sequence);
+		}
+		return new TestRun(UniqueId.parse(uniqueIdString), status, generationInfo);
+	}
+
+	private static String readString(ByteBuffer in) {
+		byte[] bytes = new byte[in.getInt()];
+		in.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
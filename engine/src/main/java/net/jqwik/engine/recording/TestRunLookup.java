@@ -0,0 +1,16 @@
+package net.jqwik.engine.recording;
+
+import java.util.*;
+import java.util.stream.*;
+
+import org.junit.platform.engine.*;
+
+/**
+ * Read access to the test runs recorded in a previous run.
+ */
+public interface TestRunLookup {
+
+	Optional<TestRun> byUniqueId(UniqueId uniqueId);
+
+	Stream<TestRun> allNonSuccessfulTests();
+}
@@ -4,14 +4,47 @@ import java.util.*;
 import java.util.function.*;
 
 import net.jqwik.api.*;
+import net.jqwik.engine.*;
+import net.jqwik.engine.execution.lifecycle.*;
 
+/**
+ * Chooses values according to their frequencies.
+ *
+ * <p>
+ * By default an alias table (Vose's method) is built up front, which makes each choice O(1):
+ * One random index selects a column, and only if a column is shared with an alias
+ * a second random number decides between the column's own value and its alias.
+ * The tables use integer arithmetic so that probabilities are exactly proportional to frequencies.
+ * </p>
+ *
+ * <p>
+ * With legacy sampling values are chosen by a binary search over cumulative frequencies,
+ * which reproduces the values generated for a given seed by earlier versions.
+ * Unless chosen explicitly legacy sampling is taken from the configuration of the current engine run
+ * when an instance is created.
+ * Both ways of sampling choose the same values only if every frequency is 1.
+ * </p>
+ */
 public class ChooseRandomlyByFrequency<T> implements Function<Random, T> {
 
-	private int[] upperBounds;
+	private final boolean useLegacySampling;
+
 	private int size = 0;
 	private List<T> valuesToChooseFrom;
 
+	// Used by legacy sampling
+	private int[] upperBounds;
+
+	// Used by alias sampling
+	private int[] thresholds;
+	private int[] aliases;
+
 	public ChooseRandomlyByFrequency(List<Tuple.Tuple2<Integer, T>> frequencies) {
+		this(frequencies, legacySamplingConfigured());
+	}
+
+	public ChooseRandomlyByFrequency(List<Tuple.Tuple2<Integer, T>> frequencies, boolean useLegacySampling) {
+		this.useLegacySampling = useLegacySampling;
 		calculateUpperBorders(frequencies);
 		if (size <= 0) {
 			throw new JqwikException(String.format(
@@ -19,6 +52,15 @@ public class ChooseRandomlyByFrequency<T> implements Function<Random, T> {
 				JqwikStringSupport.displayString(frequencies)
 			));
 		}
+		if (!useLegacySampling) {
+			calculateAliasTable();
+		}
+	}
+
+	private static boolean legacySamplingConfigured() {
+		return CurrentJqwikConfiguration.get()
+										.map(JqwikConfiguration::legacyFrequencySampling)
+										.orElse(JqwikProperties.DEFAULT_LEGACY_FREQUENCY_SAMPLING);
 	}
 
 	protected List<T> possibleValues() {
@@ -42,6 +84,56 @@ public class ChooseRandomlyByFrequency<T> implements Function<Random, T> {
 		this.upperBounds = upperBounds.stream().mapToInt(i -> i).toArray();
 	}
 
+	// Each column has a capacity of size. A column's own value takes the first threshold of it,
+	// the rest is taken by the alias.
+	private void calculateAliasTable() {
+		int columns = upperBounds.length;
+		long[] scaledFrequencies = new long[columns];
+		for (int i = 0; i < columns; i++) {
+			int frequency = i == 0 ? upperBounds[0] : upperBounds[i] - upperBounds[i - 1];
+			scaledFrequencies[i] = (long) frequency * columns;
+		}
+
+		thresholds = new int[columns];
+		aliases = new int[columns];
+		int[] small = new int[columns];
+		int[] large = new int[columns];
+		int countSmall = 0;
+		int countLarge = 0;
+		for (int i = 0; i < columns; i++) {
+			if (scaledFrequencies[i] < size) {
+				small[countSmall++] = i;
+			} else {
+				large[countLarge++] = i;
+			}
+		}
+		while (countSmall > 0 && countLarge > 0) {
+			int lessThanFull = small[--countSmall];
+			int moreThanFull = large[--countLarge];
+			thresholds[lessThanFull] = (int) scaledFrequencies[lessThanFull];
+			aliases[lessThanFull] = moreThanFull;
+			scaledFrequencies[moreThanFull] -= size - scaledFrequencies[lessThanFull];
+			if (scaledFrequencies[moreThanFull] < size) {
+				small[countSmall++] = moreThanFull;
+			} else {
+				large[countLarge++] = moreThanFull;
+			}
+		}
+		// With exact integer arithmetic remaining columns are full
+		while (countLarge > 0) {
+			int full = large[--countLarge];
+			thresholds[full] = size;
+			aliases[full] = full;
+		}
+		while (countSmall > 0) {
+			int full = small[--countSmall];
+			thresholds[full] = size;
+			aliases[full] = full;
+		}
+		// Not needed any more
+		upperBounds = null;
+	}
+
 	private T choose(int index) {
 		int i = Arrays.binarySearch(upperBounds, index);
 		if (i < 0) {
@@ -61,7 +153,19 @@ public class ChooseRandomlyByFrequency<T> implements Function<Random, T> {
 		return valuesToChooseFrom.get(i);
 	}
 
+	private T chooseFromAliasTable(Random random) {
+		int column = random.nextInt(thresholds.length);
+		int threshold = thresholds[column];
+		if (threshold == size || random.nextInt(size) < threshold) {
+			return valuesToChooseFrom.get(column);
+		}
+		return valuesToChooseFrom.get(aliases[column]);
+	}
+
 	public T apply(Random random) {
-		return choose(random.nextInt(size));
+		if (useLegacySampling) {
+			return choose(random.nextInt(size));
+		}
+		return chooseFromAliasTable(random);
 	}
 }
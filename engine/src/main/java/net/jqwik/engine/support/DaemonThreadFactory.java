@@ -0,0 +1,24 @@
+package net.jqwik.engine.support;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Creates numbered daemon threads so that worker pools never prevent the JVM from shutting down.
+ */
+public class DaemonThreadFactory implements ThreadFactory {
+
+	private final String namePrefix;
+	private final AtomicInteger threadCounter = new AtomicInteger(0);
+
+	public DaemonThreadFactory(String namePrefix) {
+		this.namePrefix = namePrefix;
+	}
+
+	@Override
+	public Thread newThread(Runnable runnable) {
+		Thread thread = new Thread(runnable, namePrefix + "-" + threadCounter.incrementAndGet());
+		thread.setDaemon(true);
+		return thread;
+	}
+}
@@ -3,6 +3,7 @@ module net.jqwik.engine {
 	opens net.jqwik.engine.properties.configurators to org.junit.platform.commons;
 
 	requires java.logging;
+	requires java.management;
 	requires net.jqwik.api;
 	requires org.junit.platform.engine;
 
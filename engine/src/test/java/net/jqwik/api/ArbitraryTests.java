@@ -1,8 +1,10 @@
 package net.jqwik.api;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.concurrent.atomic.*;
 import java.util.function.*;
+import java.util.stream.*;
 
 import org.assertj.core.api.*;
 
@@ -444,6 +446,54 @@ class ArbitraryTests {
 				.forEach(anInt -> assertThat(anInt).isIn(values));
 		}
 
+		@Example
+		void seededSampleStreamIsReproducible() {
+			Arbitrary<String> strings = Arbitraries.strings().alpha().ofMaxLength(10);
+
+			List<String> first = strings.sampleStream("42", 100).collect(Collectors.toList());
+			List<String> second = strings.sampleStream("42", 100).collect(Collectors.toList());
+			List<String> otherSeed = strings.sampleStream("43", 100).collect(Collectors.toList());
+
+			assertThat(first).hasSize(100);
+			assertThat(second).isEqualTo(first);
+			assertThat(otherSeed).isNotEqualTo(first);
+			assertThat(strings.sampleStream("42", 10).collect(Collectors.toList())).isEqualTo(first.subList(0, 10));
+		}
+
+		@Example
+		void parallelSeededSampleStreamHasSameValuesAsSequentialStream() {
+			Arbitrary<List<Integer>> lists = Arbitraries.integers().between(1, 10)
+														.flatMap(size -> Arbitraries.integers().list().ofSize(size));
+
+			List<List<Integer>> sequential = lists.sampleStream("4711", 10000).collect(Collectors.toList());
+			List<List<Integer>> parallel = lists.sampleStream("4711", 10000).parallel().collect(Collectors.toList());
+
+			assertThat(parallel).isEqualTo(sequential);
+		}
+
+		@Example
+		void seededSampleStreamCanBeConsumedOutsideJqwikThread() throws Exception {
+			Arbitrary<Integer> ints = Arbitraries.integers().between(0, 100);
+			Stream<Integer> stream = ints.sampleStream("42", 100);
+
+			ExecutorService executor = Executors.newSingleThreadExecutor();
+			try {
+				List<Integer> values = executor.submit(() -> stream.collect(Collectors.toList())).get();
+				assertThat(values).hasSize(100);
+				assertThat(values).allMatch(anInt -> anInt >= 0 && anInt <= 100);
+			} finally {
+				executor.shutdown();
+			}
+		}
+
+		@Example
+		void seededSampleStreamRequiresValidSeed() {
+			Arbitrary<Integer> ints = Arbitraries.integers();
+
+			assertThatThrownBy(() -> ints.sampleStream("not a seed", 10))
+				.isInstanceOf(JqwikException.class);
+		}
+
 	}
 
 	@Group
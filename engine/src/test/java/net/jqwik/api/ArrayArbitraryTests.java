@@ -31,6 +31,14 @@ class ArrayArbitraryTests {
 		});
 	}
 
+	@Example
+	void arrayTypeIsPartOfEquality() {
+		Arbitrary<Integer> integerArbitrary = Arbitraries.integers().between(1, 10);
+
+		assertThat(integerArbitrary.array(Integer[].class)).isEqualTo(integerArbitrary.array(Integer[].class));
+		assertThat(integerArbitrary.array(Integer[].class)).isNotEqualTo(integerArbitrary.array(Object[].class));
+	}
+
 	@Example
 	void arrayOfSupertype(@ForAll Random random) {
 		Arbitrary<Integer> integerArbitrary = Arbitraries.integers().between(1, 10);
@@ -129,6 +129,19 @@ class FunctionsTests {
 		assertThat(function.hello()).isEqualTo("hello");
 	}
 
+	@Example
+	void default_methods_with_parameters_can_be_called_repeatedly(@ForAll Random random) {
+		Arbitrary<Integer> integers = Arbitraries.integers().between(1, 100);
+		Arbitrary<MyFunctionalInterface<String, String, Integer>> functions =
+			Functions.function(MyFunctionalInterface.class).returning(integers);
+
+		MyFunctionalInterface<String, String, Integer> function = functions.generator(10, true).next(random).value();
+		for (int i = 0; i < 100; i++) {
+			String p1 = Integer.toString(i);
+			assertThat(function.takeSwapped(p1, "other")).isEqualTo(function.take("other", p1));
+		}
+	}
+
 	@Example
 	void null_value_is_accepted_as_input(@ForAll Random random) {
 		Arbitrary<Integer> integers = Arbitraries.integers().between(1, 10);
@@ -325,6 +338,21 @@ class FunctionsTests {
 			);
 		}
 
+		@Example
+		void supplier_with_conditional_answer(@ForAll Random random) {
+			Arbitrary<Integer> integers = Arbitraries.integers().between(1, 100);
+			Arbitrary<Supplier<Integer>> suppliers =
+				Functions
+					.function(Supplier.class).returning(integers)
+					.when(List::isEmpty, params -> 0);
+
+			checkAllGenerated(
+				suppliers.generator(10, true),
+				random,
+				supplier -> supplier.get() == 0
+			);
+		}
+
 		@Example
 		void function_with_conditional_null_answer(@ForAll Random random) {
 			Arbitrary<String> integers = Arbitraries.of("1", "2", "3");
@@ -395,6 +423,10 @@ class FunctionsTests {
 		default String hello() {
 			return "hello";
 		}
+
+		default R takeSwapped(P1 p1, P2 p2) {
+			return take((P1) p2, (P2) p1);
+		}
 	}
 
 	interface MyInheritedFunctionalInterface<P1, P2, R> extends MyFunctionalInterface {
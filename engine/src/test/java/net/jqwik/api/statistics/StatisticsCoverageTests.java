@@ -45,6 +45,15 @@ class StatisticsCoverageTests {
 		});
 	}
 
+	@Property(tries = 1000, parallelism = 8, generation = GenerationMode.RANDOMIZED)
+	void collectingFromParallelTries(@ForAll int anInt) {
+		Statistics.collect(anInt % 2 == 0);
+		Statistics.label("tries").collect("try");
+
+		Statistics.coverage(coverage -> coverage.checkQuery(values -> true).count(c -> c == 1000));
+		Statistics.label("tries").coverage(coverage -> coverage.check("try").count(c -> c == 1000));
+	}
+
 	static class CheckCountIsExactly1 implements AroundPropertyHook {
 		@Override
 		public PropertyExecutionResult aroundProperty(PropertyLifecycleContext context, PropertyExecutor property) {
@@ -30,7 +30,7 @@ import static org.junit.platform.testkit.engine.EventType.*;
 @SuppressLogging
 class JqwikIntegrationTests {
 
-	private JqwikConfiguration configuration(final boolean reportOnlyFailures) {
+	private JqwikConfiguration configuration(final boolean reportOnlyFailures, final int executionParallelism) {
 		return new JqwikConfiguration() {
 			@Override
 			public PropertyAttributesDefaults propertyDefaultValues() {
@@ -47,7 +47,7 @@ class JqwikIntegrationTests {
 					}
 
 					@Override
-					public TestRunData previousRun() {
+					public TestRunLookup previousRun() {
 						return new TestRunData();
 					}
 
@@ -68,11 +68,50 @@ class JqwikIntegrationTests {
 			public boolean reportOnlyFailures() {
 				return reportOnlyFailures;
 			}
+
+			@Override
+			public int executionParallelism() {
+				return executionParallelism;
+			}
+
+			@Override
+			public boolean legacyFrequencySampling() {
+				return false;
+			}
+
+			@Override
+			public double filterWarningThreshold() {
+				return 0.01;
+			}
+
+			@Override
+			public int resolutionCacheSize() {
+				return 1000;
+			}
+
+			@Override
+			public boolean reportResolutionCacheStatistics() {
+				return false;
+			}
+
+			@Override
+			public int generatorPoolSize() {
+				return 1000;
+			}
+
+			@Override
+			public boolean legacySeeds() {
+				return false;
+			}
 		};
 	}
 
 	private JqwikTestEngine createTestEngine(final boolean reportOnlyFailures) {
-		return new JqwikTestEngine(unusedConfigurationProperties -> configuration(reportOnlyFailures));
+		return createTestEngine(reportOnlyFailures, 1);
+	}
+
+	private JqwikTestEngine createTestEngine(final boolean reportOnlyFailures, final int executionParallelism) {
+		return new JqwikTestEngine(unusedConfigurationProperties -> configuration(reportOnlyFailures, executionParallelism));
 	}
 
 	private JqwikTestEngine createDefaultTestEngine() {
@@ -243,6 +282,33 @@ class JqwikIntegrationTests {
 
 	}
 
+	@Example
+	void runMixedExamplesConcurrently() {
+
+		Events events = EngineTestKit
+			.engine(createTestEngine(true, 4))
+			.selectors(selectPackage("examples.packageWithSeveralContainers"))
+			.execute()
+			.allEvents();
+
+		events.assertStatistics(stats -> stats.started(20).succeeded(13).failed(7));
+
+		// Containers can interleave but a single container's events must still come in order
+		events.assertEventsMatchLooselyInOrder(
+			event(engine(), started()),
+			event(container(PropertyTests.class), started()),
+			event(test("allNumbersAreZero"), finishedWithFailure()),
+			event(container(PropertyTests.class), finishedSuccessfully()),
+			event(engine(), finishedSuccessfully())
+		);
+		events.assertEventsMatchLooselyInOrder(
+			event(container(MixedTests.class), started()),
+			event(test("aProperty"), finishedSuccessfully()),
+			event(container(MixedTests.class), finishedSuccessfully()),
+			event(engine(), finishedSuccessfully())
+		);
+	}
+
 	@Example
 	void runDisabledTests() {
 
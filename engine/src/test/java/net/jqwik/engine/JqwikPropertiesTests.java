@@ -55,7 +55,19 @@ class JqwikPropertiesTests {
 		assertThat(properties.defaultShrinking()).isEqualTo(ShrinkingMode.BOUNDED);
 
 		assertThat(properties.boundedShrinkingSeconds()).isEqualTo(10);
+		assertThat(properties.boundedShrinkingFalsifications()).isEqualTo(0);
+		assertThat(properties.boundedShrinkingCpuSeconds()).isEqualTo(0);
+		assertThat(properties.shrinkingCacheSize()).isEqualTo(10000);
 
 		assertThat(properties.fixedSeedMode()).isEqualTo(FixedSeedMode.ALLOW);
+
+		assertThat(properties.triesParallelism()).isEqualTo(1);
+		assertThat(properties.executionParallelism()).isEqualTo(1);
+		assertThat(properties.legacyFrequencySampling()).isFalse();
+		assertThat(properties.filterWarningThreshold()).isEqualTo(0.01);
+		assertThat(properties.resolutionCacheSize()).isEqualTo(1000);
+		assertThat(properties.reportResolutionCacheStatistics()).isFalse();
+		assertThat(properties.generatorPoolSize()).isEqualTo(1000);
+		assertThat(properties.legacySeeds()).isFalse();
 	}
 }
@@ -0,0 +1,150 @@
+package net.jqwik.engine;
+
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.constraints.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SourceOfRandomnessTests {
+
+	@Property(tries = 20)
+	void boundedIntsAreWithinBound(@ForAll long seed, @ForAll @IntRange(min = 1) int bound) {
+		Random random = SourceOfRandomness.newRandom(seed);
+		for (int i = 0; i < 1000; i++) {
+			assertThat(random.nextInt(bound)).isBetween(0, bound - 1);
+		}
+	}
+
+	@Example
+	void boundedIntsAreUniformlyDistributed() {
+		Random random = SourceOfRandomness.newRandom(42L);
+		int[] counts = new int[10];
+		for (int i = 0; i < 100000; i++) {
+			counts[random.nextInt(10)]++;
+		}
+		for (int count : counts) {
+			assertThat(count).isBetween(9500, 10500);
+		}
+	}
+
+	@Example
+	void nonPositiveBoundIsRejected() {
+		Random random = SourceOfRandomness.newRandom(42L);
+		assertThatThrownBy(() -> random.nextInt(0)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> SourceOfRandomness.nextInts(random, new int[1], -1)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Property(tries = 20)
+	void bulkIntsAreSameAsSingleInts(@ForAll long seed, @ForAll @IntRange(min = 1) int bound) {
+		Random bulkRandom = SourceOfRandomness.newRandom(seed);
+		Random singleRandom = SourceOfRandomness.newRandom(seed);
+
+		int[] values = new int[100];
+		SourceOfRandomness.nextInts(bulkRandom, values, bound);
+
+		int[] expected = IntStream.range(0, 100).map(i -> singleRandom.nextInt(bound)).toArray();
+		assertThat(values).isEqualTo(expected);
+		assertThat(bulkRandom.nextLong()).isEqualTo(singleRandom.nextLong());
+	}
+
+	@Example
+	void bulkIntsWithOtherRandom() {
+		int[] values = new int[100];
+		SourceOfRandomness.nextInts(new Random(42L), values, 7);
+
+		Random random = new Random(42L);
+		int[] expected = IntStream.range(0, 100).map(i -> random.nextInt(7)).toArray();
+		assertThat(values).isEqualTo(expected);
+	}
+
+	@Property(tries = 20)
+	void bulkLongsAreSameAsSingleLongs(@ForAll long seed) {
+		Random bulkRandom = SourceOfRandomness.newRandom(seed);
+		Random singleRandom = SourceOfRandomness.newRandom(seed);
+
+		long[] values = new long[100];
+		SourceOfRandomness.nextLongs(bulkRandom, values);
+
+		long[] expected = LongStream.range(0, 100).map(i -> singleRandom.nextLong()).toArray();
+		assertThat(values).isEqualTo(expected);
+	}
+
+	@Example
+	void doublesAreBetweenZeroAndOne() {
+		Random random = SourceOfRandomness.newRandom(42L);
+		double sum = 0;
+		for (int i = 0; i < 10000; i++) {
+			double value = random.nextDouble();
+			assertThat(value).isGreaterThanOrEqualTo(0.0).isLessThan(1.0);
+			sum += value;
+		}
+		assertThat(sum / 10000).isCloseTo(0.5, within(0.02));
+	}
+
+	@Example
+	void bytesUseAllBitsOfLongs() {
+		byte[] bytes = new byte[11];
+		SourceOfRandomness.newRandom(42L).nextBytes(bytes);
+
+		Random random = SourceOfRandomness.newRandom(42L);
+		long first = random.nextLong();
+		long second = random.nextLong();
+		for (int i = 0; i < 8; i++) {
+			assertThat(bytes[i]).isEqualTo((byte) (first >>> (8 * i)));
+		}
+		for (int i = 8; i < 11; i++) {
+			assertThat(bytes[i]).isEqualTo((byte) (second >>> (8 * (i - 8))));
+		}
+	}
+
+	@Example
+	void legacyDrawsAreLeftToJavaUtilRandom() {
+		SourceOfRandomness.useLegacyDraws(true);
+		try {
+			Random legacy = SourceOfRandomness.newRandom(42L);
+			Random raw = SourceOfRandomness.newRandom(42L);
+
+			long high = raw.nextLong() & ((1L << 26) - 1);
+			long low = raw.nextLong() & ((1L << 27) - 1);
+			assertThat(legacy.nextDouble()).isEqualTo(((high << 27) + low) * 0x1.0p-53);
+
+			int powerOfTwo = (int) ((8 * (raw.nextLong() & Integer.MAX_VALUE)) >> 31);
+			assertThat(legacy.nextInt(8)).isEqualTo(powerOfTwo);
+
+			int[] values = new int[100];
+			SourceOfRandomness.nextInts(legacy, values, 7);
+			int[] expected = IntStream.range(0, 100).map(i -> raw.nextInt(7)).toArray();
+			assertThat(values).isEqualTo(expected);
+		} finally {
+			SourceOfRandomness.useLegacyDraws(false);
+		}
+	}
+
+	@Property(tries = 20)
+	void splitIsDeterministic(@ForAll long seed) {
+		Random split1 = SourceOfRandomness.split(SourceOfRandomness.newRandom(seed));
+		Random split2 = SourceOfRandomness.split(SourceOfRandomness.newRandom(seed));
+
+		for (int i = 0; i < 10; i++) {
+			assertThat(split1.nextLong()).isEqualTo(split2.nextLong());
+		}
+	}
+
+	@Example
+	void splitDiffersFromParentAndSiblings() {
+		Random parent = SourceOfRandomness.newRandom(42L);
+		Random first = SourceOfRandomness.split(parent);
+		Random second = SourceOfRandomness.split(parent);
+
+		List<Long> parentValues = Arrays.asList(parent.nextLong(), parent.nextLong(), parent.nextLong());
+		List<Long> firstValues = Arrays.asList(first.nextLong(), first.nextLong(), first.nextLong());
+		List<Long> secondValues = Arrays.asList(second.nextLong(), second.nextLong(), second.nextLong());
+
+		assertThat(firstValues).doesNotContainAnyElementsOf(parentValues);
+		assertThat(secondValues).doesNotContainAnyElementsOf(parentValues);
+		assertThat(firstValues).doesNotContainAnyElementsOf(secondValues);
+	}
+}
@@ -22,12 +22,16 @@ public class TestHelper {
 
 	public static final int DEFAULT_TRIES = 1000;
 	public static final int BOUNDED_SHRINKING_SECONDS = 10;
+	public static final int SHRINKING_CACHE_SIZE = 10000;
+	public static final int BOUNDED_SHRINKING_FALSIFICATIONS = 0;
+	public static final int BOUNDED_SHRINKING_CPU_SECONDS = 0;
 	public static final int DEFAULT_MAX_DISCARD_RATIO = 5;
 	public static final AfterFailureMode DEFAULT_AFTER_FAILURE = AfterFailureMode.PREVIOUS_SEED;
 	public static final GenerationMode DEFAULT_GENERATION = GenerationMode.AUTO;
 	public static final EdgeCasesMode DEFAULT_EDGE_CASES = EdgeCasesMode.MIXIN;
 	public static final ShrinkingMode DEFAULT_SHRINKING = ShrinkingMode.BOUNDED;
 	public static final FixedSeedMode DEFAULT_WHEN_FIXED_SEED = FixedSeedMode.ALLOW;
+	public static final int DEFAULT_PARALLELISM = 1;
 
 	public static PropertyAttributesDefaults propertyAttributesDefaults() {
 		return PropertyAttributesDefaults.with(
@@ -38,7 +42,11 @@ public class TestHelper {
 			DEFAULT_EDGE_CASES,
 			DEFAULT_SHRINKING,
 			BOUNDED_SHRINKING_SECONDS,
-			DEFAULT_WHEN_FIXED_SEED
+			SHRINKING_CACHE_SIZE,
+			DEFAULT_WHEN_FIXED_SEED,
+			DEFAULT_PARALLELISM,
+			BOUNDED_SHRINKING_FALSIFICATIONS,
+			BOUNDED_SHRINKING_CPU_SECONDS
 		);
 	}
 
@@ -85,6 +93,10 @@ public class TestHelper {
 			null,
 			null,
 			seed,
+			null,
+			null,
+			null,
+			null,
 			null
 		);
 
@@ -95,7 +95,7 @@ class CheckedPropertiesExecutionTests {
 
 	private void executeTests(PropertyMethodDescriptor propertyMethodDescriptor) {
 		MockPipeline pipeline = new MockPipeline();
-		ExecutionTask task = executor.createTask(propertyMethodDescriptor, TestHelper.emptyLifecycleSupplier(), false);
+		ExecutionTask task = executor.createTask(propertyMethodDescriptor, TestHelper.emptyLifecycleSupplier(), false, ResourceLocks.NONE);
 		pipeline.submit(task);
 		pipeline.runWith(eventRecorder);
 	}
@@ -1,6 +1,8 @@
 package net.jqwik.engine.execution;
 
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 
 import org.junit.platform.engine.*;
 import org.mockito.*;
@@ -115,4 +117,147 @@ class ExecutionPipelineTests {
 
 	}
 
+	@Group
+	class ConcurrentExecution {
+
+		private final ExecutionPipeline concurrentPipeline = new ExecutionPipeline(listener, 4);
+
+		@Example
+		void allTasksAreExecuted() {
+			List<MockExecutionTask> tasks = new ArrayList<>();
+			for (int i = 0; i < 20; i++) {
+				MockExecutionTask task = new MockExecutionTask(Integer.toString(i));
+				tasks.add(task);
+				concurrentPipeline.submit(task);
+			}
+			concurrentPipeline.runToTermination();
+
+			tasks.forEach(task -> Mockito.verify(listener).executionStarted(task));
+		}
+
+		@Example
+		void independentTasksRunAtTheSameTime() {
+			CountDownLatch bothStarted = new CountDownLatch(2);
+			AtomicBoolean ranConcurrently = new AtomicBoolean(true);
+			Runnable waitForOther = () -> {
+				bothStarted.countDown();
+				try {
+					if (!bothStarted.await(10, TimeUnit.SECONDS)) {
+						ranConcurrently.set(false);
+					}
+				} catch (InterruptedException e) {
+					ranConcurrently.set(false);
+				}
+			};
+			concurrentPipeline.submit(new MockExecutionTask("1", ResourceLocks.NONE, waitForOther));
+			concurrentPipeline.submit(new MockExecutionTask("2", ResourceLocks.NONE, waitForOther));
+			concurrentPipeline.runToTermination();
+
+			assertThat(ranConcurrently).isTrue();
+		}
+
+		@Example
+		void predecessorsFinishBeforeTaskStarts() {
+			List<String> finishedTasks = new CopyOnWriteArrayList<>();
+			MockExecutionTask task1 = new MockExecutionTask("1", ResourceLocks.NONE, () -> sleepAndRecord("1", finishedTasks));
+			MockExecutionTask task2 = new MockExecutionTask("2", ResourceLocks.NONE, () -> sleepAndRecord("2", finishedTasks));
+			MockExecutionTask task3 = new MockExecutionTask("3", ResourceLocks.NONE, () -> finishedTasks.add("3"));
+			concurrentPipeline.submit(task1);
+			concurrentPipeline.submit(task2);
+			concurrentPipeline.submit(task3, task1, task2);
+			concurrentPipeline.runToTermination();
+
+			assertThat(finishedTasks).hasSize(3);
+			assertThat(finishedTasks.get(2)).isEqualTo("3");
+		}
+
+		@Example
+		void failedPredecessorResultIsHandedToSuccessor() {
+			RuntimeException failure = new RuntimeException("failed");
+			ExecutionTask failing = new MockExecutionTask("1") {
+				@Override
+				public TaskExecutionResult execute(PropertyExecutionListener listener, TaskExecutionResult predecessorResult) {
+					return TaskExecutionResult.failure(failure);
+				}
+			};
+			List<TaskExecutionResult> handedResults = new CopyOnWriteArrayList<>();
+			ExecutionTask successor = new MockExecutionTask("2") {
+				@Override
+				public TaskExecutionResult execute(PropertyExecutionListener listener, TaskExecutionResult predecessorResult) {
+					handedResults.add(predecessorResult);
+					return predecessorResult;
+				}
+			};
+			concurrentPipeline.submit(failing);
+			concurrentPipeline.submit(successor, failing);
+			concurrentPipeline.runToTermination();
+
+			assertThat(handedResults).hasSize(1);
+			assertThat(handedResults.get(0).throwable()).hasValue(failure);
+		}
+
+		@Example
+		void tasksOfSameOwnerDoNotOverlap() {
+			ResourceLocks locks = new ResourceLocks(UniqueId.root("owner", "1"), Collections.emptySet());
+			AtomicInteger running = new AtomicInteger(0);
+			AtomicInteger maxRunning = new AtomicInteger(0);
+			for (int i = 0; i < 8; i++) {
+				concurrentPipeline.submit(new MockExecutionTask(Integer.toString(i), locks, () -> countRunning(running, maxRunning)));
+			}
+			concurrentPipeline.runToTermination();
+
+			assertThat(maxRunning.get()).isEqualTo(1);
+		}
+
+		@Example
+		void ownersSharingAResourceDoNotOverlap() {
+			Set<String> resources = Collections.singleton("shared");
+			ResourceLocks owner1 = new ResourceLocks(UniqueId.root("owner", "1"), resources);
+			ResourceLocks owner2 = new ResourceLocks(UniqueId.root("owner", "2"), resources);
+			List<String> events = new CopyOnWriteArrayList<>();
+
+			MockExecutionTask first1 = new MockExecutionTask("first1", owner1, () -> sleepAndRecord("owner1", events));
+			MockExecutionTask first2 = new MockExecutionTask("first2", owner2, () -> sleepAndRecord("owner2", events));
+			MockExecutionTask second1 = new MockExecutionTask("second1", owner1, () -> sleepAndRecord("owner1", events));
+			MockExecutionTask second2 = new MockExecutionTask("second2", owner2, () -> sleepAndRecord("owner2", events));
+			concurrentPipeline.submit(first1);
+			concurrentPipeline.submit(first2);
+			concurrentPipeline.submit(second1, first1);
+			concurrentPipeline.submit(second2, first2);
+			concurrentPipeline.runToTermination();
+
+			// All tasks of one owner must have run before the other owner could claim the resource
+			assertThat(events).hasSize(4);
+			assertThat(events.get(1)).isEqualTo(events.get(0));
+			assertThat(events.get(3)).isEqualTo(events.get(2));
+		}
+
+		@Example
+		void predecessorsMustBeSubmittedBeforeATaskCanRun() {
+			MockExecutionTask task1 = new MockExecutionTask("1");
+			MockExecutionTask task2 = new MockExecutionTask("2");
+			concurrentPipeline.submit(task1, task2);
+
+			assertThatThrownBy(() -> concurrentPipeline.runToTermination()).isInstanceOf(PredecessorNotSubmittedException.class);
+		}
+
+		private void sleepAndRecord(String event, List<String> events) {
+			try {
+				Thread.sleep(20);
+			} catch (InterruptedException ignore) {
+			}
+			events.add(event);
+		}
+
+		private void countRunning(AtomicInteger running, AtomicInteger maxRunning) {
+			int current = running.incrementAndGet();
+			maxRunning.accumulateAndGet(current, Math::max);
+			try {
+				Thread.sleep(5);
+			} catch (InterruptedException ignore) {
+			}
+			running.decrementAndGet();
+		}
+	}
+
 }
@@ -17,7 +17,7 @@ import static net.jqwik.engine.matchers.TestDescriptorMatchers.*;
 public class JqwikExecutorTests {
 
 	private final Set<UniqueId> previouslyFailedTests = new LinkedHashSet<>();
-	private final JqwikExecutor executor = new JqwikExecutor(new LifecycleHooksRegistry(), testRun -> {}, previouslyFailedTests, true, false);
+	private final JqwikExecutor executor = new JqwikExecutor(new LifecycleHooksRegistry(), testRun -> {}, previouslyFailedTests, true, false, 1);
 
 	@Example
 	void previouslyFailedTestsAreRunFirst() {
@@ -7,12 +7,25 @@ import net.jqwik.engine.execution.pipeline.*;
 
 class MockExecutionTask extends AbstractTestDescriptor implements ExecutionTask {
 
+	private final ResourceLocks resourceLocks;
+	private final Runnable action;
+
 	MockExecutionTask(String name) {
 		this(UniqueId.root("test", name), name);
 	}
 
 	MockExecutionTask(UniqueId uniqueId, String name) {
+		this(uniqueId, name, ResourceLocks.NONE, () -> {});
+	}
+
+	MockExecutionTask(String name, ResourceLocks resourceLocks, Runnable action) {
+		this(UniqueId.root("test", name), name, resourceLocks, action);
+	}
+
+	private MockExecutionTask(UniqueId uniqueId, String name, ResourceLocks resourceLocks, Runnable action) {
 		super(uniqueId.append("task", name), name);
+		this.resourceLocks = resourceLocks;
+		this.action = action;
 	}
 
 	@Override
@@ -23,9 +36,15 @@ class MockExecutionTask extends AbstractTestDescriptor implements ExecutionTask
 	@Override
 	public TaskExecutionResult execute(PropertyExecutionListener listener, TaskExecutionResult predecessorResult) {
 		listener.executionStarted(this);
+		action.run();
 		return TaskExecutionResult.success();
 	}
 
+	@Override
+	public ResourceLocks resourceLocks() {
+		return resourceLocks;
+	}
+
 	@Override
 	public Type getType() {
 		return Type.TEST;
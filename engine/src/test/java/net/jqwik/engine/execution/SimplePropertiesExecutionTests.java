@@ -116,7 +116,7 @@ class SimplePropertiesExecutionTests {
 	private void executeTests(PropertyMethodDescriptor propertyMethodDescriptor) {
 		MockPipeline pipeline = new MockPipeline();
 		LifecycleHooksSupplier lifecycleSupplier = TestHelper.lifecycleSupplier(Arrays.asList(new AutoCloseableHook()));
-		ExecutionTask task = executor.createTask(propertyMethodDescriptor, lifecycleSupplier, false);
+		ExecutionTask task = executor.createTask(propertyMethodDescriptor, lifecycleSupplier, false, ResourceLocks.NONE);
 		pipeline.submit(task);
 		pipeline.runWith(eventRecorder);
 	}
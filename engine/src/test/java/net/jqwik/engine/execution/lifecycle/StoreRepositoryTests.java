@@ -205,6 +205,30 @@ class StoreRepositoryTests {
 			});
 		}
 
+		@Example
+		void finishProperty_keepsValuesOfOtherPropertiesInScope() {
+			TestDescriptor container = TestDescriptorBuilder.forClass(Container1.class, "method1", "method2").build();
+			Iterator<? extends TestDescriptor> methods = container.getChildren().iterator();
+			TestDescriptor method1 = methods.next();
+			TestDescriptor method2 = methods.next();
+
+			ScopedStore<String> containerStoreProperty = repository
+				.create(container, "containerStoreProperty", Lifespan.PROPERTY, () -> "initial");
+			CurrentTestDescriptor.runWithDescriptor(method1, () -> {
+				containerStoreProperty.update(s -> "changed in method1");
+				return null;
+			});
+			CurrentTestDescriptor.runWithDescriptor(method2, () -> {
+				containerStoreProperty.update(s -> "changed in method2");
+				return null;
+			});
+
+			repository.finishProperty(method1);
+
+			assertThat(CurrentTestDescriptor.runWithDescriptor(method1, containerStoreProperty::get)).isEqualTo("initial");
+			assertThat(CurrentTestDescriptor.runWithDescriptor(method2, containerStoreProperty::get)).isEqualTo("changed in method2");
+		}
+
 		@Example
 		void finishScope_removesAllStoresForScopeAndItsChildren() {
 			TestDescriptor container1 = TestDescriptorBuilder.forClass(Container1.class, "method1").build();
@@ -1,6 +1,7 @@
 package net.jqwik.engine.execution.lifecycle;
 
 import net.jqwik.api.*;
+import net.jqwik.api.constraints.*;
 import net.jqwik.api.lifecycle.*;
 import net.jqwik.api.lifecycle.PerProperty.*;
 import net.jqwik.testing.*;
@@ -181,6 +182,24 @@ class StoreTests {
 			assertThat(lifespanTry.get()).isEqualTo(43);
 		}
 
+		@Property(tries = 100, parallelism = 4)
+		void parallelTriesDoNotShareValues(@ForAll int anInt) {
+			lifespanTry.update(i -> anInt);
+			Thread.yield();
+			assertThat(lifespanTry.get()).isEqualTo(anInt);
+		}
+
+		@Property(tries = 10, shrinkingParallelism = 4)
+		@ExpectFailure(failureType = IllegalArgumentException.class)
+		void speculativeFalsificationsDoNotShareValues(@ForAll @IntRange(max = 1000) int anInt) {
+			lifespanTry.update(i -> anInt);
+			Thread.yield();
+			assertThat(lifespanTry.get()).isEqualTo(anInt);
+			if (anInt >= 10) {
+				throw new IllegalArgumentException();
+			}
+		}
+
 		@Override
 		public void close() {
 			assertThat(lifespanTry.get()).isEqualTo(0);
@@ -0,0 +1,211 @@
+package net.jqwik.engine.facades;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.domains.*;
+import net.jqwik.api.lifecycle.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class GeneratorPoolTests {
+
+	private final AtomicInteger builds = new AtomicInteger(0);
+
+	@Example
+	void generatorsOfEqualArbitrariesAreBuiltOnce() {
+		GeneratorPool pool = new GeneratorPool(10);
+
+		RandomGenerator<?> first = generator(pool, Arbitraries.integers().between(1, 10), DomainContext.global());
+		RandomGenerator<?> second = generator(pool, Arbitraries.integers().between(1, 10), DomainContext.global());
+
+		assertThat(second).isSameAs(first);
+		assertThat(builds).hasValue(1);
+		assertThat(pool.hits()).isEqualTo(1);
+		assertThat(pool.misses()).isEqualTo(1);
+		assertThat(pool.hitRate()).isEqualTo(0.5);
+	}
+
+	@Example
+	void genSizeAndDomainContextArePartOfTheKey() {
+		GeneratorPool pool = new GeneratorPool(10);
+		Arbitrary<Integer> arbitrary = Arbitraries.integers();
+
+		pool.generator(arbitrary, 100, true, DomainContext.global(), counting(() -> arbitrary.generator(100)));
+		pool.generator(arbitrary, 1000, true, DomainContext.global(), counting(() -> arbitrary.generator(1000)));
+		pool.generator(arbitrary, 100, true, new DomainContextBase() {}, counting(() -> arbitrary.generator(100)));
+
+		assertThat(builds).hasValue(3);
+		assertThat(pool.size()).isEqualTo(3);
+	}
+
+	@Example
+	void generatorsThatUseAStoreAreBoundToProperty() {
+		GeneratorPool pool = new GeneratorPool(10);
+		Arbitrary<Integer> arbitrary = Arbitraries.integers();
+		Supplier<RandomGenerator<?>> usingStore = () -> {
+			Store.getOrCreate(GeneratorPoolTests.class, Lifespan.TRY, () -> 0);
+			return arbitrary.generator(100);
+		};
+
+		GeneratorPool.MemoizedGenerator first = pool.generator(arbitrary, 100, true, DomainContext.global(), counting(usingStore));
+		GeneratorPool.MemoizedGenerator second = pool.generator(arbitrary, 100, true, DomainContext.global(), counting(usingStore));
+
+		assertThat(first.isPropertyBound()).isTrue();
+		assertThat(second.generator()).isNotSameAs(first.generator());
+		assertThat(builds).hasValue(2);
+		assertThat(pool.propertyBound()).isEqualTo(2);
+		assertThat(pool.size()).isEqualTo(0);
+	}
+
+	@Example
+	void generatorsUsingPropertyBoundGeneratorsAreAlsoBound() {
+		GeneratorPool pool = new GeneratorPool(10);
+		Arbitrary<Integer> inner = Arbitraries.integers();
+		Arbitrary<String> outer = Arbitraries.strings();
+
+		GeneratorPool.MemoizedGenerator generator = pool.generator(outer, 100, true, DomainContext.global(), () -> {
+			GeneratorPool.MemoizedGenerator innerGenerator = pool.generator(inner, 100, true, DomainContext.global(), () -> {
+				Store.getOrCreate(GeneratorPoolTests.class, Lifespan.TRY, () -> 0);
+				return inner.generator(100);
+			});
+			assertThat(innerGenerator.isPropertyBound()).isTrue();
+			return outer.generator(100);
+		});
+
+		assertThat(generator.isPropertyBound()).isTrue();
+		assertThat(pool.size()).isEqualTo(0);
+	}
+
+	@Example
+	void filteredGeneratorsAreBoundToProperty() {
+		GeneratorPool pool = new GeneratorPool(10);
+		Arbitrary<Integer> filtered = Arbitraries.integers().filter(i -> i % 2 == 0);
+
+		GeneratorPool.MemoizedGenerator generator = pool.generator(filtered, 100, true, DomainContext.global(), counting(() -> filtered.generator(100)));
+
+		assertThat(generator.isPropertyBound()).isTrue();
+		assertThat(pool.size()).isEqualTo(0);
+	}
+
+	@Example
+	void generatorsOfArbitrariesNotKnownToBeStatelessAreNotPooled() {
+		GeneratorPool pool = new GeneratorPool(10);
+		Arbitrary<Integer> fromGenerator = Arbitraries.fromGenerator(random -> Shrinkable.unshrinkable(random.nextInt()));
+		Arbitrary<Integer> mapped = fromGenerator.map(i -> i + 1);
+
+		GeneratorPool.MemoizedGenerator generator = pool.generator(fromGenerator, 100, true, DomainContext.global(), counting(() -> fromGenerator.generator(100)));
+		GeneratorPool.MemoizedGenerator mappedGenerator = pool.generator(mapped, 100, true, DomainContext.global(), counting(() -> mapped.generator(100)));
+
+		assertThat(generator.isPropertyBound()).isTrue();
+		assertThat(mappedGenerator.isPropertyBound()).isTrue();
+		assertThat(pool.size()).isEqualTo(0);
+	}
+
+	@Example
+	@SuppressWarnings("unchecked")
+	void functionsFromSharedGeneratorShrinkToTheirOwnLastResult() {
+		GeneratorPool pool = new GeneratorPool(10);
+		// Two properties with parameters of type Function<String, Integer> get equal function arbitraries
+		Arbitrary<Function<String, Integer>> functionsOfFirstProperty = Functions.function(Function.class).returning(Arbitraries.integers());
+		Arbitrary<Function<String, Integer>> functionsOfSecondProperty = Functions.function(Function.class).returning(Arbitraries.integers());
+
+		RandomGenerator<Function<String, Integer>> firstGenerator =
+			(RandomGenerator<Function<String, Integer>>) generator(pool, functionsOfFirstProperty, DomainContext.global());
+		RandomGenerator<Function<String, Integer>> secondGenerator =
+			(RandomGenerator<Function<String, Integer>>) generator(pool, functionsOfSecondProperty, DomainContext.global());
+		assertThat(secondGenerator).isSameAs(firstGenerator);
+
+		Random random = new Random(42L);
+		Shrinkable<Function<String, Integer>> functionOfFirstProperty = nonConstantFunction(firstGenerator, random);
+		Shrinkable<Function<String, Integer>> functionOfSecondProperty = nonConstantFunction(secondGenerator, random);
+
+		Integer firstResult = functionOfFirstProperty.value().apply("first");
+		functionOfSecondProperty.value().apply("second");
+
+		assertThat(functionOfFirstProperty.shrink())
+			.hasSize(1)
+			.allSatisfy(constantFunction -> assertThat(constantFunction.value().apply("any")).isEqualTo(firstResult));
+	}
+
+	// Function arbitraries also generate constant functions, which shrink differently
+	private Shrinkable<Function<String, Integer>> nonConstantFunction(RandomGenerator<Function<String, Integer>> generator, Random random) {
+		while (true) {
+			Shrinkable<Function<String, Integer>> function = generator.next(random);
+			if (!function.value().toString().startsWith("Constant")) {
+				return function;
+			}
+		}
+	}
+
+	@Example
+	void storeAccessOutsideOfBuildsDoesNotBindGenerators() {
+		GeneratorPool pool = new GeneratorPool(10);
+		Arbitrary<Integer> arbitrary = Arbitraries.integers();
+
+		Store.getOrCreate(GeneratorPoolTests.class, Lifespan.TRY, () -> 0);
+		GeneratorPool.MemoizedGenerator generator = pool.generator(arbitrary, 100, true, DomainContext.global(), counting(() -> arbitrary.generator(100)));
+
+		assertThat(generator.isPropertyBound()).isFalse();
+		assertThat(pool.size()).isEqualTo(1);
+	}
+
+	@Example
+	void poolOfCurrentEngineRunIsFoundThroughTestDescriptor() {
+		assertThat(GeneratorPool.ofCurrentRun()).isPresent();
+	}
+
+	@Example
+	void generatorsThatAreCheapestToBuildAreEvictedFirst() {
+		GeneratorPool pool = new GeneratorPool(2);
+		Arbitrary<Integer> expensive = Arbitraries.integers().between(1, 10);
+		Arbitrary<Integer> cheap1 = Arbitraries.integers().between(1, 20);
+		Arbitrary<Integer> cheap2 = Arbitraries.integers().between(1, 30);
+
+		pool.generator(expensive, 100, true, DomainContext.global(), counting(() -> {
+			sleep(50);
+			return expensive.generator(100);
+		}));
+		generator(pool, cheap1, DomainContext.global());
+		generator(pool, cheap2, DomainContext.global());
+		assertThat(pool.evictions()).isEqualTo(1);
+
+		builds.set(0);
+		generator(pool, expensive, DomainContext.global());
+		assertThat(builds).hasValue(0);
+		generator(pool, cheap1, DomainContext.global());
+		assertThat(builds).hasValue(1);
+	}
+
+	@Example
+	void size0SwitchesPoolingOff() {
+		GeneratorPool pool = new GeneratorPool(0);
+
+		generator(pool, Arbitraries.integers(), DomainContext.global());
+		generator(pool, Arbitraries.integers(), DomainContext.global());
+
+		assertThat(builds).hasValue(2);
+		assertThat(pool.misses()).isEqualTo(0);
+	}
+
+	private RandomGenerator<?> generator(GeneratorPool pool, Arbitrary<?> arbitrary, DomainContext domainContext) {
+		return pool.generator(arbitrary, 100, true, domainContext, counting(() -> arbitrary.generator(100))).generator();
+	}
+
+	private Supplier<RandomGenerator<?>> counting(Supplier<RandomGenerator<?>> supplier) {
+		return () -> {
+			builds.incrementAndGet();
+			return supplier.get();
+		};
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,159 @@
+package net.jqwik.engine.properties;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.atomic.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.constraints.*;
+import net.jqwik.api.domains.*;
+import net.jqwik.api.providers.*;
+import net.jqwik.engine.*;
+import net.jqwik.engine.support.*;
+import net.jqwik.engine.support.types.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ArbitraryResolutionCacheTests {
+
+	private final AtomicInteger resolutions = new AtomicInteger(0);
+
+	@Example
+	void sameTypeInSameDomainContextIsResolvedOnce() {
+		ArbitraryResolutionCache cache = new ArbitraryResolutionCache(10);
+		DomainContext domainContext = DomainContext.global();
+
+		Set<Arbitrary<?>> first = cache.resolve(parameterType("shortString"), domainContext, this::resolve);
+		Set<Arbitrary<?>> second = cache.resolve(parameterType("shortString"), domainContext, this::resolve);
+
+		assertThat(second).isSameAs(first);
+		assertThat(resolutions).hasValue(1);
+		assertThat(cache.hits()).isEqualTo(1);
+		assertThat(cache.misses()).isEqualTo(1);
+		assertThat(cache.hitRate()).isEqualTo(0.5);
+	}
+
+	@Example
+	void annotationsArePartOfTheKey() {
+		ArbitraryResolutionCache cache = new ArbitraryResolutionCache(10);
+
+		cache.resolve(parameterType("shortString"), DomainContext.global(), this::resolve);
+		cache.resolve(parameterType("anyString"), DomainContext.global(), this::resolve);
+
+		assertThat(resolutions).hasValue(2);
+	}
+
+	@Example
+	void typeVariablesWithDifferentBoundsAreDistinguished() {
+		ArbitraryResolutionCache cache = new ArbitraryResolutionCache(10);
+
+		cache.resolve(parameterType("comparableArray"), DomainContext.global(), this::resolve);
+		cache.resolve(parameterType("comparableAndSerializableArray"), DomainContext.global(), this::resolve);
+
+		assertThat(resolutions).hasValue(2);
+	}
+
+	@Example
+	void domainContextsAreComparedByIdentity() {
+		ArbitraryResolutionCache cache = new ArbitraryResolutionCache(10);
+
+		cache.resolve(parameterType("shortString"), new DomainContextBase() {}, this::resolve);
+		cache.resolve(parameterType("shortString"), new DomainContextBase() {}, this::resolve);
+
+		assertThat(resolutions).hasValue(2);
+		assertThat(cache.hits()).isEqualTo(0);
+	}
+
+	@Example
+	void typesThatReferToProviderMethodsAreNotCached() {
+		ArbitraryResolutionCache cache = new ArbitraryResolutionCache(10);
+
+		for (String methodName : Arrays.asList("providedString", "listOfProvidedStrings", "suppliedString")) {
+			cache.resolve(parameterType(methodName), DomainContext.global(), this::resolve);
+			cache.resolve(parameterType(methodName), DomainContext.global(), this::resolve);
+		}
+
+		assertThat(resolutions).hasValue(6);
+		assertThat(cache.uncacheable()).isEqualTo(6);
+		assertThat(cache.hits()).isEqualTo(0);
+	}
+
+	@Example
+	void size0SwitchesCachingOff() {
+		ArbitraryResolutionCache cache = new ArbitraryResolutionCache(0);
+
+		cache.resolve(parameterType("shortString"), DomainContext.global(), this::resolve);
+		cache.resolve(parameterType("shortString"), DomainContext.global(), this::resolve);
+
+		assertThat(resolutions).hasValue(2);
+		assertThat(cache.misses()).isEqualTo(0);
+	}
+
+	@Example
+	void resolversOfDifferentPropertiesShareResolvedArbitraries() {
+		ArbitraryResolutionCache cache = new ArbitraryResolutionCache(10);
+		DomainContext domainContext = DomainContext.global();
+		MethodParameter parameter = TestHelper.getParametersFor(Params.class, "shortString").get(0);
+
+		Set<Arbitrary<?>> first = resolver(domainContext, cache).forParameter(parameter);
+		Set<Arbitrary<?>> second = resolver(domainContext, cache).forParameter(parameter);
+
+		assertThat(first).hasSize(1);
+		assertThat(second.iterator().next()).isSameAs(first.iterator().next());
+	}
+
+	private PropertyMethodArbitraryResolver resolver(DomainContext domainContext, ArbitraryResolutionCache cache) {
+		return new PropertyMethodArbitraryResolver(
+			new Params(),
+			new RegisteredArbitraryResolver(domainContext.getArbitraryProviders()),
+			new RegisteredArbitraryConfigurer(domainContext.getArbitraryConfigurators()),
+			domainContext,
+			cache
+		);
+	}
+
+	private Set<Arbitrary<?>> resolve() {
+		resolutions.incrementAndGet();
+		return Collections.singleton(Arbitraries.strings());
+	}
+
+	private static TypeUsage parameterType(String methodName) {
+		return TypeUsageImpl.forParameter(TestHelper.getParametersFor(Params.class, methodName).get(0));
+	}
+
+	private static class Params {
+
+		void shortString(@ForAll @StringLength(max = 50) String aString) {
+		}
+
+		void anyString(@ForAll String aString) {
+		}
+
+		<T extends Comparable<T>> void comparableArray(@ForAll T[] anArray) {
+		}
+
+		<T extends Comparable<T> & Serializable> void comparableAndSerializableArray(@ForAll T[] anArray) {
+		}
+
+		void providedString(@ForAll("strings") String aString) {
+		}
+
+		void listOfProvidedStrings(@ForAll List<@From("strings") String> aList) {
+		}
+
+		void suppliedString(@ForAll(supplier = StringSupplier.class) String aString) {
+		}
+
+		@Provide
+		Arbitrary<String> strings() {
+			return Arbitraries.strings();
+		}
+	}
+
+	private static class StringSupplier implements ArbitrarySupplier<String> {
+		@Override
+		public Arbitrary<String> get() {
+			return Arbitraries.strings();
+		}
+	}
+}
@@ -265,7 +265,7 @@ class CheckedPropertyTests {
 			Arbitrary<Integer> integers = Arbitraries.integers().between(1, 99);
 			GenerationInfo previousGenerationInfo = new GenerationInfo("41", 13);
 			// This is what's being generated from integers in the 13th attempt
-			List<Integer> expectedParameterValues = Arrays.asList(65, 77);
+			List<Integer> expectedParameterValues = Arrays.asList(34, 6);
 
 			CheckedFunction checkSample = params -> {
 				Assertions.assertThat(params)
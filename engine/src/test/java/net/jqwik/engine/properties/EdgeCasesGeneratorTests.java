@@ -0,0 +1,161 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+
+import static java.util.Arrays.*;
+import static org.assertj.core.api.Assertions.*;
+
+@Label("EdgeCasesGenerator")
+class EdgeCasesGeneratorTests {
+
+	private final AtomicInteger createdShrinkables = new AtomicInteger(0);
+
+	@Example
+	void allCombinationsInLexicographicOrder() {
+		EdgeCasesGenerator generator = new EdgeCasesGenerator(asList(edgeCases(1, 2), edgeCases(3, 4, 5)));
+
+		assertThat(allValues(generator)).containsExactly(
+			asList(1, 3), asList(1, 4), asList(1, 5),
+			asList(2, 3), asList(2, 4), asList(2, 5)
+		);
+	}
+
+	@Example
+	void samplingGeneratesEachCombinationExactlyOnce() {
+		EdgeCasesGenerator generator = new EdgeCasesGenerator(
+			asList(edgeCases(1, 2, 3), edgeCases(4, 5), edgeCases(6, 7, 8, 9, 10)),
+			42L
+		);
+
+		List<List<Object>> sampled = allValues(generator);
+		List<List<Object>> lexicographic = allValues(new EdgeCasesGenerator(
+			asList(edgeCases(1, 2, 3), edgeCases(4, 5), edgeCases(6, 7, 8, 9, 10))
+		));
+
+		assertThat(sampled).hasSize(30);
+		assertThat(sampled).containsExactlyInAnyOrderElementsOf(lexicographic);
+		assertThat(sampled).isNotEqualTo(lexicographic);
+	}
+
+	@Example
+	void samplingOrderDependsOnSeedOnly() {
+		List<EdgeCases<Object>> edgeCases = asList(edgeCases(1, 2, 3, 4), edgeCases(5, 6, 7, 8));
+
+		List<List<Object>> sampled1 = allValues(new EdgeCasesGenerator(edgeCases, 42L));
+		List<List<Object>> sampled2 = allValues(new EdgeCasesGenerator(edgeCases, 42L));
+		List<List<Object>> sampled3 = allValues(new EdgeCasesGenerator(edgeCases, 43L));
+
+		assertThat(sampled1).isEqualTo(sampled2);
+		assertThat(sampled1).isNotEqualTo(sampled3);
+	}
+
+	@Example
+	void samplingCreatesShrinkablesOnlyForRequestedCombinations() {
+		List<EdgeCases<Object>> edgeCases = IntStream.range(0, 8)
+													 .mapToObj(i -> edgeCases(1, 2, 3, 4, 5, 6, 7, 8, 9, 10))
+													 .collect(Collectors.toList());
+		EdgeCasesGenerator generator = new EdgeCasesGenerator(edgeCases, 42L);
+
+		for (int i = 0; i < 10; i++) {
+			generator.next();
+		}
+
+		assertThat(generator.hasNext()).isTrue();
+		assertThat(createdShrinkables.get()).isEqualTo(10 * 8);
+	}
+
+	@Example
+	void samplingCoversEdgeCasesOfAllParametersEarly() {
+		List<EdgeCases<Object>> edgeCases = IntStream.range(0, 5)
+													 .mapToObj(i -> edgeCases(1, 2, 3, 4, 5))
+													 .collect(Collectors.toList());
+		EdgeCasesGenerator generator = new EdgeCasesGenerator(edgeCases, 42L);
+
+		List<Set<Object>> valuesPerParameter = IntStream.range(0, 5)
+														.mapToObj(i -> new HashSet<>())
+														.collect(Collectors.toList());
+		for (int i = 0; i < 100; i++) {
+			List<Object> combination = values(generator.next());
+			for (int p = 0; p < 5; p++) {
+				valuesPerParameter.get(p).add(combination.get(p));
+			}
+		}
+
+		assertThat(valuesPerParameter).allSatisfy(values -> assertThat(values).hasSize(5));
+	}
+
+	@Example
+	void noCombinationsWithoutParameters() {
+		assertThat(new EdgeCasesGenerator(Collections.emptyList(), 42L).hasNext()).isFalse();
+	}
+
+	@Example
+	void countCombinations() {
+		assertThat(EdgeCasesGenerator.countCombinations(Collections.emptyList())).isEqualTo(0L);
+		assertThat(EdgeCasesGenerator.countCombinations(asList(edgeCases(1, 2), edgeCases(1, 2, 3)))).isEqualTo(6L);
+
+		List<EdgeCases<Object>> tooMany = IntStream.range(0, 64)
+												   .mapToObj(i -> edgeCases(1, 2, 3))
+												   .collect(Collectors.toList());
+		assertThat(EdgeCasesGenerator.countCombinations(tooMany)).isEqualTo(Long.MAX_VALUE);
+	}
+
+	@Group
+	class IndexPermutation {
+
+		@Example
+		void isBijection() {
+			for (long size : asList(1L, 2L, 3L, 7L, 64L, 65L, 1000L)) {
+				EdgeCasesGenerator.IndexPermutation permutation = new EdgeCasesGenerator.IndexPermutation(size, 4711L);
+				Set<Long> permuted = new HashSet<>();
+				for (long i = 0; i < size; i++) {
+					long index = permutation.apply(i);
+					assertThat(index).isBetween(0L, size - 1);
+					permuted.add(index);
+				}
+				assertThat(permuted).hasSize((int) size);
+			}
+		}
+
+		@Example
+		void worksForLargeIndexSpaces() {
+			long size = Long.MAX_VALUE - 1;
+			EdgeCasesGenerator.IndexPermutation permutation = new EdgeCasesGenerator.IndexPermutation(size, 4711L);
+
+			assertThat(permutation.apply(size - 1)).isBetween(0L, size - 1);
+		}
+
+		@Example
+		void indexOutOfRangeIsRejected() {
+			EdgeCasesGenerator.IndexPermutation permutation = new EdgeCasesGenerator.IndexPermutation(10, 4711L);
+
+			assertThatThrownBy(() -> permutation.apply(10)).isInstanceOf(IndexOutOfBoundsException.class);
+		}
+	}
+
+	private EdgeCases<Object> edgeCases(Object... values) {
+		List<Supplier<Shrinkable<Object>>> suppliers =
+			Arrays.stream(values)
+				  .map(value -> (Supplier<Shrinkable<Object>>) () -> {
+					  createdShrinkables.incrementAndGet();
+					  return Shrinkable.unshrinkable(value);
+				  })
+				  .collect(Collectors.toList());
+		return EdgeCases.fromSuppliers(suppliers);
+	}
+
+	private List<List<Object>> allValues(EdgeCasesGenerator generator) {
+		List<List<Object>> all = new ArrayList<>();
+		generator.forEachRemaining(shrinkables -> all.add(values(shrinkables)));
+		return all;
+	}
+
+	private List<Object> values(List<Shrinkable<Object>> shrinkables) {
+		return shrinkables.stream().map(Shrinkable::value).collect(Collectors.toList());
+	}
+}
@@ -0,0 +1,63 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+
+import static java.util.Arrays.*;
+import static org.assertj.core.api.Assertions.*;
+
+class FeatureCountsTests {
+
+	@Example
+	void uniqueByAllExtractors() {
+		FeatureExtractor<String> length = String::length;
+		FeatureExtractor<String> firstChar = s -> s.charAt(0);
+		FeatureCounts<String> counts = FeatureCounts.of(asList(length, firstChar), asList("a", "bb"));
+
+		assertThat(counts.isUnique("ccc")).isTrue();
+		assertThat(counts.isUnique("c")).isFalse();
+		assertThat(counts.isUnique("bcd")).isFalse();
+
+		counts.add("ccc");
+		assertThat(counts.isUnique("dddd")).isTrue();
+		assertThat(counts.isUnique("ddd")).isFalse();
+	}
+
+	@Example
+	void identityUsesEquality() {
+		FeatureCounts<String> counts = FeatureCounts.of(Collections.singleton(FeatureExtractor.identity()), asList("a", "b"));
+
+		assertThat(counts.isUnique(new String("a"))).isFalse();
+		assertThat(counts.isUnique("c")).isTrue();
+	}
+
+	@Example
+	void nullPointerExceptionInExtractorCountsAsNullFeature() {
+		FeatureExtractor<String> length = String::length;
+		FeatureCounts<String> counts = FeatureCounts.of(Collections.singleton(length), asList("a", null));
+
+		assertThat(counts.isUnique(null)).isFalse();
+		assertThat(counts.isUnique("bb")).isTrue();
+	}
+
+	@Example
+	void uniqueReplacingIgnoresReplacedElement() {
+		FeatureExtractor<String> length = String::length;
+		FeatureCounts<String> counts = FeatureCounts.of(Collections.singleton(length), asList("a", "bb", "cc"));
+
+		assertThat(counts.isUniqueReplacing("x", "a")).isTrue();
+		assertThat(counts.isUniqueReplacing("xxx", "a")).isTrue();
+		assertThat(counts.isUniqueReplacing("xx", "a")).isFalse();
+		// "cc" still has the same length
+		assertThat(counts.isUniqueReplacing("xx", "bb")).isFalse();
+	}
+
+	@Example
+	void noExtractors() {
+		FeatureCounts<String> counts = FeatureCounts.of(Collections.emptySet(), asList("a", "a"));
+
+		assertThat(counts.isUnique("a")).isTrue();
+		assertThat(counts.isUniqueReplacing("a", "a")).isTrue();
+	}
+}
@@ -2,6 +2,7 @@ package net.jqwik.engine.properties;
 
 import java.util.*;
 import java.util.concurrent.atomic.*;
+import java.util.concurrent.locks.*;
 import java.util.function.*;
 import java.util.stream.*;
 
@@ -13,6 +14,8 @@ import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.*;
 import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.execution.*;
+import net.jqwik.engine.properties.shrinking.*;
+import net.jqwik.testing.*;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -341,6 +344,26 @@ class GenericPropertyTests {
 			}
 		}
 
+		@Example
+		@SuppressLogging
+		void shrinkingBoundedByFalsificationsIsReportedInResult() {
+			Arbitrary<Object> arbitrary = Arbitraries.integers().between(1, 100).asGeneric();
+			CheckedFunction checkedFunction = params -> ((int) params.get(0)) < 5;
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(new Random(42L), arbitrary);
+
+			PropertyConfiguration configuration = aConfig().withSeed("42").withBoundedShrinkingFalsifications(1).build();
+			GenericProperty property =
+				new GenericProperty("bounded property", configuration, shrinkablesGenerator, checkedFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.FAILED);
+			assertThat(result.shrinkingConsumption()).hasValueSatisfying(consumption -> {
+				assertThat(consumption.budget().maxFalsifications()).isEqualTo(1);
+				assertThat(consumption.reachedBound()).hasValue(ShrinkingBudget.Bound.FALSIFICATIONS);
+				assertThat(consumption.falsifications()).isEqualTo(1);
+			});
+		}
+
 	}
 
 	@Group
@@ -500,8 +523,126 @@ class GenericPropertyTests {
 
 	}
 
+	@Group
+	class ParallelTries {
+
+		@Example
+		void allTriesAreExecuted() {
+			AtomicInteger countCalls = new AtomicInteger(0);
+			Set<String> threadNames = Collections.synchronizedSet(new HashSet<>());
+			CheckedFunction forAllFunction = args -> {
+				countCalls.incrementAndGet();
+				threadNames.add(Thread.currentThread().getName());
+				return true;
+			};
+
+			ParametersGenerator shrinkablesGenerator = finiteShrinkablesGenerator(IntStream.rangeClosed(1, 100).toArray());
+
+			PropertyConfiguration configuration = aConfig().withTries(100).withParallelism(4).build();
+			GenericProperty property =
+				new GenericProperty("parallel property", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.SUCCESSFUL);
+			assertThat(result.countTries()).isEqualTo(100);
+			assertThat(result.countChecks()).isEqualTo(100);
+			assertThat(countCalls.get()).isEqualTo(100);
+			assertThat(threadNames).allMatch(name -> name.startsWith("jqwik-tries-"));
+		}
+
+		@Example
+		void noMoreTriesThanParallelismRunAtTheSameTime() {
+			AtomicInteger running = new AtomicInteger(0);
+			AtomicInteger maxRunning = new AtomicInteger(0);
+			CheckedFunction forAllFunction = args -> {
+				maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+				LockSupport.parkNanos(1_000_000);
+				running.decrementAndGet();
+				return true;
+			};
+
+			ParametersGenerator shrinkablesGenerator = finiteShrinkablesGenerator(IntStream.rangeClosed(1, 100).toArray());
+
+			PropertyConfiguration configuration = aConfig().withTries(100).withParallelism(3).build();
+			GenericProperty property =
+				new GenericProperty("parallel property", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.SUCCESSFUL);
+			assertThat(maxRunning.get()).isBetween(1, 3);
+		}
+
+		@Example
+		void firstFalsifiedTryIsChosen() {
+			CheckedFunction forAllFunction = args -> {
+				int value = (int) args.get(0);
+				return value != 17 && value != 30;
+			};
+
+			ParametersGenerator shrinkablesGenerator = finiteShrinkablesGenerator(IntStream.rangeClosed(1, 50).toArray());
+
+			PropertyConfiguration configuration = aConfig().withShrinking(OFF).withParallelism(8).build();
+			GenericProperty property =
+				new GenericProperty("parallel property", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.FAILED);
+			assertThat(result.countTries()).isEqualTo(17);
+			assertThat(result.countChecks()).isEqualTo(17);
+			assertThat(result.falsifiedParameters()).hasValue(Collections.singletonList(17));
+			assertThat(result.generationInfo().generationIndex()).isEqualTo(17);
+		}
+
+		@Example
+		void rejectedAssumptionsAreCountedInOrderOfTries() {
+			CheckedFunction forAllFunction = args -> {
+				int value = (int) args.get(0);
+				Assume.that(value % 3 != 0);
+				return value < 40;
+			};
+
+			ParametersGenerator shrinkablesGenerator = finiteShrinkablesGenerator(IntStream.rangeClosed(1, 50).toArray());
+
+			PropertyConfiguration configuration = aConfig().withShrinking(OFF).withParallelism(3).build();
+			GenericProperty property =
+				new GenericProperty("parallel property", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.FAILED);
+			assertThat(result.countTries()).isEqualTo(40);
+			assertThat(result.countChecks()).isEqualTo(27);
+		}
+
+		@Example
+		void resultDoesNotDependOnParallelism() {
+			Arbitrary<Object> arbitrary = Arbitraries.integers().between(1, 1000).asGeneric();
+			CheckedFunction forAllFunction = args -> ((int) args.get(0)) < 990;
+
+			List<PropertyCheckResult> results = new ArrayList<>();
+			for (int parallelism : new int[]{1, 2, 5, 16}) {
+				ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(new Random(42L), arbitrary);
+				PropertyConfiguration configuration = aConfig().withSeed("42").withParallelism(parallelism).build();
+				GenericProperty property =
+					new GenericProperty("parallel property", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+				results.add(property.check(TestHelper.reporter(), new Reporting[0]));
+			}
+
+			PropertyCheckResult sequentialResult = results.get(0);
+			assertThat(sequentialResult.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.FAILED);
+			assertThat(results).allSatisfy(result -> {
+				assertThat(result.countTries()).isEqualTo(sequentialResult.countTries());
+				assertThat(result.countChecks()).isEqualTo(sequentialResult.countChecks());
+				assertThat(result.generationInfo()).isEqualTo(sequentialResult.generationInfo());
+				assertThat(result.falsifiedParameters()).isEqualTo(sequentialResult.falsifiedParameters());
+			});
+		}
+	}
+
 	private ParametersGenerator randomizedShrinkablesGenerator(Arbitrary<Object>... arbitraries) {
-		Random random = SourceOfRandomness.current();
+		return randomizedShrinkablesGenerator(SourceOfRandomness.current(), arbitraries);
+	}
+
+	private ParametersGenerator randomizedShrinkablesGenerator(Random random, Arbitrary<Object>... arbitraries) {
 		List<Arbitrary<Object>> arbitraryList = Arrays.stream(arbitraries).collect(Collectors.toList());
 		List<RandomGenerator<Object>> generators = arbitraryList
 			.stream()
@@ -38,6 +38,53 @@ class RandomizedShrinkablesGeneratorTests {
 		assertThat(values(shrinkablesGenerator.next())).isEqualTo(values3);
 	}
 
+	@Example
+	void skippingLeadsToSameSamplesAsGenerating(@ForAll long seed) {
+		PropertyMethodArbitraryResolver arbitraryResolver = new PropertyMethodArbitraryResolver(
+			new MyProperties(),
+			DomainContext.global()
+		);
+		List<MethodParameter> parameters = TestHelper.getParameters(createDescriptor("simpleParameters"));
+		RandomizedShrinkablesGenerator generating = RandomizedShrinkablesGenerator.forParameters(
+			parameters, arbitraryResolver, SourceOfRandomness.newRandom(seed), 1000, EdgeCasesMode.MIXIN
+		);
+		RandomizedShrinkablesGenerator skipping = RandomizedShrinkablesGenerator.forParameters(
+			parameters, arbitraryResolver, SourceOfRandomness.newRandom(seed), 1000, EdgeCasesMode.MIXIN
+		);
+
+		List<List<Object>> generated = new ArrayList<>();
+		for (int i = 0; i < 50; i++) {
+			generated.add(values(generating.next()));
+		}
+
+		assertThat(skipping.skip(30)).isTrue();
+		assertThat(values(skipping.next())).isEqualTo(generated.get(30));
+		assertThat(values(skipping.next())).isEqualTo(generated.get(31));
+	}
+
+	@Property(tries = 10)
+	void skippingWithLegacySeedsLeadsToSameSamplesAsGenerating(@ForAll long seed) {
+		PropertyMethodArbitraryResolver arbitraryResolver = new PropertyMethodArbitraryResolver(
+			new MyProperties(),
+			DomainContext.global()
+		);
+		List<MethodParameter> parameters = TestHelper.getParameters(createDescriptor("simpleParameters"));
+		RandomizedShrinkablesGenerator generating = RandomizedShrinkablesGenerator.forParameters(
+			parameters, arbitraryResolver, SourceOfRandomness.newRandom(seed), 1000, EdgeCasesMode.MIXIN, true
+		);
+		RandomizedShrinkablesGenerator skipping = RandomizedShrinkablesGenerator.forParameters(
+			parameters, arbitraryResolver, SourceOfRandomness.newRandom(seed), 1000, EdgeCasesMode.MIXIN, true
+		);
+
+		List<List<Object>> generated = new ArrayList<>();
+		for (int i = 0; i < 50; i++) {
+			generated.add(values(generating.next()));
+		}
+
+		assertThat(skipping.skip(30)).isTrue();
+		assertThat(values(skipping.next())).isEqualTo(generated.get(30));
+	}
+
 	@Example
 	void severalFittingArbitraries(@ForAll Random random) {
 
@@ -30,6 +30,12 @@ class DefaultStringArbitraryTests implements GenericEdgeCasesProperties, Generic
 
 	StringArbitrary arbitrary = new DefaultStringArbitrary();
 
+	@Example
+	void uniqueCharsIsPartOfEquality() {
+		assertThat(new DefaultStringArbitrary().uniqueChars()).isEqualTo(new DefaultStringArbitrary().uniqueChars());
+		assertThat(new DefaultStringArbitrary().uniqueChars()).isNotEqualTo(new DefaultStringArbitrary());
+	}
+
 	@Example
 	void currentlyNoCodepointsAboveAllowedMaxAreCreated(@ForAll Random random) {
 		assertAllGenerated(arbitrary.generator(10, true), random, s -> {
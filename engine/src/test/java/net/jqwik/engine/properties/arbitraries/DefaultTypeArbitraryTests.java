@@ -6,6 +6,7 @@ import org.assertj.core.api.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
+import net.jqwik.api.providers.*;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -348,6 +349,31 @@ class DefaultTypeArbitraryTests {
 		}
 	}
 
+	@Group
+	class CreatorMetadata {
+		@Example
+		void isSharedBetweenTypeArbitrariesOfSameType() throws NoSuchMethodException {
+			TypeCreators typeCreators = TypeCreators.of(Person.class);
+			assertThat(TypeCreators.of(Person.class)).isSameAs(typeCreators);
+
+			TypeCreators.Creator creator = typeCreators.creator(Person.class.getDeclaredConstructor(String.class, int.class));
+			assertThat(typeCreators.creator(creator.executable())).isSameAs(creator);
+			assertThat(creator.parameterTypes()).containsExactly(TypeUsage.of(String.class), TypeUsage.of(int.class));
+			assertThat(creator.parameterTypes()).isSameAs(creator.parameterTypes());
+		}
+
+		@Example
+		void varargsFactoryMethodGetsArrayOfParameters(@ForAll Random random) {
+			TypeArbitrary<Tags> typeArbitrary = new DefaultTypeArbitrary<>(Tags.class).usePublicFactoryMethods();
+
+			assertAllGenerated(
+				typeArbitrary.generator(1000, true),
+				random,
+				tags -> assertThat(tags.tags).isNotNull()
+			);
+		}
+	}
+
 	private static class Coordinates {
 		private final byte x;
 		private final byte y;
@@ -382,6 +408,18 @@ class DefaultTypeArbitraryTests {
 	}
 
 
+	private static class Tags {
+		private final String[] tags;
+
+		public static Tags of(String... tags) {
+			return new Tags(tags);
+		}
+
+		private Tags(String[] tags) {
+			this.tags = tags;
+		}
+	}
+
 	private static class Samples {
 
 		private static Person personFromAge(int age) {
@@ -0,0 +1,92 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import net.jqwik.api.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class FilteredGeneratorTests {
+
+	@Example
+	void acceptanceRateIsTracked(@ForAll Random random) {
+		AtomicBoolean acceptNone = new AtomicBoolean(false);
+		FilteredGenerator<Integer> generator = new FilteredGenerator<>(
+			RandomGenerators.integers(1, 100), i -> !acceptNone.get() && i <= 50, 10000
+		);
+
+		for (int i = 0; i < 1000; i++) {
+			assertThat(generator.next(random).value()).isLessThanOrEqualTo(50);
+		}
+
+		acceptNone.set(true);
+		assertThatThrownBy(() -> generator.next(random))
+			.isInstanceOf(TooManyFilterMissesException.class)
+			.hasMessageContaining("(1000 of ");
+	}
+
+	@Example
+	void countsAreNotLostWhenGeneratingConcurrently() throws Exception {
+		AtomicBoolean acceptNone = new AtomicBoolean(false);
+		FilteredGenerator<Integer> generator = new FilteredGenerator<>(
+			RandomGenerators.integers(1, 100), i -> !acceptNone.get() && i <= 50, 10000
+		);
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int i = 0; i < 4; i++) {
+				Random random = new Random(i);
+				futures.add(executor.submit(() -> {
+					for (int j = 0; j < 1000; j++) {
+						generator.next(random);
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		acceptNone.set(true);
+		assertThatThrownBy(() -> generator.next(new Random(42L)))
+			.isInstanceOf(TooManyFilterMissesException.class)
+			.hasMessageContaining("(4000 of ");
+	}
+
+	@Example
+	void failsWithAcceptanceRateWhenNothingIsAccepted(@ForAll Random random) {
+		FilteredGenerator<Integer> generator = new FilteredGenerator<>(RandomGenerators.integers(1, 100), i -> i > 100, 500);
+
+		assertThatThrownBy(() -> generator.next(random))
+			.isInstanceOf(TooManyFilterMissesException.class)
+			.hasMessageContaining("missed more than 500 times")
+			.hasMessageContaining("(0 of 500)");
+	}
+
+	@Example
+	void failsEarlyWhenMoreThanMaxMissesAreNeededPerValueOnAverage(@ForAll Random random) {
+		RandomGenerator<Integer> counter = new RandomGenerator<Integer>() {
+			int count = 0;
+
+			@Override
+			public Shrinkable<Integer> next(Random random) {
+				return Shrinkable.unshrinkable(++count);
+			}
+		};
+		// Values need 90 attempts each, so the 6th call fails as soon as 5 * 100 attempts are exceeded
+		FilteredGenerator<Integer> generator = new FilteredGenerator<>(counter, i -> i % 90 == 0, 100);
+
+		for (int i = 0; i < 5; i++) {
+			generator.next(random);
+		}
+
+		assertThatThrownBy(() -> generator.next(random))
+			.isInstanceOf(TooManyFilterMissesException.class)
+			.hasMessageContaining("accepted only 5 of 501 generated values");
+	}
+}
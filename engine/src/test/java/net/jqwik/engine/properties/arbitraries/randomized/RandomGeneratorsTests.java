@@ -22,6 +22,17 @@ class RandomGeneratorsTests {
 		checkAllGenerated(generator, random, set -> set.size() >= 2 && set.size() <= 5);
 	}
 
+	@Example
+	@SuppressWarnings("unchecked")
+	void integralElementsWithEdgeCasesAreGeneratedInBulk(@ForAll Random random) {
+		RandomGenerator<Integer> generator = Arbitraries.integers().between(1, 100).generator(1000, true);
+		assertThat(generator).isInstanceOf(BulkRandomGenerator.class);
+
+		List<Shrinkable<Integer>> shrinkables = ((BulkRandomGenerator<Integer>) generator).next(random, 1000);
+		assertThat(shrinkables).hasSize(1000);
+		assertThat(shrinkables).allSatisfy(shrinkable -> assertThat(shrinkable.value()).isBetween(1, 100));
+	}
+
 	@Example
 	void setGenerationShouldStopWithTooManyMisses(@ForAll Random random) {
 		RandomGenerator<Integer> integerGenerator = RandomGenerators.integers(1, 10);
@@ -145,6 +156,58 @@ class RandomGeneratorsTests {
 			);
 		}
 
+		@Example
+		void primitiveGenerationProducesSameValuesAsBigIntegerGeneration(@ForAll long seed) {
+			assertSameValuesForSeed(seed, -1000, 1000, 0, RandomDistribution.uniform());
+			assertSameValuesForSeed(seed, -1000, 1000, 0, RandomDistribution.biased());
+			assertSameValuesForSeed(seed, Integer.MIN_VALUE, Integer.MAX_VALUE, 0, RandomDistribution.biased());
+			assertSameValuesForSeed(seed, Long.MIN_VALUE, Long.MAX_VALUE, 0, RandomDistribution.uniform());
+			assertSameValuesForSeed(seed, Long.MIN_VALUE, Long.MAX_VALUE, 0, RandomDistribution.biased());
+			assertSameValuesForSeed(seed, 10, 100000, 50, RandomDistribution.biased());
+			assertSameValuesForSeed(seed, 0, 15, 0, RandomDistribution.biased());
+			assertSameValuesForSeed(seed, 0, 100, 100, RandomDistribution.biased());
+		}
+
+		private void assertSameValuesForSeed(long seed, long min, long max, long target, RandomDistribution distribution) {
+			RandomGenerator<Long> primitiveGenerator = RandomGenerators.integrals(min, max, target, distribution, Long::valueOf);
+			RandomGenerator<BigInteger> bigIntegerGenerator =
+				RandomGenerators.bigIntegers(valueOf(min), valueOf(max), valueOf(target), distribution);
+
+			Random primitiveRandom = new Random(seed);
+			Random bigIntegerRandom = new Random(seed);
+			for (int i = 0; i < 100; i++) {
+				long primitiveValue = primitiveGenerator.next(primitiveRandom).value();
+				BigInteger bigIntegerValue = bigIntegerGenerator.next(bigIntegerRandom).value();
+				assertThat(primitiveValue).isEqualTo(bigIntegerValue.longValueExact());
+			}
+		}
+
+		@Example
+		void uniformDistributionOverWholeIntegerRange(@ForAll Random random) {
+			RandomGenerator<Integer> generator = RandomGenerators.integrals(
+				Integer.MIN_VALUE,
+				Integer.MAX_VALUE,
+				0,
+				RandomDistribution.uniform(),
+				aLong -> (int) aLong
+			);
+			checkAtLeastOneGenerated(generator, random, anInt -> anInt > 0);
+			checkAtLeastOneGenerated(generator, random, anInt -> anInt < 0);
+		}
+
+		@Example
+		void primitiveValuesWithGaussianDistribution(@ForAll Random random) {
+			RandomGenerator<Long> generator = RandomGenerators.integrals(
+				Long.MIN_VALUE,
+				Long.MAX_VALUE,
+				0,
+				RandomDistribution.gaussian(),
+				Long::valueOf
+			);
+			checkAtLeastOneGenerated(generator, random, aLong -> aLong > 0);
+			checkAtLeastOneGenerated(generator, random, aLong -> aLong < 0);
+		}
+
 		@Example
 		void minGreaterThanMaxFails() {
 			assertThatThrownBy(() -> {
@@ -35,6 +35,23 @@ class CombinedShrinkableTests {
 		assertThat(shrinkable.value()).isEqualTo("hello3");
 	}
 
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	@Example
+	void equalityIsBasedOnPartsAndCombinator() {
+		Function<List<Object>, String> combinator = parts -> parts.get(0) + "" + parts.get(1);
+		Function<List<Object>, String> otherCombinator = parts -> parts.get(1) + "" + parts.get(0);
+		List<Shrinkable<Object>> parts = Arrays.asList((Shrinkable) new OneStepShrinkable(3), (Shrinkable) new OneStepShrinkable(5));
+		List<Shrinkable<Object>> equalParts = Arrays.asList((Shrinkable) new OneStepShrinkable(3), (Shrinkable) new OneStepShrinkable(5));
+		List<Shrinkable<Object>> otherParts = Arrays.asList((Shrinkable) new OneStepShrinkable(3), (Shrinkable) new OneStepShrinkable(4));
+
+		Shrinkable<String> shrinkable = new CombinedShrinkable<>(parts, combinator);
+
+		assertThat(shrinkable).isEqualTo(new CombinedShrinkable<>(equalParts, combinator));
+		assertThat(shrinkable).hasSameHashCodeAs(new CombinedShrinkable<>(equalParts, combinator));
+		assertThat(shrinkable).isNotEqualTo(new CombinedShrinkable<>(otherParts, combinator));
+		assertThat(shrinkable).isNotEqualTo(new CombinedShrinkable<>(equalParts, otherCombinator));
+	}
+
 	@Group
 	class Shrinking {
 
@@ -0,0 +1,94 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+
+import static java.util.Arrays.*;
+import static org.assertj.core.api.Assertions.*;
+
+class FalsificationCacheTests {
+
+	private final AtomicInteger executions = new AtomicInteger(0);
+
+	private final Function<List<Object>, TryExecutionResult> falsifier = params -> {
+		executions.incrementAndGet();
+		return TryExecutionResult.falsified(null);
+	};
+
+	@Example
+	void equalParametersAreOnlyExecutedOnce() {
+		FalsificationCache cache = new FalsificationCache(100);
+
+		cache.falsify(asList(1, "hello", asList(1, 2, 3)), falsifier);
+		TryExecutionResult result = cache.falsify(asList(1, "hello", new LinkedList<>(asList(1, 2, 3))), falsifier);
+
+		assertThat(result.isFalsified()).isTrue();
+		assertThat(executions.get()).isEqualTo(1);
+		assertThat(cache.hits()).isEqualTo(1);
+		assertThat(cache.misses()).isEqualTo(1);
+	}
+
+	@Example
+	void parametersWithSameFingerprintAreDistinguished() {
+		FalsificationCache cache = new FalsificationCache(100);
+		List<Integer> longList = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			longList.add(i);
+		}
+		List<Integer> otherLongList = new ArrayList<>(longList);
+		otherLongList.set(1, -1);
+
+		assertThat(FalsificationCache.fingerprint(asList(longList)))
+			.isEqualTo(FalsificationCache.fingerprint(asList(otherLongList)));
+
+		cache.falsify(asList(longList), falsifier);
+		cache.falsify(asList(otherLongList), falsifier);
+
+		assertThat(executions.get()).isEqualTo(2);
+		assertThat(cache.hits()).isEqualTo(0);
+		assertThat(cache.size()).isEqualTo(2);
+	}
+
+	@Example
+	void equalSetsHaveEqualFingerprints() {
+		Set<String> set1 = new HashSet<>(asList("a", "b", "c"));
+		Set<String> set2 = new LinkedHashSet<>(asList("c", "b", "a"));
+
+		assertThat(FalsificationCache.fingerprint(asList(set1)))
+			.isEqualTo(FalsificationCache.fingerprint(asList(set2)));
+	}
+
+	@Example
+	void leastRecentlyUsedEntryIsEvicted() {
+		FalsificationCache cache = new FalsificationCache(2);
+
+		cache.falsify(asList(1), falsifier);
+		cache.falsify(asList(2), falsifier);
+		cache.falsify(asList(1), falsifier);
+		cache.falsify(asList(3), falsifier);
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(executions.get()).isEqualTo(3);
+
+		cache.falsify(asList(1), falsifier);
+		assertThat(executions.get()).isEqualTo(3);
+
+		cache.falsify(asList(2), falsifier);
+		assertThat(executions.get()).isEqualTo(4);
+	}
+
+	@Example
+	void sizeZeroDisablesCaching() {
+		FalsificationCache cache = new FalsificationCache(0);
+
+		cache.falsify(asList(1), falsifier);
+		cache.falsify(asList(1), falsifier);
+
+		assertThat(executions.get()).isEqualTo(2);
+		assertThat(cache.size()).isEqualTo(0);
+		assertThat(cache.misses()).isEqualTo(2);
+	}
+}
@@ -89,7 +89,7 @@ class LazyArbitraryShrinkingTests {
 		 *
 		 * @see LazyOfArbitraryShrinkingTests.Calculator
 		 */
-		@Property(seed="340424993676761") // This seed produces the desired result
+		@Property(seed="2") // This seed produces the desired result
 		@ExpectFailure(checkResult = ShrinkToSmallExpression.class)
 		void shrinkExpressionTree(@ForAll("expression") Object expression) {
 			Assume.that(divSubterms(expression));
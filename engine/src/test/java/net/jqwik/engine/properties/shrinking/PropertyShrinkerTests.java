@@ -1,8 +1,11 @@
 package net.jqwik.engine.properties.shrinking;
 
+import java.lang.management.*;
 import java.math.*;
 import java.util.ArrayList;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 import java.util.function.*;
 import java.util.stream.*;
 
@@ -177,6 +180,38 @@ class PropertyShrinkerTests {
 			assertThat((int) sample.parameters().get(0)).isEqualTo(0);
 		}
 
+		@Example
+		@SuppressLogging
+		void boundedShrinkingHappensOnCallingThread() {
+			List<Shrinkable<Object>> shrinkables = asList(new ShrinkableTypesForTest.SlowShrinkable(20).asGeneric());
+			PropertyShrinker shrinker = createShrinker(toFalsifiedSample(shrinkables, null), ShrinkingMode.BOUNDED, 1);
+
+			Set<Thread> threads = new HashSet<>();
+			TestingFalsifier<List<Object>> falsifier = params -> {
+				threads.add(Thread.currentThread());
+				return false;
+			};
+			ShrunkFalsifiedSample sample = shrinker.shrink(falsifier);
+
+			assertThat(threads).containsExactly(Thread.currentThread());
+			assertThat(sample.countShrinkingSteps()).isEqualTo(20 - (int) sample.parameters().get(0));
+			assertThat(shrinker.shrinkingSequence()).hasSize(sample.countShrinkingSteps());
+		}
+
+		@Example
+		@SuppressLogging
+		void boundedShrinkingWithPassedDeadlineReturnsOriginalSample() {
+			List<Shrinkable<Object>> shrinkables = listOfOneStepShrinkables(10);
+			FalsifiedSample originalSample = toFalsifiedSample(shrinkables, null);
+			PropertyShrinker shrinker = createShrinker(originalSample, ShrinkingMode.BOUNDED, 0);
+
+			ShrunkFalsifiedSample sample = shrinker.shrink(alwaysFalsify());
+
+			assertThat(sample.parameters()).isEqualTo(asList(10));
+			assertThat(sample.countShrinkingSteps()).isEqualTo(0);
+			assertThat(shrinker.shrinkingSequence()).isEmpty();
+		}
+
 		@Example
 		void withUnboundedShrinkingDoNotBreakOff() {
 			List<Shrinkable<Object>> shrinkables = asList(new ShrinkableTypesForTest.SlowShrinkable(10).asGeneric());
@@ -246,6 +281,23 @@ class PropertyShrinkerTests {
 			assertThat(sample.countShrinkingSteps()).isGreaterThan(0);
 		}
 
+		@Example
+		void repeatedShrinkingCandidatesAreTakenFromCache() {
+			List<Shrinkable<Object>> shrinkables = listOfOneStepShrinkables(10, 10);
+
+			PropertyShrinker shrinker = createShrinker(toFalsifiedSample(shrinkables, null), ShrinkingMode.FULL);
+
+			AtomicInteger executions = new AtomicInteger(0);
+			TestingFalsifier<List<Object>> falsifier = params -> {
+				executions.incrementAndGet();
+				return (int) params.get(0) + (int) params.get(1) < 5;
+			};
+			ShrunkFalsifiedSampleImpl sample = (ShrunkFalsifiedSampleImpl) shrinker.shrink(falsifier);
+
+			assertThat(sample.countCacheHits()).isGreaterThan(0);
+			assertThat(sample.countCacheMisses()).isEqualTo(executions.get());
+		}
+
 		@Example
 		void falsifyingErrorComesFromActualShrunkSample() {
 			List<Shrinkable<Object>> shrinkables = listOfOneStepShrinkables(5, 10);
@@ -475,6 +527,145 @@ class PropertyShrinkerTests {
 		}
 	}
 
+	@Group
+	class ParallelShrinking {
+
+		@Example
+		void sameResultAndSequenceAsSequentialShrinking() {
+			TestingFalsifier<List<Object>> falsifier = paramFalsifier((Integer int1, Integer int2) -> int1 < 3 || int1 + int2 < 12);
+
+			PropertyShrinker sequentialShrinker = createShrinker(toFalsifiedSample(listOfOneStepShrinkables(10, 10), null), 1);
+			ShrunkFalsifiedSample sequentialSample = sequentialShrinker.shrink(falsifier);
+
+			PropertyShrinker parallelShrinker = createShrinker(toFalsifiedSample(listOfOneStepShrinkables(10, 10), null), 4);
+			ShrunkFalsifiedSample parallelSample = parallelShrinker.shrink(falsifier);
+
+			assertThat(parallelSample.parameters()).isEqualTo(sequentialSample.parameters());
+			assertThat(parallelSample.countShrinkingSteps()).isEqualTo(sequentialSample.countShrinkingSteps());
+			assertThat(parallelShrinker.shrinkingSequence()).isEqualTo(sequentialShrinker.shrinkingSequence());
+		}
+
+		@Example
+		void candidatesAreFalsifiedOnSeveralThreads() {
+			Set<Thread> threads = Collections.newSetFromMap(new ConcurrentHashMap<>());
+			TestingFalsifier<List<Object>> falsifier = params -> {
+				threads.add(Thread.currentThread());
+				return (int) params.get(0) < 5;
+			};
+
+			PropertyShrinker shrinker = createShrinker(toFalsifiedSample(listOfFullShrinkables(100), null), 4);
+			ShrunkFalsifiedSample sample = shrinker.shrink(falsifier);
+
+			assertThat(sample.parameters()).isEqualTo(asList(5));
+			assertThat(threads).hasSizeGreaterThan(1);
+			assertThat(threads).doesNotContain(Thread.currentThread());
+		}
+
+		@Example
+		void errorsInFalsifierArePropagated() {
+			PropertyShrinker shrinker = createShrinker(toFalsifiedSample(listOfOneStepShrinkables(10), null), 4);
+
+			Falsifier<List<Object>> falsifier = params -> {
+				throw new IllegalStateException("falsifier failed");
+			};
+
+			assertThatThrownBy(() -> shrinker.shrink(falsifier))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessage("falsifier failed");
+		}
+
+	}
+
+	@Group
+	class ShrinkingBudgets {
+
+		@Example
+		@SuppressLogging
+		void boundedShrinkingStopsAfterMaxFalsifications() {
+			TestingFalsifier<List<Object>> falsifier = paramFalsifier((Integer int1, Integer int2) -> int1 + int2 < 3);
+			PropertyShrinker shrinker = createShrinker(
+				toFalsifiedSample(listOfOneStepShrinkables(10, 10), null),
+				new ShrinkingBudget(10, 5, 0),
+				1
+			);
+
+			ShrunkFalsifiedSampleImpl sample = (ShrunkFalsifiedSampleImpl) shrinker.shrink(falsifier);
+
+			assertThat(sample.countCacheMisses()).isEqualTo(5);
+			ShrinkingConsumption consumption = sample.shrinkingConsumption().get();
+			assertThat(consumption.reachedBound()).hasValue(ShrinkingBudget.Bound.FALSIFICATIONS);
+			assertThat(consumption.falsifications()).isEqualTo(5);
+		}
+
+		@Example
+		@SuppressLogging
+		void maxFalsificationsLeadToSameSampleWhenShrinkingInParallel() {
+			TestingFalsifier<List<Object>> falsifier = paramFalsifier((Integer int1, Integer int2) -> int1 < 3 || int1 + int2 < 12);
+
+			PropertyShrinker sequentialShrinker = createShrinker(
+				toFalsifiedSample(listOfOneStepShrinkables(10, 10), null),
+				new ShrinkingBudget(10, 7, 0),
+				1
+			);
+			ShrunkFalsifiedSample sequentialSample = sequentialShrinker.shrink(falsifier);
+
+			PropertyShrinker parallelShrinker = createShrinker(
+				toFalsifiedSample(listOfOneStepShrinkables(10, 10), null),
+				new ShrinkingBudget(10, 7, 0),
+				4
+			);
+			ShrunkFalsifiedSample parallelSample = parallelShrinker.shrink(falsifier);
+
+			assertThat(parallelSample.parameters()).isEqualTo(sequentialSample.parameters());
+			assertThat(parallelSample.countShrinkingSteps()).isEqualTo(sequentialSample.countShrinkingSteps());
+			assertThat(parallelShrinker.shrinkingSequence()).isEqualTo(sequentialShrinker.shrinkingSequence());
+		}
+
+		@Example
+		@SuppressLogging
+		void boundedShrinkingStopsAfterMaxCpuSeconds() {
+			ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+			Assume.that(threadMXBean.isCurrentThreadCpuTimeSupported() && threadMXBean.isThreadCpuTimeEnabled());
+
+			TestingFalsifier<List<Object>> falsifier = params -> {
+				long start = threadMXBean.getCurrentThreadCpuTime();
+				while (threadMXBean.getCurrentThreadCpuTime() - start < TimeUnit.MILLISECONDS.toNanos(300)) {
+					// burn CPU time
+				}
+				return false;
+			};
+			PropertyShrinker shrinker = createShrinker(
+				toFalsifiedSample(listOfOneStepShrinkables(100), null),
+				new ShrinkingBudget(60, 0, 1),
+				1
+			);
+
+			ShrunkFalsifiedSampleImpl sample = (ShrunkFalsifiedSampleImpl) shrinker.shrink(falsifier);
+
+			ShrinkingConsumption consumption = sample.shrinkingConsumption().get();
+			assertThat(consumption.reachedBound()).hasValue(ShrinkingBudget.Bound.CPU_SECONDS);
+			assertThat(consumption.falsifications()).isEqualTo(4);
+			assertThat(consumption.cpuNanos()).isGreaterThanOrEqualTo(TimeUnit.SECONDS.toNanos(1));
+		}
+
+		@Example
+		void fullShrinkingReportsConsumptionWithoutReachedBound() {
+			PropertyShrinker shrinker = createShrinker(
+				toFalsifiedSample(listOfOneStepShrinkables(10), null),
+				new ShrinkingBudget(0, 1, 1),
+				1,
+				ShrinkingMode.FULL
+			);
+
+			ShrunkFalsifiedSampleImpl sample = (ShrunkFalsifiedSampleImpl) shrinker.shrink(alwaysFalsify());
+
+			assertThat(sample.parameters()).isEqualTo(asList(0));
+			ShrinkingConsumption consumption = sample.shrinkingConsumption().get();
+			assertThat(consumption.reachedBound()).isEmpty();
+			assertThat(consumption.falsifications()).isEqualTo(sample.countCacheMisses());
+		}
+	}
+
 	@Property(tries = 100, edgeCases = EdgeCasesMode.NONE)
 	@ExpectFailure(checkResult = ShrinkToEmptyList0.class)
 	boolean shrinkDependentParameters(
@@ -507,6 +698,39 @@ class PropertyShrinkerTests {
 		return createShrinker(originalSample, shrinkingMode, 10);
 	}
 
+	private PropertyShrinker createShrinker(FalsifiedSample originalSample, int parallelism) {
+		return new PropertyShrinker(
+			originalSample,
+			ShrinkingMode.FULL,
+			10,
+			1000,
+			parallelism,
+			falsifiedSampleReporter,
+			null
+		);
+	}
+
+	private PropertyShrinker createShrinker(FalsifiedSample originalSample, ShrinkingBudget shrinkingBudget, int parallelism) {
+		return createShrinker(originalSample, shrinkingBudget, parallelism, ShrinkingMode.BOUNDED);
+	}
+
+	private PropertyShrinker createShrinker(
+		FalsifiedSample originalSample,
+		ShrinkingBudget shrinkingBudget,
+		int parallelism,
+		ShrinkingMode shrinkingMode
+	) {
+		return new PropertyShrinker(
+			originalSample,
+			shrinkingMode,
+			shrinkingBudget,
+			1000,
+			parallelism,
+			falsifiedSampleReporter,
+			null
+		);
+	}
+
 	private PropertyShrinker createShrinker(FalsifiedSample originalSample, ShrinkingMode shrinkingMode, int boundedShrinkingSeconds) {
 		return new PropertyShrinker(
 			originalSample,
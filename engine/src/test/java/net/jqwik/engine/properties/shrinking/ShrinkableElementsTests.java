@@ -0,0 +1,85 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.constraints.*;
+
+import static java.util.Arrays.*;
+import static org.assertj.core.api.Assertions.*;
+
+@Label("ShrinkableElements")
+class ShrinkableElementsTests {
+
+	@Example
+	void emptyElements() {
+		ShrinkableElements<Integer> elements = ShrinkableElements.of(Collections.emptyList());
+
+		assertThat(elements).isEmpty();
+		assertThat(elements.distance()).isEqualTo(ShrinkingDistance.forCollection(Collections.emptyList()));
+	}
+
+	@Property(tries = 20)
+	void sameElementsAsSourceList(@ForAll @IntRange(max = 2000) int size) {
+		List<Shrinkable<Integer>> source = shrinkables(size);
+
+		ShrinkableElements<Integer> elements = ShrinkableElements.of(source);
+
+		assertThat(elements).hasSize(size);
+		assertThat(elements).containsExactlyElementsOf(source);
+		assertThat(elements).isEqualTo(source);
+		assertThat(elements.hashCode()).isEqualTo(source.hashCode());
+	}
+
+	@Example
+	void withReplacesElementWithoutChangingOriginal() {
+		List<Shrinkable<Integer>> source = shrinkables(1000);
+		ShrinkableElements<Integer> elements = ShrinkableElements.of(source);
+
+		ShrinkableElements<Integer> replaced = elements.with(999, Shrinkable.unshrinkable(-1))
+													   .with(0, Shrinkable.unshrinkable(-2));
+
+		assertThat(replaced.get(999).value()).isEqualTo(-1);
+		assertThat(replaced.get(0).value()).isEqualTo(-2);
+		assertThat(replaced.subList(1, 999)).isEqualTo(source.subList(1, 999));
+		assertThat(elements).isEqualTo(source);
+	}
+
+	@Example
+	void indexOutOfBounds() {
+		ShrinkableElements<Integer> elements = ShrinkableElements.of(shrinkables(40));
+
+		assertThatThrownBy(() -> elements.get(40)).isInstanceOf(IndexOutOfBoundsException.class);
+		assertThatThrownBy(() -> elements.with(-1, Shrinkable.unshrinkable(1))).isInstanceOf(IndexOutOfBoundsException.class);
+	}
+
+	@Property(tries = 20)
+	void distanceIsSameAsForCollection(@ForAll @IntRange(min = 1, max = 2000) int size, @ForAll Random random) {
+		List<Shrinkable<Integer>> source = shrinkables(size);
+		ShrinkableElements<Integer> elements = ShrinkableElements.of(source);
+		assertThat(elements.distance()).isEqualTo(ShrinkingDistance.forCollection(source));
+
+		int index = random.nextInt(size);
+		Shrinkable<Integer> replacement = Shrinkable.unshrinkable(5000, ShrinkingDistance.of(5000));
+		List<Shrinkable<Integer>> replacedSource = new ArrayList<>(source);
+		replacedSource.set(index, replacement);
+
+		assertThat(elements.with(index, replacement).distance()).isEqualTo(ShrinkingDistance.forCollection(replacedSource));
+	}
+
+	@Example
+	void distanceOfElementsWithDifferentDimensions() {
+		Shrinkable<Integer> oneDimension = new ShrinkableTypesForTest.OneStepShrinkable(3).map(i -> i);
+		Shrinkable<Integer> twoDimensions = Shrinkable.unshrinkable(1, ShrinkingDistance.of(2, 7));
+		List<Shrinkable<Integer>> source = asList(oneDimension, twoDimensions, oneDimension);
+
+		assertThat(ShrinkableElements.of(source).distance()).isEqualTo(ShrinkingDistance.forCollection(source));
+	}
+
+	private List<Shrinkable<Integer>> shrinkables(int size) {
+		return IntStream.range(0, size)
+						.mapToObj(i -> new ShrinkableTypesForTest.OneStepShrinkable(i).map(v -> v))
+						.collect(Collectors.toList());
+	}
+}
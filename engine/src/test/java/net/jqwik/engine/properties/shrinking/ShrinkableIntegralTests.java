@@ -0,0 +1,148 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.testing.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+import static net.jqwik.testing.ShrinkingSupport.*;
+
+@Group
+@Label("ShrinkableIntegral")
+class ShrinkableIntegralTests {
+
+	@Example
+	void creation() {
+		Shrinkable<Long> shrinkable = createShrinkableLong(25, -100, 100, 0);
+		assertThat(shrinkable.value()).isEqualTo(25L);
+		assertThat(shrinkable.distance()).isEqualTo(ShrinkingDistance.of(25));
+	}
+
+	@Example
+	void valueIsConvertedToTargetType() {
+		Shrinkable<Short> shrinkable = new ShrinkableIntegral<>(25, -100, 100, 0, aLong -> (short) aLong);
+		assertThat(shrinkable.value()).isEqualTo((short) 25);
+		assertThat(shrinkable.shrink().map(Shrinkable::value)).allMatch(value -> value instanceof Short);
+	}
+
+	@Example
+	void cannotCreateValueOutsideRange() {
+		assertThatThrownBy(
+			() -> createShrinkableLong(25, 50, 100, 50))
+			.isInstanceOf(JqwikException.class);
+	}
+
+	@Example
+	void shrinkingDistanceIsDistanceToShrinkingTarget() {
+		assertThat(createShrinkableLong(25, -100, 100, 0).distance()).isEqualTo(ShrinkingDistance.of(25));
+		assertThat(createShrinkableLong(-25, -100, 100, 0).distance()).isEqualTo(ShrinkingDistance.of(25));
+		assertThat(createShrinkableLong(25, 5, 100, 5).distance()).isEqualTo(ShrinkingDistance.of(20));
+		assertThat(createShrinkableLong(-25, -100, 100, 100).distance()).isEqualTo(ShrinkingDistance.of(125));
+	}
+
+	@Example
+	void shrinkingDistanceBeyondLongRangeIsCapped() {
+		assertThat(
+			createShrinkableLong(Long.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE).distance())
+			.isEqualTo(ShrinkingDistance.of(Long.MAX_VALUE));
+		assertThat(
+			createShrinkableLong(Long.MIN_VALUE, Long.MIN_VALUE, Long.MAX_VALUE, 0).distance())
+			.isEqualTo(ShrinkingDistance.of(Long.MAX_VALUE));
+	}
+
+	@Group
+	class Shrinking {
+
+		@Example
+		void downAllTheWay() {
+			Shrinkable<Long> shrinkable = createShrinkableLong(100000, 5, 500000, 5);
+
+			TestingFalsifier<Long> falsifier = aLong -> aLong <= 1000;
+			long shrunkValue = shrink(shrinkable, falsifier, null);
+			assertThat(shrunkValue).isEqualTo(1001L);
+		}
+
+		@Example
+		void withFilter() {
+			Shrinkable<Long> shrinkable = createShrinkableLong(100000, 0, 1000000, 0);
+
+			TestingFalsifier<Long> falsifier = aLong -> aLong < 99;
+			Falsifier<Long> filteredFalsifier = falsifier.withFilter(aLong -> aLong % 2 == 0);
+
+			long shrunkValue = shrink(shrinkable, filteredFalsifier, null);
+			assertThat(shrunkValue).isEqualTo(100L);
+		}
+
+		@Example
+		void upToExplicitShrinkingTarget() {
+			Shrinkable<Long> shrinkable = createShrinkableLong(1000, 5, 500000, 5000);
+
+			TestingFalsifier<Long> falsifier = aLong -> aLong >= 5000;
+			long shrunkValue = shrink(shrinkable, falsifier, null);
+			assertThat(shrunkValue).isEqualTo(4999L);
+		}
+
+		@Example
+		void negativeValueShrinksToPositive() {
+			Shrinkable<Long> shrinkable = createShrinkableLong(-1000, -10000, 10000, 0);
+
+			TestingFalsifier<Long> falsifier = aLong -> Math.abs(aLong) < 10;
+			long shrunkValue = shrink(shrinkable, falsifier, null);
+			assertThat(shrunkValue).isEqualTo(10L);
+		}
+
+		@Example
+		void fromExtremesOfLongRange() {
+			Shrinkable<Long> min = createShrinkableLong(Long.MIN_VALUE, Long.MIN_VALUE, Long.MAX_VALUE, 0);
+			Shrinkable<Long> max = createShrinkableLong(Long.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE, 0);
+
+			TestingFalsifier<Long> falsifier = aLong -> Math.abs(aLong) < 1000;
+			assertThat(shrink(min, falsifier, null)).isEqualTo(1000L);
+			assertThat(shrink(max, falsifier, null)).isEqualTo(1000L);
+		}
+
+	}
+
+	@Group
+	class Growing {
+
+		@Example
+		void upToMax() {
+			Shrinkable<Long> shrinkable = createShrinkableLong(100000, 5, 500000, 5);
+
+			Stream<Long> grownValues = shrinkable.grow().map(Shrinkable::value);
+			assertThat(grownValues).containsExactlyInAnyOrder(100001L, 100010L, 300000L, 500000L);
+		}
+
+		@Example
+		void downToMin() {
+			Shrinkable<Long> shrinkable = createShrinkableLong(-100000, -500000, -5, -5);
+
+			Stream<Long> grownValues = shrinkable.grow().map(Shrinkable::value);
+			assertThat(grownValues).containsExactlyInAnyOrder(-100001L, -100010L, -300000L, -500000L);
+		}
+
+		@Example
+		void upOnlyProducesGrownValues() {
+			Shrinkable<Long> shrinkable = createShrinkableLong(499998, 5, 500000, 5);
+
+			Stream<Long> grownValues = shrinkable.grow().map(Shrinkable::value);
+			assertThat(grownValues).containsExactlyInAnyOrder(499999L, 500000L);
+		}
+
+		@Example
+		void nearLongMaxDoesNotOverflow() {
+			Shrinkable<Long> shrinkable = createShrinkableLong(Long.MAX_VALUE - 1, 0, Long.MAX_VALUE, 0);
+
+			Stream<Long> grownValues = shrinkable.grow().map(Shrinkable::value);
+			assertThat(grownValues).containsExactlyInAnyOrder(Long.MAX_VALUE);
+		}
+	}
+
+	private Shrinkable<Long> createShrinkableLong(long value, long min, long max, long shrinkingTarget) {
+		return new ShrinkableIntegral<>(value, min, max, shrinkingTarget, Long::valueOf);
+	}
+
+}
@@ -30,6 +30,28 @@ class ShrinkableListTests {
 		assertThat(shrinkable.value()).isEqualTo(asList(0, 1, 2, 3));
 	}
 
+	@Example
+	void equalityIsBasedOnValues() {
+		Shrinkable<List<Integer>> shrinkable = createShrinkableList(0, 1, 2, 3);
+
+		assertThat(shrinkable).isEqualTo(createShrinkableList(0, 1, 2, 3));
+		assertThat(shrinkable).hasSameHashCodeAs(createShrinkableList(0, 1, 2, 3));
+		assertThat(shrinkable).isNotEqualTo(createShrinkableList(0, 1, 2, 4));
+	}
+
+	@Example
+	void changingValueDoesNotChangeShrinkable() {
+		Shrinkable<List<Integer>> shrinkable = createShrinkableList(0, 1, 2, 3);
+		int hashCode = shrinkable.hashCode();
+
+		List<Integer> value = shrinkable.value();
+		value.add(4);
+
+		assertThat(shrinkable.value()).isEqualTo(asList(0, 1, 2, 3));
+		assertThat(shrinkable).isEqualTo(createShrinkableList(0, 1, 2, 3));
+		assertThat(shrinkable.hashCode()).isEqualTo(hashCode);
+	}
+
 	@Group
 	class Shrinking {
 
@@ -0,0 +1,93 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+
+import static java.util.Arrays.*;
+import static org.assertj.core.api.Assertions.*;
+
+@Label("SizeOfListShrinker")
+class SizeOfListShrinkerTests {
+
+	@Example
+	void removeChunksOfHalvedSize() {
+		SizeOfListShrinker<Integer> shrinker = new SizeOfListShrinker<>(0);
+
+		List<List<Integer>> candidates = shrinker.shrink(asList(1, 2, 3, 4)).collect(Collectors.toList());
+
+		assertThat(candidates).containsExactly(
+			asList(),
+			asList(1, 2),
+			asList(3, 4),
+			asList(1, 2, 3),
+			asList(1, 2, 4),
+			asList(1, 3, 4),
+			asList(2, 3, 4)
+		);
+	}
+
+	@Example
+	void neverShrinkBelowMinSize() {
+		SizeOfListShrinker<Integer> shrinker = new SizeOfListShrinker<>(2);
+
+		List<List<Integer>> candidates = shrinker.shrink(asList(1, 2, 3, 4, 5)).collect(Collectors.toList());
+
+		assertThat(candidates).allMatch(candidate -> candidate.size() >= 2);
+		assertThat(candidates.get(0)).isEqualTo(asList(1, 2));
+		assertThat(candidates.get(1)).isEqualTo(asList(4, 5));
+		assertThat(candidates).contains(asList(1, 2, 3, 5));
+	}
+
+	@Example
+	void nothingToShrinkAtMinSize() {
+		SizeOfListShrinker<Integer> shrinker = new SizeOfListShrinker<>(3);
+
+		assertThat(shrinker.shrink(asList(1, 2, 3))).isEmpty();
+	}
+
+	@Example
+	void candidatesComeInAscendingSize() {
+		List<Integer> longList = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+		SizeOfListShrinker<Integer> shrinker = new SizeOfListShrinker<>(10);
+
+		List<Integer> sizes = shrinker.shrink(longList).map(List::size).collect(Collectors.toList());
+
+		assertThat(sizes).isSorted();
+		assertThat(sizes.get(0)).isEqualTo(10);
+		assertThat(sizes.get(sizes.size() - 1)).isEqualTo(999);
+		// Small chunks are only removed at both ends
+		assertThat(sizes).hasSizeLessThan(100);
+	}
+
+	@Example
+	void candidatesAreCreatedLazily() {
+		List<Integer> longList = new ArrayList<Integer>(IntStream.range(0, 10000).boxed().collect(Collectors.toList())) {
+			@Override
+			public List<Integer> subList(int fromIndex, int toIndex) {
+				if (toIndex - fromIndex > 10) {
+					throw new AssertionError("Only the first candidate should be created");
+				}
+				return super.subList(fromIndex, toIndex);
+			}
+		};
+		SizeOfListShrinker<Integer> shrinker = new SizeOfListShrinker<>(5);
+
+		Optional<List<Integer>> first = shrinker.shrink(longList).findFirst();
+
+		assertThat(first).hasValue(asList(0, 1, 2, 3, 4));
+	}
+
+	@Example
+	void aggressiveCandidatesComeInAscendingSize() {
+		List<Integer> longList = IntStream.range(0, 200).boxed().collect(Collectors.toList());
+		AggressiveSizeOfListShrinker<Integer> shrinker = new AggressiveSizeOfListShrinker<>(0);
+
+		List<List<Integer>> candidates = shrinker.shrink(longList).collect(Collectors.toList());
+
+		assertThat(candidates).extracting(List::size).containsExactly(0, 1, 1, 100, 100);
+		assertThat(candidates.get(1)).containsExactly(0);
+		assertThat(candidates.get(2)).containsExactly(199);
+	}
+}
@@ -0,0 +1,190 @@
+package net.jqwik.engine.recording;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.stream.*;
+
+import org.junit.platform.engine.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.api.lifecycle.PropertyExecutionResult.*;
+import net.jqwik.engine.execution.*;
+import net.jqwik.testing.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SuppressLogging
+class TestRunDatabaseTests {
+
+	private Path databasePath;
+	private Path recordingPath;
+
+	@BeforeExample
+	void createDatabaseFile() throws IOException {
+		databasePath = Files.createTempFile("jqwik-database", ".bin");
+		Files.delete(databasePath);
+		recordingPath = databasePath.resolveSibling(databasePath.getFileName() + ".tmp");
+	}
+
+	@AfterExample
+	void deleteDatabaseFile() throws IOException {
+		Files.deleteIfExists(databasePath);
+		Files.deleteIfExists(recordingPath);
+	}
+
+	@Example
+	void missingDatabaseHasNoPreviousRun() {
+		TestRunDatabase database = new TestRunDatabase(databasePath);
+
+		assertThat(database.previousRun().allNonSuccessfulTests()).isEmpty();
+	}
+
+	@Example
+	void recordedFailuresCanBeLookedUpInNextRun() {
+		TestRun failed = failedRun("failed", "42", 3);
+		TestRun aborted = new TestRun(uniqueId("aborted"), Status.ABORTED, new GenerationInfo("43"));
+		record(failed, aborted);
+
+		TestRunLookup previousRun = new TestRunDatabase(databasePath).previousRun();
+
+		assertThat(previousRun.byUniqueId(uniqueId("failed"))).hasValueSatisfying(testRun -> {
+			assertThat(testRun.getStatus()).isEqualTo(Status.FAILED);
+			assertThat(testRun.generationInfo()).isEqualTo(failed.generationInfo());
+		});
+		assertThat(previousRun.byUniqueId(uniqueId("aborted"))).hasValueSatisfying(
+			testRun -> assertThat(testRun.getStatus()).isEqualTo(Status.ABORTED)
+		);
+		assertThat(previousRun.byUniqueId(uniqueId("unknown"))).isEmpty();
+		assertThat(uniqueIds(previousRun)).containsExactly(uniqueId("failed"), uniqueId("aborted"));
+	}
+
+	@Example
+	void shrinkingSequencesAreRestored() {
+		GenerationInfo generationInfo =
+			new GenerationInfo("4711", 5)
+				.appendShrinkingSequence(Arrays.asList(TryExecutionResult.Status.SATISFIED, TryExecutionResult.Status.FALSIFIED))
+				.appendShrinkingSequence(Collections.singletonList(TryExecutionResult.Status.INVALID));
+		record(new TestRun(uniqueId("shrunk"), Status.FAILED, generationInfo));
+
+		TestRunLookup previousRun = new TestRunDatabase(databasePath).previousRun();
+
+		assertThat(previousRun.byUniqueId(uniqueId("shrunk")).map(TestRun::generationInfo)).hasValue(generationInfo);
+	}
+
+	@Example
+	void successfulRunsAreNotRecorded() {
+		record(new TestRun(uniqueId("successful"), Status.SUCCESSFUL, new GenerationInfo("42")));
+
+		TestRunLookup previousRun = new TestRunDatabase(databasePath).previousRun();
+
+		assertThat(previousRun.byUniqueId(uniqueId("successful"))).isEmpty();
+	}
+
+	@Example
+	void finishedRecordingIsIndexed() throws IOException {
+		record(failedRun("first", "1", 1), failedRun("second", "2", 2));
+
+		assertThat(recordingPath).doesNotExist();
+		ByteBuffer content = ByteBuffer.wrap(Files.readAllBytes(databasePath));
+		assertThat(TestRunFormat.indexEntryCount(content)).isEqualTo(2);
+	}
+
+	@Example
+	void manyRecordsCanBeLookedUpThroughIndex() {
+		TestRun[] testRuns = IntStream.range(0, 500)
+									  .mapToObj(i -> failedRun("property" + i, Integer.toString(i), i))
+									  .toArray(TestRun[]::new);
+		record(testRuns);
+
+		TestRunLookup previousRun = new TestRunDatabase(databasePath).previousRun();
+
+		for (TestRun testRun : testRuns) {
+			assertThat(previousRun.byUniqueId(testRun.getUniqueId()).map(TestRun::generationInfo))
+				.hasValue(testRun.generationInfo());
+		}
+		assertThat(uniqueIds(previousRun)).containsExactlyElementsOf(
+			Arrays.stream(testRuns).map(TestRun::getUniqueId).collect(Collectors.toList())
+		);
+	}
+
+	@Example
+	void abortedRecordingIsUsedInNextRun() {
+		recordWithoutClosing(failedRun("first", "1", 1), failedRun("second", "2", 2));
+		assertThat(recordingPath).exists();
+
+		TestRunLookup previousRun = new TestRunDatabase(databasePath).previousRun();
+
+		assertThat(recordingPath).doesNotExist();
+		assertThat(previousRun.byUniqueId(uniqueId("second"))).isPresent();
+		assertThat(uniqueIds(previousRun)).containsExactly(uniqueId("first"), uniqueId("second"));
+	}
+
+	@Example
+	void incompleteRecordAtEndIsIgnored() throws IOException {
+		recordWithoutClosing(failedRun("first", "1", 1), failedRun("second", "2", 2));
+		byte[] content = Files.readAllBytes(recordingPath);
+		Files.write(recordingPath, Arrays.copyOf(content, content.length - 3));
+
+		TestRunLookup previousRun = new TestRunDatabase(databasePath).previousRun();
+
+		assertThat(previousRun.byUniqueId(uniqueId("first"))).isPresent();
+		assertThat(previousRun.byUniqueId(uniqueId("second"))).isEmpty();
+		assertThat(uniqueIds(previousRun)).containsExactly(uniqueId("first"));
+	}
+
+	@Example
+	void corruptRecordIsSkipped() throws IOException {
+		record(failedRun("first", "1", 1), failedRun("second", "2", 2));
+		byte[] content = Files.readAllBytes(databasePath);
+		int firstPayloadStart = TestRunFormat.FILE_HEADER_SIZE + TestRunFormat.RECORD_HEADER_SIZE;
+		content[firstPayloadStart + 6] ^= 0x7f;
+		Files.write(databasePath, content);
+
+		TestRunLookup previousRun = new TestRunDatabase(databasePath).previousRun();
+
+		assertThat(previousRun.byUniqueId(uniqueId("first"))).isEmpty();
+		assertThat(previousRun.byUniqueId(uniqueId("second"))).isPresent();
+		assertThat(uniqueIds(previousRun)).containsExactly(uniqueId("second"));
+	}
+
+	@Example
+	void databaseInUnknownFormatIsIgnoredAndOverwritten() throws IOException {
+		Files.write(databasePath, new byte[]{(byte) 0xac, (byte) 0xed, 0, 5, 1, 2, 3, 4, 5});
+
+		TestRunDatabase database = new TestRunDatabase(databasePath);
+		assertThat(database.previousRun().allNonSuccessfulTests()).isEmpty();
+
+		record(failedRun("failed", "42", 1));
+		assertThat(new TestRunDatabase(databasePath).previousRun().byUniqueId(uniqueId("failed"))).isPresent();
+	}
+
+	private void record(TestRun... testRuns) {
+		try (TestRunRecorder recorder = new TestRunDatabase(databasePath).recorder()) {
+			for (TestRun testRun : testRuns) {
+				recorder.record(testRun);
+			}
+		}
+	}
+
+	private void recordWithoutClosing(TestRun... testRuns) {
+		TestRunRecorder recorder = new TestRunDatabase(databasePath).recorder();
+		for (TestRun testRun : testRuns) {
+			recorder.record(testRun);
+		}
+	}
+
+	private List<UniqueId> uniqueIds(TestRunLookup testRunData) {
+		return testRunData.allNonSuccessfulTests().map(TestRun::getUniqueId).collect(Collectors.toList());
+	}
+
+	private TestRun failedRun(String name, String seed, int generationIndex) {
+		return new TestRun(uniqueId(name), Status.FAILED, new GenerationInfo(seed, generationIndex));
+	}
+
+	private UniqueId uniqueId(String name) {
+		return UniqueId.forEngine("jqwik").append("property", name);
+	}
+}
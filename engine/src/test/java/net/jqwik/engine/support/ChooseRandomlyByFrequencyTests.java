@@ -0,0 +1,103 @@
+package net.jqwik.engine.support;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.Tuple.*;
+
+import static java.util.Arrays.*;
+import static org.assertj.core.api.Assertions.*;
+
+class ChooseRandomlyByFrequencyTests {
+
+	@Example
+	void valuesAreChosenProportionallyToFrequencies() {
+		List<Tuple2<Integer, String>> frequencies = asList(
+			Tuple.of(1, "a"),
+			Tuple.of(0, "never"),
+			Tuple.of(10, "b"),
+			Tuple.of(89, "c")
+		);
+		ChooseRandomlyByFrequency<String> choose = new ChooseRandomlyByFrequency<>(frequencies);
+
+		Random random = new Random(42L);
+		Map<String, Long> counts = IntStream.range(0, 100000)
+											.mapToObj(i -> choose.apply(random))
+											.collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+
+		assertThat(counts).doesNotContainKey("never");
+		assertThat(counts.get("a")).isBetween(800L, 1200L);
+		assertThat(counts.get("b")).isBetween(9500L, 10500L);
+		assertThat(counts.get("c")).isBetween(88500L, 89500L);
+	}
+
+	@Example
+	void manyAlternativesWithDifferentFrequencies() {
+		List<Tuple2<Integer, Integer>> frequencies = IntStream.range(1, 301)
+															  .mapToObj(i -> Tuple.of(i, i))
+															  .collect(Collectors.toList());
+		ChooseRandomlyByFrequency<Integer> choose = new ChooseRandomlyByFrequency<>(frequencies);
+
+		Random random = new Random(42L);
+		int[] counts = new int[301];
+		int draws = 1000000;
+		for (int i = 0; i < draws; i++) {
+			counts[choose.apply(random)]++;
+		}
+
+		int totalFrequency = 300 * 301 / 2;
+		assertThat(counts[0]).isEqualTo(0);
+		for (int value : asList(1, 150, 300)) {
+			double expected = (double) draws * value / totalFrequency;
+			assertThat((double) counts[value]).isCloseTo(expected, withinPercentage(30));
+		}
+	}
+
+	@Example
+	void legacySamplingProducesSameValuesAsBinarySearchOverUpperBounds() {
+		List<Tuple2<Integer, String>> frequencies = asList(Tuple.of(2, "a"), Tuple.of(3, "b"), Tuple.of(5, "c"));
+		ChooseRandomlyByFrequency<String> choose = new ChooseRandomlyByFrequency<>(frequencies, true);
+
+		Random random = new Random(42L);
+		Random expectedRandom = new Random(42L);
+		for (int i = 0; i < 1000; i++) {
+			int index = expectedRandom.nextInt(10);
+			String expected = index < 2 ? "a" : index < 5 ? "b" : "c";
+			assertThat(choose.apply(random)).isEqualTo(expected);
+		}
+	}
+
+	@Example
+	void frequenciesOfOneProduceSameValuesWithAndWithoutLegacySampling() {
+		List<Tuple2<Integer, String>> frequencies = asList(Tuple.of(1, "a"), Tuple.of(1, "b"), Tuple.of(1, "c"));
+		ChooseRandomlyByFrequency<String> legacy = new ChooseRandomlyByFrequency<>(frequencies, true);
+		ChooseRandomlyByFrequency<String> alias = new ChooseRandomlyByFrequency<>(frequencies, false);
+
+		Random legacyRandom = new Random(42L);
+		Random aliasRandom = new Random(42L);
+		for (int i = 0; i < 1000; i++) {
+			assertThat(alias.apply(aliasRandom)).isEqualTo(legacy.apply(legacyRandom));
+		}
+	}
+
+	@Example
+	void otherEqualFrequenciesProduceDifferentValuesWithLegacySampling() {
+		List<Tuple2<Integer, String>> frequencies = asList(Tuple.of(2, "a"), Tuple.of(2, "b"), Tuple.of(2, "c"));
+		ChooseRandomlyByFrequency<String> legacy = new ChooseRandomlyByFrequency<>(frequencies, true);
+		ChooseRandomlyByFrequency<String> alias = new ChooseRandomlyByFrequency<>(frequencies, false);
+
+		Random legacyRandom = new Random(42L);
+		Random aliasRandom = new Random(42L);
+		List<String> legacyValues = IntStream.range(0, 100).mapToObj(i -> legacy.apply(legacyRandom)).collect(Collectors.toList());
+		List<String> aliasValues = IntStream.range(0, 100).mapToObj(i -> alias.apply(aliasRandom)).collect(Collectors.toList());
+		assertThat(aliasValues).isNotEqualTo(legacyValues);
+	}
+
+	@Example
+	void noPositiveFrequencies() {
+		assertThatThrownBy(() -> new ChooseRandomlyByFrequency<>(asList(Tuple.of(0, "a"))))
+			.isInstanceOf(JqwikException.class);
+	}
+}
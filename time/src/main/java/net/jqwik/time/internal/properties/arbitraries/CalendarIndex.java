@@ -0,0 +1,127 @@
+package net.jqwik.time.internal.properties.arbitraries;
+
+import java.time.*;
+import java.util.*;
+
+/**
+ * Numbers all dates that match allowed months, days of week and a day of month range,
+ * so that a uniformly generated index can be mapped onto valid dates only.
+ *
+ * <p>
+ * The Gregorian calendar repeats itself every 400 years including days of week.
+ * Therefore the number of valid days is counted once for each month of a 400 year cycle.
+ * Mapping an index onto a date needs a binary search over the 4800 months of a cycle
+ * and a scan over at most 31 days, regardless of how many dates are valid.
+ * </p>
+ */
+class CalendarIndex {
+
+	private static final int MONTHS_PER_CYCLE = 400 * 12;
+
+	// Any year that is divisible by 400 can be used as start of a cycle
+	private static final int CYCLE_START_YEAR = 2000;
+
+	private final Set<Month> allowedMonths;
+	private final Set<DayOfWeek> allowedDayOfWeeks;
+	private final int minDayOfMonth;
+	private final int maxDayOfMonth;
+
+	// Number of valid dates before each month of a cycle
+	private final int[] validBefore = new int[MONTHS_PER_CYCLE + 1];
+
+	CalendarIndex(Set<Month> allowedMonths, Set<DayOfWeek> allowedDayOfWeeks, int minDayOfMonth, int maxDayOfMonth) {
+		this.allowedMonths = EnumSet.noneOf(Month.class);
+		this.allowedMonths.addAll(allowedMonths);
+		this.allowedDayOfWeeks = EnumSet.noneOf(DayOfWeek.class);
+		this.allowedDayOfWeeks.addAll(allowedDayOfWeeks);
+		this.minDayOfMonth = minDayOfMonth;
+		this.maxDayOfMonth = maxDayOfMonth;
+		for (int i = 0; i < MONTHS_PER_CYCLE; i++) {
+			YearMonth yearMonth = YearMonth.of(CYCLE_START_YEAR + i / 12, i % 12 + 1);
+			validBefore[i + 1] = validBefore[i] + countValidDays(yearMonth, maxDayOfMonth);
+		}
+	}
+
+	boolean isValid(LocalDate date) {
+		return allowedMonths.contains(date.getMonth())
+				   && date.getDayOfMonth() >= minDayOfMonth
+				   && date.getDayOfMonth() <= maxDayOfMonth
+				   && allowedDayOfWeeks.contains(date.getDayOfWeek());
+	}
+
+	/**
+	 * @return the number of valid dates before {@code date}
+	 */
+	long indexOf(LocalDate date) {
+		long month = date.getYear() * 12L + date.getMonthValue() - 1;
+		YearMonth yearMonth = YearMonth.of(date.getYear(), date.getMonth());
+		return validBeforeMonth(month) + countValidDays(yearMonth, date.getDayOfMonth() - 1);
+	}
+
+	/**
+	 * @return the valid date with {@code index} valid dates before it
+	 */
+	LocalDate dateAt(long index) {
+		int validPerCycle = validBefore[MONTHS_PER_CYCLE];
+		long cycle = Math.floorDiv(index, validPerCycle);
+		int indexInCycle = (int) Math.floorMod(index, (long) validPerCycle);
+		int monthInCycle = lastMonthStartingAtOrBefore(indexInCycle);
+		YearMonth yearMonth = YearMonth.of(Math.toIntExact(cycle * 400 + monthInCycle / 12), monthInCycle % 12 + 1);
+		return nthValidDay(yearMonth, indexInCycle - validBefore[monthInCycle]);
+	}
+
+	private long validBeforeMonth(long month) {
+		long cycle = Math.floorDiv(month, (long) MONTHS_PER_CYCLE);
+		int monthInCycle = (int) Math.floorMod(month, (long) MONTHS_PER_CYCLE);
+		return cycle * validBefore[MONTHS_PER_CYCLE] + validBefore[monthInCycle];
+	}
+
+	// Months without valid days share their start with the next month, so the last candidate must be chosen
+	private int lastMonthStartingAtOrBefore(int indexInCycle) {
+		int low = 0;
+		int high = MONTHS_PER_CYCLE - 1;
+		while (low < high) {
+			int middle = (low + high + 1) >>> 1;
+			if (validBefore[middle] <= indexInCycle) {
+				low = middle;
+			} else {
+				high = middle - 1;
+			}
+		}
+		return low;
+	}
+
+	private int countValidDays(YearMonth yearMonth, int lastDayOfMonth) {
+		if (!allowedMonths.contains(yearMonth.getMonth())) {
+			return 0;
+		}
+		int last = Math.min(lastDayOfMonth, Math.min(maxDayOfMonth, yearMonth.lengthOfMonth()));
+		if (last < minDayOfMonth) {
+			return 0;
+		}
+		if (allowedDayOfWeeks.size() == 7) {
+			return last - minDayOfMonth + 1;
+		}
+		DayOfWeek first = yearMonth.atDay(minDayOfMonth).getDayOfWeek();
+		int count = 0;
+		for (int day = minDayOfMonth; day <= last; day++) {
+			if (allowedDayOfWeeks.contains(first.plus(day - minDayOfMonth))) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	private LocalDate nthValidDay(YearMonth yearMonth, int n) {
+		DayOfWeek first = yearMonth.atDay(minDayOfMonth).getDayOfWeek();
+		int remaining = n;
+		for (int day = minDayOfMonth; ; day++) {
+			if (allowedDayOfWeeks.contains(first.plus(day - minDayOfMonth))) {
+				if (remaining == 0) {
+					return yearMonth.atDay(day);
+				}
+				remaining--;
+			}
+		}
+	}
+}
@@ -31,7 +31,9 @@ public class DefaultLocalDateArbitrary extends ArbitraryDecorator<LocalDate> imp
 		LocalDate effectiveMin = effectiveMinDate();
 		LocalDate effectiveMax = effectiveMaxDate(effectiveMin);
 
-		checkIfValuesArePossible(effectiveMin, effectiveMax);
+		if (hasCalendarConstraints()) {
+			return validDatesBetween(effectiveMin, effectiveMax);
+		}
 
 		long days = DAYS.between(effectiveMin, effectiveMax);
 
@@ -45,85 +47,54 @@ public class DefaultLocalDateArbitrary extends ArbitraryDecorator<LocalDate> imp
 						   optionalLeapDay.ifPresent(edgeCases::add);
 					   });
 
-		Arbitrary<LocalDate> localDates = day.map(effectiveMin::plusDays);
-
-		if (allowedMonths.get().size() < 12) {
-			localDates = localDates.filter(date -> allowedMonths.get().contains(date.getMonth()));
-		}
-
-		if (allowedDayOfWeeks.get().size() < 7) {
-			localDates = localDates.filter(date -> allowedDayOfWeeks.get().contains(date.getDayOfWeek()));
-		}
+		return day.map(effectiveMin::plusDays);
 
-		if (dayOfMonthBetween.getMax() != null
-				&& dayOfMonthBetween.getMin() != null
-				&& dayOfMonthBetween.getMax() - dayOfMonthBetween.getMin() != 30
-		) {
-			localDates = localDates.filter(date ->
-											   date.getDayOfMonth() >= dayOfMonthBetween.getMin()
-												   && date.getDayOfMonth() <= dayOfMonthBetween.getMax()
-			);
-		}
+	}
 
-		return localDates;
+	private boolean hasCalendarConstraints() {
+		return allowedMonths.get().size() < 12
+				   || allowedDayOfWeeks.get().size() < 7
+				   || effectiveMinDayOfMonth() > 1
+				   || effectiveMaxDayOfMonth() < 31;
+	}
 
+	private int effectiveMinDayOfMonth() {
+		return dayOfMonthBetween.getMin() == null ? 1 : dayOfMonthBetween.getMin();
 	}
 
-	private void checkIfValuesArePossible(LocalDate min, LocalDate max) {
-		if (max.getYear() - 2 >= min.getYear()) {
-			if (valuesArePossible()) {
-				return;
-			}
-		} else {
-			int minDayOfMonth = dayOfMonthBetween.getMin() == null ? 1 : dayOfMonthBetween.getMin();
-			int maxDayOfMonth = dayOfMonthBetween.getMax() == null ? 31 : dayOfMonthBetween.getMax();
-			for (LocalDate date = min; !date.isAfter(max); date = date.plusDays(1)) {
-				if (minDayOfMonth <= date.getDayOfMonth()
-						&& maxDayOfMonth >= date.getDayOfMonth()
-						&& allowedMonths.get().contains(date.getMonth())
-				) {
-					return;
-				}
-			}
-		}
-		throw new IllegalArgumentException("These min/max configurations cannot be used together: No values are possible.");
+	private int effectiveMaxDayOfMonth() {
+		return dayOfMonthBetween.getMax() == null ? 31 : dayOfMonthBetween.getMax();
 	}
 
-	private boolean valuesArePossible() {
-		int min = dayOfMonthBetween.getMin() == null ? 1 : dayOfMonthBetween.getMin();
-		return !(
-			(min == 31 && !allowedMonthContainsMonthWith31Days())
-				|| (min == 30 && !allowedMonthContainsNotOnlyFebruary())
-				|| (min == 29
-						&& !allowedMonthContainsNotOnlyFebruary()
-						&& !leapYearPossible(dateBetween.getMin().getYear(), dateBetween.getMax().getYear()))
+	// Only valid dates are generated, so that generation does not depend on how many dates are filtered out
+	private Arbitrary<LocalDate> validDatesBetween(LocalDate effectiveMin, LocalDate effectiveMax) {
+		CalendarIndex calendarIndex = new CalendarIndex(
+			allowedMonths.get(),
+			allowedDayOfWeeks.get(),
+			effectiveMinDayOfMonth(),
+			effectiveMaxDayOfMonth()
 		);
-	}
 
-	private boolean allowedMonthContainsMonthWith31Days() {
-		Set<Month> allowed = allowedMonths.get();
-		return allowed.contains(JANUARY)
-				   || allowed.contains(MARCH)
-				   || allowed.contains(MAY)
-				   || allowed.contains(JULY)
-				   || allowed.contains(AUGUST)
-				   || allowed.contains(OCTOBER)
-				   || allowed.contains(DECEMBER);
-	}
+		long first = calendarIndex.indexOf(effectiveMin);
+		long last = calendarIndex.indexOf(effectiveMax) + (calendarIndex.isValid(effectiveMax) ? 0 : -1);
+		if (last < first) {
+			throw new IllegalArgumentException("These min/max configurations cannot be used together: No values are possible.");
+		}
+
+		long maxIndex = last - first;
+		Arbitrary<Long> index =
+			Arbitraries.longs()
+					   .between(0, maxIndex)
+					   .withDistribution(RandomDistribution.uniform())
+					   .edgeCases(edgeCases -> {
+						   edgeCases.includeOnly(0L, maxIndex);
+						   Optional<LocalDate> optionalLeapDay = firstLeapDayAfter(effectiveMin, DAYS.between(effectiveMin, effectiveMax))
+																	 .map(effectiveMin::plusDays)
+																	 .filter(calendarIndex::isValid);
+						   optionalLeapDay.ifPresent(leapDay -> edgeCases.add(calendarIndex.indexOf(leapDay) - first));
+					   });
 
-	private boolean allowedMonthContainsNotOnlyFebruary() {
-		Set<Month> allowed = allowedMonths.get();
-		return allowed.contains(JANUARY)
-				   || allowed.contains(MARCH)
-				   || allowed.contains(APRIL)
-				   || allowed.contains(MAY)
-				   || allowed.contains(JUNE)
-				   || allowed.contains(JULY)
-				   || allowed.contains(AUGUST)
-				   || allowed.contains(SEPTEMBER)
-				   || allowed.contains(OCTOBER)
-				   || allowed.contains(NOVEMBER)
-				   || allowed.contains(DECEMBER);
+		return index.map(i -> calendarIndex.dateAt(first + i));
 	}
 
 	public static boolean leapYearPossible(int min, int max) {
@@ -28,6 +28,10 @@ public class DefaultYearMonthArbitrary extends ArbitraryDecorator<YearMonth> imp
 		YearMonth effectiveMin = yearMonthBetween.getMin() == null ? DEFAULT_MIN : yearMonthBetween.getMin();
 		YearMonth effectiveMax = yearMonthBetween.getMax() == null ? DEFAULT_MAX : yearMonthBetween.getMax();
 
+		if (allowedMonths.get().size() < 12) {
+			return allowedYearMonthsBetween(effectiveMin, effectiveMax);
+		}
+
 		long months = MONTHS.between(effectiveMin, effectiveMax);
 
 		Arbitrary<Long> month =
@@ -36,13 +40,38 @@ public class DefaultYearMonthArbitrary extends ArbitraryDecorator<YearMonth> imp
 					   .withDistribution(RandomDistribution.uniform())
 					   .edgeCases(edgeCases -> edgeCases.includeOnly(0L, months));
 
-		Arbitrary<YearMonth> yearMonths = month.map(effectiveMin::plusMonths);
+		return month.map(effectiveMin::plusMonths);
+	}
 
-		if (allowedMonths.get().size() < 12) {
-			yearMonths = yearMonths.filter(yearMonth -> allowedMonths.get().contains(yearMonth.getMonth()));
+	// Allowed year months are numbered so that only those are generated instead of filtering all others out
+	private Arbitrary<YearMonth> allowedYearMonthsBetween(YearMonth effectiveMin, YearMonth effectiveMax) {
+		List<Month> allowed = new ArrayList<>(allowedMonths.get());
+		allowed.sort(Comparator.naturalOrder());
+
+		long first = allowedBefore(effectiveMin, allowed);
+		long last = allowedBefore(effectiveMax, allowed) + (allowed.contains(effectiveMax.getMonth()) ? 0 : -1);
+		if (last < first) {
+			throw new IllegalArgumentException("These min/max configurations cannot be used together: No values are possible.");
 		}
 
-		return yearMonths;
+		long maxIndex = last - first;
+		Arbitrary<Long> index =
+			Arbitraries.longs()
+					   .between(0, maxIndex)
+					   .withDistribution(RandomDistribution.uniform())
+					   .edgeCases(edgeCases -> edgeCases.includeOnly(0L, maxIndex));
+
+		return index.map(i -> {
+			long n = first + i;
+			int year = Math.toIntExact(Math.floorDiv(n, (long) allowed.size()));
+			Month month = allowed.get((int) Math.floorMod(n, (long) allowed.size()));
+			return YearMonth.of(year, month);
+		});
+	}
+
+	private static long allowedBefore(YearMonth yearMonth, List<Month> allowed) {
+		long allowedInYearBefore = allowed.stream().filter(m -> m.compareTo(yearMonth.getMonth()) < 0).count();
+		return yearMonth.getYear() * (long) allowed.size() + allowedInYearBefore;
 	}
 
 	@Override
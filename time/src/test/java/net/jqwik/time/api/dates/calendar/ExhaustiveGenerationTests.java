@@ -44,7 +44,7 @@ public class ExhaustiveGenerationTests {
 		assertThat(optionalGenerator).isPresent();
 
 		ExhaustiveGenerator<Calendar> generator = optionalGenerator.get();
-		assertThat(generator.maxCount()).isEqualTo(276); // Cannot know the exact number of filtered elements in advance
+		assertThat(generator.maxCount()).isEqualTo(3);
 		assertThat(generator).containsExactly(
 			getCalendar(1997, Calendar.MARCH, 17),
 			getCalendar(1997, Calendar.OCTOBER, 17),
@@ -63,7 +63,7 @@ public class ExhaustiveGenerationTests {
 		assertThat(optionalGenerator).isPresent();
 
 		ExhaustiveGenerator<Calendar> generator = optionalGenerator.get();
-		assertThat(generator.maxCount()).isEqualTo(31); // Cannot know the exact number of filtered elements in advance
+		assertThat(generator.maxCount()).isEqualTo(9);
 		assertThat(generator).containsExactly(
 			getCalendar(2020, Calendar.DECEMBER, 3),
 			getCalendar(2020, Calendar.DECEMBER, 7),
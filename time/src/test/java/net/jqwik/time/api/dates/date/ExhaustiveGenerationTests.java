@@ -45,7 +45,7 @@ public class ExhaustiveGenerationTests {
 		assertThat(optionalGenerator).isPresent();
 
 		ExhaustiveGenerator<Date> generator = optionalGenerator.get();
-		assertThat(generator.maxCount()).isEqualTo(276); // Cannot know the exact number of filtered elements in advance
+		assertThat(generator.maxCount()).isEqualTo(3);
 		assertThat(generator).containsExactly(
 			getDate(1997, Calendar.MARCH, 17),
 			getDate(1997, Calendar.OCTOBER, 17),
@@ -64,7 +64,7 @@ public class ExhaustiveGenerationTests {
 		assertThat(optionalGenerator).isPresent();
 
 		ExhaustiveGenerator<Date> generator = optionalGenerator.get();
-		assertThat(generator.maxCount()).isEqualTo(31); // Cannot know the exact number of filtered elements in advance
+		assertThat(generator.maxCount()).isEqualTo(9);
 		assertThat(generator).containsExactly(
 			getDate(2020, Calendar.DECEMBER, 3),
 			getDate(2020, Calendar.DECEMBER, 7),
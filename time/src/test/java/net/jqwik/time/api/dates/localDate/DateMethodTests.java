@@ -384,6 +384,31 @@ public class DateMethodTests {
 
 		}
 
+
+		@Property
+		void onlySundaysInFebruaryWithoutFiltering(
+			@ForAll LocalDate min,
+			@ForAll LocalDate max,
+			@ForAll Random random
+		) {
+			Assume.that(max.getYear() - min.getYear() >= 8);
+
+			Arbitrary<LocalDate> dates = Dates.dates()
+											  .between(min, max)
+											  .onlyMonths(FEBRUARY)
+											  .onlyDaysOfWeek(DayOfWeek.SUNDAY)
+											  .dayOfMonthBetween(22, 29);
+
+			checkAllGenerated(dates.generator(1000, true), random, date -> {
+				assertThat(date).isBetween(min, max);
+				assertThat(date.getMonth()).isEqualTo(FEBRUARY);
+				assertThat(date.getDayOfWeek()).isEqualTo(DayOfWeek.SUNDAY);
+				assertThat(date.getDayOfMonth()).isBetween(22, 29);
+				return true;
+			});
+
+		}
+
 	}
 
 }
@@ -43,7 +43,7 @@ public class ExhaustiveGenerationTests {
 		assertThat(optionalGenerator).isPresent();
 
 		ExhaustiveGenerator<LocalDate> generator = optionalGenerator.get();
-		assertThat(generator.maxCount()).isEqualTo(276); // Cannot know the exact number of filtered elements in advance
+		assertThat(generator.maxCount()).isEqualTo(3);
 		assertThat(generator).containsExactly(
 			LocalDate.of(1997, MARCH, 17),
 			LocalDate.of(1997, OCTOBER, 17),
@@ -62,7 +62,7 @@ public class ExhaustiveGenerationTests {
 		assertThat(optionalGenerator).isPresent();
 
 		ExhaustiveGenerator<LocalDate> generator = optionalGenerator.get();
-		assertThat(generator.maxCount()).isEqualTo(31); // Cannot know the exact number of filtered elements in advance
+		assertThat(generator.maxCount()).isEqualTo(9);
 		assertThat(generator).containsExactly(
 			LocalDate.of(2020, DECEMBER, 3),
 			LocalDate.of(2020, DECEMBER, 7),
@@ -76,6 +76,23 @@ public class ExhaustiveGenerationTests {
 		);
 	}
 
+	@Example
+	void onlyDaysOfWeekAndMonthsOverManyYears() {
+		Optional<ExhaustiveGenerator<LocalDate>> optionalGenerator =
+			Dates.dates()
+				 .yearBetween(2000, 2399)
+				 .onlyMonths(FEBRUARY)
+				 .dayOfMonthBetween(29, 29)
+				 .onlyDaysOfWeek(DayOfWeek.SUNDAY)
+				 .exhaustive();
+		assertThat(optionalGenerator).isPresent();
+
+		ExhaustiveGenerator<LocalDate> generator = optionalGenerator.get();
+		assertThat(generator.maxCount()).isEqualTo(13);
+		assertThat(generator).allMatch(date -> date.getDayOfWeek() == DayOfWeek.SUNDAY && date.getMonth() == FEBRUARY);
+		assertThat(generator).startsWith(LocalDate.of(2004, FEBRUARY, 29), LocalDate.of(2032, FEBRUARY, 29));
+	}
+
 	@Example
 	void dayOfMonthBetweenAndBetweenGreater() {
 		Optional<ExhaustiveGenerator<LocalDate>> optionalGenerator =
@@ -90,7 +107,7 @@ public class ExhaustiveGenerationTests {
 		assertThat(optionalGenerator).isPresent();
 
 		ExhaustiveGenerator<LocalDate> generator = optionalGenerator.get();
-		assertThat(generator.maxCount()).isEqualTo(367);
+		assertThat(generator.maxCount()).isEqualTo(4);
 		assertThat(generator).containsExactly(
 			LocalDate.of(2010, DECEMBER, 27),
 			LocalDate.of(2010, DECEMBER, 28),
@@ -113,7 +130,7 @@ public class ExhaustiveGenerationTests {
 		assertThat(optionalGenerator).isPresent();
 
 		ExhaustiveGenerator<LocalDate> generator = optionalGenerator.get();
-		assertThat(generator.maxCount()).isEqualTo(368);
+		assertThat(generator.maxCount()).isEqualTo(4);
 		assertThat(generator).containsExactly(
 			LocalDate.of(2011, JUNE, 21),
 			LocalDate.of(2011, JUNE, 22),
@@ -136,7 +153,7 @@ public class ExhaustiveGenerationTests {
 		assertThat(optionalGenerator).isPresent();
 
 		ExhaustiveGenerator<LocalDate> generator = optionalGenerator.get();
-		assertThat(generator.maxCount()).isEqualTo(367);
+		assertThat(generator.maxCount()).isEqualTo(4);
 		assertThat(generator).containsExactly(
 			LocalDate.of(2011, FEBRUARY, 12),
 			LocalDate.of(2011, FEBRUARY, 13),
@@ -159,7 +176,7 @@ public class ExhaustiveGenerationTests {
 		assertThat(optionalGenerator).isPresent();
 
 		ExhaustiveGenerator<LocalDate> generator = optionalGenerator.get();
-		assertThat(generator.maxCount()).isEqualTo(397);
+		assertThat(generator.maxCount()).isEqualTo(4);
 		assertThat(generator).containsExactly(
 			LocalDate.of(2010, OCTOBER, 21),
 			LocalDate.of(2010, NOVEMBER, 21),
@@ -182,7 +199,7 @@ public class ExhaustiveGenerationTests {
 		assertThat(optionalGenerator).isPresent();
 
 		ExhaustiveGenerator<LocalDate> generator = optionalGenerator.get();
-		assertThat(generator.maxCount()).isEqualTo(397);
+		assertThat(generator.maxCount()).isEqualTo(4);
 		assertThat(generator).containsExactly(
 			LocalDate.of(2011, JUNE, 21),
 			LocalDate.of(2011, JULY, 21),
@@ -205,7 +222,7 @@ public class ExhaustiveGenerationTests {
 		assertThat(optionalGenerator).isPresent();
 
 		ExhaustiveGenerator<LocalDate> generator = optionalGenerator.get();
-		assertThat(generator.maxCount()).isEqualTo(397);
+		assertThat(generator.maxCount()).isEqualTo(4);
 		assertThat(generator).containsExactly(
 			LocalDate.of(2011, JANUARY, 20),
 			LocalDate.of(2011, FEBRUARY, 20),
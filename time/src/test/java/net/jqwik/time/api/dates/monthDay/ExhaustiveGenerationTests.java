@@ -49,7 +49,7 @@ public class ExhaustiveGenerationTests {
 		assertThat(optionalGenerator).isPresent();
 
 		ExhaustiveGenerator<MonthDay> generator = optionalGenerator.get();
-		assertThat(generator.maxCount()).isEqualTo(184); // Cannot know the number of filtered elements in advance
+		assertThat(generator.maxCount()).isEqualTo(3);
 		assertThat(generator).containsExactly(
 			MonthDay.of(Month.APRIL, 17),
 			MonthDay.of(Month.AUGUST, 17),
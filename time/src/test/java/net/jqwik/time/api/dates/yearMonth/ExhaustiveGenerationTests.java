@@ -37,7 +37,7 @@ public class ExhaustiveGenerationTests {
 		assertThat(optionalGenerator).isPresent();
 
 		ExhaustiveGenerator<YearMonth> generator = optionalGenerator.get();
-		assertThat(generator.maxCount()).isEqualTo(12); // Cannot know the number of filtered elements in advance
+		assertThat(generator.maxCount()).isEqualTo(3);
 		assertThat(generator).containsExactly(
 			YearMonth.of(42, Month.FEBRUARY),
 			YearMonth.of(42, Month.MARCH),